@@ -1,21 +1,29 @@
 package com.letsintern.letsintern.domain.application;
 
+import com.letsintern.letsintern.domain.application.domain.Application;
 import com.letsintern.letsintern.domain.application.dto.request.ApplicationChallengeUpdateDTO;
 import com.letsintern.letsintern.domain.application.dto.request.ApplicationCreateDTO;
 import com.letsintern.letsintern.domain.application.dto.request.ApplicationUpdateDTO;
 import com.letsintern.letsintern.domain.application.dto.response.*;
 import com.letsintern.letsintern.domain.application.service.ApplicationService;
 import com.letsintern.letsintern.domain.user.domain.User;
+import com.letsintern.letsintern.global.common.dto.CursorRequest;
+import com.letsintern.letsintern.global.common.dto.CursorSlice;
 import com.letsintern.letsintern.global.config.user.PrincipalDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
 @RestController
@@ -77,6 +85,21 @@ public class ApplicationController {
         }
     }
 
+    @Operation(summary = "어드민 프로그램별 지원서 CSV 다운로드")
+    @GetMapping("/admin/{programId}/export")
+    public ResponseEntity<StreamingResponseBody> exportApplicationListOfProgram(@PathVariable Long programId,
+                                                                                @RequestParam(required = false) Boolean isApproved) {
+        final ContentDisposition contentDisposition = ContentDisposition.attachment()
+                .filename("applications-" + programId + ".csv", StandardCharsets.UTF_8)
+                .build();
+        final StreamingResponseBody body = outputStream -> applicationService.exportApplicationListOfProgram(programId, isApproved, outputStream);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .body(body);
+    }
+
     @Operation(summary = "어드민 사용자 1명의 지원서 전체 목록")
     @GetMapping("/admin/user/{userId}")
     public ApplicationListResponse getAdminApplicationListOfUserId(@PathVariable Long userId,
@@ -84,6 +107,15 @@ public class ApplicationController {
         return applicationService.getAdminApplicationListOfUserId(userId, pageable);
     }
 
+    @Operation(summary = "어드민 사용자 1명의 지원서 목록 (커서 페이지네이션)")
+    @GetMapping("/admin/user/{userId}/cursor")
+    public CursorSlice<Application> getAdminApplicationListOfUserIdByCursor(@PathVariable Long userId,
+                                                                            @RequestParam(required = false) Long cursor,
+                                                                            @RequestParam(defaultValue = "20") int size,
+                                                                            @RequestParam(defaultValue = "false") boolean withCount) {
+        return applicationService.getAdminApplicationListOfUserIdByCursor(userId, CursorRequest.of(cursor, size, withCount));
+    }
+
     @Operation(summary = "어드민 지원서 상태 변경")
     @PatchMapping("/admin/{applicationId}")
     public ApplicationIdResponse updateApplicationStatus(@PathVariable Long applicationId,
@@ -1,11 +1,21 @@
 package com.letsintern.letsintern.domain.application.domain;
 
+import lombok.Getter;
+
+@Getter
 public enum ApplicationStatus {
 
-    APPLIED,
-    APPLIED_NOT_APPROVED,
-    FEE_NOT_APPROVED,
-    IN_PROGRESS,
-    DONE,
+    APPLIED("신청 완료"),
+    APPLIED_NOT_APPROVED("미선발"),
+    FEE_NOT_APPROVED("입금 미확인"),
+    IN_PROGRESS("참여중"),
+    DONE("참여 완료"),
+
+    ;
+
+    private final String value;
 
+    ApplicationStatus(String value) {
+        this.value = value;
+    }
 }
@@ -1,7 +1,16 @@
 package com.letsintern.letsintern.domain.application.domain;
 
+import lombok.Getter;
+
+@Getter
 public enum ApplicationType {
 
-    GUEST,
-    USER
+    GUEST("비회원"),
+    USER("회원");
+
+    private final String value;
+
+    ApplicationType(String value) {
+        this.value = value;
+    }
 }
@@ -1,7 +1,16 @@
 package com.letsintern.letsintern.domain.application.domain;
 
+import lombok.Getter;
+
+@Getter
 public enum ApplicationWay {
 
-    ONLINE,
-    OFFLINE
+    ONLINE("온라인"),
+    OFFLINE("오프라인");
+
+    private final String value;
+
+    ApplicationWay(String value) {
+        this.value = value;
+    }
 }
@@ -1,12 +1,21 @@
 package com.letsintern.letsintern.domain.application.domain;
 
+import lombok.Getter;
+
+@Getter
 public enum InflowPath {
 
-    EVERYTIME,
-    KAKAO,
-    INSTA_LETS,
-    INSTA_AD,
-    PREV_PARTICIPATED,
-    PREV_RECOMMENDED,
-    ACQUAINTANCE
+    EVERYTIME("에브리타임"),
+    KAKAO("카카오톡"),
+    INSTA_LETS("렛츠인턴 인스타그램"),
+    INSTA_AD("인스타그램 광고"),
+    PREV_PARTICIPATED("이전 참여"),
+    PREV_RECOMMENDED("이전 참여자 추천"),
+    ACQUAINTANCE("지인 추천");
+
+    private final String value;
+
+    InflowPath(String value) {
+        this.value = value;
+    }
 }
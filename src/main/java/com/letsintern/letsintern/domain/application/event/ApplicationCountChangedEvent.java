@@ -0,0 +1,12 @@
+package com.letsintern.letsintern.domain.application.event;
+
+public record ApplicationCountChangedEvent(Long programId, int delta) {
+
+    public static ApplicationCountChangedEvent ofCreate(Long programId) {
+        return new ApplicationCountChangedEvent(programId, 1);
+    }
+
+    public static ApplicationCountChangedEvent ofDelete(Long programId) {
+        return new ApplicationCountChangedEvent(programId, -1);
+    }
+}
@@ -7,6 +7,7 @@ import com.letsintern.letsintern.domain.application.dto.request.ApplicationChall
 import com.letsintern.letsintern.domain.application.dto.request.ApplicationCreateDTO;
 import com.letsintern.letsintern.domain.application.dto.request.ApplicationUpdateDTO;
 import com.letsintern.letsintern.domain.application.dto.response.ApplicationCreateResponse;
+import com.letsintern.letsintern.domain.application.event.ApplicationCountChangedEvent;
 import com.letsintern.letsintern.domain.application.exception.*;
 import com.letsintern.letsintern.domain.application.mapper.ApplicationMapper;
 import com.letsintern.letsintern.domain.application.repository.ApplicationRepository;
@@ -20,14 +21,18 @@ import com.letsintern.letsintern.domain.program.repository.ProgramRepository;
 import com.letsintern.letsintern.domain.program.vo.ProgramEmailVo;
 import com.letsintern.letsintern.domain.user.domain.User;
 import com.letsintern.letsintern.domain.user.domain.UserRole;
+import com.letsintern.letsintern.global.common.dto.CursorRequest;
+import com.letsintern.letsintern.global.common.dto.CursorSlice;
 import com.letsintern.letsintern.global.common.util.EmailUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -39,12 +44,12 @@ public class ApplicationHelper {
     private final ApplicationMapper applicationMapper;
     private final ProgramRepository programRepository;
     private final EmailUtils emailUtils;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     /* 회원 - 기존 신청 내역 확인 */
     public boolean checkUserApplicationExist(Long programId, Long userId) {
-        Application application = applicationRepository.findByProgramIdAndUserId(programId, userId);
-        return application != null;
+        return applicationRepository.existsByProgramIdAndUserId(programId, userId);
     }
 
     /* 비회원 - 기존 신청 내역 확인 */
@@ -76,7 +81,7 @@ public class ApplicationHelper {
         Application newGuestApplication = applicationMapper.toEntity(programId, applicationCreateDTO, null, totalFee, null);
         Application savedApplication = applicationRepository.save(newGuestApplication);
 
-        program.setApplicationCount(program.getApplicationCount() + 1);
+        eventPublisher.publishEvent(ApplicationCountChangedEvent.ofCreate(program.getId()));
 
         return applicationMapper.toApplicationCreateResponse(savedApplication);
     }
@@ -123,6 +128,11 @@ public class ApplicationHelper {
         return applicationRepository.findAllByUserIdAdmin(userId, pageable);
     }
 
+    /* 어드민 - 사용자 1명의 지원서 목록 (커서) */
+    public CursorSlice<Application> getAdminApplicationListOfUserIdByCursor(Long userId, CursorRequest cursorRequest) {
+        return applicationRepository.findAllByUserIdAdminByCursor(userId, cursorRequest);
+    }
+
     /* 지원서 1개 업데이트 */
     public Long updateApplication(Long applicationId, ApplicationUpdateDTO applicationUpdateDTO) {
         Application application = applicationRepository.findById(applicationId)
@@ -164,6 +174,12 @@ public class ApplicationHelper {
         if (applicationUpdateDTO.getAttendance() != null)
             application.setAttendance(applicationUpdateDTO.getAttendance());
 
+        /* 이미 지난 발표일/입금 마감을 늦게 선발·입금 처리된 지원서에도 적용 */
+        if ((applicationUpdateDTO.getIsApproved() != null || applicationUpdateDTO.getFeeIsConfirmed() != null)
+                && application.getProgram().getStatus().equals(ProgramStatus.CLOSED)) {
+            application.getProgram().requestTransition(LocalDateTime.now());
+        }
+
         return application.getId();
 
     }
@@ -176,7 +192,7 @@ public class ApplicationHelper {
                 });
 
         if (application.getProgram().getStatus().equals(ProgramStatus.OPEN)) {
-            application.getProgram().setApplicationCount(application.getProgram().getApplicationCount() - 1);
+            eventPublisher.publishEvent(ApplicationCountChangedEvent.ofDelete(application.getProgram().getId()));
             applicationRepository.delete(application);
         } else {
             throw ApplicationCannotDeleted.EXCEPTION;
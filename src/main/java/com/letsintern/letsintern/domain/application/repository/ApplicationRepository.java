@@ -18,4 +18,6 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>,
 
     Integer countAllByProgramIdAndStatus(Long programId, ApplicationStatus status);
 
+    boolean existsByProgramIdAndUserId(Long programId, Long userId);
+
 }
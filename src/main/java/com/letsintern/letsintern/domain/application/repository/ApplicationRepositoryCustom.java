@@ -6,14 +6,17 @@ import com.letsintern.letsintern.domain.application.dto.response.ApplicationChal
 import com.letsintern.letsintern.domain.application.vo.ApplicationAdminVo;
 import com.letsintern.letsintern.domain.application.vo.ApplicationChallengeAdminVo;
 import com.letsintern.letsintern.domain.application.vo.ApplicationEntireDashboardVo;
+import com.letsintern.letsintern.domain.application.vo.ApplicationExportVo;
 import com.letsintern.letsintern.domain.application.vo.ApplicationVo;
 import com.letsintern.letsintern.domain.program.vo.UserProgramVo;
+import com.letsintern.letsintern.global.common.dto.CursorRequest;
+import com.letsintern.letsintern.global.common.dto.CursorSlice;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface ApplicationRepositoryCustom {
 
@@ -25,20 +28,26 @@ public interface ApplicationRepositoryCustom {
 
     Page<Application> findAllByUserIdAdmin(Long userId, Pageable pageable);
 
+    CursorSlice<Application> findAllByUserIdAdminByCursor(Long userId, CursorRequest cursorRequest);
+
     Page<UserProgramVo> findAllProgramByUserId(Long userId, Pageable pageable);
 
     Application findByProgramIdAndUserId(Long programId, Long userId);
 
     Application findByProgramIdAndGuestEmail(Long programId, String email);
 
-    void updateAllApplicationByAnnouncementDate(LocalDateTime now);
-    void updateAllApplicationByFeeDueDate(LocalDateTime now);
-    void updateAllApplicationStatusDone(Long programId);
+    long updateApplicationStatusToNotApproved(Long programId);
+    long updateApplicationStatusToFeeNotApproved(Long programId);
+    long updateAllApplicationStatusDone(Long programId);
 
     List<String> findAllEmailByIsApproved(Long programId, Boolean isApproved);
 
     List<String> findAllEmailByIsApprovedAndFeeIsConfirmed(Long programId, Boolean isApproved, Boolean feeIsConfirmed);
 
+    List<String> findMailTargetEmailPage(Long programId, boolean feeConfirmedOnly, long offset, int limit);
+
+    void scrollExportVosByProgramId(Long programId, Boolean isApproved, Consumer<ApplicationExportVo> consumer);
+
     Page<ApplicationEntireDashboardVo> getEntireDashboardList(Long programId, ApplicationWishJob applicationWishJob, Long userId, Pageable pageable);
 
     Page<ApplicationChallengeAdminVo> getApplicationChallengeAdminList(Long programId, Pageable pageable);
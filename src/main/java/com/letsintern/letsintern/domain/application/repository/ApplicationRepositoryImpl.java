@@ -3,13 +3,18 @@ package com.letsintern.letsintern.domain.application.repository;
 import com.letsintern.letsintern.domain.application.domain.*;
 import com.letsintern.letsintern.domain.application.dto.response.ApplicationChallengeAdminVoDetail;
 import com.letsintern.letsintern.domain.application.filter.ApplicationFilter;
+import com.letsintern.letsintern.domain.application.vo.ApplicationAdminInfoVo;
 import com.letsintern.letsintern.domain.application.vo.ApplicationAdminVo;
 import com.letsintern.letsintern.domain.application.vo.ApplicationChallengeAdminVo;
 import com.letsintern.letsintern.domain.application.vo.ApplicationEntireDashboardVo;
+import com.letsintern.letsintern.domain.application.vo.ApplicationExportVo;
 import com.letsintern.letsintern.domain.application.vo.ApplicationVo;
-import com.letsintern.letsintern.domain.program.domain.ProgramFeeType;
-import com.letsintern.letsintern.domain.program.domain.ProgramStatus;
 import com.letsintern.letsintern.domain.program.vo.UserProgramVo;
+import com.letsintern.letsintern.domain.user.domain.QUser;
+import com.letsintern.letsintern.global.common.dto.CursorRequest;
+import com.letsintern.letsintern.global.common.dto.CursorSlice;
+import com.letsintern.letsintern.global.common.util.KeysetUtils;
+import com.letsintern.letsintern.global.common.util.QueryHintUtils;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.CaseBuilder;
@@ -19,14 +24,17 @@ import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Repository
 @RequiredArgsConstructor
@@ -39,11 +47,7 @@ public class ApplicationRepositoryImpl implements ApplicationRepositoryCustom {
     public List<ApplicationAdminVo> findAllByProgramId(Long programId) {
         QApplication qApplication = QApplication.application;
 
-        return jpaQueryFactory
-                .select(Projections.constructor(ApplicationAdminVo.class,
-                        qApplication
-                ))
-                .from(qApplication)
+        return selectApplicationAdminVos()
                 .where(qApplication.program.id.eq(programId))
                 .orderBy(qApplication.id.desc())
                 .fetch();
@@ -53,16 +57,53 @@ public class ApplicationRepositoryImpl implements ApplicationRepositoryCustom {
     public List<ApplicationAdminVo> findAllApplicationAdminVoByProgramIdAndIsApproved(Long programId, Boolean isApproved) {
         QApplication qApplication = QApplication.application;
 
-        return jpaQueryFactory
-                .select(Projections.constructor(ApplicationAdminVo.class,
-                        qApplication
-                ))
-                .from(qApplication)
+        return selectApplicationAdminVos()
                 .where(qApplication.program.id.eq(programId), qApplication.isApproved.eq(isApproved))
                 .orderBy(qApplication.id.desc())
                 .fetch();
     }
 
+    /* 엔티티 대신 컬럼만 조회 (회원이면 이름/연락처/이메일은 사용자 정보 우선) */
+    private JPAQuery<ApplicationAdminVo> selectApplicationAdminVos() {
+        QApplication qApplication = QApplication.application;
+        QUser qUser = QUser.user;
+
+        return QueryHintUtils.readOnly(jpaQueryFactory
+                .select(Projections.constructor(ApplicationAdminVo.class,
+                        Projections.constructor(ApplicationAdminInfoVo.class,
+                                qApplication.id,
+                                qApplication.grade,
+                                qApplication.wishCompany,
+                                qApplication.wishJob,
+                                qApplication.applyMotive,
+                                qApplication.preQuestions,
+                                qApplication.inflowPath,
+                                qUser.name.coalesce(qApplication.name),
+                                qUser.phoneNum.coalesce(qApplication.phoneNum),
+                                qUser.email.coalesce(qApplication.email),
+                                qApplication.accountType,
+                                qApplication.accountNumber,
+                                qApplication.type,
+                                qApplication.way,
+                                qApplication.reviewId,
+                                qApplication.isApproved,
+                                qApplication.feeIsConfirmed,
+                                qApplication.status,
+                                qApplication.attendance,
+                                qApplication.createdAt,
+                                qApplication.introduction,
+                                qApplication.couponCode,
+                                qApplication.couponName,
+                                qApplication.totalFee),
+                        qUser.id,
+                        qUser.university,
+                        qUser.major,
+                        qUser.accountType,
+                        qUser.accountNumber))
+                .from(qApplication)
+                .leftJoin(qApplication.user, qUser));
+    }
+
     @Override
     public List<ApplicationVo> findAllByUserId(Long userId) {
         QApplication qApplication = QApplication.application;
@@ -110,6 +151,24 @@ public class ApplicationRepositoryImpl implements ApplicationRepositoryCustom {
         return PageableExecutionUtils.getPage(applicationList, pageable, count::fetchOne);
     }
 
+    @Override
+    public CursorSlice<Application> findAllByUserIdAdminByCursor(Long userId, CursorRequest cursorRequest) {
+        QApplication qApplication = QApplication.application;
+
+        List<Application> applicationList = jpaQueryFactory
+                .selectFrom(qApplication)
+                .where(qApplication.user.id.eq(userId), KeysetUtils.idBefore(qApplication.id, cursorRequest.cursor()))
+                .orderBy(qApplication.id.desc())
+                .limit(cursorRequest.fetchSize())
+                .fetch();
+
+        JPAQuery<Long> count = jpaQueryFactory.select(qApplication.count())
+                .from(qApplication)
+                .where(qApplication.user.id.eq(userId));
+
+        return CursorSlice.of(applicationList, cursorRequest, Application::getId, count::fetchOne);
+    }
+
     @Override
     public Page<UserProgramVo> findAllProgramByUserId(Long userId, Pageable pageable) {
         QApplication qApplication = QApplication.application;
@@ -157,58 +216,46 @@ public class ApplicationRepositoryImpl implements ApplicationRepositoryCustom {
                 .fetchFirst();
     }
 
+    /* 프로그램 1개 범위로만 갱신하므로 flush/clear 없이 잠근 Program 엔티티와 같은 트랜잭션에서 쓸 수 있다 */
     @Override
-    public void updateAllApplicationByAnnouncementDate(LocalDateTime now) {
+    public long updateApplicationStatusToNotApproved(Long programId) {
         QApplication qApplication = QApplication.application;
 
-        jpaQueryFactory
+        return jpaQueryFactory
                 .update(qApplication)
                 .set(qApplication.status, ApplicationStatus.APPLIED_NOT_APPROVED)
                 .where(
-                        qApplication.program.status.eq(ProgramStatus.CLOSED),
-                        qApplication.program.announcementDate.before(now),
+                        qApplication.program.id.eq(programId),
                         qApplication.status.eq(ApplicationStatus.APPLIED),
                         qApplication.isApproved.eq(false))
                 .execute();
-
-        em.flush();
-        em.clear();
     }
 
     @Override
-    public void updateAllApplicationByFeeDueDate(LocalDateTime now) {
+    public long updateApplicationStatusToFeeNotApproved(Long programId) {
         QApplication qApplication = QApplication.application;
 
-        jpaQueryFactory
+        return jpaQueryFactory
                 .update(qApplication)
                 .set(qApplication.status, ApplicationStatus.FEE_NOT_APPROVED)
                 .where(
-                        qApplication.program.feeType.ne(ProgramFeeType.FREE),
-                        qApplication.program.status.eq(ProgramStatus.CLOSED),
-                        qApplication.program.feeDueDate.isNotNull(),
-                        qApplication.program.feeDueDate.before(now),
+                        qApplication.program.id.eq(programId),
                         qApplication.isApproved.eq(true),
                         qApplication.feeIsConfirmed.eq(false))
                 .execute();
-
-        em.flush();
-        em.clear();
     }
 
     @Override
-    public void updateAllApplicationStatusDone(Long programId) {
+    public long updateAllApplicationStatusDone(Long programId) {
         QApplication qApplication = QApplication.application;
 
-        jpaQueryFactory
+        return jpaQueryFactory
                 .update(qApplication)
                 .set(qApplication.status, ApplicationStatus.DONE)
                 .where(
                         qApplication.program.id.eq(programId),
                         qApplication.status.eq(ApplicationStatus.IN_PROGRESS))
                 .execute();
-
-        em.flush();
-        em.clear();
     }
 
     @Override
@@ -251,6 +298,56 @@ public class ApplicationRepositoryImpl implements ApplicationRepositoryCustom {
         return emailList;
     }
 
+    /* 회원/비회원 신청 이메일을 id 순서로 한 페이지씩 - 배치 재시작 시 같은 순서로 이어 읽을 수 있다 */
+    @Override
+    public List<String> findMailTargetEmailPage(Long programId, boolean feeConfirmedOnly, long offset, int limit) {
+        QApplication qApplication = QApplication.application;
+        QUser qUser = QUser.user;
+
+        return jpaQueryFactory
+                .select(qUser.email.coalesce(qApplication.email))
+                .from(qApplication)
+                .leftJoin(qApplication.user, qUser)
+                .where(
+                        qApplication.program.id.eq(programId),
+                        qApplication.isApproved.eq(true),
+                        feeConfirmedOnly ? qApplication.feeIsConfirmed.eq(true) : null
+                )
+                .orderBy(qApplication.id.asc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
+    /*
+     * 지원서 내보내기 - 엔티티를 만들지 않는 생성자 projection 을 forward-only 커서로 한 행씩 넘긴다.
+     * fetchSize = Integer.MIN_VALUE 는 MySQL 드라이버가 결과 전체를 메모리에 올리지 않고 스트리밍하도록 하는 값이다.
+     * 스트리밍 커서는 QueryDSL 결과 변환을 거치지 않도록 HQL 생성자 표현식으로 작성
+     */
+    @Override
+    public void scrollExportVosByProgramId(Long programId, Boolean isApproved, Consumer<ApplicationExportVo> consumer) {
+        final String hql = "select new " + ApplicationExportVo.class.getName() + "(" +
+                "a.id, coalesce(u.name, a.name), coalesce(u.email, a.email), coalesce(u.phoneNum, a.phoneNum), u.university, u.major, " +
+                "a.grade, a.wishCompany, a.wishJob, a.applyMotive, a.preQuestions, a.inflowPath, a.type, a.way, a.status, " +
+                "a.isApproved, a.feeIsConfirmed, a.totalFee, a.couponName, u.accountType, u.accountNumber, a.accountType, a.accountNumber, a.createdAt) " +
+                "from Application a left join a.user u " +
+                "where a.program.id = :programId" + (isApproved == null ? "" : " and a.isApproved = :isApproved") + " " +
+                "order by a.id asc";
+
+        org.hibernate.query.Query<ApplicationExportVo> query = em.unwrap(Session.class).createQuery(hql, ApplicationExportVo.class);
+        query.setParameter("programId", programId);
+        if (isApproved != null) query.setParameter("isApproved", isApproved);
+
+        try (ScrollableResults<ApplicationExportVo> results = query
+                .setReadOnly(true)
+                .setFetchSize(Integer.MIN_VALUE)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                consumer.accept(results.get());
+            }
+        }
+    }
+
     @Override
     public Page<ApplicationEntireDashboardVo> getEntireDashboardList(Long programId, ApplicationWishJob applicationWishJob, Long userId, Pageable pageable) {
         QApplication qApplication = QApplication.application;
@@ -5,17 +5,18 @@ import com.letsintern.letsintern.domain.application.dto.request.ApplicationChall
 import com.letsintern.letsintern.domain.application.dto.request.ApplicationCreateDTO;
 import com.letsintern.letsintern.domain.application.dto.request.ApplicationUpdateDTO;
 import com.letsintern.letsintern.domain.application.dto.response.*;
+import com.letsintern.letsintern.domain.application.event.ApplicationCountChangedEvent;
 import com.letsintern.letsintern.domain.application.exception.ApplicationCannotDeleted;
 import com.letsintern.letsintern.domain.application.exception.ApplicationNotFound;
 import com.letsintern.letsintern.domain.application.helper.ApplicationHelper;
 import com.letsintern.letsintern.domain.application.mapper.ApplicationMapper;
 import com.letsintern.letsintern.domain.application.repository.ApplicationRepository;
-import com.letsintern.letsintern.domain.coupon.domain.Coupon;
+import com.letsintern.letsintern.domain.application.vo.ApplicationExportVo;
 import com.letsintern.letsintern.domain.coupon.domain.CouponProgramType;
-import com.letsintern.letsintern.domain.coupon.domain.CouponUser;
+import com.letsintern.letsintern.domain.coupon.domain.CouponRedemption;
 import com.letsintern.letsintern.domain.coupon.helper.CouponHelper;
 import com.letsintern.letsintern.domain.coupon.mapper.CouponMapper;
-import com.letsintern.letsintern.domain.coupon.vo.CouponUserHistoryVo;
+import com.letsintern.letsintern.domain.coupon.vo.CouponCatalogVo;
 import com.letsintern.letsintern.domain.mission.repository.MissionRepository;
 import com.letsintern.letsintern.domain.program.domain.Program;
 import com.letsintern.letsintern.domain.program.domain.ProgramFeeType;
@@ -23,12 +24,22 @@ import com.letsintern.letsintern.domain.program.domain.ProgramStatus;
 import com.letsintern.letsintern.domain.program.helper.ProgramHelper;
 import com.letsintern.letsintern.domain.user.domain.User;
 import com.letsintern.letsintern.domain.user.helper.UserHelper;
+import com.letsintern.letsintern.global.common.dto.CursorRequest;
+import com.letsintern.letsintern.global.common.dto.CursorSlice;
+import com.letsintern.letsintern.global.common.util.CsvUtils;
 import com.letsintern.letsintern.global.config.user.PrincipalDetails;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
 @RequiredArgsConstructor
@@ -43,6 +54,7 @@ public class ApplicationService {
     private final CouponMapper couponMapper;
     private final UserHelper userHelper;
     private final MissionRepository missionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ApplicationCreateResponse createUserApplication(Long programId, ApplicationCreateDTO applicationCreateDTO, PrincipalDetails principalDetails) {
@@ -51,10 +63,12 @@ public class ApplicationService {
         checkUserDetailInfoAndUpdateInfo(user, applicationCreateDTO);
         Program program = programHelper.findProgramOrThrow(programId);
         checkAccountInfoForProgramRefundTypeAndUpdate(user, applicationCreateDTO, program.getFeeType());
-        Integer discountValue = checkCouponAppliedAndGetDiscountValue(user, applicationCreateDTO);
-        Integer totalFee = applicationHelper.calculateTotalFee(program, discountValue);
-        Application newUserApplication = createApplicationAndSave(user, programId, applicationCreateDTO, totalFee);
-        updateProgramApplicationCountAndSave(program);
+        CouponCatalogVo coupon = reserveCouponIfApplied(user, programId, applicationCreateDTO);
+        Integer totalFee = applicationHelper.calculateTotalFee(program, Objects.isNull(coupon) ? 0 : coupon.discount());
+        Application newUserApplication = createApplicationAndSave(user, programId, applicationCreateDTO, totalFee,
+                Objects.isNull(coupon) ? null : coupon.name());
+        commitCouponRedemption(newUserApplication, programId, user);
+        eventPublisher.publishEvent(ApplicationCountChangedEvent.ofCreate(program.getId()));
         return applicationMapper.toApplicationCreateResponse(newUserApplication);
     }
 
@@ -81,6 +95,10 @@ public class ApplicationService {
         return applicationMapper.toApplicationListResponse(applicationHelper.getAdminApplicationListOfUserId(userId, pageable));
     }
 
+    public CursorSlice<Application> getAdminApplicationListOfUserIdByCursor(Long userId, CursorRequest cursorRequest) {
+        return applicationHelper.getAdminApplicationListOfUserIdByCursor(userId, cursorRequest);
+    }
+
     @Transactional
     public ApplicationIdResponse updateApplication(Long applicationId, ApplicationUpdateDTO applicationUpdateDTO) {
         return applicationMapper.toApplicationIdResponse(applicationHelper.updateApplication(applicationId, applicationUpdateDTO));
@@ -90,7 +108,7 @@ public class ApplicationService {
     public void deleteApplication(Long applicationId, PrincipalDetails principalDetails) {
         Application application = applicationHelper.findApplicationOrThrow(applicationId);
         applicationHelper.validateApplicationOpenStatus(application);
-        application.getProgram().decreaseProgramApplicationCount();
+        eventPublisher.publishEvent(ApplicationCountChangedEvent.ofDelete(application.getProgram().getId()));
         checkUsedCouponForApplication(application, principalDetails.getUser());
         applicationRepository.delete(application);
     }
@@ -113,6 +131,16 @@ public class ApplicationService {
         );
     }
 
+    /* 지원자 전체를 메모리에 올리지 않고 커서로 한 행씩 읽어 바로 CSV 로 흘려보낸다 */
+    @Transactional(readOnly = true)
+    public void exportApplicationListOfProgram(Long programId, Boolean isApproved, OutputStream outputStream) throws IOException {
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(CsvUtils.UTF8_BOM);
+        CsvUtils.writeRow(writer, ApplicationExportVo.HEADER);
+        applicationRepository.scrollExportVosByProgramId(programId, isApproved, vo -> CsvUtils.writeRow(writer, vo.toRow()));
+        writer.flush();
+    }
+
     public ApplicationChallengeAdminVosResponse getApplicationChallengeAdminList(Long programId, Pageable pageable, String name, String email, String phoneNum) {
         return applicationMapper.toApplicationChallengeAdminVosResponse(applicationHelper.getApplicationChallengeAdminList(programId, pageable, name, email, phoneNum));
     }
@@ -137,64 +165,31 @@ public class ApplicationService {
     }
 
 
-    /* 프로그램 등록시 쿠폰 사용여부 판단 */
-    private Integer checkCouponAppliedAndGetDiscountValue(User user, ApplicationCreateDTO applicationCreateDTO) {
+    /* 프로그램 등록시 쿠폰 사용여부 판단, 할인 금액과 이름은 예약하며 잠근 쿠폰 행 기준 */
+    private CouponCatalogVo reserveCouponIfApplied(User user, Long programId, ApplicationCreateDTO applicationCreateDTO) {
         if (Objects.isNull(applicationCreateDTO.getCode()))
-            return 0;
-        CouponUserHistoryVo couponUserHistoryVo = couponHelper.findCouponUserHistoryVoOrCreate(user, applicationCreateDTO.getCode());
+            return null;
         CouponProgramType couponProgramType = couponMapper.toCouponProgramType(applicationCreateDTO.getCouponProgramType());
-        couponHelper.validateApplyTimeForCoupon(couponUserHistoryVo.coupon().getStartDate(), couponUserHistoryVo.coupon().getEndDate());
-        couponHelper.validateAvailableCouponProgram(couponUserHistoryVo.coupon().getId(), couponProgramType);
-        couponHelper.validateRemainTimeForUser(couponUserHistoryVo.remainTime());
-        CouponUser couponUser = getCouponHistoryOrCreateCouponUser(user, couponUserHistoryVo);
-        couponUser.decreaseRemainTime();
-        return couponUserHistoryVo.coupon().getDiscount();
+        return couponHelper.reserveCoupon(applicationCreateDTO.getCode(), couponProgramType, user.getId(),
+                CouponRedemption.applicationKey(programId, user.getId()));
     }
 
-    private void checkUsedCouponForApplication(Application application, User user) {
+    private void commitCouponRedemption(Application application, Long programId, User user) {
         if (Objects.isNull(application.getCouponCode())) return;
-        CouponUser couponUser = couponHelper.findCouponUserByCodeAndUserIdOrThrow(application.getCouponCode(), user.getId());
-        couponUser.increaseRemainTime();
-    }
-
-    private CouponUser getCouponHistoryOrCreateCouponUser(User user, CouponUserHistoryVo couponUserHistoryVo) {
-        if (isCouponUsed(couponUserHistoryVo.user()))
-            return couponHelper.findCouponUserByCouponIdAndUserIdThrow(couponUserHistoryVo.coupon().getId(), couponUserHistoryVo.user().getId());
-        else
-            return createCouponUserAndSave(user, couponUserHistoryVo);
+        couponHelper.commitCouponRedemption(CouponRedemption.applicationKey(programId, user.getId()), application.getId());
     }
 
-    private CouponUser createCouponUserAndSave(User user, CouponUserHistoryVo couponUserHistoryVo) {
-        CouponUser couponUser = CouponUser.createCouponUser(couponUserHistoryVo.coupon(), user);
-        return couponHelper.saveCouponUser(couponUser);
+    private void checkUsedCouponForApplication(Application application, User user) {
+        if (Objects.isNull(application.getCouponCode())) return;
+        couponHelper.releaseCouponRedemption(application.getId(), application.getCouponCode(), user.getId());
     }
 
-    private Application createApplicationAndSave(User user, Long programId, ApplicationCreateDTO applicationCreateDTO, Integer totalFee) {
-        String name = getCouponNameForInput(applicationCreateDTO.getCode());
+    private Application createApplicationAndSave(User user, Long programId, ApplicationCreateDTO applicationCreateDTO, Integer totalFee, String name) {
         Application newUserApplication = applicationMapper.toEntity(programId, applicationCreateDTO, user, totalFee, name);
         return applicationRepository.save(newUserApplication);
     }
 
-    private String getCouponNameForInput(String code) {
-        if(Objects.isNull(code))
-            return null;
-        else {
-            Coupon coupon = couponHelper.findCouponByCodeOrThrow(code);
-            return coupon.getName();
-        }
-    }
-
-    /* program application count 증가 및 저장 */
-    private void updateProgramApplicationCountAndSave(Program program) {
-        program.increaseProgramApplicationCount();
-        programHelper.saveProgram(program);
-    }
-
     private boolean isCouponApplied(String code) {
         return !Objects.isNull(code);
     }
-
-    private boolean isCouponUsed(User user) {
-        return !Objects.isNull(user);
-    }
 }
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.letsintern.letsintern.domain.application.vo;
+
+import com.letsintern.letsintern.domain.application.domain.*;
+import com.letsintern.letsintern.domain.user.domain.AccountType;
+import lombok.Builder;
+import lombok.Getter;
+
+/* 어드민 지원서 목록의 지원서 컬럼 (Application 엔티티 JSON 과 같은 필드) */
+@Getter
+public class ApplicationAdminInfoVo {
+
+    private Long id;
+    private Integer grade;
+    private String wishCompany;
+    private ApplicationWishJob wishJob;
+    private String applyMotive;
+    private String preQuestions;
+    private InflowPath inflowPath;
+    private String name;
+    private String phoneNum;
+    private String email;
+    private AccountType accountType;
+    private String accountNumber;
+    private ApplicationType type;
+    private ApplicationWay way;
+    private Long reviewId;
+    private Boolean isApproved;
+    private Boolean feeIsConfirmed;
+    private ApplicationStatus status;
+    private ApplicationAttendance attendance;
+    private String createdAt;
+    private String introduction;
+    private String couponCode;
+    private String couponName;
+    private Integer totalFee;
+
+    @Builder
+    public ApplicationAdminInfoVo(Long id, Integer grade, String wishCompany, ApplicationWishJob wishJob, String applyMotive,
+                                  String preQuestions, InflowPath inflowPath, String name, String phoneNum, String email,
+                                  AccountType accountType, String accountNumber, ApplicationType type, ApplicationWay way,
+                                  Long reviewId, Boolean isApproved, Boolean feeIsConfirmed, ApplicationStatus status,
+                                  ApplicationAttendance attendance, String createdAt, String introduction,
+                                  String couponCode, String couponName, Integer totalFee) {
+        this.id = id;
+        this.grade = grade;
+        this.wishCompany = wishCompany;
+        this.wishJob = wishJob;
+        this.applyMotive = applyMotive;
+        this.preQuestions = preQuestions;
+        this.inflowPath = inflowPath;
+        this.name = name;
+        this.phoneNum = phoneNum;
+        this.email = email;
+        this.accountType = accountType;
+        this.accountNumber = accountNumber;
+        this.type = type;
+        this.way = way;
+        this.reviewId = reviewId;
+        this.isApproved = isApproved;
+        this.feeIsConfirmed = feeIsConfirmed;
+        this.status = status;
+        this.attendance = attendance;
+        this.createdAt = createdAt;
+        this.introduction = introduction;
+        this.couponCode = couponCode;
+        this.couponName = couponName;
+        this.totalFee = totalFee;
+    }
+}
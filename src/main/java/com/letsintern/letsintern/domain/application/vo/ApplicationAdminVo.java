@@ -1,7 +1,6 @@
 package com.letsintern.letsintern.domain.application.vo;
 
-import com.letsintern.letsintern.domain.application.domain.Application;
-import com.letsintern.letsintern.domain.user.domain.User;
+import com.letsintern.letsintern.domain.user.domain.AccountType;
 import com.letsintern.letsintern.domain.user.vo.UserOptionalInfoVo;
 import lombok.Builder;
 import lombok.Getter;
@@ -9,26 +8,17 @@ import lombok.Getter;
 @Getter
 public class ApplicationAdminVo {
 
-    private Application application;
+    private ApplicationAdminInfoVo application;
     private UserOptionalInfoVo optionalInfo;
 
     @Builder
-    public ApplicationAdminVo(Application application) {
+    public ApplicationAdminVo(ApplicationAdminInfoVo application, Long userId, String university, String major,
+                              AccountType accountType, String accountNumber) {
         this.application = application;
 
-        if(application.getUser() != null) {
-            final User user = application.getUser();
-            this.optionalInfo = UserOptionalInfoVo.of(
-                    application.getUser().getId(),
-                    application.getUser().getUniversity(),
-                    application.getUser().getMajor(),
-                    application.getUser().getAccountType(),
-                    application.getUser().getAccountNumber()
-            );
-            this.application.setName(user.getName());
-            this.application.setPhoneNum(user.getPhoneNum());
-            this.application.setEmail(user.getEmail());
+        /* 회원 지원서 */
+        if(userId != null) {
+            this.optionalInfo = UserOptionalInfoVo.of(userId, university, major, accountType, accountNumber);
         }
     }
 }
-
@@ -0,0 +1,83 @@
+package com.letsintern.letsintern.domain.application.vo;
+
+import com.letsintern.letsintern.domain.application.domain.*;
+import com.letsintern.letsintern.domain.user.domain.AccountType;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ApplicationExportVo {
+
+    public static final List<String> HEADER = List.of(
+            "지원서 ID", "이름", "이메일", "연락처", "대학교", "전공", "학년", "희망 기업", "희망 직무", "지원 동기", "사전 질문",
+            "유입 경로", "참여 유형", "참여 방식", "상태", "선발 여부", "입금 확인", "결제 금액", "쿠폰", "은행", "계좌번호", "신청일"
+    );
+
+    private final Long applicationId;
+    private final String name;
+    private final String email;
+    private final String phoneNum;
+    private final String university;
+    private final String major;
+    private final Integer grade;
+    private final String wishCompany;
+    private final ApplicationWishJob wishJob;
+    private final String applyMotive;
+    private final String preQuestions;
+    private final InflowPath inflowPath;
+    private final ApplicationType type;
+    private final ApplicationWay way;
+    private final ApplicationStatus status;
+    private final Boolean isApproved;
+    private final Boolean feeIsConfirmed;
+    private final Integer totalFee;
+    private final String couponName;
+    private final AccountType accountType;
+    private final String accountNumber;
+    private final String createdAt;
+
+    /* 회원 신청은 회원 정보, 비회원 신청은 지원서에 입력한 정보를 사용 */
+    public ApplicationExportVo(Long applicationId, String name, String email, String phoneNum, String university, String major,
+                               Integer grade, String wishCompany, ApplicationWishJob wishJob, String applyMotive, String preQuestions,
+                               InflowPath inflowPath, ApplicationType type, ApplicationWay way, ApplicationStatus status,
+                               Boolean isApproved, Boolean feeIsConfirmed, Integer totalFee, String couponName,
+                               AccountType userAccountType, String userAccountNumber,
+                               AccountType accountType, String accountNumber, String createdAt) {
+        this.applicationId = applicationId;
+        this.name = name;
+        this.email = email;
+        this.phoneNum = phoneNum;
+        this.university = university;
+        this.major = major;
+        this.grade = grade;
+        this.wishCompany = wishCompany;
+        this.wishJob = wishJob;
+        this.applyMotive = applyMotive;
+        this.preQuestions = preQuestions;
+        this.inflowPath = inflowPath;
+        this.type = type;
+        this.way = way;
+        this.status = status;
+        this.isApproved = isApproved;
+        this.feeIsConfirmed = feeIsConfirmed;
+        this.totalFee = totalFee;
+        this.couponName = couponName;
+        this.accountType = (userAccountType != null) ? userAccountType : accountType;
+        this.accountNumber = (userAccountNumber != null) ? userAccountNumber : accountNumber;
+        this.createdAt = createdAt;
+    }
+
+    public Object[] toRow() {
+        return new Object[]{
+                applicationId, name, email, phoneNum, university, major, grade, wishCompany,
+                (wishJob == null) ? null : wishJob.getValue(), applyMotive, preQuestions,
+                (inflowPath == null) ? null : inflowPath.getValue(),
+                (type == null) ? null : type.getValue(),
+                (way == null) ? null : way.getValue(),
+                (status == null) ? null : status.getValue(),
+                isApproved, feeIsConfirmed, totalFee, couponName,
+                (accountType == null) ? null : accountType.getValue(), accountNumber, createdAt
+        };
+    }
+}
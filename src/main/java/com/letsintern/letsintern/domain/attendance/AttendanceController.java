@@ -1,20 +1,33 @@
 package com.letsintern.letsintern.domain.attendance;
 
+import com.letsintern.letsintern.domain.attendance.domain.AttendanceResult;
+import com.letsintern.letsintern.domain.attendance.domain.RefundExportFormat;
 import com.letsintern.letsintern.domain.attendance.dto.request.AttendanceAdminUpdateDTO;
 import com.letsintern.letsintern.domain.attendance.dto.request.AttendanceBaseDTO;
+import com.letsintern.letsintern.domain.attendance.dto.request.AttendanceBulkGradeDTO;
 import com.letsintern.letsintern.domain.attendance.dto.response.AccountListResponse;
 import com.letsintern.letsintern.domain.attendance.dto.response.AttendanceAdminListResponse;
+import com.letsintern.letsintern.domain.attendance.dto.response.AttendanceAdminQueueResponse;
+import com.letsintern.letsintern.domain.attendance.dto.response.AttendanceBulkGradeResponse;
 import com.letsintern.letsintern.domain.attendance.dto.response.AttendanceDashboardResponse;
 import com.letsintern.letsintern.domain.attendance.dto.response.AttendanceIdResponse;
 import com.letsintern.letsintern.domain.attendance.service.AttendanceService;
+import com.letsintern.letsintern.global.common.dto.CursorRequest;
 import com.letsintern.letsintern.global.config.user.PrincipalDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
 
 @RestController
 @RequestMapping("/attendance")
@@ -41,11 +54,29 @@ public class AttendanceController {
     }
 
     @GetMapping("/admin")
-    @Operation(summary = "어드민 출석 목록 보기")
-    public AttendanceAdminListResponse getAttendanceAdminList(@RequestParam(required = false) Long missionId) {
+    @Operation(summary = "어드민 미션별 출석 목록 보기")
+    public AttendanceAdminListResponse getAttendanceAdminList(@RequestParam Long missionId) {
         return attendanceService.getAttendanceAdminList(missionId);
     }
 
+    @GetMapping("/admin/queue")
+    @Operation(summary = "어드민 출석 채점 목록 (커서 페이지네이션, 확인중 우선)")
+    public AttendanceAdminQueueResponse getAttendanceAdminQueue(@RequestParam(required = false) Long programId,
+                                                                @RequestParam(required = false) Long missionId,
+                                                                @RequestParam(required = false) AttendanceResult result,
+                                                                @RequestParam(required = false) AttendanceResult cursorResult,
+                                                                @RequestParam(required = false) Long cursor,
+                                                                @RequestParam(defaultValue = "20") int size,
+                                                                @RequestParam(defaultValue = "false") boolean withCount) {
+        return attendanceService.getAttendanceAdminQueue(programId, missionId, result, cursorResult, CursorRequest.of(cursor, size, withCount));
+    }
+
+    @PatchMapping("/admin/grade")
+    @Operation(summary = "어드민 출석 일괄 채점")
+    public AttendanceBulkGradeResponse gradeAttendances(@RequestBody AttendanceBulkGradeDTO attendanceBulkGradeDTO) {
+        return attendanceService.gradeAttendances(attendanceBulkGradeDTO);
+    }
+
     @PatchMapping("/admin/{attendanceId}")
     @Operation(summary = "어드민 출석 업데이트")
     public AttendanceIdResponse updateAttendanceAdmin(@PathVariable Long attendanceId,
@@ -59,6 +90,22 @@ public class AttendanceController {
         return attendanceService.getAccountListResponse(missionId);
     }
 
+    @GetMapping("/admin/program/{programId}/refund/export")
+    @Operation(summary = "어드민 프로그램 전체 REFUND 미션 환급 계좌 파일 다운로드 (CSV / 대량 이체용 고정 길이)")
+    public ResponseEntity<StreamingResponseBody> exportRefundAccountList(@PathVariable Long programId,
+                                                                         @RequestParam(defaultValue = "CSV") RefundExportFormat format) {
+        attendanceService.validateRefundExport(programId, format);
+        final ContentDisposition contentDisposition = ContentDisposition.attachment()
+                .filename("refund-" + programId + "." + format.getExtension(), StandardCharsets.UTF_8)
+                .build();
+        final StreamingResponseBody body = outputStream -> attendanceService.exportRefundAccountList(programId, format, outputStream);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+                .contentType(MediaType.parseMediaType(format.getMediaType() + ";charset=" + format.getCharset().name()))
+                .body(body);
+    }
+
     @GetMapping("/{applicationId}")
     @Operation(summary = "유저 대시보드 - 우리의 기록장 1명 상세보기")
     public AttendanceDashboardResponse getAttendanceDashboardList(@PathVariable Long applicationId,
@@ -12,6 +12,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity(name = "attendance")
+@Table(indexes = {
+        @Index(name = "idx_attendance_mission_result_id", columnList = "mission_id, result, attendance_id"),
+        @Index(name = "idx_attendance_result_id", columnList = "result, attendance_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -0,0 +1,10 @@
+package com.letsintern.letsintern.domain.attendance.domain;
+
+public enum AttendanceGradeOutcome {
+
+    UPDATED,
+    NOT_FOUND,
+    NOT_PARTICIPANT,
+    NO_CHANGES,
+    DUPLICATED
+}
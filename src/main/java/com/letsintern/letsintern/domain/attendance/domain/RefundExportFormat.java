@@ -0,0 +1,75 @@
+package com.letsintern.letsintern.domain.attendance.domain;
+
+import com.letsintern.letsintern.domain.attendance.vo.RefundAccountVo;
+import com.letsintern.letsintern.global.common.util.CsvUtils;
+import com.letsintern.letsintern.global.common.util.FixedWidthUtils;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+@Getter
+public enum RefundExportFormat {
+
+    CSV("csv", "text/csv", StandardCharsets.UTF_8, false) {
+        @Override
+        public void writeHeader(Writer writer) throws IOException {
+            writer.write(CsvUtils.UTF8_BOM);
+            CsvUtils.writeRow(writer, RefundAccountVo.HEADER);
+        }
+
+        @Override
+        public void writeRow(Writer writer, RefundAccountVo refundAccountVo) {
+            CsvUtils.writeRow(writer, refundAccountVo.toRow());
+        }
+    },
+
+    /*
+     * 은행 대량 이체 업로드용: 은행코드(3) + 계좌번호(20) + 예금주(20) + 이체금액(13), MS949 바이트 기준
+     * 은행 코드, 계좌번호, 금액은 절대 자르지 않는다 - 내보내기 전에 검증하고, 그 사이 바뀐 행은 예외로 내보내기를 중단한다.
+     */
+    FIXED_WIDTH("txt", "text/plain", Charset.forName("MS949"), true) {
+        @Override
+        public void writeHeader(Writer writer) {
+        }
+
+        @Override
+        public void writeRow(Writer writer, RefundAccountVo refundAccountVo) {
+            if (refundAccountVo.getPendingRefund() <= 0) return;
+
+            final RefundTransferError transferError = RefundTransferError.of(refundAccountVo);
+            if (transferError != null) {
+                throw new IllegalStateException("refund account of user " + refundAccountVo.getUserId() + " cannot be transferred: " + transferError);
+            }
+            try {
+                writer.write(FixedWidthUtils.padRightExact(refundAccountVo.getAccountType().getBankCode(), RefundTransferError.BANK_CODE_WIDTH, getCharset()));
+                writer.write(FixedWidthUtils.padRightExact(refundAccountVo.getTransferAccountNumber(), RefundTransferError.ACCOUNT_NUMBER_WIDTH, getCharset()));
+                writer.write(FixedWidthUtils.padRight(refundAccountVo.getName(), RefundTransferError.NAME_WIDTH, getCharset()));
+                writer.write(FixedWidthUtils.padLeftZero(refundAccountVo.getPendingRefund(), RefundTransferError.AMOUNT_WIDTH));
+                writer.write("\r\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    };
+
+    private final String extension;
+    private final String mediaType;
+    private final Charset charset;
+    /* 은행에 그대로 올리는 파일이라 모든 행이 이체 가능한지 먼저 검증해야 하는 포맷 */
+    private final boolean transferFile;
+
+    RefundExportFormat(String extension, String mediaType, Charset charset, boolean transferFile) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+        this.charset = charset;
+        this.transferFile = transferFile;
+    }
+
+    public abstract void writeHeader(Writer writer) throws IOException;
+
+    public abstract void writeRow(Writer writer, RefundAccountVo refundAccountVo);
+}
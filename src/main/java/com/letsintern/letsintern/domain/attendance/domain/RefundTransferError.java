@@ -0,0 +1,38 @@
+package com.letsintern.letsintern.domain.attendance.domain;
+
+import com.letsintern.letsintern.domain.attendance.vo.RefundAccountVo;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/* 대량 이체 파일에 그대로 쓸 수 없는 환급 계좌 - 잘라서 쓰면 엉뚱한 계좌나 금액으로 이체되므로 파일을 만들지 않는다 */
+@Getter
+@AllArgsConstructor
+public enum RefundTransferError {
+
+    MISSING_BANK_CODE("은행 코드 없음"),
+    MISSING_ACCOUNT_NUMBER("계좌번호 없음"),
+    ACCOUNT_NUMBER_TOO_LONG("계좌번호 자릿수 초과"),
+    AMOUNT_TOO_LARGE("이체 금액 자릿수 초과");
+
+    public static final int BANK_CODE_WIDTH = 3;
+    public static final int ACCOUNT_NUMBER_WIDTH = 20;
+    public static final int NAME_WIDTH = 20;
+    public static final int AMOUNT_WIDTH = 13;
+
+    private final String value;
+
+    /* 환급할 금액이 없는 사용자는 이체 대상이 아니므로 검사하지 않는다 */
+    public static RefundTransferError of(RefundAccountVo refundAccountVo) {
+        if (refundAccountVo.getPendingRefund() <= 0) return null;
+
+        final String bankCode = refundAccountVo.getAccountType() == null ? null : refundAccountVo.getAccountType().getBankCode();
+        if (bankCode == null || bankCode.isBlank()) return MISSING_BANK_CODE;
+
+        final String accountNumber = refundAccountVo.getTransferAccountNumber();
+        if (accountNumber == null || accountNumber.isEmpty()) return MISSING_ACCOUNT_NUMBER;
+        if (accountNumber.length() > ACCOUNT_NUMBER_WIDTH) return ACCOUNT_NUMBER_TOO_LONG;
+
+        if (String.valueOf(refundAccountVo.getPendingRefund()).length() > AMOUNT_WIDTH) return AMOUNT_TOO_LARGE;
+        return null;
+    }
+}
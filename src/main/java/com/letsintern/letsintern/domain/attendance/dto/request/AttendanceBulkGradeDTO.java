@@ -0,0 +1,12 @@
+package com.letsintern.letsintern.domain.attendance.dto.request;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class AttendanceBulkGradeDTO {
+
+    private List<AttendanceGradeDTO> attendanceList;
+
+}
@@ -0,0 +1,20 @@
+package com.letsintern.letsintern.domain.attendance.dto.request;
+
+import com.letsintern.letsintern.domain.attendance.domain.AttendanceResult;
+import lombok.Getter;
+
+@Getter
+public class AttendanceGradeDTO {
+
+    private Long attendanceId;
+
+    private AttendanceResult result;
+
+    private String comments;
+
+    private Boolean isRefunded;
+
+    public boolean hasChanges() {
+        return result != null || comments != null || isRefunded != null;
+    }
+}
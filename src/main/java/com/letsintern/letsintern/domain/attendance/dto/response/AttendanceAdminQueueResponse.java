@@ -0,0 +1,29 @@
+package com.letsintern.letsintern.domain.attendance.dto.response;
+
+import com.letsintern.letsintern.domain.attendance.domain.AttendanceResult;
+import com.letsintern.letsintern.domain.attendance.vo.AttendanceAdminVo;
+import com.letsintern.letsintern.global.common.dto.CursorSlice;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class AttendanceAdminQueueResponse {
+
+    private CursorSlice<AttendanceAdminVo> attendanceList;
+
+    /* 다음 페이지 요청 시 cursor 와 함께 넘길 결과 구간 */
+    private AttendanceResult nextCursorResult;
+
+    @Builder
+    private AttendanceAdminQueueResponse(CursorSlice<AttendanceAdminVo> attendanceList, AttendanceResult nextCursorResult) {
+        this.attendanceList = attendanceList;
+        this.nextCursorResult = nextCursorResult;
+    }
+
+    public static AttendanceAdminQueueResponse of(CursorSlice<AttendanceAdminVo> attendanceList, AttendanceResult nextCursorResult) {
+        return AttendanceAdminQueueResponse.builder()
+                .attendanceList(attendanceList)
+                .nextCursorResult(nextCursorResult)
+                .build();
+    }
+}
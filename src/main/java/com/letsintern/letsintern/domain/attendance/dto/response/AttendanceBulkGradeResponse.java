@@ -0,0 +1,29 @@
+package com.letsintern.letsintern.domain.attendance.dto.response;
+
+import com.letsintern.letsintern.domain.attendance.domain.AttendanceGradeOutcome;
+import com.letsintern.letsintern.domain.attendance.vo.AttendanceGradeResultVo;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class AttendanceBulkGradeResponse {
+
+    private long updatedCount;
+
+    private List<AttendanceGradeResultVo> resultList;
+
+    @Builder
+    private AttendanceBulkGradeResponse(long updatedCount, List<AttendanceGradeResultVo> resultList) {
+        this.updatedCount = updatedCount;
+        this.resultList = resultList;
+    }
+
+    public static AttendanceBulkGradeResponse from(List<AttendanceGradeResultVo> resultList) {
+        return AttendanceBulkGradeResponse.builder()
+                .updatedCount(resultList.stream().filter(result -> result.getOutcome() == AttendanceGradeOutcome.UPDATED).count())
+                .resultList(resultList)
+                .build();
+    }
+}
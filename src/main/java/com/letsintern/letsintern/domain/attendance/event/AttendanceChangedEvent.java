@@ -0,0 +1,13 @@
+package com.letsintern.letsintern.domain.attendance.event;
+
+/* graded 는 어드민 채점처럼 프로그램 전체 통계(직전 회차 통과 인원)에 영향을 주는 변경 여부 */
+public record AttendanceChangedEvent(Long programId, Long userId, boolean graded) {
+
+    public static AttendanceChangedEvent ofSubmit(Long programId, Long userId) {
+        return new AttendanceChangedEvent(programId, userId, false);
+    }
+
+    public static AttendanceChangedEvent ofGrade(Long programId, Long userId) {
+        return new AttendanceChangedEvent(programId, userId, true);
+    }
+}
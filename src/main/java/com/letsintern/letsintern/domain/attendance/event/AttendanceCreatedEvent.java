@@ -0,0 +1,8 @@
+package com.letsintern.letsintern.domain.attendance.event;
+
+public record AttendanceCreatedEvent(Long missionId, boolean late) {
+
+    public static AttendanceCreatedEvent of(Long missionId, boolean late) {
+        return new AttendanceCreatedEvent(missionId, late);
+    }
+}
@@ -0,0 +1,12 @@
+package com.letsintern.letsintern.domain.attendance.exception;
+
+import com.letsintern.letsintern.global.error.BaseErrorException;
+
+public class AttendanceBulkGradeTooLarge extends BaseErrorException {
+
+    public static final AttendanceBulkGradeTooLarge EXCEPTION = new AttendanceBulkGradeTooLarge();
+
+    private AttendanceBulkGradeTooLarge() {
+        super(AttendanceErrorCode.ATTENDANCE_BULK_GRADE_TOO_LARGE);
+    }
+}
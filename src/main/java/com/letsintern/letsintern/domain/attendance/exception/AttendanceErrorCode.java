@@ -16,7 +16,9 @@ public enum AttendanceErrorCode implements BaseErrorCode {
     ATTENDANCE_NOT_FOUND(NOT_FOUND, "ATTENDANCE_404_1", "존재하지 않는 출석입니다."),
     ATTENDANCE_CANNOT_CREATED(BAD_REQUEST, "ATTENDANCE_400_1", "출석 인증이 불가능합니다."),
     ATTENDANCE_ALREADY_EXISTS(BAD_REQUEST, "ATTENDANCE_400_2", "이미 제출한 출석 인증이 존재합니다."),
-    ATTENDANCE_CANNOT_UPDATED(BAD_REQUEST, "ATTENDANCE_400_3", "출석 수정이 불가능한 기간입니다");
+    ATTENDANCE_CANNOT_UPDATED(BAD_REQUEST, "ATTENDANCE_400_3", "출석 수정이 불가능한 기간입니다"),
+    ATTENDANCE_BULK_GRADE_TOO_LARGE(BAD_REQUEST, "ATTENDANCE_400_4", "한 번에 채점할 수 있는 출석 수를 초과했습니다."),
+    REFUND_TRANSFER_INVALID_ACCOUNT(BAD_REQUEST, "ATTENDANCE_400_5", "이체할 수 없는 환급 계좌가 있습니다. CSV 의 이체 불가 사유를 확인해 주세요.");
 
     private HttpStatus status;
     private String code;
@@ -0,0 +1,12 @@
+package com.letsintern.letsintern.domain.attendance.exception;
+
+import com.letsintern.letsintern.global.error.BaseErrorException;
+
+public class RefundTransferInvalidAccount extends BaseErrorException {
+
+    public static final RefundTransferInvalidAccount EXCEPTION = new RefundTransferInvalidAccount();
+
+    private RefundTransferInvalidAccount() {
+        super(AttendanceErrorCode.REFUND_TRANSFER_INVALID_ACCOUNT);
+    }
+}
@@ -5,39 +5,73 @@ import com.letsintern.letsintern.domain.application.exception.ApplicationNotFoun
 import com.letsintern.letsintern.domain.application.exception.ApplicationUnauthorized;
 import com.letsintern.letsintern.domain.application.repository.ApplicationRepository;
 import com.letsintern.letsintern.domain.attendance.domain.Attendance;
+import com.letsintern.letsintern.domain.attendance.domain.AttendanceGradeOutcome;
 import com.letsintern.letsintern.domain.attendance.domain.AttendanceResult;
 import com.letsintern.letsintern.domain.attendance.domain.AttendanceStatus;
+import com.letsintern.letsintern.domain.attendance.domain.RefundExportFormat;
+import com.letsintern.letsintern.domain.attendance.domain.RefundTransferError;
 import com.letsintern.letsintern.domain.attendance.dto.request.AttendanceAdminUpdateDTO;
 import com.letsintern.letsintern.domain.attendance.dto.request.AttendanceBaseDTO;
+import com.letsintern.letsintern.domain.attendance.dto.request.AttendanceGradeDTO;
+import com.letsintern.letsintern.domain.attendance.event.AttendanceChangedEvent;
+import com.letsintern.letsintern.domain.attendance.event.AttendanceCreatedEvent;
 import com.letsintern.letsintern.domain.attendance.exception.AttendanceAlreadyExists;
+import com.letsintern.letsintern.domain.attendance.exception.AttendanceBulkGradeTooLarge;
 import com.letsintern.letsintern.domain.attendance.exception.AttendanceCannotUpdated;
 import com.letsintern.letsintern.domain.attendance.exception.AttendanceNotFound;
+import com.letsintern.letsintern.domain.attendance.exception.RefundTransferInvalidAccount;
 import com.letsintern.letsintern.domain.attendance.mapper.AttendanceMapper;
 import com.letsintern.letsintern.domain.attendance.repository.AttendanceRepository;
 import com.letsintern.letsintern.domain.attendance.vo.AttendanceAdminVo;
 import com.letsintern.letsintern.domain.attendance.vo.AttendanceDashboardVo;
+import com.letsintern.letsintern.domain.attendance.vo.AttendanceGradeResultVo;
+import com.letsintern.letsintern.domain.attendance.vo.AttendanceGradeTargetVo;
+import com.letsintern.letsintern.domain.attendance.vo.RefundAccountVo;
+import com.letsintern.letsintern.domain.attendance.vo.RefundAttendanceVo;
 import com.letsintern.letsintern.domain.mission.domain.Mission;
 import com.letsintern.letsintern.domain.mission.exception.MissionNotFound;
 import com.letsintern.letsintern.domain.mission.repository.MissionRepository;
 import com.letsintern.letsintern.domain.user.domain.User;
 import com.letsintern.letsintern.domain.user.vo.AccountVo;
+import com.letsintern.letsintern.global.common.dto.CursorRequest;
+import com.letsintern.letsintern.global.common.dto.CursorSlice;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class AttendanceHelper {
 
+    private static final int REFUND_EXPORT_PROGRESS_INTERVAL = 1000;
+    private static final int MAX_BULK_GRADE_SIZE = 500;
+
+    /* 채점 대기 목록 노출 순서 */
+    private static final List<AttendanceResult> ADMIN_QUEUE_ORDER = List.of(AttendanceResult.WAITING, AttendanceResult.WRONG, AttendanceResult.PASS);
+
     private final AttendanceRepository attendanceRepository;
     private final AttendanceMapper attendanceMapper;
     private final MissionRepository missionRepository;
     private final ApplicationRepository applicationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Long createAttendance(Long missionId, AttendanceBaseDTO attendanceBaseDTO, User user) {
         Mission mission = missionRepository.findById(missionId).orElseThrow(() -> MissionNotFound.EXCEPTION);
@@ -48,11 +82,11 @@ public class AttendanceHelper {
         final Attendance attendance = attendanceRepository.findByMissionIdAndUserId(missionId, user.getId());
         if(attendance != null) throw AttendanceAlreadyExists.EXCEPTION;
 
-        // Mission.attendanceCount++ or lateAttendanceCount++
-        if(isLateAttendance(mission.getEndDate())) mission.setLateAttendanceCount(mission.getLateAttendanceCount() + 1);
-        else mission.setAttendanceCount(mission.getAttendanceCount() + 1);
-
-        return attendanceRepository.save(attendanceMapper.toEntity(mission, attendanceBaseDTO, user)).getId();
+        final Long attendanceId = attendanceRepository.save(attendanceMapper.toEntity(mission, attendanceBaseDTO, user)).getId();
+        // Mission.attendanceCount++ or lateAttendanceCount++ (같은 트랜잭션에서 counter_delta 에 쌓고 MissionAttendanceCounter 에서 일괄 반영)
+        eventPublisher.publishEvent(AttendanceCreatedEvent.of(missionId, isLateAttendance(mission.getEndDate())));
+        eventPublisher.publishEvent(AttendanceChangedEvent.ofSubmit(mission.getProgram().getId(), user.getId()));
+        return attendanceId;
     }
 
     public Attendance updateAttendance(Long attendanceId, AttendanceBaseDTO attendanceUpdateDTO, Long userId) {
@@ -66,6 +100,7 @@ public class AttendanceHelper {
             }
             attendance.setLink(attendanceUpdateDTO.getLink());
             attendance.setComments(null);
+            eventPublisher.publishEvent(AttendanceChangedEvent.ofSubmit(attendance.getMission().getProgram().getId(), userId));
         }
 
         return attendance;
@@ -75,10 +110,35 @@ public class AttendanceHelper {
         return attendanceRepository.countAllByMissionProgramIdAndMissionThAndStatusAndResult(programId, missionTh, attendanceStatus, attendanceResult);
     }
 
+    public Map<Integer, Integer> getPassedHeadCountByTh(Long programId) {
+        return attendanceRepository.countPassedHeadCountGroupByMissionTh(programId);
+    }
+
     public List<AttendanceAdminVo> getAttendanceAdminList(Long missionId) {
         return attendanceRepository.getAttendanceAdminVos(missionId);
     }
 
+    /*
+     * 결과 필터가 없으면 WAITING -> WRONG -> PASS 구간을 차례로 이어서 채운다.
+     * 각 구간은 id 키셋 조회라 CASE 정렬(filesort) 없이 인덱스 순서대로 읽힌다.
+     */
+    public CursorSlice<AttendanceAdminVo> getAttendanceAdminQueue(Long programId, Long missionId, AttendanceResult result,
+                                                                  AttendanceResult cursorResult, CursorRequest cursorRequest) {
+        final List<AttendanceResult> segments = result != null ? List.of(result)
+                : ADMIN_QUEUE_ORDER.subList(cursorResult == null ? 0 : ADMIN_QUEUE_ORDER.indexOf(cursorResult), ADMIN_QUEUE_ORDER.size());
+
+        final List<AttendanceAdminVo> fetched = new ArrayList<>();
+        Long cursor = cursorRequest.cursor();
+        for (AttendanceResult segment : segments) {
+            fetched.addAll(attendanceRepository.findAttendanceAdminQueue(programId, missionId, segment, cursor, cursorRequest.fetchSize() - fetched.size()));
+            if (fetched.size() >= cursorRequest.fetchSize()) break;
+            cursor = null;
+        }
+
+        return CursorSlice.of(fetched, cursorRequest, AttendanceAdminVo::getId,
+                () -> attendanceRepository.countAttendanceAdminQueue(programId, missionId, result));
+    }
+
     public List<AttendanceDashboardVo> getAttendanceDashboardList(Application application) {
         return attendanceRepository.getAttendanceDashboardVos(application.getProgram().getId(), application.getUser().getId());
     }
@@ -95,14 +155,108 @@ public class AttendanceHelper {
         if(attendanceAdminUpdateDTO.getIsRefunded() != null) attendance.setIsRefunded(attendanceAdminUpdateDTO.getIsRefunded());
 
         attendanceRepository.save(attendance);
+        eventPublisher.publishEvent(AttendanceChangedEvent.ofGrade(application.getProgram().getId(), attendance.getUser().getId()));
         return attendance.getId();
     }
 
+    /* 대상 검증은 한 번의 조회로, 수정은 JDBC batch update 로 처리하고 항목별 결과를 요청 순서대로 돌려준다 */
+    public List<AttendanceGradeResultVo> gradeAttendances(List<AttendanceGradeDTO> gradeList) {
+        if(gradeList == null || gradeList.isEmpty()) return List.of();
+        if(gradeList.size() > MAX_BULK_GRADE_SIZE) throw AttendanceBulkGradeTooLarge.EXCEPTION;
+
+        final List<Long> attendanceIds = gradeList.stream().map(AttendanceGradeDTO::getAttendanceId).filter(Objects::nonNull).distinct().toList();
+        final Map<Long, AttendanceGradeTargetVo> targets = attendanceRepository.findGradeTargets(attendanceIds).stream()
+                .collect(Collectors.toMap(AttendanceGradeTargetVo::getAttendanceId, Function.identity()));
+
+        final AttendanceGradeOutcome[] outcomes = new AttendanceGradeOutcome[gradeList.size()];
+        final List<Integer> updateIndexes = new ArrayList<>();
+        final Set<Long> seen = new HashSet<>();
+        for(int i = 0; i < gradeList.size(); i++) {
+            final AttendanceGradeDTO grade = gradeList.get(i);
+            final AttendanceGradeTargetVo target = targets.get(grade.getAttendanceId());
+
+            if(target == null) outcomes[i] = AttendanceGradeOutcome.NOT_FOUND;
+            else if(!seen.add(grade.getAttendanceId())) outcomes[i] = AttendanceGradeOutcome.DUPLICATED;
+            else if(!grade.hasChanges()) outcomes[i] = AttendanceGradeOutcome.NO_CHANGES;
+            else if(!target.isParticipant()) outcomes[i] = AttendanceGradeOutcome.NOT_PARTICIPANT;
+            else updateIndexes.add(i);
+        }
+
+        if(!updateIndexes.isEmpty()) {
+            final int[] updatedRows = attendanceRepository.batchUpdateGrades(updateIndexes.stream().map(gradeList::get).toList());
+            for(int j = 0; j < updateIndexes.size(); j++) {
+                final int index = updateIndexes.get(j);
+                /* rewriteBatchedStatements 사용 시 드라이버는 영향 행 수 대신 SUCCESS_NO_INFO(-2)를 돌려준다 */
+                if(updatedRows[j] == 0) {
+                    outcomes[index] = AttendanceGradeOutcome.NOT_FOUND;
+                    continue;
+                }
+                outcomes[index] = AttendanceGradeOutcome.UPDATED;
+
+                final AttendanceGradeTargetVo target = targets.get(gradeList.get(index).getAttendanceId());
+                eventPublisher.publishEvent(AttendanceChangedEvent.ofGrade(target.getProgramId(), target.getUserId()));
+            }
+        }
+
+        final List<AttendanceGradeResultVo> results = new ArrayList<>(gradeList.size());
+        for(int i = 0; i < gradeList.size(); i++) {
+            results.add(AttendanceGradeResultVo.of(gradeList.get(i).getAttendanceId(), outcomes[i]));
+        }
+        return results;
+    }
+
     public List<AccountVo> getAccountListResponse(Long missionId) {
         final Mission mission = missionRepository.findById(missionId).orElseThrow(() -> MissionNotFound.EXCEPTION);
         return attendanceRepository.getAccountVoList(mission.getId());
     }
 
+    /* 프로그램의 모든 REFUND 미션 출석을 한 번의 커서로 읽으며 사용자별 환급 합계를 바로 내보낸다 */
+    public void exportRefundAccounts(Long programId, RefundExportFormat format, Writer writer) throws IOException {
+        log.info("[refund-export] program {} started, format {}", programId, format);
+        format.writeHeader(writer);
+        final long exportedUsers = forEachRefundAccount(programId, refundAccountVo -> format.writeRow(writer, refundAccountVo));
+        log.info("[refund-export] program {} finished: {} users", programId, exportedUsers);
+    }
+
+    /* 이체 파일은 한 행이라도 이체할 수 없으면 만들지 않는다 (응답을 쓰기 전에 호출) */
+    public void validateRefundTransfer(Long programId) {
+        final List<String> invalidAccountList = new ArrayList<>();
+        forEachRefundAccount(programId, refundAccountVo -> {
+            final RefundTransferError transferError = RefundTransferError.of(refundAccountVo);
+            if (transferError != null) invalidAccountList.add(refundAccountVo.getUserId() + ":" + transferError);
+        });
+        if (invalidAccountList.isEmpty()) return;
+
+        log.warn("[refund-export] program {} has {} accounts that cannot be transferred: {}", programId, invalidAccountList.size(), invalidAccountList);
+        throw RefundTransferInvalidAccount.EXCEPTION;
+    }
+
+    private long forEachRefundAccount(Long programId, Consumer<RefundAccountVo> consumer) {
+        final long total = attendanceRepository.countRefundAttendancesByProgramId(programId);
+        final AtomicLong processed = new AtomicLong();
+        final AtomicLong users = new AtomicLong();
+        final List<RefundAttendanceVo> userRows = new ArrayList<>();
+
+        attendanceRepository.scrollRefundAttendanceVosByProgramId(programId, row -> {
+            if (!userRows.isEmpty() && !userRows.get(0).getUserId().equals(row.getUserId())) {
+                consumer.accept(RefundAccountVo.of(userRows));
+                users.incrementAndGet();
+                userRows.clear();
+            }
+            userRows.add(row);
+
+            final long count = processed.incrementAndGet();
+            if (count % REFUND_EXPORT_PROGRESS_INTERVAL == 0) {
+                log.info("[refund-export] program {} progress: {}/{} attendances", programId, count, total);
+            }
+        });
+        if (!userRows.isEmpty()) {
+            consumer.accept(RefundAccountVo.of(userRows));
+            users.incrementAndGet();
+        }
+        return users.get();
+    }
+
     private boolean isLateAttendance(LocalDateTime missionEndDate) {
         return missionEndDate.isBefore(LocalDateTime.now());
     }
@@ -2,16 +2,21 @@ package com.letsintern.letsintern.domain.attendance.mapper;
 
 import com.letsintern.letsintern.domain.application.domain.ApplicationWishJob;
 import com.letsintern.letsintern.domain.attendance.domain.Attendance;
+import com.letsintern.letsintern.domain.attendance.domain.AttendanceResult;
 import com.letsintern.letsintern.domain.attendance.dto.request.AttendanceBaseDTO;
 import com.letsintern.letsintern.domain.attendance.dto.response.AccountListResponse;
 import com.letsintern.letsintern.domain.attendance.dto.response.AttendanceAdminListResponse;
+import com.letsintern.letsintern.domain.attendance.dto.response.AttendanceAdminQueueResponse;
+import com.letsintern.letsintern.domain.attendance.dto.response.AttendanceBulkGradeResponse;
 import com.letsintern.letsintern.domain.attendance.dto.response.AttendanceDashboardResponse;
 import com.letsintern.letsintern.domain.attendance.dto.response.AttendanceIdResponse;
 import com.letsintern.letsintern.domain.attendance.vo.AttendanceAdminVo;
 import com.letsintern.letsintern.domain.attendance.vo.AttendanceDashboardVo;
+import com.letsintern.letsintern.domain.attendance.vo.AttendanceGradeResultVo;
 import com.letsintern.letsintern.domain.mission.domain.Mission;
 import com.letsintern.letsintern.domain.user.domain.User;
 import com.letsintern.letsintern.domain.user.vo.AccountVo;
+import com.letsintern.letsintern.global.common.dto.CursorSlice;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
@@ -32,6 +37,14 @@ public class AttendanceMapper {
         return AttendanceAdminListResponse.from(attendanceAdminList);
     }
 
+    public AttendanceAdminQueueResponse toAttendanceAdminQueueResponse(CursorSlice<AttendanceAdminVo> attendanceList, AttendanceResult nextCursorResult) {
+        return AttendanceAdminQueueResponse.of(attendanceList, nextCursorResult);
+    }
+
+    public AttendanceBulkGradeResponse toAttendanceBulkGradeResponse(List<AttendanceGradeResultVo> resultList) {
+        return AttendanceBulkGradeResponse.from(resultList);
+    }
+
     public AttendanceDashboardResponse toAttendanceDashboardResponse(String name, ApplicationWishJob wishJob, String introduction, boolean isMine, List<ApplicationWishJob> wishJobList, List<AttendanceDashboardVo> attendanceList) {
         return AttendanceDashboardResponse.of(name, wishJob, introduction, isMine, wishJobList, attendanceList);
     }
@@ -1,23 +1,43 @@
 package com.letsintern.letsintern.domain.attendance.repository;
 
+import com.letsintern.letsintern.domain.attendance.domain.AttendanceResult;
+import com.letsintern.letsintern.domain.attendance.dto.request.AttendanceGradeDTO;
 import com.letsintern.letsintern.domain.attendance.vo.AttendanceAdminVo;
 import com.letsintern.letsintern.domain.attendance.vo.AttendanceDashboardVo;
+import com.letsintern.letsintern.domain.attendance.vo.AttendanceGradeTargetVo;
+import com.letsintern.letsintern.domain.attendance.vo.RefundAttendanceVo;
 import com.letsintern.letsintern.domain.user.vo.AccountVo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 public interface AttendanceRepositoryCustom {
 
     List<AttendanceAdminVo> getAttendanceAdminVos(Long missionId);
 
+    List<AttendanceAdminVo> findAttendanceAdminQueue(Long programId, Long missionId, AttendanceResult result, Long cursor, int limit);
+
+    long countAttendanceAdminQueue(Long programId, Long missionId, AttendanceResult result);
+
+    List<AttendanceGradeTargetVo> findGradeTargets(List<Long> attendanceIds);
+
+    int[] batchUpdateGrades(List<AttendanceGradeDTO> gradeList);
+
     List<AttendanceDashboardVo> getAttendanceDashboardVos(Long programId, Long userId);
 
     List<AccountVo> getAccountVoList(Long missionId);
 
+    long countRefundAttendancesByProgramId(Long programId);
+
+    void scrollRefundAttendanceVosByProgramId(Long programId, Consumer<RefundAttendanceVo> consumer);
+
     long countNotCheckedAttendances(Long missionId);
 
     long countNotRefundedAttendances(Long missionId);
 
+    Map<Integer, Integer> countPassedHeadCountGroupByMissionTh(Long programId);
+
 }
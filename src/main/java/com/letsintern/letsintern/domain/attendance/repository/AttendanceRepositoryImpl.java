@@ -1,74 +1,176 @@
 package com.letsintern.letsintern.domain.attendance.repository;
 
 import com.letsintern.letsintern.domain.attendance.domain.Attendance;
+import com.letsintern.letsintern.domain.application.domain.QApplication;
 import com.letsintern.letsintern.domain.attendance.domain.AttendanceResult;
 import com.letsintern.letsintern.domain.attendance.domain.AttendanceStatus;
 import com.letsintern.letsintern.domain.attendance.domain.QAttendance;
+import com.letsintern.letsintern.domain.attendance.dto.request.AttendanceGradeDTO;
 import com.letsintern.letsintern.domain.attendance.vo.AttendanceAdminVo;
 import com.letsintern.letsintern.domain.attendance.vo.AttendanceDashboardVo;
+import com.letsintern.letsintern.domain.attendance.vo.AttendanceGradeTargetVo;
+import com.letsintern.letsintern.domain.attendance.vo.RefundAttendanceVo;
+import com.letsintern.letsintern.domain.mission.domain.MissionType;
+import com.letsintern.letsintern.domain.mission.domain.QMission;
 import com.letsintern.letsintern.domain.user.domain.QUser;
 import com.letsintern.letsintern.domain.user.vo.AccountVo;
+import com.letsintern.letsintern.global.common.util.KeysetUtils;
+import com.letsintern.letsintern.global.common.util.QueryHintUtils;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
 public class AttendanceRepositoryImpl implements AttendanceRepositoryCustom {
 
     private final JPAQueryFactory jpaQueryFactory;
+    private final EntityManager em;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public List<AttendanceAdminVo> getAttendanceAdminVos(Long missionId) {
         QAttendance qAttendance = QAttendance.attendance;
-        List<AttendanceAdminVo> attendanceAdminVos;
+        QUser qUser = QUser.user;
 
         NumberExpression<Integer> resultOrder = new CaseBuilder()
                 .when(qAttendance.result.eq(AttendanceResult.WAITING)).then(0)
                 .when(qAttendance.result.eq(AttendanceResult.WRONG)).then(1)
                 .otherwise(2);
 
-        if(missionId != null) {
-            attendanceAdminVos = jpaQueryFactory
-                    .select(Projections.constructor(AttendanceAdminVo.class,
-                            qAttendance.id,
-                            qAttendance.user,
-                            qAttendance.status,
-                            qAttendance.result,
-                            qAttendance.link,
-                            qAttendance.isRefunded,
-                            qAttendance.comments))
-                    .from(qAttendance)
-                    .where(qAttendance.mission.id.eq(missionId))
-                    .orderBy(resultOrder.asc(), qAttendance.id.desc())
-                    .fetch();
-        }
+        return QueryHintUtils.readOnly(jpaQueryFactory
+                .select(Projections.constructor(AttendanceAdminVo.class,
+                        qAttendance.id,
+                        qUser.name,
+                        qUser.email,
+                        qUser.accountType,
+                        qUser.accountNumber,
+                        qAttendance.status,
+                        qAttendance.result,
+                        qAttendance.link,
+                        qAttendance.isRefunded,
+                        qAttendance.comments))
+                .from(qAttendance)
+                .innerJoin(qAttendance.user, qUser)
+                .where(qAttendance.mission.id.eq(missionId))
+                .orderBy(resultOrder.asc(), qAttendance.id.desc()))
+                .fetch();
+    }
+
+    /*
+     * 한 결과 구간만 id 역순으로 조회한다.
+     * missionId 필터는 (mission_id, result, attendance_id) 범위 스캔으로 정렬까지 끝나고,
+     * 필터가 없거나 programId 필터인 경우는 (result, attendance_id) 인덱스를 역순으로 읽으며
+     * (programId 는 미션 소속을 확인하며) limit 만큼 채우면 멈춘다. programId 필터는 filesort 는 없지만
+     * 해당 프로그램 출석이 드문 구간에서는 읽는 행이 늘어난다.
+     */
+    @Override
+    public List<AttendanceAdminVo> findAttendanceAdminQueue(Long programId, Long missionId, AttendanceResult result, Long cursor, int limit) {
+        QAttendance qAttendance = QAttendance.attendance;
+        QUser qUser = QUser.user;
 
-        else {
-            attendanceAdminVos = jpaQueryFactory
-                    .select(Projections.constructor(AttendanceAdminVo.class,
-                            qAttendance.id,
-                            qAttendance.user,
-                            qAttendance.status,
-                            qAttendance.result,
-                            qAttendance.link,
-                            qAttendance.isRefunded,
-                            qAttendance.comments))
+        return QueryHintUtils.readOnly(jpaQueryFactory
+                .select(Projections.constructor(AttendanceAdminVo.class,
+                        qAttendance.id,
+                        qUser.name,
+                        qUser.email,
+                        qUser.accountType,
+                        qUser.accountNumber,
+                        qAttendance.status,
+                        qAttendance.result,
+                        qAttendance.link,
+                        qAttendance.isRefunded,
+                        qAttendance.comments))
+                .from(qAttendance)
+                .innerJoin(qAttendance.user, qUser)
+                .where(eqQueueMission(qAttendance, programId, missionId),
+                        qAttendance.result.eq(result),
+                        KeysetUtils.idBefore(qAttendance.id, cursor))
+                .orderBy(qAttendance.id.desc())
+                .limit(limit))
+                .fetch();
+    }
+
+    @Override
+    public long countAttendanceAdminQueue(Long programId, Long missionId, AttendanceResult result) {
+        QAttendance qAttendance = QAttendance.attendance;
+        return jpaQueryFactory
+                    .select(qAttendance.count())
                     .from(qAttendance)
-                    .orderBy(resultOrder.asc(), qAttendance.id.desc())
-                    .fetch();
-        }
+                    .where(eqQueueMission(qAttendance, programId, missionId),
+                            result == null ? null : qAttendance.result.eq(result))
+                .fetchFirst();
+    }
+
+    /* 출석마다 지원서를 따로 찾지 않고 한 번의 조인으로 참여 여부까지 확인 */
+    @Override
+    public List<AttendanceGradeTargetVo> findGradeTargets(List<Long> attendanceIds) {
+        QAttendance qAttendance = QAttendance.attendance;
+        QMission qMission = QMission.mission;
+        QApplication qApplication = QApplication.application;
+
+        return QueryHintUtils.readOnly(jpaQueryFactory
+                .select(Projections.constructor(AttendanceGradeTargetVo.class,
+                        qAttendance.id,
+                        qMission.program.id,
+                        qAttendance.user.id,
+                        qApplication.id.min()))
+                .from(qAttendance)
+                .innerJoin(qAttendance.mission, qMission)
+                .leftJoin(qApplication)
+                .on(qApplication.program.id.eq(qMission.program.id),
+                        qApplication.user.id.eq(qAttendance.user.id))
+                .where(qAttendance.id.in(attendanceIds))
+                .groupBy(qAttendance.id, qMission.program.id, qAttendance.user.id))
+                .fetch();
+    }
+
+    /* null 항목은 기존 값을 유지 (단건 어드민 수정과 같은 규칙) */
+    @Override
+    public int[] batchUpdateGrades(List<AttendanceGradeDTO> gradeList) {
+        final String sql = "update attendance set " +
+                "result = coalesce(?, result), comments = coalesce(?, comments), is_refunded = coalesce(?, is_refunded) " +
+                "where attendance_id = ?";
 
-        return attendanceAdminVos;
+        return jdbcTemplate.batchUpdate(sql, gradeList.stream()
+                .map(grade -> new Object[]{
+                        grade.getResult() == null ? null : grade.getResult().name(),
+                        grade.getComments(),
+                        grade.getIsRefunded(),
+                        grade.getAttendanceId()})
+                .toList());
+    }
+
+    /* 프로그램 조건도 attendance.mission_id 로 걸어야 인덱스 선두 컬럼을 탈 수 있다 */
+    private BooleanExpression eqQueueMission(QAttendance qAttendance, Long programId, Long missionId) {
+        if (missionId != null) return qAttendance.mission.id.eq(missionId);
+        if (programId == null) return null;
+
+        QMission qMission = QMission.mission;
+        return qAttendance.mission.id.in(JPAExpressions
+                .select(qMission.id)
+                .from(qMission)
+                .where(qMission.program.id.eq(programId)));
     }
 
     @Override
@@ -108,6 +210,46 @@ public class AttendanceRepositoryImpl implements AttendanceRepositoryCustom {
                 .fetch();
     }
 
+    @Override
+    public long countRefundAttendancesByProgramId(Long programId) {
+        QAttendance qAttendance = QAttendance.attendance;
+        return jpaQueryFactory
+                .select(qAttendance.count())
+                .from(qAttendance)
+                .where(
+                        qAttendance.mission.program.id.eq(programId),
+                        qAttendance.mission.type.eq(MissionType.REFUND),
+                        qAttendance.status.eq(AttendanceStatus.PRESENT),
+                        qAttendance.result.eq(AttendanceResult.PASS)
+                )
+                .fetchFirst();
+    }
+
+    /* 사용자 순으로 정렬해서 흘려보내므로 호출 측은 사용자가 바뀔 때마다 합계를 내보내면 된다 */
+    @Override
+    public void scrollRefundAttendanceVosByProgramId(Long programId, Consumer<RefundAttendanceVo> consumer) {
+        final String hql = "select new " + RefundAttendanceVo.class.getName() + "(" +
+                "u.id, u.name, u.accountType, u.accountNumber, m.th, m.refund, a.isRefunded) " +
+                "from Attendance a join a.mission m join a.user u " +
+                "where m.program.id = :programId and m.type = :type and a.status = :status and a.result = :result " +
+                "order by u.id asc, m.th asc";
+
+        org.hibernate.query.Query<RefundAttendanceVo> query = em.unwrap(Session.class).createQuery(hql, RefundAttendanceVo.class);
+        query.setParameter("programId", programId);
+        query.setParameter("type", MissionType.REFUND);
+        query.setParameter("status", AttendanceStatus.PRESENT);
+        query.setParameter("result", AttendanceResult.PASS);
+
+        try (ScrollableResults<RefundAttendanceVo> results = query
+                .setReadOnly(true)
+                .setFetchSize(Integer.MIN_VALUE)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                consumer.accept(results.get());
+            }
+        }
+    }
+
     @Override
     public long countNotCheckedAttendances(Long missionId) {
         QAttendance qAttendance = QAttendance.attendance;
@@ -132,4 +274,22 @@ public class AttendanceRepositoryImpl implements AttendanceRepositoryCustom {
                             .and(qAttendance.isRefunded.eq(false)))
                 .fetchFirst();
     }
+
+    /* 회차 별 정상 제출(PRESENT & PASS) 인원수 */
+    @Override
+    public Map<Integer, Integer> countPassedHeadCountGroupByMissionTh(Long programId) {
+        QAttendance qAttendance = QAttendance.attendance;
+        List<Tuple> headCounts = jpaQueryFactory
+                .select(qAttendance.mission.th, qAttendance.count())
+                .from(qAttendance)
+                .where(qAttendance.mission.program.id.eq(programId),
+                        qAttendance.status.eq(AttendanceStatus.PRESENT),
+                        qAttendance.result.eq(AttendanceResult.PASS))
+                .groupBy(qAttendance.mission.th)
+                .fetch();
+
+        return headCounts.stream().collect(Collectors.toMap(
+                tuple -> tuple.get(qAttendance.mission.th),
+                tuple -> tuple.get(qAttendance.count()).intValue()));
+    }
 }
@@ -5,21 +5,34 @@ import com.letsintern.letsintern.domain.application.domain.ApplicationWishJob;
 import com.letsintern.letsintern.domain.application.exception.ApplicationNotFound;
 import com.letsintern.letsintern.domain.application.repository.ApplicationRepository;
 import com.letsintern.letsintern.domain.attendance.domain.Attendance;
+import com.letsintern.letsintern.domain.attendance.domain.AttendanceResult;
+import com.letsintern.letsintern.domain.attendance.domain.RefundExportFormat;
 import com.letsintern.letsintern.domain.attendance.dto.request.AttendanceAdminUpdateDTO;
 import com.letsintern.letsintern.domain.attendance.dto.request.AttendanceBaseDTO;
+import com.letsintern.letsintern.domain.attendance.dto.request.AttendanceBulkGradeDTO;
 import com.letsintern.letsintern.domain.attendance.dto.response.AccountListResponse;
 import com.letsintern.letsintern.domain.attendance.dto.response.AttendanceAdminListResponse;
+import com.letsintern.letsintern.domain.attendance.dto.response.AttendanceAdminQueueResponse;
+import com.letsintern.letsintern.domain.attendance.dto.response.AttendanceBulkGradeResponse;
 import com.letsintern.letsintern.domain.attendance.dto.response.AttendanceDashboardResponse;
 import com.letsintern.letsintern.domain.attendance.dto.response.AttendanceIdResponse;
 import com.letsintern.letsintern.domain.attendance.helper.AttendanceHelper;
 import com.letsintern.letsintern.domain.attendance.mapper.AttendanceMapper;
+import com.letsintern.letsintern.domain.attendance.vo.AttendanceAdminVo;
 import com.letsintern.letsintern.domain.user.domain.User;
+import com.letsintern.letsintern.global.common.dto.CursorRequest;
+import com.letsintern.letsintern.global.common.dto.CursorSlice;
 import com.letsintern.letsintern.global.config.user.PrincipalDetails;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -49,11 +62,26 @@ public class AttendanceService {
         return attendanceMapper.toAttendanceAdminListResponse(attendanceHelper.getAttendanceAdminList(missionId));
     }
 
+    @Transactional(readOnly = true)
+    public AttendanceAdminQueueResponse getAttendanceAdminQueue(Long programId, Long missionId, AttendanceResult result,
+                                                                AttendanceResult cursorResult, CursorRequest cursorRequest) {
+        final CursorSlice<AttendanceAdminVo> attendanceList = attendanceHelper.getAttendanceAdminQueue(programId, missionId, result, cursorResult, cursorRequest);
+        final AttendanceResult nextCursorResult = attendanceList.isHasNext()
+                ? attendanceList.getContent().get(attendanceList.getContent().size() - 1).getResult()
+                : null;
+        return attendanceMapper.toAttendanceAdminQueueResponse(attendanceList, nextCursorResult);
+    }
+
     @Transactional
     public AttendanceIdResponse updateAttendanceAdmin(Long attendanceId, AttendanceAdminUpdateDTO attendanceAdminUpdateDTO) {
         return attendanceMapper.toAttendanceIdResponse(attendanceHelper.updateAttendanceAdmin(attendanceId, attendanceAdminUpdateDTO));
     }
 
+    @Transactional
+    public AttendanceBulkGradeResponse gradeAttendances(AttendanceBulkGradeDTO attendanceBulkGradeDTO) {
+        return attendanceMapper.toAttendanceBulkGradeResponse(attendanceHelper.gradeAttendances(attendanceBulkGradeDTO.getAttendanceList()));
+    }
+
     @Transactional(readOnly = true)
     public AttendanceDashboardResponse getAttendanceDashboardList(Long applicationId, PrincipalDetails principalDetails) {
         final Application application = applicationRepository.findById(applicationId).orElseThrow(() -> ApplicationNotFound.EXCEPTION);
@@ -73,4 +101,17 @@ public class AttendanceService {
     public AccountListResponse getAccountListResponse(Long missionId) {
         return attendanceMapper.toAccountListResponse(attendanceHelper.getAccountListResponse(missionId));
     }
+
+    /* 이체 파일은 응답을 쓰기 전에 전 행을 검증해서, 이체할 수 없는 계좌가 있으면 400 으로 거절한다 */
+    @Transactional(readOnly = true)
+    public void validateRefundExport(Long programId, RefundExportFormat format) {
+        if (format.isTransferFile()) attendanceHelper.validateRefundTransfer(programId);
+    }
+
+    @Transactional(readOnly = true)
+    public void exportRefundAccountList(Long programId, RefundExportFormat format, OutputStream outputStream) throws IOException {
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, format.getCharset()));
+        attendanceHelper.exportRefundAccounts(programId, format, writer);
+        writer.flush();
+    }
 }
@@ -2,7 +2,7 @@ package com.letsintern.letsintern.domain.attendance.vo;
 
 import com.letsintern.letsintern.domain.attendance.domain.AttendanceResult;
 import com.letsintern.letsintern.domain.attendance.domain.AttendanceStatus;
-import com.letsintern.letsintern.domain.user.domain.User;
+import com.letsintern.letsintern.domain.user.domain.AccountType;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -30,12 +30,13 @@ public class AttendanceAdminVo {
     private String comments;
 
     @Builder
-    public AttendanceAdminVo(Long id, User user, AttendanceStatus status, AttendanceResult result, String link, Boolean isRefund, String comments) {
+    public AttendanceAdminVo(Long id, String userName, String userEmail, AccountType userAccountType, String userAccountNumber,
+                             AttendanceStatus status, AttendanceResult result, String link, Boolean isRefund, String comments) {
         this.id = id;
-        this.userName = user.getName();
-        this.userEmail = user.getEmail();
-        if(user.getAccountType() != null) this.userAccountType = user.getAccountType().getValue();
-        if(user.getAccountNumber() != null) this.userAccountNumber = user.getAccountNumber();
+        this.userName = userName;
+        this.userEmail = userEmail;
+        if(userAccountType != null) this.userAccountType = userAccountType.getValue();
+        this.userAccountNumber = userAccountNumber;
         this.status = status;
         this.result = result;
         this.link = link;
@@ -0,0 +1,26 @@
+package com.letsintern.letsintern.domain.attendance.vo;
+
+import com.letsintern.letsintern.domain.attendance.domain.AttendanceGradeOutcome;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class AttendanceGradeResultVo {
+
+    private Long attendanceId;
+
+    private AttendanceGradeOutcome outcome;
+
+    @Builder
+    private AttendanceGradeResultVo(Long attendanceId, AttendanceGradeOutcome outcome) {
+        this.attendanceId = attendanceId;
+        this.outcome = outcome;
+    }
+
+    public static AttendanceGradeResultVo of(Long attendanceId, AttendanceGradeOutcome outcome) {
+        return AttendanceGradeResultVo.builder()
+                .attendanceId(attendanceId)
+                .outcome(outcome)
+                .build();
+    }
+}
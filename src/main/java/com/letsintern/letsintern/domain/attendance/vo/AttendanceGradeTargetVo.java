@@ -0,0 +1,25 @@
+package com.letsintern.letsintern.domain.attendance.vo;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/* 일괄 채점 대상 출석과 해당 프로그램 지원서 존재 여부 */
+@Getter
+public class AttendanceGradeTargetVo {
+
+    private Long attendanceId;
+
+    private Long programId;
+
+    private Long userId;
+
+    private boolean isParticipant;
+
+    @Builder
+    public AttendanceGradeTargetVo(Long attendanceId, Long programId, Long userId, Long applicationId) {
+        this.attendanceId = attendanceId;
+        this.programId = programId;
+        this.userId = userId;
+        this.isParticipant = applicationId != null;
+    }
+}
@@ -0,0 +1,82 @@
+package com.letsintern.letsintern.domain.attendance.vo;
+
+import com.letsintern.letsintern.domain.attendance.domain.RefundTransferError;
+import com.letsintern.letsintern.domain.user.domain.AccountType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/* 사용자 1명의 REFUND 미션 환급 합계 */
+@Getter
+public class RefundAccountVo {
+
+    public static final List<String> HEADER = List.of(
+            "사용자 ID", "예금주", "은행", "은행 코드", "계좌번호", "환급 회차", "환급 총액", "미환급 금액", "이체 불가 사유"
+    );
+
+    private Long userId;
+
+    private String name;
+
+    private AccountType accountType;
+
+    private String accountNumber;
+
+    private String missionThs;
+
+    private long refundTotal;
+
+    private long pendingRefund;
+
+    @Builder
+    public RefundAccountVo(Long userId, String name, AccountType accountType, String accountNumber,
+                           String missionThs, long refundTotal, long pendingRefund) {
+        this.userId = userId;
+        this.name = name;
+        this.accountType = accountType;
+        this.accountNumber = accountNumber;
+        this.missionThs = missionThs;
+        this.refundTotal = refundTotal;
+        this.pendingRefund = pendingRefund;
+    }
+
+    /* rows 는 모두 같은 사용자의 출석이어야 한다 */
+    public static RefundAccountVo of(List<RefundAttendanceVo> rows) {
+        final RefundAttendanceVo first = rows.get(0);
+        long refundTotal = 0, pendingRefund = 0;
+        for (RefundAttendanceVo row : rows) {
+            final int refund = Objects.requireNonNullElse(row.getRefund(), 0);
+            refundTotal += refund;
+            if (!Boolean.TRUE.equals(row.getIsRefunded())) pendingRefund += refund;
+        }
+
+        return RefundAccountVo.builder()
+                .userId(first.getUserId())
+                .name(first.getName())
+                .accountType(first.getAccountType())
+                .accountNumber(first.getAccountNumber())
+                .missionThs(rows.stream().map(row -> String.valueOf(row.getMissionTh())).collect(Collectors.joining("|")))
+                .refundTotal(refundTotal)
+                .pendingRefund(pendingRefund)
+                .build();
+    }
+
+    /* 이체 파일용 계좌번호 - 하이픈 등 숫자가 아닌 문자는 뺀다 */
+    public String getTransferAccountNumber() {
+        return accountNumber == null ? null : accountNumber.replaceAll("[^0-9]", "");
+    }
+
+    public Object[] toRow() {
+        final RefundTransferError transferError = RefundTransferError.of(this);
+        return new Object[]{
+                userId, name,
+                accountType == null ? null : accountType.getValue(),
+                accountType == null ? null : accountType.getBankCode(),
+                accountNumber, missionThs, refundTotal, pendingRefund,
+                transferError == null ? null : transferError.getValue()
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package com.letsintern.letsintern.domain.attendance.vo;
+
+import com.letsintern.letsintern.domain.user.domain.AccountType;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class RefundAttendanceVo {
+
+    private Long userId;
+
+    private String name;
+
+    private AccountType accountType;
+
+    private String accountNumber;
+
+    private Integer missionTh;
+
+    private Integer refund;
+
+    private Boolean isRefunded;
+
+    @Builder
+    public RefundAttendanceVo(Long userId, String name, AccountType accountType, String accountNumber,
+                              Integer missionTh, Integer refund, Boolean isRefunded) {
+        this.userId = userId;
+        this.name = name;
+        this.accountType = accountType;
+        this.accountNumber = accountNumber;
+        this.missionTh = missionTh;
+        this.refund = refund;
+        this.isRefunded = isRefunded;
+    }
+}
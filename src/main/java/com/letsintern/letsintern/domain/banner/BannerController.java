@@ -5,6 +5,9 @@ import com.letsintern.letsintern.domain.banner.dto.request.BannerCreateDTO;
 import com.letsintern.letsintern.domain.banner.dto.request.BannerUpdateDTO;
 import com.letsintern.letsintern.domain.banner.dto.response.BannerAdminListResponse;
 import com.letsintern.letsintern.domain.banner.dto.response.BannerIdResponse;
+import com.letsintern.letsintern.domain.banner.dto.response.LineBannerListResponse;
+import com.letsintern.letsintern.domain.banner.dto.response.MainBannerListResponse;
+import com.letsintern.letsintern.domain.banner.service.BannerFeedService;
 import com.letsintern.letsintern.domain.banner.service.BannerServiceFactory;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -12,7 +15,9 @@ import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 @RestController
@@ -22,6 +27,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class BannerController {
 
     private final BannerServiceFactory bannerServiceFactory;
+    private final BannerFeedService bannerFeedService;
 
     @PostMapping
     public BannerIdResponse createBannerForAdmin(@RequestPart @Valid final BannerCreateDTO bannerCreateDTO,
@@ -35,6 +41,16 @@ public class BannerController {
         return bannerServiceFactory.getBannerService(type).getBannerListForAdmin(pageable);
     }
 
+    @GetMapping("/main")
+    public ResponseEntity<MainBannerListResponse> getMainBannerList(WebRequest webRequest) {
+        return bannerFeedService.getMainBannerList(webRequest);
+    }
+
+    @GetMapping("/line")
+    public ResponseEntity<LineBannerListResponse> getLineBannerList(WebRequest webRequest) {
+        return bannerFeedService.getLineBannerList(webRequest);
+    }
+
     @PatchMapping("/{id}")
     public void updateBannerForAdmin(@RequestParam BannerType type,
                                      @PathVariable final Long id,
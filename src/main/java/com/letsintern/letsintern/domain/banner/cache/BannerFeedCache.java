@@ -0,0 +1,91 @@
+package com.letsintern.letsintern.domain.banner.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.letsintern.letsintern.domain.banner.dto.response.LineBannerListResponse;
+import com.letsintern.letsintern.domain.banner.dto.response.MainBannerListResponse;
+import com.letsintern.letsintern.domain.banner.event.BannerChangedEvent;
+import com.letsintern.letsintern.domain.banner.maper.BannerMapper;
+import com.letsintern.letsintern.domain.banner.repository.LineBannerRepository;
+import com.letsintern.letsintern.domain.banner.repository.MainBannerRepository;
+import com.letsintern.letsintern.domain.banner.vo.BannerFeedVo;
+import com.letsintern.letsintern.domain.banner.vo.LineBannerVo;
+import com.letsintern.letsintern.domain.banner.vo.MainBannerVo;
+import com.letsintern.letsintern.global.common.cache.TieredCache;
+import com.letsintern.letsintern.global.common.cache.TieredCacheFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/*
+ * 모든 페이지에서 호출되는 메인/띠 배너 피드
+ * 어드민 변경 시 이 서버는 즉시 비우고, 다른 서버는 local-ttl 이내에 다시 읽는다.
+ */
+@Component
+public class BannerFeedCache {
+
+    private static final String FEED_KEY = "feed";
+
+    private final MainBannerRepository mainBannerRepository;
+    private final LineBannerRepository lineBannerRepository;
+    private final BannerMapper bannerMapper;
+    private final ObjectMapper objectMapper;
+    private final TieredCache<ScheduledBannerFeed<MainBannerVo, MainBannerListResponse>> mainBannerCache;
+    private final TieredCache<ScheduledBannerFeed<LineBannerVo, LineBannerListResponse>> lineBannerCache;
+
+    public BannerFeedCache(MainBannerRepository mainBannerRepository,
+                           LineBannerRepository lineBannerRepository,
+                           BannerMapper bannerMapper,
+                           ObjectMapper objectMapper,
+                           TieredCacheFactory tieredCacheFactory,
+                           @Value("${cache.banner-feed.local-ttl-seconds:300}") long localTtlSeconds) {
+        this.mainBannerRepository = mainBannerRepository;
+        this.lineBannerRepository = lineBannerRepository;
+        this.bannerMapper = bannerMapper;
+        this.objectMapper = objectMapper;
+        this.mainBannerCache = tieredCacheFactory.localOnly("banner-feed:main", 1, Duration.ofSeconds(localTtlSeconds));
+        this.lineBannerCache = tieredCacheFactory.localOnly("banner-feed:line", 1, Duration.ofSeconds(localTtlSeconds));
+    }
+
+    public BannerFeedVo<MainBannerListResponse> getMainBannerFeed() {
+        return mainBannerCache.get(FEED_KEY, this::loadMainBannerFeed).get(LocalDateTime.now());
+    }
+
+    public BannerFeedVo<LineBannerListResponse> getLineBannerFeed() {
+        return lineBannerCache.get(FEED_KEY, this::loadLineBannerFeed).get(LocalDateTime.now());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBannerChanged(BannerChangedEvent event) {
+        switch (event.type()) {
+            case MAIN -> mainBannerCache.evictAll();
+            case LINE -> lineBannerCache.evictAll();
+            default -> {
+            }
+        }
+    }
+
+    private ScheduledBannerFeed<MainBannerVo, MainBannerListResponse> loadMainBannerFeed() {
+        return new ScheduledBannerFeed<>(mainBannerRepository.findAllScheduledMainBannerVos(LocalDateTime.now()),
+                mainBannerVos -> toBannerFeedVo(bannerMapper.toMainBannerListResponse(mainBannerVos)));
+    }
+
+    private ScheduledBannerFeed<LineBannerVo, LineBannerListResponse> loadLineBannerFeed() {
+        return new ScheduledBannerFeed<>(lineBannerRepository.findAllScheduledLineBannerVos(LocalDateTime.now()),
+                lineBannerVos -> toBannerFeedVo(bannerMapper.toLineBannerListResponse(lineBannerVos)));
+    }
+
+    /* 응답 본문 해시를 strong ETag 로 쓴다 (같은 배너 구성이면 서버가 달라도 같은 값) */
+    private <R> BannerFeedVo<R> toBannerFeedVo(R response) {
+        try {
+            String eTag = "\"" + DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(response)) + "\"";
+            return BannerFeedVo.of(response, eTag);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.letsintern.letsintern.domain.banner.cache;
+
+import com.letsintern.letsintern.domain.banner.vo.BannerFeedVo;
+import com.letsintern.letsintern.domain.banner.vo.ScheduledBannerVo;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/*
+ * 아직 끝나지 않은 배너 목록에서 지금 노출할 배너만 골라 응답과 ETag 를 만들어 둔다.
+ * 다음 시작/종료 시각이 지나면 DB 를 다시 읽지 않고 메모리에서 바로 다시 계산한다.
+ */
+class ScheduledBannerFeed<T extends ScheduledBannerVo, R> {
+
+    private final List<T> scheduledBannerList;
+    private final Function<List<T>, BannerFeedVo<R>> feedBuilder;
+    private volatile ActiveFeed<R> activeFeed;
+
+    ScheduledBannerFeed(List<T> scheduledBannerList, Function<List<T>, BannerFeedVo<R>> feedBuilder) {
+        this.scheduledBannerList = List.copyOf(scheduledBannerList);
+        this.feedBuilder = feedBuilder;
+    }
+
+    BannerFeedVo<R> get(LocalDateTime now) {
+        ActiveFeed<R> current = activeFeed;
+        if (current != null && !now.isBefore(current.activatedAt()) && now.isBefore(current.nextTransitionAt()))
+            return current.feed();
+
+        /* 동시에 다시 계산해도 결과가 같으므로 잠그지 않는다 */
+        ActiveFeed<R> recalculated = calculate(now);
+        activeFeed = recalculated;
+        return recalculated.feed();
+    }
+
+    private ActiveFeed<R> calculate(LocalDateTime now) {
+        List<T> activeBannerList = scheduledBannerList.stream()
+                .filter(banner -> !banner.startDate().isAfter(now) && banner.endDate().isAfter(now))
+                .toList();
+        LocalDateTime nextTransitionAt = scheduledBannerList.stream()
+                .flatMap(banner -> Stream.of(banner.startDate(), banner.endDate()))
+                .filter(transitionAt -> transitionAt.isAfter(now))
+                .min(LocalDateTime::compareTo)
+                .orElse(LocalDateTime.MAX);
+        return new ActiveFeed<>(feedBuilder.apply(activeBannerList), now, nextTransitionAt);
+    }
+
+    private record ActiveFeed<R>(BannerFeedVo<R> feed, LocalDateTime activatedAt, LocalDateTime nextTransitionAt) {
+    }
+}
@@ -18,6 +18,15 @@ public class MainBanner extends Banner {
     @NotNull
     private String imgUrl;
 
+    /* 업로드 후 백그라운드에서 만들어지는 축소본과 실제 폭 (만들어지기 전에는 null) */
+    private String mobileImgUrl;
+
+    private Integer mobileImgWidth;
+
+    private String desktopImgUrl;
+
+    private Integer desktopImgWidth;
+
     @Builder(access = AccessLevel.PRIVATE)
     private MainBanner(BannerCreateDTO bannerCreateDTO, String s3Url) {
         super(bannerCreateDTO);
@@ -34,7 +43,12 @@ public class MainBanner extends Banner {
         if(bannerUpdateDTO != null)
             super.updateBanner(bannerUpdateDTO, isVisible);
 
-        if(s3SavedFileVo != null)
+        if(s3SavedFileVo != null) {
             this.imgUrl = updateValue(this.imgUrl, s3SavedFileVo.getS3Url());
+            this.mobileImgUrl = null;
+            this.mobileImgWidth = null;
+            this.desktopImgUrl = null;
+            this.desktopImgWidth = null;
+        }
     }
 }
@@ -0,0 +1,16 @@
+package com.letsintern.letsintern.domain.banner.dto.response;
+
+import com.letsintern.letsintern.domain.banner.vo.LineBannerVo;
+import lombok.AccessLevel;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder(access = AccessLevel.PRIVATE)
+public record LineBannerListResponse(List<LineBannerVo> bannerList) {
+    public static LineBannerListResponse from(List<LineBannerVo> lineBannerVoList) {
+        return LineBannerListResponse.builder()
+                .bannerList(lineBannerVoList)
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package com.letsintern.letsintern.domain.banner.dto.response;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder(access = AccessLevel.PRIVATE)
+public record MainBannerListResponse(List<MainBannerResponse> bannerList) {
+    public static MainBannerListResponse from(List<MainBannerResponse> mainBannerResponseList) {
+        return MainBannerListResponse.builder()
+                .bannerList(mainBannerResponseList)
+                .build();
+    }
+}
@@ -0,0 +1,41 @@
+package com.letsintern.letsintern.domain.banner.dto.response;
+
+import com.letsintern.letsintern.domain.banner.vo.MainBannerVo;
+import lombok.AccessLevel;
+import lombok.Builder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Builder(access = AccessLevel.PRIVATE)
+public record MainBannerResponse(
+        Long id,
+        String title,
+        String link,
+        String imgUrl,
+        String srcset
+) {
+    public static MainBannerResponse from(MainBannerVo mainBannerVo) {
+        return MainBannerResponse.builder()
+                .id(mainBannerVo.id())
+                .title(mainBannerVo.title())
+                .link(mainBannerVo.link())
+                .imgUrl(mainBannerVo.imgUrl())
+                .srcset(toSrcset(mainBannerVo))
+                .build();
+    }
+
+    /*
+     * 축소본이 아직 없으면 (변환 실패, 변환 대기, 축소본 도입 전 배너) null -> 클라이언트는 imgUrl 원본을 사용
+     * 폭은 실제로 만들어진 크기이며, 원본이 작아 두 축소본의 폭이 같으면 한 번만 넣는다.
+     */
+    private static String toSrcset(MainBannerVo mainBannerVo) {
+        List<String> candidates = new ArrayList<>();
+        if (mainBannerVo.mobileImgUrl() != null && mainBannerVo.mobileImgWidth() != null)
+            candidates.add(mainBannerVo.mobileImgUrl() + " " + mainBannerVo.mobileImgWidth() + "w");
+        if (mainBannerVo.desktopImgUrl() != null && mainBannerVo.desktopImgWidth() != null
+                && !mainBannerVo.desktopImgWidth().equals(mainBannerVo.mobileImgWidth()))
+            candidates.add(mainBannerVo.desktopImgUrl() + " " + mainBannerVo.desktopImgWidth() + "w");
+        return candidates.isEmpty() ? null : String.join(", ", candidates);
+    }
+}
@@ -0,0 +1,11 @@
+package com.letsintern.letsintern.domain.banner.event;
+
+import com.letsintern.letsintern.domain.banner.domain.BannerType;
+
+public record BannerChangedEvent(
+        BannerType type
+) {
+    public static BannerChangedEvent of(BannerType type) {
+        return new BannerChangedEvent(type);
+    }
+}
@@ -0,0 +1,11 @@
+package com.letsintern.letsintern.domain.banner.event;
+
+public record MainBannerImageChangedEvent(
+        Long bannerId,
+        String imgKey,
+        String imgUrl
+) {
+    public static MainBannerImageChangedEvent of(Long bannerId, String imgKey, String imgUrl) {
+        return new MainBannerImageChangedEvent(bannerId, imgKey, imgUrl);
+    }
+}
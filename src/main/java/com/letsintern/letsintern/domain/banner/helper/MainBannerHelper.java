@@ -11,6 +11,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class MainBannerHelper {
@@ -35,6 +38,10 @@ public class MainBannerHelper {
         return mainBannerRepository.findAllMainBannerAdminVos(pageable);
     }
 
+    public List<MainBanner> findAllMainBannerWithoutImgVariants() {
+        return mainBannerRepository.findAllWithoutImgVariants(LocalDateTime.now());
+    }
+
     public void deleteMainBanner(MainBanner mainBanner) {
         mainBannerRepository.delete(mainBanner);
     }
@@ -7,11 +7,17 @@ import com.letsintern.letsintern.domain.banner.domain.ProgramBanner;
 import com.letsintern.letsintern.domain.banner.dto.request.BannerCreateDTO;
 import com.letsintern.letsintern.domain.banner.dto.response.BannerAdminListResponse;
 import com.letsintern.letsintern.domain.banner.dto.response.BannerIdResponse;
+import com.letsintern.letsintern.domain.banner.dto.response.LineBannerListResponse;
+import com.letsintern.letsintern.domain.banner.dto.response.MainBannerListResponse;
+import com.letsintern.letsintern.domain.banner.dto.response.MainBannerResponse;
+import com.letsintern.letsintern.domain.banner.vo.LineBannerVo;
+import com.letsintern.letsintern.domain.banner.vo.MainBannerVo;
 import com.letsintern.letsintern.global.common.dto.PageInfo;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.List;
 
 @Component
 public class BannerMapper {
@@ -42,4 +48,14 @@ public class BannerMapper {
                 PageInfo.of(bannerAdminVos)
         );
     }
+
+    public MainBannerListResponse toMainBannerListResponse(List<MainBannerVo> mainBannerVos) {
+        return MainBannerListResponse.from(mainBannerVos.stream()
+                .map(MainBannerResponse::from)
+                .toList());
+    }
+
+    public LineBannerListResponse toLineBannerListResponse(List<LineBannerVo> lineBannerVos) {
+        return LineBannerListResponse.from(lineBannerVos);
+    }
 }
@@ -1,10 +1,16 @@
 package com.letsintern.letsintern.domain.banner.repository;
 
 import com.letsintern.letsintern.domain.banner.vo.LineBannerAdminVo;
+import com.letsintern.letsintern.domain.banner.vo.LineBannerVo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public interface LineBannerRepositoryCustom {
 
     Page<LineBannerAdminVo> findAllLineBannerAdminVos(Pageable pageable);
+
+    List<LineBannerVo> findAllScheduledLineBannerVos(LocalDateTime now);
 }
@@ -1,6 +1,7 @@
 package com.letsintern.letsintern.domain.banner.repository;
 
 import com.letsintern.letsintern.domain.banner.vo.LineBannerAdminVo;
+import com.letsintern.letsintern.domain.banner.vo.LineBannerVo;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -10,6 +11,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.letsintern.letsintern.domain.banner.domain.QLineBanner.lineBanner;
@@ -45,4 +47,26 @@ public class LineBannerRepositoryImpl implements LineBannerRepositoryCustom {
 
         return PageableExecutionUtils.getPage(lineBannerAdminVoList, pageable, count::fetchOne);
     }
+
+    /* 이미 시작했거나 앞으로 시작할, 아직 끝나지 않은 배너 */
+    @Override
+    public List<LineBannerVo> findAllScheduledLineBannerVos(LocalDateTime now) {
+        return jpaQueryFactory
+                .select(Projections.constructor(LineBannerVo.class,
+                        lineBanner.id,
+                        lineBanner.title,
+                        lineBanner.link,
+                        lineBanner.contents,
+                        lineBanner.colorCode,
+                        lineBanner.textColorCode,
+                        lineBanner.startDate,
+                        lineBanner.endDate))
+                .from(lineBanner)
+                .where(
+                        lineBanner.isVisible.isTrue(),
+                        lineBanner.endDate.gt(now)
+                )
+                .orderBy(lineBanner.id.desc())
+                .fetch();
+    }
 }
@@ -1,10 +1,22 @@
 package com.letsintern.letsintern.domain.banner.repository;
 
+import com.letsintern.letsintern.domain.banner.domain.MainBanner;
+import com.letsintern.letsintern.domain.banner.vo.BannerImgVariantVo;
 import com.letsintern.letsintern.domain.banner.vo.MainBannerAdminVo;
+import com.letsintern.letsintern.domain.banner.vo.MainBannerVo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public interface MainBannerRepositoryCustom {
 
     Page<MainBannerAdminVo> findAllMainBannerAdminVos(Pageable pageable);
+
+    List<MainBannerVo> findAllScheduledMainBannerVos(LocalDateTime now);
+
+    long updateImgVariants(Long bannerId, String imgUrl, BannerImgVariantVo mobileVariant, BannerImgVariantVo desktopVariant);
+
+    List<MainBanner> findAllWithoutImgVariants(LocalDateTime now);
 }
@@ -1,6 +1,9 @@
 package com.letsintern.letsintern.domain.banner.repository;
 
+import com.letsintern.letsintern.domain.banner.domain.MainBanner;
+import com.letsintern.letsintern.domain.banner.vo.BannerImgVariantVo;
 import com.letsintern.letsintern.domain.banner.vo.MainBannerAdminVo;
+import com.letsintern.letsintern.domain.banner.vo.MainBannerVo;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -10,6 +13,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.letsintern.letsintern.domain.banner.domain.QMainBanner.mainBanner;
@@ -43,4 +47,57 @@ public class MainBannerRepositoryImpl implements MainBannerRepositoryCustom{
 
         return PageableExecutionUtils.getPage(mainBannerAdminVoList, pageable, count::fetchOne);
     }
+
+    /* 이미 시작했거나 앞으로 시작할, 아직 끝나지 않은 배너 */
+    @Override
+    public List<MainBannerVo> findAllScheduledMainBannerVos(LocalDateTime now) {
+        return jpaQueryFactory
+                .select(Projections.constructor(MainBannerVo.class,
+                        mainBanner.id,
+                        mainBanner.title,
+                        mainBanner.link,
+                        mainBanner.imgUrl,
+                        mainBanner.mobileImgUrl,
+                        mainBanner.mobileImgWidth,
+                        mainBanner.desktopImgUrl,
+                        mainBanner.desktopImgWidth,
+                        mainBanner.startDate,
+                        mainBanner.endDate))
+                .from(mainBanner)
+                .where(
+                        mainBanner.isVisible.isTrue(),
+                        mainBanner.endDate.gt(now)
+                )
+                .orderBy(mainBanner.id.desc())
+                .fetch();
+    }
+
+    /* 변환하는 사이 원본이 교체됐거나 다른 작업이 먼저 축소본을 기록했다면 갱신하지 않는다 */
+    @Override
+    public long updateImgVariants(Long bannerId, String imgUrl, BannerImgVariantVo mobileVariant, BannerImgVariantVo desktopVariant) {
+        return jpaQueryFactory
+                .update(mainBanner)
+                .set(mainBanner.mobileImgUrl, mobileVariant.url())
+                .set(mainBanner.mobileImgWidth, mobileVariant.width())
+                .set(mainBanner.desktopImgUrl, desktopVariant.url())
+                .set(mainBanner.desktopImgWidth, desktopVariant.width())
+                .where(
+                        mainBanner.id.eq(bannerId),
+                        mainBanner.imgUrl.eq(imgUrl),
+                        mainBanner.mobileImgUrl.isNull()
+                )
+                .execute();
+    }
+
+    /* 축소본 도입 전에 올린 배너 중 아직 노출될 수 있는 것 */
+    @Override
+    public List<MainBanner> findAllWithoutImgVariants(LocalDateTime now) {
+        return jpaQueryFactory
+                .selectFrom(mainBanner)
+                .where(
+                        mainBanner.mobileImgUrl.isNull(),
+                        mainBanner.endDate.gt(now)
+                )
+                .fetch();
+    }
 }
@@ -0,0 +1,38 @@
+package com.letsintern.letsintern.domain.banner.service;
+
+import com.letsintern.letsintern.domain.banner.cache.BannerFeedCache;
+import com.letsintern.letsintern.domain.banner.dto.response.LineBannerListResponse;
+import com.letsintern.letsintern.domain.banner.dto.response.MainBannerListResponse;
+import com.letsintern.letsintern.domain.banner.vo.BannerFeedVo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.WebRequest;
+
+@Service
+@RequiredArgsConstructor
+public class BannerFeedService {
+
+    private final BannerFeedCache bannerFeedCache;
+
+    public ResponseEntity<MainBannerListResponse> getMainBannerList(WebRequest webRequest) {
+        return toResponseEntity(bannerFeedCache.getMainBannerFeed(), webRequest);
+    }
+
+    public ResponseEntity<LineBannerListResponse> getLineBannerList(WebRequest webRequest) {
+        return toResponseEntity(bannerFeedCache.getLineBannerFeed(), webRequest);
+    }
+
+    /* 노출 기간이 바뀌는 순간을 놓치지 않도록 매번 재검증(no-cache)하게 하고, 바뀌지 않았으면 304 */
+    private <R> ResponseEntity<R> toResponseEntity(BannerFeedVo<R> feed, WebRequest webRequest) {
+        if (webRequest.checkNotModified(feed.eTag()))
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CacheControl.noCache()).build();
+
+        return ResponseEntity.ok()
+                .eTag(feed.eTag())
+                .cacheControl(CacheControl.noCache())
+                .body(feed.response());
+    }
+}
@@ -1,14 +1,17 @@
 package com.letsintern.letsintern.domain.banner.service;
 
+import com.letsintern.letsintern.domain.banner.domain.BannerType;
 import com.letsintern.letsintern.domain.banner.domain.LineBanner;
 import com.letsintern.letsintern.domain.banner.dto.request.BannerCreateDTO;
 import com.letsintern.letsintern.domain.banner.dto.request.BannerUpdateDTO;
 import com.letsintern.letsintern.domain.banner.dto.response.BannerAdminListResponse;
 import com.letsintern.letsintern.domain.banner.dto.response.BannerIdResponse;
+import com.letsintern.letsintern.domain.banner.event.BannerChangedEvent;
 import com.letsintern.letsintern.domain.banner.helper.LineBannerHelper;
 import com.letsintern.letsintern.domain.banner.maper.BannerMapper;
 import com.letsintern.letsintern.domain.banner.vo.LineBannerAdminVo;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -24,12 +27,14 @@ import java.util.Objects;
 public class LineBannerServiceImpl implements BannerService {
     private final BannerMapper bannerMapper;
     private final LineBannerHelper lineBannerHelper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public BannerIdResponse createBanner(BannerCreateDTO bannerCreateDTO, MultipartFile file) {
         lineBannerHelper.validateLineBannerCreateDTO(bannerCreateDTO);
         LineBanner newLineBanner = bannerMapper.toLineBannerEntity(bannerCreateDTO);
         lineBannerHelper.saveLineBanner(newLineBanner);
+        eventPublisher.publishEvent(BannerChangedEvent.of(BannerType.LINE));
         return bannerMapper.toBannerIdResponse(newLineBanner.getId());
     }
 
@@ -44,12 +49,14 @@ public class LineBannerServiceImpl implements BannerService {
         LineBanner lineBanner = lineBannerHelper.findLineBannerById(id);
         Boolean isVisible = getIsVisibleForEndDateOrNull(bannerUpdateDTO.endDate());
         lineBanner.updateLineBanner(bannerUpdateDTO, isVisible);
+        eventPublisher.publishEvent(BannerChangedEvent.of(BannerType.LINE));
     }
 
     @Override
     public void deleteBanner(Long bannerId) {
         final LineBanner lineBanner = lineBannerHelper.findLineBannerById(bannerId);
         lineBannerHelper.deleteLineBanner(lineBanner);
+        eventPublisher.publishEvent(BannerChangedEvent.of(BannerType.LINE));
     }
 
     private Boolean getIsVisibleForEndDateOrNull(LocalDateTime endDate) {
@@ -1,22 +1,32 @@
 package com.letsintern.letsintern.domain.banner.service;
 
+import com.letsintern.letsintern.domain.banner.domain.BannerType;
 import com.letsintern.letsintern.domain.banner.domain.MainBanner;
 import com.letsintern.letsintern.domain.banner.dto.response.BannerAdminListResponse;
+import com.letsintern.letsintern.domain.banner.event.BannerChangedEvent;
+import com.letsintern.letsintern.domain.banner.event.MainBannerImageChangedEvent;
 import com.letsintern.letsintern.domain.banner.helper.MainBannerHelper;
 import com.letsintern.letsintern.domain.banner.vo.MainBannerAdminVo;
 import com.letsintern.letsintern.domain.banner.dto.request.BannerCreateDTO;
 import com.letsintern.letsintern.domain.banner.dto.request.BannerUpdateDTO;
 import com.letsintern.letsintern.domain.banner.dto.response.BannerIdResponse;
 import com.letsintern.letsintern.domain.banner.maper.BannerMapper;
+import com.letsintern.letsintern.domain.banner.util.BannerImageVariantWorker;
 import com.letsintern.letsintern.domain.file.helper.S3Helper;
 import com.letsintern.letsintern.domain.file.vo.S3SavedFileVo;
+import com.letsintern.letsintern.global.common.lock.SchedulerLock;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
@@ -27,7 +37,14 @@ public class MainBannerServiceImpl implements BannerService {
     private final BannerMapper bannerMapper;
     private final MainBannerHelper mainBannerHelper;
     private final S3Helper s3Helper;
+    private final BannerImageVariantWorker bannerImageVariantWorker;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SchedulerLock schedulerLock;
+
+    @Value("${banner-image.backfill-lease-minutes:5}")
+    private long variantBackfillLeaseMinutes;
     public static final String S3_MAIN_BANNER_DIR = "banner/main/";
+    private static final String VARIANT_BACKFILL_JOB_NAME = "mainBannerVariantBackfill";
 
     @Override
     public BannerIdResponse createBanner(BannerCreateDTO bannerCreateDTO, MultipartFile file) {
@@ -35,6 +52,8 @@ public class MainBannerServiceImpl implements BannerService {
         S3SavedFileVo s3SavedFileVo = s3Helper.saveFile(file, S3_MAIN_BANNER_DIR);
         MainBanner newMainBanner = bannerMapper.toMainBannerEntity(bannerCreateDTO, s3SavedFileVo.getS3Url());
         mainBannerHelper.saveMainBanner(newMainBanner);
+        eventPublisher.publishEvent(MainBannerImageChangedEvent.of(newMainBanner.getId(), s3SavedFileVo.getOriginalFileName(), s3SavedFileVo.getS3Url()));
+        eventPublisher.publishEvent(BannerChangedEvent.of(BannerType.MAIN));
         return bannerMapper.toBannerIdResponse(newMainBanner.getId());
     }
 
@@ -47,16 +66,37 @@ public class MainBannerServiceImpl implements BannerService {
     @Override
     public void updateBanner(Long id, BannerUpdateDTO bannerUpdateDTO, MultipartFile file) {
         MainBanner mainBanner = mainBannerHelper.findMainBannerById(id);
+        if (file != null) bannerImageVariantWorker.deleteVariants(mainBanner);
         S3SavedFileVo s3SavedFileVo = s3Helper.changeImgFile(S3_MAIN_BANNER_DIR, mainBanner.getImgUrl(), file);
         Boolean isVisible = getIsVisibleForEndDateOrNull(bannerUpdateDTO.endDate());
         mainBanner.updateMainBanner(bannerUpdateDTO, s3SavedFileVo, isVisible);
+        if (s3SavedFileVo != null)
+            eventPublisher.publishEvent(MainBannerImageChangedEvent.of(id, s3SavedFileVo.getOriginalFileName(), s3SavedFileVo.getS3Url()));
+        eventPublisher.publishEvent(BannerChangedEvent.of(BannerType.MAIN));
     }
 
     @Override
     public void deleteBanner(Long bannerId) {
         final MainBanner mainBanner = mainBannerHelper.findMainBannerById(bannerId);
-        s3Helper.deleteFile(S3_MAIN_BANNER_DIR + mainBanner.getImgUrl().split("/")[5]);
+        bannerImageVariantWorker.deleteVariants(mainBanner);
+        s3Helper.deleteFile(getImgKey(mainBanner));
         mainBannerHelper.deleteMainBanner(mainBanner);
+        eventPublisher.publishEvent(BannerChangedEvent.of(BannerType.MAIN));
+    }
+
+    /*
+     * 축소본 도입 전에 올린 배너는 srcset 없이 원본으로 노출되므로, 서버가 뜰 때 아직 노출될 수 있는 배너의 축소본을 만든다.
+     * 변환 큐가 차서 건너뛴 배너는 다음 기동 때 다시 시도한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillImgVariants() {
+        schedulerLock.runExclusively(VARIANT_BACKFILL_JOB_NAME, Duration.ofMinutes(variantBackfillLeaseMinutes), token ->
+                mainBannerHelper.findAllMainBannerWithoutImgVariants().forEach(mainBanner -> eventPublisher.publishEvent(
+                        MainBannerImageChangedEvent.of(mainBanner.getId(), getImgKey(mainBanner), mainBanner.getImgUrl()))));
+    }
+
+    private String getImgKey(MainBanner mainBanner) {
+        return S3_MAIN_BANNER_DIR + mainBanner.getImgUrl().split("/")[5];
     }
 
     private Boolean getIsVisibleForEndDateOrNull(LocalDateTime endDate) {
@@ -0,0 +1,216 @@
+package com.letsintern.letsintern.domain.banner.util;
+
+import com.letsintern.letsintern.domain.banner.domain.BannerType;
+import com.letsintern.letsintern.domain.banner.domain.MainBanner;
+import com.letsintern.letsintern.domain.banner.event.BannerChangedEvent;
+import com.letsintern.letsintern.domain.banner.event.MainBannerImageChangedEvent;
+import com.letsintern.letsintern.domain.banner.repository.MainBannerRepository;
+import com.letsintern.letsintern.domain.banner.vo.BannerImgVariantVo;
+import com.letsintern.letsintern.domain.file.helper.S3Helper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * 메인 배너 원본으로 모바일/데스크톱 폭의 JPEG 축소본을 만든다.
+ * 업로드 요청은 원본 저장까지만 기다리고, 변환은 커밋 이후 별도 스레드에서 처리한다.
+ * 축소본 키는 매번 새 UUID 라 같은 파일명으로 다시 올려도 CDN/브라우저 캐시에 이전 이미지가 남지 않는다.
+ * 변환이 실패하거나 밀리면 축소본이 null 로 남고 클라이언트는 원본을 그대로 쓴다.
+ */
+@Slf4j
+@Component
+public class BannerImageVariantWorker {
+
+    private static final String VARIANT_DIR = "variant/";
+    private static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+
+    private final S3Helper s3Helper;
+    private final MainBannerRepository mainBannerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int mobileWidth;
+    private final int desktopWidth;
+    private final float jpegQuality;
+    private final long maxSourcePixels;
+    private final ExecutorService executorService;
+
+    public BannerImageVariantWorker(S3Helper s3Helper,
+                                    MainBannerRepository mainBannerRepository,
+                                    TransactionTemplate transactionTemplate,
+                                    ApplicationEventPublisher eventPublisher,
+                                    @Value("${banner-image.mobile-width:750}") int mobileWidth,
+                                    @Value("${banner-image.desktop-width:1920}") int desktopWidth,
+                                    @Value("${banner-image.jpeg-quality:0.8}") float jpegQuality,
+                                    @Value("${banner-image.max-source-pixels:40000000}") long maxSourcePixels,
+                                    @Value("${banner-image.worker-threads:1}") int workerThreads,
+                                    @Value("${banner-image.queue-capacity:50}") int queueCapacity) {
+        this.s3Helper = s3Helper;
+        this.mainBannerRepository = mainBannerRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.mobileWidth = mobileWidth;
+        this.desktopWidth = desktopWidth;
+        this.jpegQuality = jpegQuality;
+        this.maxSourcePixels = maxSourcePixels;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executorService = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "banner-image-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, executor) -> log.warn("banner image queue is full, variant skipped"));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMainBannerImageChanged(MainBannerImageChangedEvent event) {
+        executorService.execute(() -> createVariants(event));
+    }
+
+    public void deleteVariants(MainBanner mainBanner) {
+        deleteVariantFiles(mainBanner.getMobileImgUrl(), mainBanner.getDesktopImgUrl());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdown();
+    }
+
+    private void createVariants(MainBannerImageChangedEvent event) {
+        try {
+            BufferedImage source = readImage(s3Helper.readObject(event.imgKey()));
+            BannerImgVariantVo mobileVariant = saveVariant(source, event.imgKey(), mobileWidth);
+            /* 원본이 좁아 두 축소본의 폭이 같아지면 한 장만 만든다 */
+            BannerImgVariantVo desktopVariant = Math.min(desktopWidth, source.getWidth()) == mobileVariant.width()
+                    ? mobileVariant : saveVariant(source, event.imgKey(), desktopWidth);
+
+            long updated = transactionTemplate.execute(status -> mainBannerRepository.updateImgVariants(
+                    event.bannerId(), event.imgUrl(), mobileVariant, desktopVariant));
+            if (updated == 0) {
+                log.info("main banner {} image changed, deleted or already has variants", event.bannerId());
+                deleteVariantFiles(mobileVariant.url(), desktopVariant.url());
+                return;
+            }
+            eventPublisher.publishEvent(BannerChangedEvent.of(BannerType.MAIN));
+        } catch (IOException | RuntimeException e) {
+            log.warn("main banner {} image variant failed, original is served", event.bannerId(), e);
+        }
+    }
+
+    private BannerImgVariantVo saveVariant(BufferedImage source, String imgKey, int width) throws IOException {
+        BufferedImage resized = resize(source, width);
+        String s3Url = s3Helper.saveBytes(variantKey(imgKey), encodeJpeg(resized), VARIANT_CONTENT_TYPE).getS3Url();
+        return BannerImgVariantVo.of(s3Url, resized.getWidth());
+    }
+
+    /* banner/main/a.png -> banner/main/variant/{uuid}.jpg */
+    private String variantKey(String imgKey) {
+        return imgKey.substring(0, imgKey.lastIndexOf('/') + 1) + VARIANT_DIR + UUID.randomUUID() + ".jpg";
+    }
+
+    /* 축소본 URL 의 경로가 곧 S3 키다 (https://{bucket}.s3.{region}.amazonaws.com/{key}) */
+    private void deleteVariantFiles(String... variantUrls) {
+        Arrays.stream(variantUrls)
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(variantUrl -> {
+                    try {
+                        s3Helper.deleteFile(URI.create(variantUrl).getPath().substring(1));
+                    } catch (RuntimeException e) {
+                        log.warn("banner image variant delete failed: {}", variantUrl, e);
+                    }
+                });
+    }
+
+    /* 디코딩 전에 크기부터 확인해 지나치게 큰 이미지로 메모리를 다 쓰지 않도록 한다 */
+    private BufferedImage readImage(byte[] bytes) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) throw new IOException("unsupported image format");
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxSourcePixels) throw new IOException("image too large: " + pixels + " pixels");
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /* 원본보다 크게 늘리지는 않고, 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄여 나간다 */
+    private BufferedImage resize(BufferedImage source, int targetWidth) {
+        int width = Math.min(targetWidth, source.getWidth());
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            current = draw(current, currentWidth);
+        } while (currentWidth > width);
+        return current;
+    }
+
+    /* JPEG 에는 알파가 없으므로 투명 영역은 흰 배경으로 채운다 */
+    private BufferedImage draw(BufferedImage source, int width) {
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(jpegQuality);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,10 @@
+package com.letsintern.letsintern.domain.banner.vo;
+
+public record BannerFeedVo<R>(
+        R response,
+        String eTag
+) {
+    public static <R> BannerFeedVo<R> of(R response, String eTag) {
+        return new BannerFeedVo<>(response, eTag);
+    }
+}
@@ -0,0 +1,11 @@
+package com.letsintern.letsintern.domain.banner.vo;
+
+/* S3 에 저장된 축소본 URL 과 실제 폭 (원본이 목표 폭보다 작으면 원본 폭) */
+public record BannerImgVariantVo(
+        String url,
+        int width
+) {
+    public static BannerImgVariantVo of(String url, int width) {
+        return new BannerImgVariantVo(url, width);
+    }
+}
@@ -0,0 +1,18 @@
+package com.letsintern.letsintern.domain.banner.vo;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record LineBannerVo(
+        Long id,
+        String title,
+        String link,
+        String contents,
+        String colorCode,
+        String textColorCode,
+        LocalDateTime startDate,
+        LocalDateTime endDate
+) implements ScheduledBannerVo {
+}
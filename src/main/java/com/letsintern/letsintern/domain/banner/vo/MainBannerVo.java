@@ -0,0 +1,20 @@
+package com.letsintern.letsintern.domain.banner.vo;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record MainBannerVo(
+        Long id,
+        String title,
+        String link,
+        String imgUrl,
+        String mobileImgUrl,
+        Integer mobileImgWidth,
+        String desktopImgUrl,
+        Integer desktopImgWidth,
+        LocalDateTime startDate,
+        LocalDateTime endDate
+) implements ScheduledBannerVo {
+}
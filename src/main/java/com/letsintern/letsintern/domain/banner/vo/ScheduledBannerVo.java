@@ -0,0 +1,11 @@
+package com.letsintern.letsintern.domain.banner.vo;
+
+import java.time.LocalDateTime;
+
+/* 노출 기간(startDate 이상, endDate 미만)이 있는 배너 조회 vo */
+public interface ScheduledBannerVo {
+
+    LocalDateTime startDate();
+
+    LocalDateTime endDate();
+}
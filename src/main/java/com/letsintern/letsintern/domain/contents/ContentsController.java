@@ -8,6 +8,8 @@ import com.letsintern.letsintern.domain.contents.dto.response.ContentsAdminListR
 import com.letsintern.letsintern.domain.contents.dto.response.ContentsIdResponse;
 import com.letsintern.letsintern.domain.contents.service.ContentsService;
 import com.letsintern.letsintern.domain.contents.vo.ContentsAdminVo;
+import com.letsintern.letsintern.global.common.dto.CursorRequest;
+import com.letsintern.letsintern.global.common.dto.CursorSlice;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -41,6 +43,15 @@ public class ContentsController {
         return contentsService.getContentsAdminList(contentsTopic, pageable);
     }
 
+    @GetMapping("/cursor")
+    @Operation(summary = "어드민 컨텐츠 목록 보기 (커서 페이지네이션)")
+    public CursorSlice<ContentsAdminVo> getContentsAdminListByCursor(@RequestParam(required = false) ContentsTopic contentsTopic,
+                                                                     @RequestParam(required = false) Long cursor,
+                                                                     @RequestParam(defaultValue = "20") int size,
+                                                                     @RequestParam(defaultValue = "false") boolean withCount) {
+        return contentsService.getContentsAdminListByCursor(contentsTopic, CursorRequest.of(cursor, size, withCount));
+    }
+
     @GetMapping("/{contentsId}")
     @Operation(summary = "어드민 컨텐츠 1개 상세 보기")
     private ContentsAdminVo getContentsDetail(@PathVariable Long contentsId) {
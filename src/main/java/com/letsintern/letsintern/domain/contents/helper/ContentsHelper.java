@@ -8,6 +8,8 @@ import com.letsintern.letsintern.domain.contents.exception.ContentsNotFound;
 import com.letsintern.letsintern.domain.contents.mapper.ContentsMapper;
 import com.letsintern.letsintern.domain.contents.repository.ContentsRepository;
 import com.letsintern.letsintern.domain.contents.vo.ContentsAdminVo;
+import com.letsintern.letsintern.global.common.dto.CursorRequest;
+import com.letsintern.letsintern.global.common.dto.CursorSlice;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -28,6 +30,10 @@ public class ContentsHelper {
         return contentsRepository.getContentsAdminVoList(contentsTopic, pageable);
     }
 
+    public CursorSlice<ContentsAdminVo> getContentsAdminListByCursor(ContentsTopic contentsTopic, CursorRequest cursorRequest) {
+        return contentsRepository.getContentsAdminVoListByCursor(contentsTopic, cursorRequest);
+    }
+
     public ContentsAdminVo getContentsDetail(Long contentsId) {
         return contentsRepository.findContentsAdminVo(contentsId).orElseThrow(() -> ContentsNotFound.EXCEPTION);
     }
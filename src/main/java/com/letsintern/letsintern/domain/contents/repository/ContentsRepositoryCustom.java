@@ -4,6 +4,8 @@ import com.letsintern.letsintern.domain.contents.domain.Contents;
 import com.letsintern.letsintern.domain.contents.domain.ContentsTopic;
 import com.letsintern.letsintern.domain.contents.domain.ContentsType;
 import com.letsintern.letsintern.domain.contents.vo.ContentsAdminVo;
+import com.letsintern.letsintern.global.common.dto.CursorRequest;
+import com.letsintern.letsintern.global.common.dto.CursorSlice;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -15,5 +17,7 @@ public interface ContentsRepositoryCustom {
 
     Page<ContentsAdminVo> getContentsAdminVoList(ContentsTopic contentsTopic, Pageable pageable);
 
+    CursorSlice<ContentsAdminVo> getContentsAdminVoListByCursor(ContentsTopic contentsTopic, CursorRequest cursorRequest);
+
     Optional<ContentsAdminVo> findContentsAdminVo(Long contentsId);
 }
@@ -5,6 +5,9 @@ import com.letsintern.letsintern.domain.contents.domain.ContentsTopic;
 import com.letsintern.letsintern.domain.contents.domain.ContentsType;
 import com.letsintern.letsintern.domain.contents.domain.QContents;
 import com.letsintern.letsintern.domain.contents.vo.ContentsAdminVo;
+import com.letsintern.letsintern.global.common.dto.CursorRequest;
+import com.letsintern.letsintern.global.common.dto.CursorSlice;
+import com.letsintern.letsintern.global.common.util.KeysetUtils;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -85,6 +88,32 @@ public class ContentsRepositoryImpl implements ContentsRepositoryCustom {
         return PageableExecutionUtils.getPage(contentsAdminVos, pageable, count::fetchOne);
     }
 
+    @Override
+    public CursorSlice<ContentsAdminVo> getContentsAdminVoListByCursor(ContentsTopic contentsTopic, CursorRequest cursorRequest) {
+        QContents qContents = QContents.contents;
+
+        List<ContentsAdminVo> contentsAdminVos = jpaQueryFactory
+                .select(Projections.constructor(ContentsAdminVo.class,
+                        qContents.id,
+                        qContents.type,
+                        qContents.title,
+                        qContents.createdAt,
+                        qContents.topic,
+                        qContents.link))
+                .from(qContents)
+                .where(contentsTopic == null ? null : qContents.topic.eq(contentsTopic),
+                        KeysetUtils.idAfter(qContents.id, cursorRequest.cursor()))
+                .orderBy(qContents.id.asc())
+                .limit(cursorRequest.fetchSize())
+                .fetch();
+
+        JPAQuery<Long> count = jpaQueryFactory.select(qContents.count())
+                .from(qContents)
+                .where(contentsTopic == null ? null : qContents.topic.eq(contentsTopic));
+
+        return CursorSlice.of(contentsAdminVos, cursorRequest, ContentsAdminVo::getId, count::fetchOne);
+    }
+
     @Override
     public Optional<ContentsAdminVo> findContentsAdminVo(Long contentsId) {
         QContents qContents = QContents.contents;
@@ -8,6 +8,8 @@ import com.letsintern.letsintern.domain.contents.dto.response.ContentsIdResponse
 import com.letsintern.letsintern.domain.contents.helper.ContentsHelper;
 import com.letsintern.letsintern.domain.contents.mapper.ContentsMapper;
 import com.letsintern.letsintern.domain.contents.vo.ContentsAdminVo;
+import com.letsintern.letsintern.global.common.dto.CursorRequest;
+import com.letsintern.letsintern.global.common.dto.CursorSlice;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -34,6 +36,11 @@ public class ContentsService {
         return contentsMapper.toContentsAdminListResponse(contentsHelper.getContentsAdminList(contentsTopic, pageable));
     }
 
+    @Transactional(readOnly = true)
+    public CursorSlice<ContentsAdminVo> getContentsAdminListByCursor(ContentsTopic contentsTopic, CursorRequest cursorRequest) {
+        return contentsHelper.getContentsAdminListByCursor(contentsTopic, cursorRequest);
+    }
+
     @Transactional(readOnly = true)
     public ContentsAdminVo getContentsDetail(Long contentsId) {
         return contentsHelper.getContentsDetail(contentsId);
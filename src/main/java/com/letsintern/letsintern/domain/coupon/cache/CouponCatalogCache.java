@@ -0,0 +1,43 @@
+package com.letsintern.letsintern.domain.coupon.cache;
+
+import com.letsintern.letsintern.domain.coupon.event.CouponChangedEvent;
+import com.letsintern.letsintern.domain.coupon.vo.CouponCatalogVo;
+import com.letsintern.letsintern.global.common.cache.TieredCache;
+import com.letsintern.letsintern.global.common.cache.TieredCacheFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/*
+ * 쿠폰 코드 -> 쿠폰 정보 캐시
+ * 결제 폼에서 입력할 때마다 코드를 검증하므로, 없는 코드도 Optional.empty() 로 캐시해 DB 까지 내려가지 않게 한다.
+ * 쿠폰 생성/수정 시 코드가 바뀔 수 있으므로 변경이 있으면 전체 무효화한다.
+ * 무효화는 이 서버에만 적용되어 다른 서버는 TTL 동안 이전 값을 볼 수 있다. 그래서 입력 검증에만 쓰고,
+ * 신청 시의 기간/할인/대상은 CouponHelper.reserveCoupon 이 잠근 쿠폰 행으로 다시 검증한다.
+ */
+@Component
+public class CouponCatalogCache {
+
+    private static final String CACHE_NAME = "coupon-catalog";
+
+    private final TieredCache<Optional<CouponCatalogVo>> cache;
+
+    public CouponCatalogCache(TieredCacheFactory tieredCacheFactory,
+                              @Value("${cache.coupon-catalog.local-max-size:2000}") long localMaxSize,
+                              @Value("${cache.coupon-catalog.local-ttl-seconds:60}") long localTtlSeconds) {
+        this.cache = tieredCacheFactory.localOnly(CACHE_NAME, localMaxSize, Duration.ofSeconds(localTtlSeconds));
+    }
+
+    public Optional<CouponCatalogVo> get(String code, Supplier<Optional<CouponCatalogVo>> loader) {
+        return cache.get(code, loader);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCouponChanged(CouponChangedEvent event) {
+        cache.evictAll();
+    }
+}
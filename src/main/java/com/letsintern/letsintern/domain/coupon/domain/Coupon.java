@@ -31,6 +31,11 @@ public class Coupon extends BaseTimeEntity {
     private LocalDateTime startDate;
     private LocalDateTime endDate;
     private Integer time;
+    /* 전체 선착순 수량 (null 이면 제한 없음), usedCount 는 수량이 있는 동안의 사용만 조건부 UPDATE 로 증감 */
+    private Integer quantity;
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer usedCount = 0;
     @OneToMany(mappedBy = "coupon", cascade = CascadeType.ALL)
     @Builder.Default
     private List<CouponUser> couponUserList = new ArrayList<>();
@@ -47,6 +52,7 @@ public class Coupon extends BaseTimeEntity {
                 .startDate(baseCouponEnumVo.startDate())
                 .endDate(baseCouponEnumVo.endDate())
                 .time(baseCouponEnumVo.time())
+                .quantity(baseCouponEnumVo.quantity())
                 .build();
     }
 
@@ -58,6 +64,7 @@ public class Coupon extends BaseTimeEntity {
         this.startDate = updateValue(this.startDate, baseCouponEnumVo.startDate());
         this.endDate = updateValue(this.endDate, baseCouponEnumVo.endDate());
         this.time = updateValue(this.time, baseCouponEnumVo.time());
+        this.quantity = updateValue(this.quantity, baseCouponEnumVo.quantity());
     }
 
     public void addCouponUserList(CouponUser couponUser) {
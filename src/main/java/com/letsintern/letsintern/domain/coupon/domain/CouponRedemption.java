@@ -0,0 +1,51 @@
+package com.letsintern.letsintern.domain.coupon.domain;
+
+import com.letsintern.letsintern.global.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+ * 쿠폰 사용 내역 (신청 1건당 1행)
+ * redemptionKey 가 유니크하므로 같은 신청의 중복 요청은 쿠폰 수량을 두 번 차감하지 않는다.
+ * RESERVED -> COMMITTED 는 신청과 같은 트랜잭션에서 일어나고, 신청 취소 시 RELEASED 로 바뀌며 수량을 되돌린다.
+ * quantityCounted : 예약 때 전체 수량(usedCount)을 차감했는지 - 차감한 내역만 취소 시 되돌린다 (무제한 쿠폰은 차감하지 않는다)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "uk_coupon_redemption_key", columnNames = "redemption_key"),
+        indexes = @Index(name = "idx_coupon_redemption_application", columnList = "application_id")
+)
+public class CouponRedemption extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "coupon_redemption_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    private String redemptionKey;
+
+    @NotNull
+    private Long couponId;
+
+    @NotNull
+    private Long userId;
+
+    private Long applicationId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    private CouponRedemptionStatus status;
+
+    @NotNull
+    private Boolean quantityCounted;
+
+    public static String applicationKey(Long programId, Long userId) {
+        return "application:" + programId + ":" + userId;
+    }
+}
@@ -0,0 +1,5 @@
+package com.letsintern.letsintern.domain.coupon.domain;
+
+public enum CouponRedemptionStatus {
+    RESERVED, COMMITTED, RELEASED
+}
@@ -9,6 +9,7 @@ import lombok.*;
 @Builder(access = AccessLevel.PRIVATE)
 @Getter
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_coupon_user_coupon_user", columnNames = {"coupon_id", "user_id"}))
 public class CouponUser {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -32,14 +33,4 @@ public class CouponUser {
         user.addCouponUserList(couponUser);
         return couponUser;
     }
-
-    public void increaseRemainTime() {
-        if (this.remainTime != -1)
-            this.remainTime++;
-    }
-
-    public void decreaseRemainTime() {
-        if (this.remainTime != -1)
-            this.remainTime--;
-    }
 }
@@ -12,6 +12,7 @@ public record BaseCouponRequestDto(
         @NotNull String code,
         @NotNull Integer discount,
         @NotNull Integer time,
+        Integer quantity,
         @NotNull LocalDateTime startDate,
         @NotNull LocalDateTime endDate
 ) {
@@ -17,6 +17,8 @@ public record CouponResponseDto(
         String code,
         Integer discount,
         Integer time,
+        Integer quantity,
+        Integer usedCount,
         LocalDateTime startDate,
         LocalDateTime endDate,
         LocalDateTime createDate
@@ -29,6 +31,8 @@ public record CouponResponseDto(
                 .code(coupon.getCode())
                 .discount(coupon.getDiscount())
                 .time(coupon.getTime())
+                .quantity(coupon.getQuantity())
+                .usedCount(coupon.getUsedCount())
                 .startDate(coupon.getStartDate())
                 .endDate(coupon.getEndDate())
                 .createDate(coupon.getCreateDate())
@@ -0,0 +1,9 @@
+package com.letsintern.letsintern.domain.coupon.event;
+
+public record CouponChangedEvent(
+        Long couponId
+) {
+    public static CouponChangedEvent of(Long couponId) {
+        return new CouponChangedEvent(couponId);
+    }
+}
@@ -0,0 +1,11 @@
+package com.letsintern.letsintern.domain.coupon.exception;
+
+import com.letsintern.letsintern.global.error.BaseErrorException;
+
+public class CouponAlreadyRedeemedException extends BaseErrorException {
+    public static final CouponAlreadyRedeemedException EXCEPTION = new CouponAlreadyRedeemedException();
+
+    private CouponAlreadyRedeemedException() {
+        super(CouponErrorCode.COUPON_ALREADY_REDEEMED);
+    }
+}
@@ -20,7 +20,9 @@ public enum CouponErrorCode implements BaseErrorCode {
 
     COUPON_BEFORE_TIME(CONFLICT, "COUPON_409_1", "아직 사용할 수 없는 쿠폰입니다."),
     COUPON_EXPIRED(CONFLICT, "COUPON_409_2", "기간이 만료된 쿠폰입니다."),
-    COUPON_USAGE_LIMIT_EXCEEDED(CONFLICT, "COUPON_409_3", "더이상 사용할 수 없는 쿠폰입니다.");
+    COUPON_USAGE_LIMIT_EXCEEDED(CONFLICT, "COUPON_409_3", "더이상 사용할 수 없는 쿠폰입니다."),
+    COUPON_SOLD_OUT(CONFLICT, "COUPON_409_4", "선착순 수량이 모두 소진된 쿠폰입니다."),
+    COUPON_ALREADY_REDEEMED(CONFLICT, "COUPON_409_5", "이미 이 신청에 사용된 쿠폰입니다.");
 
     private HttpStatus status;
     private String code;
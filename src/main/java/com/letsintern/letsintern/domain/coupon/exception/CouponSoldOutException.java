@@ -0,0 +1,11 @@
+package com.letsintern.letsintern.domain.coupon.exception;
+
+import com.letsintern.letsintern.global.error.BaseErrorException;
+
+public class CouponSoldOutException extends BaseErrorException {
+    public static final CouponSoldOutException EXCEPTION = new CouponSoldOutException();
+
+    private CouponSoldOutException() {
+        super(CouponErrorCode.COUPON_SOLD_OUT);
+    }
+}
@@ -1,16 +1,19 @@
 package com.letsintern.letsintern.domain.coupon.helper;
 
+import com.letsintern.letsintern.domain.coupon.cache.CouponCatalogCache;
 import com.letsintern.letsintern.domain.coupon.domain.Coupon;
 import com.letsintern.letsintern.domain.coupon.domain.CouponProgram;
 import com.letsintern.letsintern.domain.coupon.domain.CouponProgramType;
+import com.letsintern.letsintern.domain.coupon.domain.CouponRedemption;
+import com.letsintern.letsintern.domain.coupon.domain.CouponRedemptionStatus;
 import com.letsintern.letsintern.domain.coupon.domain.CouponUser;
 import com.letsintern.letsintern.domain.coupon.exception.*;
 import com.letsintern.letsintern.domain.coupon.repository.CouponProgramRepository;
+import com.letsintern.letsintern.domain.coupon.repository.CouponRedemptionRepository;
 import com.letsintern.letsintern.domain.coupon.repository.CouponRepository;
 import com.letsintern.letsintern.domain.coupon.repository.CouponUserRepository;
 import com.letsintern.letsintern.domain.coupon.vo.CouponAdminVo;
-import com.letsintern.letsintern.domain.coupon.vo.CouponUserHistoryVo;
-import com.letsintern.letsintern.domain.user.domain.User;
+import com.letsintern.letsintern.domain.coupon.vo.CouponCatalogVo;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -19,6 +22,7 @@ import org.springframework.stereotype.Component;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @Component
@@ -26,6 +30,8 @@ public class CouponHelper {
     private final CouponRepository couponRepository;
     private final CouponUserRepository couponUserRepository;
     private final CouponProgramRepository couponProgramRepository;
+    private final CouponRedemptionRepository couponRedemptionRepository;
+    private final CouponCatalogCache couponCatalogCache;
 
     public void validateCodeSensitive(String code) {
         if (Objects.isNull(code))
@@ -39,10 +45,8 @@ public class CouponHelper {
             throw DuplicateCouponCode.EXCEPTION;
     }
 
-    public void validateAvailableCouponProgram(Long couponId, CouponProgramType couponProgramType) {
-        if (existAllCouponType(couponId))
-            return;
-        if (!existCouponProgramType(couponId, couponProgramType))
+    public void validateAvailableCouponProgram(CouponCatalogVo coupon, CouponProgramType couponProgramType) {
+        if (!coupon.isAvailableFor(couponProgramType))
             throw InvalidCouponProgramType.EXCEPTION;
     }
 
@@ -61,16 +65,87 @@ public class CouponHelper {
             throw CouponUsageLimitExceededException.EXCEPTION;
     }
 
+    /*
+     * 쿠폰 사용 예약: 사용 내역 -> 전체 수량 -> 사용자별 횟수 순서로 조건부 UPDATE 하며, 하나라도 실패하면 신청 트랜잭션과 함께 롤백된다.
+     * 취소도 같은 순서로 잠그므로 예약/취소가 엇갈려도 교착 상태가 생기지 않는다.
+     * 코드 캐시는 서버별이라 다른 서버의 수정/삭제를 늦게 볼 수 있으므로, 기간/할인/대상은 DB 의 쿠폰 행을 다시 읽어 검증하고 그 값을 돌려준다.
+     * 전체 수량이 없는 쿠폰은 usedCount 를 올리지 않는다 - 행을 잠그면 같은 쿠폰의 신청이 트랜잭션 끝까지 한 줄로 서기 때문이다.
+     * 대신 그 사이 관리자가 수량을 새로 정하면, 이미 진행 중이던 신청은 수량에 잡히지 않는다.
+     */
+    public CouponCatalogVo reserveCoupon(String code, CouponProgramType couponProgramType, Long userId, String redemptionKey) {
+        final Long couponId = findCouponCatalogForReservationOrThrow(code).couponId();
+        final CouponCatalogVo current = findCouponCatalogByIdOrThrow(couponId, code);
+        if (!couponRedemptionRepository.reserve(redemptionKey, couponId, userId, current.isQuantityLimited()))
+            throw CouponAlreadyRedeemedException.EXCEPTION;
+
+        final CouponCatalogVo coupon = current.isQuantityLimited() ? increaseUsedCountOrThrow(couponId, code) : current;
+        validateApplyTimeForCoupon(coupon.startDate(), coupon.endDate());
+        validateAvailableCouponProgram(coupon, couponProgramType);
+
+        couponUserRepository.insertIfAbsent(couponId, userId, coupon.time());
+        if (couponUserRepository.decreaseRemainTime(couponId, userId) == 0)
+            throw CouponUsageLimitExceededException.EXCEPTION;
+        return coupon;
+    }
+
+    /* 잠근 행을 다시 읽으므로 그 사이 바뀐 할인/기간도 반영된다 */
+    private CouponCatalogVo increaseUsedCountOrThrow(Long couponId, String code) {
+        if (couponRepository.increaseUsedCount(couponId) == 0) {
+            if (!couponRepository.existsByIdForUpdate(couponId))
+                throw CouponNotFound.EXCEPTION;
+            throw CouponSoldOutException.EXCEPTION;
+        }
+        return findCouponCatalogByIdOrThrow(couponId, code);
+    }
+
+    private CouponCatalogVo findCouponCatalogByIdOrThrow(Long couponId, String code) {
+        return couponRepository.findCouponCatalogById(couponId)
+                .filter(coupon -> code.equals(coupon.code()))
+                .orElseThrow(() -> CouponNotFound.EXCEPTION);
+    }
+
+    public void commitCouponRedemption(String redemptionKey, Long applicationId) {
+        couponRedemptionRepository.commit(redemptionKey, applicationId);
+    }
+
+    public void releaseCouponRedemption(Long applicationId, String code, Long userId) {
+        Optional<CouponRedemption> couponRedemption
+                = couponRedemptionRepository.findByApplicationIdAndStatus(applicationId, CouponRedemptionStatus.COMMITTED);
+        if (couponRedemption.isPresent()) {
+            /* 동시 취소 요청은 한 번만 되돌린다 */
+            if (couponRedemptionRepository.release(couponRedemption.get().getId()) == 0)
+                return;
+            if (couponRedemption.get().getQuantityCounted())
+                couponRepository.decreaseUsedCount(couponRedemption.get().getCouponId());
+            couponUserRepository.increaseRemainTime(couponRedemption.get().getCouponId(), userId);
+            return;
+        }
+
+        /* 사용 내역 도입 전의 신청은 사용자별 횟수만 되돌린다 */
+        CouponUser couponUser = findCouponUserByCodeAndUserIdOrThrow(code, userId);
+        couponUserRepository.increaseRemainTime(couponUser.getCoupon().getId(), userId);
+    }
+
     public Page<CouponAdminVo> findCouponAdminInfo(Pageable pageable) {
         return couponRepository.findCouponAdminInfo(pageable);
     }
 
-    public CouponUserHistoryVo findCouponUserHistoryVoOrCreate(User user, String code) {
-        return couponUserRepository.findCouponUserHistoryByCodeAndUserId(code, user.getId())
-                .orElseGet(() -> {
-                    Coupon coupon = findCouponByCodeOrThrow(code);
-                    return CouponUserHistoryVo.of(coupon, coupon.getTime());
-                });
+    /* 코드 검증은 캐시된 쿠폰 정보로 하고, 사용자별 남은 횟수만 DB 에서 읽는다 */
+    public CouponCatalogVo findCouponCatalogByCodeOrThrow(String code) {
+        return couponCatalogCache.get(code, () -> couponRepository.findCouponCatalogByCode(code))
+                .orElseThrow(() -> CouponNotFound.EXCEPTION);
+    }
+
+    /* 다른 서버에서 방금 만든 쿠폰이 이 서버 캐시에 없는 코드로 남아 있을 수 있으므로, 없으면 DB 에서 다시 찾는다 */
+    private CouponCatalogVo findCouponCatalogForReservationOrThrow(String code) {
+        return couponCatalogCache.get(code, () -> couponRepository.findCouponCatalogByCode(code))
+                .or(() -> couponRepository.findCouponCatalogByCode(code))
+                .orElseThrow(() -> CouponNotFound.EXCEPTION);
+    }
+
+    public Integer findRemainTimeForUser(CouponCatalogVo coupon, Long userId) {
+        return couponUserRepository.findRemainTime(coupon.couponId(), userId)
+                .orElse(coupon.time());
     }
 
     public CouponUser findCouponUserByCouponIdAndUserIdThrow(Long couponId, Long userId) {
@@ -117,14 +192,6 @@ public class CouponHelper {
         couponProgramRepository.deleteAll(couponProgramList);
     }
 
-    private boolean existCouponProgramType(Long couponId, CouponProgramType couponProgramType) {
-        return couponProgramRepository.existsByCouponIdAndCouponProgramType(couponId, couponProgramType);
-    }
-
-    private boolean existAllCouponType(Long couponId) {
-        return couponProgramRepository.existsByCouponIdAndCouponProgramType(couponId, CouponProgramType.ALL);
-    }
-
     private boolean existCouponCode(Long couponId, String code) {
         return couponRepository.existCouponCodeExceptedCouponId(couponId, code).isPresent();
     }
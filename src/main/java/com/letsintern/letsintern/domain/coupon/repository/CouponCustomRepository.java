@@ -3,6 +3,7 @@ package com.letsintern.letsintern.domain.coupon.repository;
 import com.letsintern.letsintern.domain.coupon.domain.Coupon;
 import com.letsintern.letsintern.domain.coupon.domain.CouponUser;
 import com.letsintern.letsintern.domain.coupon.vo.CouponAdminVo;
+import com.letsintern.letsintern.domain.coupon.vo.CouponCatalogVo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -11,4 +12,9 @@ import java.util.Optional;
 public interface CouponCustomRepository {
     Page<CouponAdminVo> findCouponAdminInfo(Pageable pageable);
     Optional<Coupon> existCouponCodeExceptedCouponId(Long couponId, String code);
+    Optional<CouponCatalogVo> findCouponCatalogByCode(String code);
+    Optional<CouponCatalogVo> findCouponCatalogById(Long couponId);
+    boolean existsByIdForUpdate(Long couponId);
+    long increaseUsedCount(Long couponId);
+    long decreaseUsedCount(Long couponId);
 }
@@ -1,23 +1,28 @@
 package com.letsintern.letsintern.domain.coupon.repository;
 
 import com.letsintern.letsintern.domain.coupon.domain.Coupon;
+import com.letsintern.letsintern.domain.coupon.domain.CouponProgramType;
 import com.letsintern.letsintern.domain.coupon.domain.CouponUser;
 import com.letsintern.letsintern.domain.coupon.vo.CouponAdminVo;
-import com.letsintern.letsintern.domain.coupon.vo.CouponUserHistoryVo;
+import com.letsintern.letsintern.domain.coupon.vo.CouponCatalogVo;
+import com.letsintern.letsintern.global.common.util.QueryHintUtils;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 import static com.letsintern.letsintern.domain.coupon.domain.QCoupon.coupon;
-import static com.letsintern.letsintern.domain.coupon.domain.QCouponUser.couponUser;
+import static com.letsintern.letsintern.domain.coupon.domain.QCouponProgram.couponProgram;
 
 @RequiredArgsConstructor
 public class CouponCustomRepositoryImpl implements CouponCustomRepository {
@@ -33,6 +38,8 @@ public class CouponCustomRepositoryImpl implements CouponCustomRepository {
                         coupon.code,
                         coupon.discount,
                         coupon.time,
+                        coupon.quantity,
+                        coupon.usedCount,
                         coupon.startDate,
                         coupon.endDate,
                         coupon.createDate
@@ -60,6 +67,90 @@ public class CouponCustomRepositoryImpl implements CouponCustomRepository {
                 .fetchOne());
     }
 
+    @Override
+    public Optional<CouponCatalogVo> findCouponCatalogByCode(String code) {
+        return findCouponCatalog(coupon.code.eq(code));
+    }
+
+    /* 잠금 없이 읽으면 트랜잭션 스냅샷, 수량 UPDATE 로 잠근 뒤 호출하면 이 트랜잭션이 수정한 최신 행을 읽는다 */
+    @Override
+    public Optional<CouponCatalogVo> findCouponCatalogById(Long couponId) {
+        return findCouponCatalog(coupon.id.eq(couponId));
+    }
+
+    /* 스냅샷이 아닌 현재 행을 읽어 삭제 여부를 판단한다 (SELECT ... FOR UPDATE) */
+    @Override
+    public boolean existsByIdForUpdate(Long couponId) {
+        return queryFactory
+                .selectFrom(coupon)
+                .where(coupon.id.eq(couponId))
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetchFirst() != null;
+    }
+
+    /* 전체 수량이 남아 있을 때만 증가 (0 이면 소진) */
+    @Override
+    public long increaseUsedCount(Long couponId) {
+        return queryFactory
+                .update(coupon)
+                .set(coupon.usedCount, coupon.usedCount.add(1))
+                .where(
+                        coupon.id.eq(couponId),
+                        coupon.quantity.isNull().or(coupon.usedCount.lt(coupon.quantity))
+                )
+                .execute();
+    }
+
+    @Override
+    public long decreaseUsedCount(Long couponId) {
+        return queryFactory
+                .update(coupon)
+                .set(coupon.usedCount, coupon.usedCount.subtract(1))
+                .where(
+                        coupon.id.eq(couponId),
+                        coupon.usedCount.gt(0)
+                )
+                .execute();
+    }
+
+    /* 쿠폰과 적용 가능한 프로그램 타입을 한 번에 조회 (쿠폰 1개 x 프로그램 타입 수만큼의 행) */
+    private Optional<CouponCatalogVo> findCouponCatalog(BooleanExpression condition) {
+        List<Tuple> rows = QueryHintUtils.readOnly(queryFactory
+                .select(
+                        coupon.id,
+                        coupon.name,
+                        coupon.code,
+                        coupon.discount,
+                        coupon.time,
+                        coupon.quantity,
+                        coupon.startDate,
+                        coupon.endDate,
+                        couponProgram.couponProgramType
+                )
+                .from(coupon)
+                .leftJoin(coupon.couponProgramList, couponProgram)
+                .where(condition))
+                .fetch();
+        if (rows.isEmpty()) return Optional.empty();
+
+        Tuple first = rows.get(0);
+        List<CouponProgramType> couponProgramTypeList = rows.stream()
+                .map(row -> row.get(couponProgram.couponProgramType))
+                .filter(Objects::nonNull)
+                .toList();
+        return Optional.of(CouponCatalogVo.of(
+                first.get(coupon.id),
+                first.get(coupon.name),
+                first.get(coupon.code),
+                first.get(coupon.discount),
+                first.get(coupon.time),
+                first.get(coupon.quantity),
+                first.get(coupon.startDate),
+                first.get(coupon.endDate),
+                couponProgramTypeList
+        ));
+    }
+
     private BooleanExpression neCouponId(Long couponId) {
         return couponId != null ? coupon.id.ne(couponId) : null;
     }
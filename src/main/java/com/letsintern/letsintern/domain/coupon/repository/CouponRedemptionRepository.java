@@ -0,0 +1,11 @@
+package com.letsintern.letsintern.domain.coupon.repository;
+
+import com.letsintern.letsintern.domain.coupon.domain.CouponRedemption;
+import com.letsintern.letsintern.domain.coupon.domain.CouponRedemptionStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface CouponRedemptionRepository extends JpaRepository<CouponRedemption, Long>, CouponRedemptionRepositoryCustom {
+    Optional<CouponRedemption> findByApplicationIdAndStatus(Long applicationId, CouponRedemptionStatus status);
+}
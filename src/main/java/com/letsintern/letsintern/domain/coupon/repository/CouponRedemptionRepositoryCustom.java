@@ -0,0 +1,7 @@
+package com.letsintern.letsintern.domain.coupon.repository;
+
+public interface CouponRedemptionRepositoryCustom {
+    boolean reserve(String redemptionKey, Long couponId, Long userId, boolean quantityCounted);
+    long commit(String redemptionKey, Long applicationId);
+    long release(Long couponRedemptionId);
+}
@@ -0,0 +1,55 @@
+package com.letsintern.letsintern.domain.coupon.repository;
+
+import com.letsintern.letsintern.domain.coupon.domain.CouponRedemptionStatus;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static com.letsintern.letsintern.domain.coupon.domain.QCouponRedemption.couponRedemption;
+
+@RequiredArgsConstructor
+public class CouponRedemptionRepositoryCustomImpl implements CouponRedemptionRepositoryCustom {
+    private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    /* 같은 키의 동시 요청은 유니크 키에서 줄을 서고, 먼저 커밋된 쪽만 성공한다 (취소된 내역은 다시 예약) */
+    @Override
+    public boolean reserve(String redemptionKey, Long couponId, Long userId, boolean quantityCounted) {
+        int inserted = jdbcTemplate.update(
+                "INSERT IGNORE INTO coupon_redemption (redemption_key, coupon_id, user_id, status, quantity_counted, create_date, last_modified_date) " +
+                "VALUES (?, ?, ?, ?, ?, now(), now())",
+                redemptionKey, couponId, userId, CouponRedemptionStatus.RESERVED.name(), quantityCounted);
+        if (inserted > 0) return true;
+
+        return jdbcTemplate.update(
+                "UPDATE coupon_redemption SET coupon_id = ?, user_id = ?, application_id = NULL, status = ?, quantity_counted = ?, last_modified_date = now() " +
+                "WHERE redemption_key = ? AND status = ?",
+                couponId, userId, CouponRedemptionStatus.RESERVED.name(), quantityCounted,
+                redemptionKey, CouponRedemptionStatus.RELEASED.name()) > 0;
+    }
+
+    @Override
+    public long commit(String redemptionKey, Long applicationId) {
+        return queryFactory
+                .update(couponRedemption)
+                .set(couponRedemption.applicationId, applicationId)
+                .set(couponRedemption.status, CouponRedemptionStatus.COMMITTED)
+                .where(
+                        couponRedemption.redemptionKey.eq(redemptionKey),
+                        couponRedemption.status.eq(CouponRedemptionStatus.RESERVED)
+                )
+                .execute();
+    }
+
+    @Override
+    public long release(Long couponRedemptionId) {
+        return queryFactory
+                .update(couponRedemption)
+                .set(couponRedemption.status, CouponRedemptionStatus.RELEASED)
+                .where(
+                        couponRedemption.id.eq(couponRedemptionId),
+                        couponRedemption.status.ne(CouponRedemptionStatus.RELEASED)
+                )
+                .execute();
+    }
+}
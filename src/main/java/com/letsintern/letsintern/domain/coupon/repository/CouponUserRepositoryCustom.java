@@ -1,11 +1,13 @@
 package com.letsintern.letsintern.domain.coupon.repository;
 
 import com.letsintern.letsintern.domain.coupon.domain.CouponUser;
-import com.letsintern.letsintern.domain.coupon.vo.CouponUserHistoryVo;
 
 import java.util.Optional;
 
 public interface CouponUserRepositoryCustom {
-    Optional<CouponUserHistoryVo> findCouponUserHistoryByCodeAndUserId(String code, Long userId);
+    Optional<Integer> findRemainTime(Long couponId, Long userId);
     Optional<CouponUser> findByCouponCodeAndUserId(String code, Long userId);
+    void insertIfAbsent(Long couponId, Long userId, Integer remainTime);
+    long decreaseRemainTime(Long couponId, Long userId);
+    long increaseRemainTime(Long couponId, Long userId);
 }
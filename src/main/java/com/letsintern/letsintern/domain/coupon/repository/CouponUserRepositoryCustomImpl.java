@@ -1,12 +1,12 @@
 package com.letsintern.letsintern.domain.coupon.repository;
 
 import com.letsintern.letsintern.domain.coupon.domain.CouponUser;
-import com.letsintern.letsintern.domain.coupon.vo.CouponUserHistoryVo;
-import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.util.Optional;
 
@@ -15,19 +15,17 @@ import static com.letsintern.letsintern.domain.coupon.domain.QCouponUser.couponU
 @RequiredArgsConstructor
 public class CouponUserRepositoryCustomImpl implements CouponUserRepositoryCustom {
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
 
+    /* (coupon_id, user_id) 유니크 키로 한 행만 조회 */
     @Override
-    public Optional<CouponUserHistoryVo> findCouponUserHistoryByCodeAndUserId(String code, Long userId) {
+    public Optional<Integer> findRemainTime(Long couponId, Long userId) {
         return Optional.ofNullable(queryFactory
-                .select(Projections.constructor(CouponUserHistoryVo.class,
-                        couponUser.coupon,
-                        couponUser.user,
-                        couponUser.remainTime
-                ))
+                .select(couponUser.remainTime)
                 .from(couponUser)
                 .where(
-                        eqUserId(userId),
-                        eqCouponCode(code)
+                        couponUser.coupon.id.eq(couponId),
+                        couponUser.user.id.eq(userId)
                 )
                 .fetchOne());
     }
@@ -43,6 +41,42 @@ public class CouponUserRepositoryCustomImpl implements CouponUserRepositoryCusto
                 .fetchOne());
     }
 
+    /* (coupon_id, user_id) 유니크 키로 첫 사용의 동시 요청에도 사용 내역은 한 행만 생긴다 */
+    @Override
+    public void insertIfAbsent(Long couponId, Long userId, Integer remainTime) {
+        jdbcTemplate.update("INSERT IGNORE INTO coupon_user (coupon_id, user_id, remain_time) VALUES (?, ?, ?)",
+                couponId, userId, remainTime);
+    }
+
+    /* 남은 횟수가 있을 때만 차감 (-1 은 무제한), 0 이면 사용 불가 */
+    @Override
+    public long decreaseRemainTime(Long couponId, Long userId) {
+        return queryFactory
+                .update(couponUser)
+                .set(couponUser.remainTime, new CaseBuilder()
+                        .when(couponUser.remainTime.eq(-1)).then(-1)
+                        .otherwise(couponUser.remainTime.subtract(1)))
+                .where(
+                        couponUser.coupon.id.eq(couponId),
+                        couponUser.user.id.eq(userId),
+                        couponUser.remainTime.eq(-1).or(couponUser.remainTime.gt(0))
+                )
+                .execute();
+    }
+
+    @Override
+    public long increaseRemainTime(Long couponId, Long userId) {
+        return queryFactory
+                .update(couponUser)
+                .set(couponUser.remainTime, couponUser.remainTime.add(1))
+                .where(
+                        couponUser.coupon.id.eq(couponId),
+                        couponUser.user.id.eq(userId),
+                        couponUser.remainTime.ne(-1)
+                )
+                .execute();
+    }
+
     private BooleanExpression eqUserId(Long userId) {
         return userId != null ? couponUser.user.id.eq(userId) : null;
     }
@@ -13,10 +13,11 @@ import com.letsintern.letsintern.domain.coupon.mapper.CouponMapper;
 import com.letsintern.letsintern.domain.coupon.vo.BaseCouponEnumVo;
 import com.letsintern.letsintern.domain.coupon.vo.BaseCouponProgramEnumVo;
 import com.letsintern.letsintern.domain.coupon.vo.CouponAdminVo;
-import com.letsintern.letsintern.domain.coupon.vo.CouponUserHistoryVo;
-import com.letsintern.letsintern.domain.user.domain.User;
+import com.letsintern.letsintern.domain.coupon.event.CouponChangedEvent;
+import com.letsintern.letsintern.domain.coupon.vo.CouponCatalogVo;
 import com.letsintern.letsintern.global.config.user.PrincipalDetails;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -31,6 +32,7 @@ import java.util.Objects;
 public class CouponService {
     private final CouponHelper couponHelper;
     private final CouponMapper couponMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CouponResponseDto getCoupon(Long couponId) {
         Coupon coupon = couponHelper.findCouponOrThrow(couponId);
@@ -47,13 +49,12 @@ public class CouponService {
     public CouponApplyResponseDto getAvailableCoupon(PrincipalDetails principalDetails,
                                                      String code,
                                                      Integer type) {
-        User user = principalDetails.getUser();
-        CouponUserHistoryVo couponUserHistoryVo = couponHelper.findCouponUserHistoryVoOrCreate(user, code);
+        CouponCatalogVo coupon = couponHelper.findCouponCatalogByCodeOrThrow(code);
         CouponProgramType couponProgramType = couponMapper.toCouponProgramType(type);
-        couponHelper.validateApplyTimeForCoupon(couponUserHistoryVo.coupon().getStartDate(), couponUserHistoryVo.coupon().getEndDate());
-        couponHelper.validateAvailableCouponProgram(couponUserHistoryVo.coupon().getId(), couponProgramType);
-        couponHelper.validateRemainTimeForUser(couponUserHistoryVo.remainTime());
-        return CouponApplyResponseDto.of(couponUserHistoryVo.coupon().getDiscount());
+        couponHelper.validateApplyTimeForCoupon(coupon.startDate(), coupon.endDate());
+        couponHelper.validateAvailableCouponProgram(coupon, couponProgramType);
+        couponHelper.validateRemainTimeForUser(couponHelper.findRemainTimeForUser(coupon, principalDetails.getUser().getId()));
+        return CouponApplyResponseDto.of(coupon.discount());
     }
 
     public void createNewCoupon(BaseCouponRequestDto baseCouponRequestDto) {
@@ -63,6 +64,7 @@ public class CouponService {
         List<BaseCouponProgramEnumVo> baseCouponProgramEnumVoList = couponMapper.toCouponProgramEnumVoList(baseCouponRequestDto.programTypeList());
         Coupon newCoupon = createCouponAndSave(baseCouponEnumVo);
         createCouponProgramsAndSave(baseCouponProgramEnumVoList, newCoupon);
+        eventPublisher.publishEvent(CouponChangedEvent.of(newCoupon.getId()));
     }
 
     public void updateCouponInfo(Long couponId, BaseCouponRequestDto baseCouponRequestDto) {
@@ -72,6 +74,7 @@ public class CouponService {
         BaseCouponEnumVo baseCouponEnumVo = couponMapper.toCouponEnumVo(baseCouponRequestDto);
         coupon.updateCoupon(baseCouponEnumVo);
         checkUpdatedCouponProgramAndUpdate(baseCouponRequestDto.programTypeList(), coupon);
+        eventPublisher.publishEvent(CouponChangedEvent.of(couponId));
     }
 
     private void checkUpdatedCouponProgramAndUpdate(List<BaseCouponProgramRequestDto> baseCouponProgramRequestDtoList,
@@ -85,6 +88,7 @@ public class CouponService {
     public void deleteCoupon(Long couponId) {
         Coupon coupon = couponHelper.findCouponOrThrow(couponId);
         couponHelper.deleteCoupon(coupon);
+        eventPublisher.publishEvent(CouponChangedEvent.of(couponId));
     }
 
     private Coupon createCouponAndSave(BaseCouponEnumVo baseCouponEnumVo) {
@@ -13,6 +13,7 @@ public record BaseCouponEnumVo(
         String code,
         Integer discount,
         Integer time,
+        Integer quantity,
         LocalDateTime startDate,
         LocalDateTime endDate
 ) {
@@ -24,6 +25,7 @@ public record BaseCouponEnumVo(
                 .code(baseCouponRequestDto.code())
                 .discount(baseCouponRequestDto.discount())
                 .time(baseCouponRequestDto.time())
+                .quantity(baseCouponRequestDto.quantity())
                 .startDate(baseCouponRequestDto.startDate())
                 .endDate(baseCouponRequestDto.endDate())
                 .build();
@@ -14,6 +14,8 @@ public record CouponAdminVo(
         String code,
         Integer discount,
         Integer time,
+        Integer quantity,
+        Integer usedCount,
         LocalDateTime startDate,
         LocalDateTime endDate,
         LocalDateTime createDate
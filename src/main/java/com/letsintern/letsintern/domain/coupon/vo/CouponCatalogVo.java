@@ -0,0 +1,55 @@
+package com.letsintern.letsintern.domain.coupon.vo;
+
+import com.letsintern.letsintern.domain.coupon.domain.CouponProgramType;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/* 코드 검증에 필요한 쿠폰 정보 (사용자별 남은 횟수와 사용 수량은 포함하지 않는다, quantity 가 null 이면 전체 수량 제한 없음) */
+@Builder
+public record CouponCatalogVo(
+        Long couponId,
+        String name,
+        String code,
+        Integer discount,
+        Integer time,
+        Integer quantity,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        Set<CouponProgramType> couponProgramTypeSet
+) {
+    /* 캐시에 담겨 여러 요청이 공유하므로 복사해서 수정할 수 없게 감싼다 */
+    public CouponCatalogVo {
+        EnumSet<CouponProgramType> copied = EnumSet.noneOf(CouponProgramType.class);
+        if (couponProgramTypeSet != null) copied.addAll(couponProgramTypeSet);
+        couponProgramTypeSet = Collections.unmodifiableSet(copied);
+    }
+
+    public static CouponCatalogVo of(Long couponId, String name, String code, Integer discount, Integer time, Integer quantity,
+                                     LocalDateTime startDate, LocalDateTime endDate,
+                                     Collection<CouponProgramType> couponProgramTypeList) {
+        return CouponCatalogVo.builder()
+                .couponId(couponId)
+                .name(name)
+                .code(code)
+                .discount(discount)
+                .time(time)
+                .quantity(quantity)
+                .startDate(startDate)
+                .endDate(endDate)
+                .couponProgramTypeSet(Set.copyOf(couponProgramTypeList))
+                .build();
+    }
+
+    public boolean isQuantityLimited() {
+        return quantity != null;
+    }
+
+    public boolean isAvailableFor(CouponProgramType couponProgramType) {
+        return couponProgramTypeSet.contains(CouponProgramType.ALL) || couponProgramTypeSet.contains(couponProgramType);
+    }
+}
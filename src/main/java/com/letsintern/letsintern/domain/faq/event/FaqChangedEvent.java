@@ -0,0 +1,9 @@
+package com.letsintern.letsintern.domain.faq.event;
+
+public record FaqChangedEvent(
+        Long faqId
+) {
+    public static FaqChangedEvent of(Long faqId) {
+        return new FaqChangedEvent(faqId);
+    }
+}
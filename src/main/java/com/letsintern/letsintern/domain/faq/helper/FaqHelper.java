@@ -3,11 +3,13 @@ package com.letsintern.letsintern.domain.faq.helper;
 import com.letsintern.letsintern.domain.faq.domain.Faq;
 import com.letsintern.letsintern.domain.faq.dto.request.FaqCreateDTO;
 import com.letsintern.letsintern.domain.faq.dto.request.FaqUpdateDTO;
+import com.letsintern.letsintern.domain.faq.event.FaqChangedEvent;
 import com.letsintern.letsintern.domain.faq.exception.FaqNotFound;
 import com.letsintern.letsintern.domain.faq.repository.FaqRepository;
 import com.letsintern.letsintern.domain.faq.vo.FaqVo;
 import com.letsintern.letsintern.domain.program.domain.ProgramType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -17,6 +19,7 @@ import java.util.List;
 public class FaqHelper {
 
     private final FaqRepository faqRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public FaqVo createFaq(ProgramType programType, FaqCreateDTO faqCreateDTO) {
         Faq newFaq = Faq.of(programType, faqCreateDTO.getQuestion(), faqCreateDTO.getAnswer());
@@ -41,6 +44,7 @@ public class FaqHelper {
             faq.setAnswer((faqUpdateDTO.getAnswer()));
         }
 
+        eventPublisher.publishEvent(FaqChangedEvent.of(faq.getId()));
         return faq.getId();
     }
 
@@ -53,5 +57,6 @@ public class FaqHelper {
                         .orElseThrow(() -> FaqNotFound.EXCEPTION);
 
         faqRepository.delete(targetFaq);
+        eventPublisher.publishEvent(FaqChangedEvent.of(faqId));
     }
 }
@@ -9,5 +9,7 @@ public interface FaqRepositoryCustom {
 
     FaqVo findVoById(Long id);
 
+    List<FaqVo> findVoListByIdIn(List<Long> idList);
+
     List<FaqVo> findVoListByProgramType(ProgramType programType);
 }
@@ -31,6 +31,21 @@ public class FaqRepositoryImpl implements FaqRepositoryCustom {
                 .fetchFirst();
     }
 
+    @Override
+    public List<FaqVo> findVoListByIdIn(List<Long> idList) {
+        QFaq qFaq = QFaq.faq;
+
+        return jpaQueryFactory
+                .select(Projections.constructor(FaqVo.class,
+                        qFaq.id,
+                        qFaq.question,
+                        qFaq.answer
+                ))
+                .from(qFaq)
+                .where(qFaq.id.in(idList))
+                .fetch();
+    }
+
     @Override
     public List<FaqVo> findVoListByProgramType(ProgramType programType) {
         QFaq qFaq = QFaq.faq;
@@ -1,16 +1,26 @@
 package com.letsintern.letsintern.domain.file;
 
 import com.letsintern.letsintern.domain.contents.domain.ContentsTopic;
+import com.letsintern.letsintern.domain.file.dto.request.FileUploadCompleteDTO;
+import com.letsintern.letsintern.domain.file.dto.request.FileUploadCreateDTO;
 import com.letsintern.letsintern.domain.file.dto.response.FileAdminListResponse;
+import com.letsintern.letsintern.domain.file.dto.response.FileIdResponse;
 import com.letsintern.letsintern.domain.file.service.FileService;
+import com.letsintern.letsintern.domain.file.vo.FileDownloadStatVo;
+import com.letsintern.letsintern.domain.file.vo.S3PresignedUploadVo;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.UrlResource;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -26,10 +36,37 @@ public class FileController {
         return fileService.getFileAdminList(contentsTopic, pageable);
     }
 
-    @Operation(summary = "파일 다운로드")
+    @Operation(summary = "[어드민] 파일 업로드 URL 발급 (클라이언트가 버킷으로 직접 업로드)")
+    @PostMapping("/admin/upload")
+    public S3PresignedUploadVo createUpload(@RequestBody @Valid FileUploadCreateDTO fileUploadCreateDTO) {
+        return fileService.createUpload(fileUploadCreateDTO);
+    }
+
+    @Operation(summary = "[어드민] 파일 업로드 완료 및 등록")
+    @PostMapping("/admin/upload/complete")
+    public FileIdResponse completeUpload(@RequestBody @Valid FileUploadCompleteDTO fileUploadCompleteDTO) {
+        return fileService.completeUpload(fileUploadCompleteDTO);
+    }
+
+    @Operation(summary = "[어드민] 멀티파트 파일 업로드 취소")
+    @DeleteMapping("/admin/upload")
+    public void abortUpload(@RequestParam String key, @RequestParam String uploadId) {
+        fileService.abortUpload(key, uploadId);
+    }
+
+    @Operation(summary = "파일 다운로드 (redirect=false 이면 서버에서 Range/ETag 를 지원하며 내려줌)")
     @GetMapping("/download/{fileId}")
-    public ResponseEntity<UrlResource> downloadFile(@PathVariable Long fileId) {
-        return fileService.downloadFile(fileId);
+    public ResponseEntity<Resource> downloadFile(@PathVariable Long fileId,
+                                                 @RequestParam(defaultValue = "true") boolean redirect,
+                                                 @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+                                                 WebRequest webRequest) {
+        return fileService.downloadFile(fileId, redirect, range, webRequest);
+    }
+
+    @Operation(summary = "[어드민] 파일 다운로드 수 상위 목록 (응답한 서버 기준)")
+    @GetMapping("/admin/download-stats")
+    public List<FileDownloadStatVo> getFileDownloadStatList(@RequestParam(defaultValue = "20") int limit) {
+        return fileService.getFileDownloadStatList(limit);
     }
 
     @Operation(summary = "파일 삭제")
@@ -0,0 +1,73 @@
+package com.letsintern.letsintern.domain.file.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.letsintern.letsintern.domain.file.vo.FileDownloadStatVo;
+import com.letsintern.letsintern.domain.file.vo.FileDownloadVo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/*
+ * 자주 내려받는 파일의 로컬 캐시 (바이트 크기 기준으로 용량 제한)
+ * 미션 오픈 직후처럼 같은 파일 몇 개에 다운로드가 몰릴 때 S3 를 매번 다시 읽지 않는다.
+ * Caffeine 의 빈도 기반 admission 으로 한두 번 받은 파일이 자주 받는 파일을 밀어내지 않는다.
+ */
+@Component
+public class FileDownloadCache {
+
+    private static final int METADATA_WEIGHT = 1024;
+
+    private final Cache<Long, FileDownloadVo> cache;
+    private final Map<Long, LongAdder> downloadCountMap = new ConcurrentHashMap<>();
+    private final long maxEntryBytes;
+
+    public FileDownloadCache(@Value("${file-download.cache-max-mb:256}") long cacheMaxMb,
+                             @Value("${file-download.cache-max-entry-mb:16}") long cacheMaxEntryMb,
+                             @Value("${file-download.cache-ttl-seconds:600}") long cacheTtlSeconds) {
+        this.maxEntryBytes = cacheMaxEntryMb * 1024 * 1024;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(cacheMaxMb * 1024 * 1024)
+                .weigher((Long fileId, FileDownloadVo file) -> file.hasContent() ? file.getContent().length + METADATA_WEIGHT : METADATA_WEIGHT)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .build();
+    }
+
+    public FileDownloadVo get(Long fileId, Supplier<FileDownloadVo> loader) {
+        return cache.get(fileId, id -> loader.get());
+    }
+
+    public boolean isCacheable(long contentLength) {
+        return contentLength <= maxEntryBytes;
+    }
+
+    public void recordDownload(Long fileId) {
+        downloadCountMap.computeIfAbsent(fileId, id -> new LongAdder()).increment();
+    }
+
+    public void evict(Long fileId) {
+        cache.invalidate(fileId);
+        downloadCountMap.remove(fileId);
+    }
+
+    /* 이 서버 기준 다운로드 수 상위 파일 */
+    public List<FileDownloadStatVo> getTopDownloads(int limit) {
+        return downloadCountMap.entrySet().stream()
+                .map(entry -> FileDownloadStatVo.of(entry.getKey(), entry.getValue().sum(), isCached(entry.getKey())))
+                .sorted(Comparator.comparingLong(FileDownloadStatVo::getDownloadCount).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private boolean isCached(Long fileId) {
+        FileDownloadVo file = cache.getIfPresent(fileId);
+        return file != null && file.hasContent();
+    }
+}
@@ -0,0 +1,16 @@
+package com.letsintern.letsintern.domain.file.dto.request;
+
+import com.letsintern.letsintern.domain.contents.domain.ContentsTopic;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record FileUploadCompleteDTO(
+        @NotBlank String key,
+        @Nullable String uploadId,
+        @Nullable List<FileUploadPartDTO> partList,
+        @NotNull ContentsTopic contentsTopic
+) {
+}
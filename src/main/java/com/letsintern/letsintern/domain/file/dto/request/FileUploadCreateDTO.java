@@ -0,0 +1,14 @@
+package com.letsintern.letsintern.domain.file.dto.request;
+
+import com.letsintern.letsintern.domain.contents.domain.ContentsTopic;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public record FileUploadCreateDTO(
+        @NotBlank String fileName,
+        @NotNull String contentType,
+        @NotNull @Positive Long fileSize,
+        @NotNull ContentsTopic contentsTopic
+) {
+}
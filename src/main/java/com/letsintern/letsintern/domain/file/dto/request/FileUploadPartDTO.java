@@ -0,0 +1,9 @@
+package com.letsintern.letsintern.domain.file.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+
+public record FileUploadPartDTO(
+        @NotNull Integer partNumber,
+        @NotNull String eTag
+) {
+}
@@ -0,0 +1,21 @@
+package com.letsintern.letsintern.domain.file.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class FileIdResponse {
+
+    private Long fileId;
+
+    @Builder
+    private FileIdResponse(Long fileId) {
+        this.fileId = fileId;
+    }
+
+    public static FileIdResponse from(Long fileId) {
+        return FileIdResponse.builder()
+                .fileId(fileId)
+                .build();
+    }
+}
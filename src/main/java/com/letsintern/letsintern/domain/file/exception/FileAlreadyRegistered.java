@@ -0,0 +1,12 @@
+package com.letsintern.letsintern.domain.file.exception;
+
+import com.letsintern.letsintern.global.error.BaseErrorException;
+
+public class FileAlreadyRegistered extends BaseErrorException {
+
+    public static final FileAlreadyRegistered EXCEPTION = new FileAlreadyRegistered();
+
+    private FileAlreadyRegistered() {
+        super(FileErrorCode.FILE_ALREADY_REGISTERED);
+    }
+}
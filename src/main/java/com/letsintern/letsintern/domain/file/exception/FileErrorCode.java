@@ -6,13 +6,18 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.springframework.http.HttpStatus;
 
-import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.*;
 
 @Getter
 @AllArgsConstructor
 public enum FileErrorCode implements BaseErrorCode {
 
-    FILE_NOT_FOUND(NOT_FOUND, "FILE_404_1", "존재하지 않는 파일입니다.");
+    FILE_UPLOAD_TOO_LARGE(BAD_REQUEST, "FILE_400_1", "업로드할 수 있는 최대 크기를 초과한 파일입니다."),
+    FILE_UPLOAD_NOT_COMPLETED(BAD_REQUEST, "FILE_400_2", "업로드가 완료되지 않은 파일입니다."),
+
+    FILE_NOT_FOUND(NOT_FOUND, "FILE_404_1", "존재하지 않는 파일입니다."),
+
+    FILE_ALREADY_REGISTERED(CONFLICT, "FILE_409_1", "이미 등록된 파일입니다.");
 
     private HttpStatus status;
     private String code;
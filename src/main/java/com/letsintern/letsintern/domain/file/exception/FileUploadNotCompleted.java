@@ -0,0 +1,12 @@
+package com.letsintern.letsintern.domain.file.exception;
+
+import com.letsintern.letsintern.global.error.BaseErrorException;
+
+public class FileUploadNotCompleted extends BaseErrorException {
+
+    public static final FileUploadNotCompleted EXCEPTION = new FileUploadNotCompleted();
+
+    private FileUploadNotCompleted() {
+        super(FileErrorCode.FILE_UPLOAD_NOT_COMPLETED);
+    }
+}
@@ -0,0 +1,12 @@
+package com.letsintern.letsintern.domain.file.exception;
+
+import com.letsintern.letsintern.global.error.BaseErrorException;
+
+public class FileUploadTooLarge extends BaseErrorException {
+
+    public static final FileUploadTooLarge EXCEPTION = new FileUploadTooLarge();
+
+    private FileUploadTooLarge() {
+        super(FileErrorCode.FILE_UPLOAD_TOO_LARGE);
+    }
+}
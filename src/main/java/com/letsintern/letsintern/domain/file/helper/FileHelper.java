@@ -1,31 +1,92 @@
 package com.letsintern.letsintern.domain.file.helper;
 
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
 import com.letsintern.letsintern.domain.contents.domain.ContentsTopic;
+import com.letsintern.letsintern.domain.file.cache.FileDownloadCache;
 import com.letsintern.letsintern.domain.file.domain.File;
+import com.letsintern.letsintern.domain.file.dto.request.FileUploadCompleteDTO;
+import com.letsintern.letsintern.domain.file.dto.request.FileUploadCreateDTO;
 import com.letsintern.letsintern.domain.file.dto.response.FileAdminListResponse;
+import com.letsintern.letsintern.domain.file.exception.FileAlreadyRegistered;
 import com.letsintern.letsintern.domain.file.exception.FileNotFound;
+import com.letsintern.letsintern.domain.file.exception.FileUploadNotCompleted;
+import com.letsintern.letsintern.domain.file.exception.FileUploadTooLarge;
 import com.letsintern.letsintern.domain.file.mapper.FileMapper;
 import com.letsintern.letsintern.domain.file.repository.FileRepository;
+import com.letsintern.letsintern.domain.file.vo.FileDownloadStatVo;
+import com.letsintern.letsintern.domain.file.vo.FileDownloadVo;
+import com.letsintern.letsintern.domain.file.vo.S3PresignedUploadVo;
 import com.letsintern.letsintern.domain.file.vo.S3SavedFileVo;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.UrlResource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Pageable;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.*;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
 
 @Component
 @RequiredArgsConstructor
 public class FileHelper {
 
+    public static final String S3_FILE_DIR = "file/contents/";
+
+    /* 직접 업로드 키: file/contents/{uuid}/{파일명} - 다운로드 시 마지막 경로를 파일명으로 쓴다 */
+    private static final Pattern UPLOAD_KEY_PATTERN = Pattern.compile(
+            Pattern.quote(S3_FILE_DIR) + "[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}/[^/\\\\]+");
+
     private final FileRepository fileRepository;
     private final FileMapper fileMapper;
     private final S3Helper s3Helper;
+    private final FileDownloadCache fileDownloadCache;
+
+    @Value("${s3-upload.max-file-size-mb:1024}")
+    private long maxFileSizeMb;
 
     public Long saveFile(S3SavedFileVo s3SavedFileVo, ContentsTopic contentsTopic) {
         File file = fileMapper.toEntity(s3SavedFileVo, contentsTopic);
         return fileRepository.save(file).getId();
     }
 
+    public S3PresignedUploadVo createUpload(FileUploadCreateDTO fileUploadCreateDTO) {
+        if (fileUploadCreateDTO.fileSize() > maxFileSizeMb * 1024 * 1024)
+            throw FileUploadTooLarge.EXCEPTION;
+        /*
+         * 같은 이름으로 다시 발급받아도 이미 등록된 파일의 객체를 덮어쓰지 않도록 업로드마다 고유한 디렉토리를 쓴다
+         * 파일명에 경로 구분자가 섞여 다른 디렉토리에 올라가지 않도록 치환
+         */
+        String key = S3_FILE_DIR + UUID.randomUUID() + "/" + fileUploadCreateDTO.fileName().replaceAll("[/\\\\]", "_");
+        return s3Helper.createPresignedUpload(key, fileUploadCreateDTO.contentType(), fileUploadCreateDTO.fileSize());
+    }
+
+    /* 클라이언트 직접 업로드 완료 콜백: createUpload 로 발급한 키가 버킷에 올라간 것을 확인한 뒤에만, 한 번만 File 을 등록 */
+    public Long completeUpload(FileUploadCompleteDTO fileUploadCompleteDTO) {
+        if (!UPLOAD_KEY_PATTERN.matcher(fileUploadCompleteDTO.key()).matches())
+            throw FileUploadNotCompleted.EXCEPTION;
+        if (fileRepository.existsByOriginalFilename(fileUploadCompleteDTO.key()))
+            throw FileAlreadyRegistered.EXCEPTION;
+
+        List<PartETag> partETagList = fileUploadCompleteDTO.partList() == null ? List.of()
+                : fileUploadCompleteDTO.partList().stream()
+                        .map(part -> new PartETag(part.partNumber(), part.eTag()))
+                        .toList();
+        S3SavedFileVo s3SavedFileVo = s3Helper.completePresignedUpload(fileUploadCompleteDTO.key(), fileUploadCompleteDTO.uploadId(), partETagList);
+        return saveFile(s3SavedFileVo, fileUploadCompleteDTO.contentsTopic());
+    }
+
+    public void abortUpload(String key, String uploadId) {
+        s3Helper.abortPresignedUpload(key, uploadId);
+    }
+
     public FileAdminListResponse getFileAdminList(ContentsTopic contentsTopic, Pageable pageable) {
         if(contentsTopic == null)
             return FileAdminListResponse.from(fileRepository.findAllBy(pageable));
@@ -33,14 +94,95 @@ public class FileHelper {
             return FileAdminListResponse.from(fileRepository.findAllByContentsTopic(contentsTopic, pageable));
     }
 
-    public ResponseEntity<UrlResource> downloadFile(Long fileId) {
+    /*
+     * redirect: 짧게 유효한 presigned URL 로 보내 S3 에서 바로 받게 한다.
+     * 그 외에는 서버가 내려주되, 작은 파일은 로컬 캐시에서, 큰 파일은 요청한 Range 만 S3 에서 읽어 흘려보낸다.
+     */
+    public ResponseEntity<Resource> downloadFile(Long fileId, boolean redirect, String rangeHeader, WebRequest webRequest) {
         final File file = fileRepository.findById(fileId).orElseThrow(() -> FileNotFound.EXCEPTION);
-        return s3Helper.downloadFile(file.getOriginalFilename());
+        final String key = file.getOriginalFilename();
+        final String fileName = key.substring(key.lastIndexOf('/') + 1);
+        fileDownloadCache.recordDownload(fileId);
+
+        if (redirect) {
+            return ResponseEntity.status(HttpStatus.FOUND)
+                    .location(URI.create(s3Helper.createPresignedDownloadUrl(key, fileName)))
+                    .cacheControl(CacheControl.noStore())
+                    .build();
+        }
+
+        final FileDownloadVo download = fileDownloadCache.get(fileId, () -> loadFileDownload(key));
+        if (webRequest.checkNotModified(download.getETag(), download.getLastModified()))
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+
+        /* 캐시된 파일은 Range 요청도 스프링이 바이트 배열에서 잘라 206 으로 응답한다 */
+        if (download.hasContent()) {
+            return downloadResponse(HttpStatus.OK, download, fileName)
+                    .contentLength(download.getContentLength())
+                    .body(new ByteArrayResource(download.getContent()));
+        }
+
+        if (rangeHeader == null) {
+            return downloadResponse(HttpStatus.OK, download, fileName)
+                    .contentLength(download.getContentLength())
+                    .body(new InputStreamResource(s3Helper.openObject(key, null, null)));
+        }
+
+        final List<HttpRange> rangeList = parseRanges(rangeHeader);
+        final long contentLength = download.getContentLength();
+        if (rangeList.isEmpty() || rangeList.get(0).getRangeStart(contentLength) >= contentLength) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */" + contentLength)
+                    .build();
+        }
+
+        /* 여러 구간을 요청해도 첫 구간만 응답 */
+        final long rangeStart = rangeList.get(0).getRangeStart(contentLength);
+        final long rangeEnd = rangeList.get(0).getRangeEnd(contentLength);
+        return downloadResponse(HttpStatus.PARTIAL_CONTENT, download, fileName)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes " + rangeStart + "-" + rangeEnd + "/" + contentLength)
+                .contentLength(rangeEnd - rangeStart + 1)
+                .body(new InputStreamResource(s3Helper.openObject(key, rangeStart, rangeEnd)));
+    }
+
+    public List<FileDownloadStatVo> getFileDownloadStatList(int limit) {
+        return fileDownloadCache.getTopDownloads(limit);
     }
 
     public void deleteFile(Long fileId) {
         File file = fileRepository.findById(fileId).orElseThrow(() -> FileNotFound.EXCEPTION);
         s3Helper.deleteFile(file.getOriginalFilename());
         fileRepository.delete(file);
+        fileDownloadCache.evict(fileId);
+    }
+
+    private FileDownloadVo loadFileDownload(String key) {
+        final ObjectMetadata metadata = s3Helper.getObjectMetadata(key);
+        final long contentLength = metadata.getContentLength();
+        return FileDownloadVo.builder()
+                .key(key)
+                .contentType(metadata.getContentType())
+                .contentLength(contentLength)
+                .eTag(metadata.getETag())
+                .lastModified(metadata.getLastModified() == null ? -1 : metadata.getLastModified().getTime())
+                .content(fileDownloadCache.isCacheable(contentLength) ? s3Helper.readObject(key) : null)
+                .build();
+    }
+
+    private ResponseEntity.BodyBuilder downloadResponse(HttpStatus status, FileDownloadVo download, String fileName) {
+        return ResponseEntity.status(status)
+                .contentType(download.getContentType() == null ? MediaType.APPLICATION_OCTET_STREAM : MediaType.parseMediaType(download.getContentType()))
+                .eTag(download.getETag())
+                .lastModified(download.getLastModified())
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName, StandardCharsets.UTF_8).build().toString());
+    }
+
+    private List<HttpRange> parseRanges(String rangeHeader) {
+        try {
+            return HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            return List.of();
+        }
     }
 }
@@ -1,33 +1,58 @@
 package com.letsintern.letsintern.domain.file.helper;
 
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.HttpMethod;
 import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.*;
+import com.letsintern.letsintern.domain.file.exception.FileUploadNotCompleted;
+import com.letsintern.letsintern.domain.file.vo.S3PresignedUploadVo;
 import com.letsintern.letsintern.domain.file.vo.S3SavedFileVo;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.UrlResource;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.ContentDisposition;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.IntStream;
 
 @Component
 @RequiredArgsConstructor
 public class S3Helper {
 
     private final AmazonS3 amazonS3;
+    private final S3MultipartUploader s3MultipartUploader;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
+    @Value("${s3-upload.presign-expiry-minutes:30}")
+    private long presignExpiryMinutes;
+
+    @Value("${file-download.presign-expiry-seconds:300}")
+    private long downloadPresignExpirySeconds;
+
     public S3SavedFileVo saveFile(MultipartFile multipartFile, String dir) {
         try {
             String originalFilename = multipartFile.getOriginalFilename();
             if(dir != null) originalFilename = dir + originalFilename;
 
+            /* 파트 크기보다 큰 파일은 한 번의 PUT 대신 파트를 나눠 병렬로 올린다 */
+            if (s3MultipartUploader.isMultipart(multipartFile.getSize())) {
+                try (InputStream inputStream = multipartFile.getInputStream()) {
+                    s3MultipartUploader.upload(bucket, originalFilename, multipartFile.getContentType(), inputStream);
+                }
+                return S3SavedFileVo.of(originalFilename, amazonS3.getUrl(bucket, originalFilename).toString());
+            }
+
             ObjectMetadata metadata = new ObjectMetadata();
             metadata.setContentLength(multipartFile.getSize());
             metadata.setContentType(multipartFile.getContentType());
@@ -39,13 +64,90 @@ public class S3Helper {
         }
     }
 
-    public ResponseEntity<UrlResource> downloadFile(String originalFilename) {
-        UrlResource urlResource = new UrlResource(amazonS3.getUrl(bucket, originalFilename));
-        String contentDisposition = "attachment; filename=\"" +  originalFilename + "\"";
+    /* 서버에서 만든 파일(이미지 축소본 등) 저장 */
+    public S3SavedFileVo saveBytes(String key, byte[] bytes, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(bytes.length);
+        metadata.setContentType(contentType);
+
+        amazonS3.putObject(bucket, key, new ByteArrayInputStream(bytes), metadata);
+        return S3SavedFileVo.of(key, amazonS3.getUrl(bucket, key).toString());
+    }
+
+    /* 클라이언트가 버킷으로 직접 올릴 수 있는 presigned URL 발급 (큰 파일은 파트별 URL) */
+    public S3PresignedUploadVo createPresignedUpload(String key, String contentType, long fileSize) {
+        final LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(presignExpiryMinutes);
+        final Date expiration = Date.from(expiresAt.atZone(ZoneId.systemDefault()).toInstant());
+
+        if (!s3MultipartUploader.isMultipart(fileSize)) {
+            GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+                    .withExpiration(expiration)
+                    .withContentType(contentType);
+            return S3PresignedUploadVo.ofSingle(key, amazonS3.generatePresignedUrl(request).toString(), expiresAt);
+        }
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        final String uploadId = amazonS3.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucket, key, metadata)).getUploadId();
+        final int partSize = s3MultipartUploader.getPartSize();
+        final int partCount = (int) ((fileSize + partSize - 1) / partSize);
+
+        List<String> partUrlList = IntStream.rangeClosed(1, partCount)
+                .mapToObj(partNumber -> {
+                    GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+                            .withExpiration(expiration);
+                    request.addRequestParameter("uploadId", uploadId);
+                    request.addRequestParameter("partNumber", String.valueOf(partNumber));
+                    return amazonS3.generatePresignedUrl(request).toString();
+                })
+                .toList();
+        return S3PresignedUploadVo.ofMultipart(key, uploadId, partSize, partUrlList, expiresAt);
+    }
+
+    /* 클라이언트 업로드 완료 확인 (멀티파트면 파트를 합친 뒤) */
+    public S3SavedFileVo completePresignedUpload(String key, String uploadId, List<PartETag> partETagList) {
+        try {
+            if (uploadId != null)
+                amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, partETagList));
+            if (!amazonS3.doesObjectExist(bucket, key))
+                throw FileUploadNotCompleted.EXCEPTION;
+        } catch (AmazonServiceException e) {
+            throw FileUploadNotCompleted.EXCEPTION;
+        }
+        return S3SavedFileVo.of(key, amazonS3.getUrl(bucket, key).toString());
+    }
+
+    public void abortPresignedUpload(String key, String uploadId) {
+        amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+    }
+
+    /* 짧게 유효한 다운로드 URL (브라우저가 버킷에서 직접 받도록 redirect 용) */
+    public String createPresignedDownloadUrl(String key, String fileName) {
+        Date expiration = new Date(System.currentTimeMillis() + downloadPresignExpirySeconds * 1000);
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.GET)
+                .withExpiration(expiration)
+                .withResponseHeaders(new ResponseHeaderOverrides()
+                        .withContentDisposition(ContentDisposition.attachment().filename(fileName, StandardCharsets.UTF_8).build().toString()));
+        return amazonS3.generatePresignedUrl(request).toString();
+    }
+
+    public ObjectMetadata getObjectMetadata(String key) {
+        return amazonS3.getObjectMetadata(bucket, key);
+    }
+
+    public byte[] readObject(String key) {
+        try (S3Object s3Object = amazonS3.getObject(bucket, key)) {
+            return s3Object.getObjectContent().readAllBytes();
+        } catch (SdkClientException | IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
 
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
-                .body(urlResource);
+    /* 호출한 쪽에서 스트림을 끝까지 읽거나 닫아야 커넥션이 풀로 돌아간다 */
+    public S3ObjectInputStream openObject(String key, Long rangeStart, Long rangeEnd) {
+        GetObjectRequest request = new GetObjectRequest(bucket, key);
+        if (rangeStart != null) request.setRange(rangeStart, rangeEnd);
+        return amazonS3.getObject(request).getObjectContent();
     }
 
     public void deleteFile(String originalFilename) {
@@ -0,0 +1,149 @@
+package com.letsintern.letsintern.domain.file.helper;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.*;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+ * 서버를 거쳐야 하는 업로드를 파트 단위로 나눠 병렬 업로드
+ * 파트 버퍼는 서버 전체가 공유하는 업로드 슬롯을 얻은 뒤에만 읽으므로, 동시에 여러 업로드가 들어와도
+ * 메모리에 올라가는 양은 partSize x concurrency 를 넘지 않고 작업 큐도 concurrency 이상 쌓이지 않는다.
+ * 파트 하나가 실패하면 남은 입력은 읽지 않고, 진행 중인 파트가 끝난 뒤 업로드를 취소한다.
+ */
+@Slf4j
+@Component
+public class S3MultipartUploader {
+
+    private static final long MB = 1024L * 1024L;
+
+    private final AmazonS3 amazonS3;
+    private final int partSize;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final Semaphore uploadSlots;
+
+    public S3MultipartUploader(AmazonS3 amazonS3,
+                               @Value("${s3-upload.part-size-mb:16}") int partSizeMb,
+                               @Value("${s3-upload.concurrency:4}") int concurrency) {
+        this.amazonS3 = amazonS3;
+        this.partSize = (int) (partSizeMb * MB);
+        this.concurrency = concurrency;
+        this.uploadSlots = new Semaphore(concurrency, true);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executorService = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "s3-upload-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public int getPartSize() {
+        return partSize;
+    }
+
+    public boolean isMultipart(long fileSize) {
+        return fileSize > partSize;
+    }
+
+    public void upload(String bucket, String key, String contentType, InputStream inputStream) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        String uploadId = amazonS3.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucket, key, metadata)).getUploadId();
+
+        AtomicReference<Exception> partFailure = new AtomicReference<>();
+        List<Future<PartETag>> partFutureList = new ArrayList<>();
+        try {
+            for (int partNumber = 1; ; partNumber++) {
+                uploadSlots.acquire();
+                byte[] buffer;
+                try {
+                    buffer = partFailure.get() == null ? inputStream.readNBytes(partSize) : new byte[0];
+                } catch (IOException e) {
+                    uploadSlots.release();
+                    throw e;
+                }
+                if (buffer.length == 0) {
+                    uploadSlots.release();
+                    break;
+                }
+                partFutureList.add(executorService.submit(uploadPart(bucket, key, uploadId, partNumber, buffer, partFailure)));
+                if (buffer.length < partSize) break;
+            }
+            if (partFailure.get() != null) throw new ExecutionException(partFailure.get());
+
+            List<PartETag> partETagList = new ArrayList<>(partFutureList.size());
+            for (Future<PartETag> partFuture : partFutureList) {
+                partETagList.add(partFuture.get());
+            }
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, partETagList));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            partFailure.compareAndSet(null, e);
+            abort(bucket, key, uploadId, partFutureList);
+            throw new RuntimeException(e);
+        } catch (IOException | ExecutionException | SdkClientException e) {
+            partFailure.compareAndSet(null, e);
+            abort(bucket, key, uploadId, partFutureList);
+            throw new RuntimeException(e);
+        }
+    }
+
+    /* 슬롯은 파트가 끝나야 반납되므로 큐에서 기다리던 파트도 취소하지 않고, 이미 실패했으면 올리지 않고 끝낸다 */
+    private Callable<PartETag> uploadPart(String bucket, String key, String uploadId, int partNumber, byte[] buffer,
+                                          AtomicReference<Exception> partFailure) {
+        return () -> {
+            try {
+                if (partFailure.get() != null) throw new CancellationException("multipart upload aborted: " + key);
+                return amazonS3.uploadPart(new UploadPartRequest()
+                        .withBucketName(bucket)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber)
+                        .withInputStream(new ByteArrayInputStream(buffer))
+                        .withPartSize(buffer.length)).getPartETag();
+            } catch (RuntimeException e) {
+                partFailure.compareAndSet(null, e);
+                throw e;
+            } finally {
+                uploadSlots.release();
+            }
+        };
+    }
+
+    /* 올라간 파트가 버킷에 남아 과금되지 않도록, 진행 중인 파트가 끝난 뒤 업로드를 취소 (인터럽트된 경우는 기다리지 않는다) */
+    private void abort(String bucket, String key, String uploadId, List<Future<PartETag>> partFutureList) {
+        for (Future<PartETag> partFuture : partFutureList) {
+            if (Thread.currentThread().isInterrupted()) break;
+            try {
+                partFuture.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | CancellationException ignored) {
+            }
+        }
+        try {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+        } catch (SdkClientException e) {
+            log.warn("multipart upload abort failed: {} ({})", key, uploadId, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdown();
+    }
+}
@@ -15,4 +15,6 @@ public interface FileRepository extends JpaRepository<File, Long> {
     Page<File> findAllBy(Pageable pageable);
     Page<File> findAllByContentsTopic(ContentsTopic contentsTopic, Pageable pageable);
 
+    boolean existsByOriginalFilename(String originalFilename);
+
 }
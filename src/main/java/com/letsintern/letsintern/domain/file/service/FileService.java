@@ -1,15 +1,23 @@
 package com.letsintern.letsintern.domain.file.service;
 
 import com.letsintern.letsintern.domain.contents.domain.ContentsTopic;
+import com.letsintern.letsintern.domain.file.dto.request.FileUploadCompleteDTO;
+import com.letsintern.letsintern.domain.file.dto.request.FileUploadCreateDTO;
 import com.letsintern.letsintern.domain.file.dto.response.FileAdminListResponse;
+import com.letsintern.letsintern.domain.file.dto.response.FileIdResponse;
 import com.letsintern.letsintern.domain.file.helper.FileHelper;
+import com.letsintern.letsintern.domain.file.vo.FileDownloadStatVo;
+import com.letsintern.letsintern.domain.file.vo.S3PresignedUploadVo;
 import com.letsintern.letsintern.domain.file.vo.S3SavedFileVo;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.UrlResource;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -22,14 +30,31 @@ public class FileService {
         return fileHelper.saveFile(s3SavedFileVo, contentsTopic);
     }
 
+    public S3PresignedUploadVo createUpload(FileUploadCreateDTO fileUploadCreateDTO) {
+        return fileHelper.createUpload(fileUploadCreateDTO);
+    }
+
+    @Transactional
+    public FileIdResponse completeUpload(FileUploadCompleteDTO fileUploadCompleteDTO) {
+        return FileIdResponse.from(fileHelper.completeUpload(fileUploadCompleteDTO));
+    }
+
+    public void abortUpload(String key, String uploadId) {
+        fileHelper.abortUpload(key, uploadId);
+    }
+
     @Transactional(readOnly = true)
     public FileAdminListResponse getFileAdminList(ContentsTopic contentsTopic, Pageable pageable) {
         return fileHelper.getFileAdminList(contentsTopic, pageable);
     }
 
     @Transactional(readOnly = true)
-    public ResponseEntity<UrlResource> downloadFile(Long fileId) {
-        return fileHelper.downloadFile(fileId);
+    public ResponseEntity<Resource> downloadFile(Long fileId, boolean redirect, String rangeHeader, WebRequest webRequest) {
+        return fileHelper.downloadFile(fileId, redirect, rangeHeader, webRequest);
+    }
+
+    public List<FileDownloadStatVo> getFileDownloadStatList(int limit) {
+        return fileHelper.getFileDownloadStatList(limit);
     }
 
     public void deleteFile(Long fileId) {
@@ -0,0 +1,27 @@
+package com.letsintern.letsintern.domain.file.vo;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class FileDownloadStatVo {
+
+    private Long fileId;
+    private long downloadCount;
+    private boolean cached;
+
+    @Builder
+    private FileDownloadStatVo(Long fileId, long downloadCount, boolean cached) {
+        this.fileId = fileId;
+        this.downloadCount = downloadCount;
+        this.cached = cached;
+    }
+
+    public static FileDownloadStatVo of(Long fileId, long downloadCount, boolean cached) {
+        return FileDownloadStatVo.builder()
+                .fileId(fileId)
+                .downloadCount(downloadCount)
+                .cached(cached)
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.letsintern.letsintern.domain.file.vo;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class FileDownloadVo {
+
+    private final String key;
+    private final String contentType;
+    private final long contentLength;
+    private final String eTag;
+    private final long lastModified;
+
+    /* 로컬 캐시에 올릴 만큼 작은 파일만 내용을 가진다 (큰 파일은 메타데이터만) */
+    private final byte[] content;
+
+    @Builder
+    private FileDownloadVo(String key, String contentType, long contentLength, String eTag, long lastModified, byte[] content) {
+        this.key = key;
+        this.contentType = contentType;
+        this.contentLength = contentLength;
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+        this.content = content;
+    }
+
+    public boolean hasContent() {
+        return content != null;
+    }
+}
@@ -0,0 +1,51 @@
+package com.letsintern.letsintern.domain.file.vo;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+public class S3PresignedUploadVo {
+
+    private String key;
+
+    /* 단일 PUT 업로드 (uploadId 가 null 인 경우) */
+    private String uploadUrl;
+
+    /* 멀티파트 업로드: partUrlList[i] 로 (i + 1) 번째 파트를 partSize 만큼 PUT 한 뒤 ETag 를 모아 완료 요청 */
+    private String uploadId;
+    private Integer partSize;
+    private List<String> partUrlList;
+
+    private LocalDateTime expiresAt;
+
+    @Builder
+    private S3PresignedUploadVo(String key, String uploadUrl, String uploadId, Integer partSize, List<String> partUrlList, LocalDateTime expiresAt) {
+        this.key = key;
+        this.uploadUrl = uploadUrl;
+        this.uploadId = uploadId;
+        this.partSize = partSize;
+        this.partUrlList = partUrlList;
+        this.expiresAt = expiresAt;
+    }
+
+    public static S3PresignedUploadVo ofSingle(String key, String uploadUrl, LocalDateTime expiresAt) {
+        return S3PresignedUploadVo.builder()
+                .key(key)
+                .uploadUrl(uploadUrl)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    public static S3PresignedUploadVo ofMultipart(String key, String uploadId, Integer partSize, List<String> partUrlList, LocalDateTime expiresAt) {
+        return S3PresignedUploadVo.builder()
+                .key(key)
+                .uploadId(uploadId)
+                .partSize(partSize)
+                .partUrlList(partUrlList)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -0,0 +1,112 @@
+package com.letsintern.letsintern.domain.mail.domain;
+
+import com.letsintern.letsintern.global.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import org.springframework.mail.SimpleMailMessage;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_mail_outbox_status_next_attempt", columnList = "status, next_attempt_at"))
+public class MailOutbox extends BaseTimeEntity {
+
+    private static final String RECIPIENT_DELIMITER = ",";
+
+    @Id
+    @Column(name = "mail_outbox_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @Column(columnDefinition = "TEXT")
+    private String recipients;
+
+    /* 대량 발송 메일은 수신자끼리 주소가 보이지 않도록 BCC 로 보낸다 */
+    @NotNull
+    private Boolean bcc;
+
+    @NotNull
+    private String subject;
+
+    @NotNull
+    @Column(columnDefinition = "TEXT")
+    private String text;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    private MailOutboxStatus status = MailOutboxStatus.PENDING;
+
+    @NotNull
+    private Integer attemptCount = 0;
+
+    @NotNull
+    private LocalDateTime nextAttemptAt;
+
+    private String lastError;
+
+    private LocalDateTime sentAt;
+
+    @Builder
+    private MailOutbox(String recipients, Boolean bcc, String subject, String text, LocalDateTime nextAttemptAt) {
+        this.recipients = recipients;
+        this.bcc = bcc;
+        this.subject = subject;
+        this.text = text;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public static MailOutbox from(SimpleMailMessage message) {
+        final boolean bcc = message.getTo() == null || message.getTo().length == 0;
+        final String[] recipients = bcc ? message.getBcc() : message.getTo();
+
+        return MailOutbox.builder()
+                .recipients(String.join(RECIPIENT_DELIMITER, recipients))
+                .bcc(bcc)
+                .subject(message.getSubject())
+                .text(message.getText())
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    public SimpleMailMessage toMailMessage() {
+        SimpleMailMessage message = new SimpleMailMessage();
+        String[] recipientArray = Arrays.stream(recipients.split(RECIPIENT_DELIMITER))
+                .filter(recipient -> !recipient.isBlank())
+                .toArray(String[]::new);
+
+        if (bcc) message.setBcc(recipientArray);
+        else message.setTo(recipientArray);
+        message.setSubject(subject);
+        message.setText(text);
+
+        return message;
+    }
+
+    /* 발송 중인 서버가 죽어도 lease 가 끝나면 다른 워커가 다시 가져간다 */
+    public void claim(LocalDateTime leaseUntil) {
+        this.status = MailOutboxStatus.SENDING;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public void markSent(LocalDateTime now) {
+        this.status = MailOutboxStatus.SENT;
+        this.sentAt = now;
+        this.lastError = null;
+    }
+
+    public void markFailed(String error, LocalDateTime retryAt, int maxAttempts) {
+        this.attemptCount++;
+        this.lastError = (error != null && error.length() > 255) ? error.substring(0, 255) : error;
+        if (attemptCount >= maxAttempts) {
+            this.status = MailOutboxStatus.FAILED;
+        } else {
+            this.status = MailOutboxStatus.PENDING;
+            this.nextAttemptAt = retryAt;
+        }
+    }
+}
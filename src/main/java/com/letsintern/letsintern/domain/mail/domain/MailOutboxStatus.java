@@ -0,0 +1,8 @@
+package com.letsintern.letsintern.domain.mail.domain;
+
+public enum MailOutboxStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,24 @@
+package com.letsintern.letsintern.domain.mail.exception;
+
+import com.letsintern.letsintern.global.common.dto.ErrorReason;
+import com.letsintern.letsintern.global.error.BaseErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+
+@Getter
+@AllArgsConstructor
+public enum MailErrorCode implements BaseErrorCode {
+    MAIL_SEND_FAILED(SERVICE_UNAVAILABLE, "MAIL_503_1", "메일 발송에 실패했습니다. 잠시 후 다시 시도해주세요.");
+
+    private HttpStatus status;
+    private String code;
+    private String reason;
+
+    @Override
+    public ErrorReason getErrorReason() {
+        return ErrorReason.of(status.value(), code, reason);
+    }
+}
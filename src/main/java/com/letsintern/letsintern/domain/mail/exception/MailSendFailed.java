@@ -0,0 +1,12 @@
+package com.letsintern.letsintern.domain.mail.exception;
+
+import com.letsintern.letsintern.global.error.BaseErrorException;
+
+public class MailSendFailed extends BaseErrorException {
+
+    public static final MailSendFailed EXCEPTION = new MailSendFailed();
+
+    private MailSendFailed() {
+        super(MailErrorCode.MAIL_SEND_FAILED);
+    }
+}
@@ -0,0 +1,51 @@
+package com.letsintern.letsintern.domain.mail.helper;
+
+import com.letsintern.letsintern.domain.mail.domain.MailOutbox;
+import com.letsintern.letsintern.domain.mail.repository.MailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class MailOutboxHelper {
+
+    private final MailOutboxRepository mailOutboxRepository;
+
+    /* 호출한 쪽 트랜잭션에 참여 - 비즈니스 변경이 커밋될 때만 메일이 발송 대상이 된다 */
+    @Transactional
+    public void enqueue(SimpleMailMessage message) {
+        mailOutboxRepository.save(MailOutbox.from(message));
+    }
+
+    @Transactional
+    public List<MailOutbox> claim(int limit, LocalDateTime leaseUntil) {
+        List<MailOutbox> mailOutboxList = mailOutboxRepository.findDispatchableForUpdate(LocalDateTime.now(), limit);
+        mailOutboxList.forEach(mailOutbox -> mailOutbox.claim(leaseUntil));
+        return mailOutboxList;
+    }
+
+    @Transactional
+    public void markSent(List<Long> mailOutboxIdList) {
+        final LocalDateTime now = LocalDateTime.now();
+        mailOutboxRepository.findAllById(mailOutboxIdList).forEach(mailOutbox -> mailOutbox.markSent(now));
+    }
+
+    @Transactional
+    public void markFailed(Long mailOutboxId, String error, LocalDateTime retryAt, int maxAttempts) {
+        mailOutboxRepository.findById(mailOutboxId)
+                .ifPresent(mailOutbox -> mailOutbox.markFailed(error, retryAt, maxAttempts));
+    }
+
+    @Transactional
+    public int purgeSent(LocalDateTime sentBefore, int limit) {
+        List<Long> mailOutboxIdList = mailOutboxRepository.findSentIdsBefore(sentBefore, limit);
+        if (mailOutboxIdList.isEmpty()) return 0;
+        mailOutboxRepository.deleteAllByIdInBatch(mailOutboxIdList);
+        return mailOutboxIdList.size();
+    }
+}
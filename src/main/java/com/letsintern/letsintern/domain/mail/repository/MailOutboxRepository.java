@@ -0,0 +1,8 @@
+package com.letsintern.letsintern.domain.mail.repository;
+
+import com.letsintern.letsintern.domain.mail.domain.MailOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long>, MailOutboxRepositoryCustom {
+
+}
@@ -0,0 +1,13 @@
+package com.letsintern.letsintern.domain.mail.repository;
+
+import com.letsintern.letsintern.domain.mail.domain.MailOutbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MailOutboxRepositoryCustom {
+
+    List<MailOutbox> findDispatchableForUpdate(LocalDateTime now, int limit);
+
+    List<Long> findSentIdsBefore(LocalDateTime sentBefore, int limit);
+}
@@ -0,0 +1,51 @@
+package com.letsintern.letsintern.domain.mail.repository;
+
+import com.letsintern.letsintern.domain.mail.domain.MailOutbox;
+import com.letsintern.letsintern.domain.mail.domain.MailOutboxStatus;
+import com.letsintern.letsintern.domain.mail.domain.QMailOutbox;
+import com.letsintern.letsintern.global.common.util.QueryHintUtils;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class MailOutboxRepositoryImpl implements MailOutboxRepositoryCustom {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    /* 여러 서버가 동시에 가져가도 같은 행을 중복 발송하지 않도록 SKIP LOCKED 로 잠근다 */
+    @Override
+    public List<MailOutbox> findDispatchableForUpdate(LocalDateTime now, int limit) {
+        QMailOutbox qMailOutbox = QMailOutbox.mailOutbox;
+
+        return QueryHintUtils.skipLocked(jpaQueryFactory
+                        .selectFrom(qMailOutbox)
+                        .where(
+                                qMailOutbox.status.in(MailOutboxStatus.PENDING, MailOutboxStatus.SENDING),
+                                qMailOutbox.nextAttemptAt.loe(now)
+                        )
+                        .orderBy(qMailOutbox.id.asc())
+                        .limit(limit))
+                .fetch();
+    }
+
+    @Override
+    public List<Long> findSentIdsBefore(LocalDateTime sentBefore, int limit) {
+        QMailOutbox qMailOutbox = QMailOutbox.mailOutbox;
+
+        return jpaQueryFactory
+                .select(qMailOutbox.id)
+                .from(qMailOutbox)
+                .where(
+                        qMailOutbox.status.eq(MailOutboxStatus.SENT),
+                        qMailOutbox.sentAt.lt(sentBefore)
+                )
+                .orderBy(qMailOutbox.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+}
@@ -0,0 +1,31 @@
+package com.letsintern.letsintern.domain.mail.util;
+
+import com.letsintern.letsintern.domain.mail.exception.MailSendFailed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+/*
+ * 비밀 값이 들어간 메일 발송
+ * 본문이 DB 에 평문으로 남지 않도록 outbox 를 거치지 않고, 호출한 트랜잭션 안에서 바로 보낸다.
+ * 발송에 실패하면 예외로 트랜잭션을 롤백시켜 (예: 임시 비밀번호 변경) 사용자가 다시 요청할 수 있게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DirectMailSender {
+
+    private final JavaMailSender javaMailSender;
+
+    public void send(SimpleMailMessage message) {
+        try {
+            javaMailSender.send(message);
+        } catch (MailException e) {
+            log.warn("direct mail send failed: {}", message.getSubject(), e);
+            throw MailSendFailed.EXCEPTION;
+        }
+    }
+}
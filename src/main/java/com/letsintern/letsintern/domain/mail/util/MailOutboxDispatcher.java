@@ -0,0 +1,159 @@
+package com.letsintern.letsintern.domain.mail.util;
+
+import com.letsintern.letsintern.domain.mail.domain.MailOutbox;
+import com.letsintern.letsintern.domain.mail.helper.MailOutboxHelper;
+import com.letsintern.letsintern.global.common.lock.SchedulerLock;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * mail_outbox 를 비우는 발송 워커
+ * 가져온 메일을 묶음 단위로 워커 풀에 나눠 주고, 한 묶음은 SMTP 연결 하나로 연달아 보낸다.
+ * 실패한 메일은 지수 백오프로 재시도하고, 최대 횟수를 넘으면 FAILED 로 남긴다.
+ * 발송 완료(SENT) 행은 mail-outbox.sent-retention-days 가 지나면 삭제한다.
+ */
+@Slf4j
+@Component
+public class MailOutboxDispatcher {
+
+    private final MailOutboxHelper mailOutboxHelper;
+    private final JavaMailSender javaMailSender;
+    private final MailRateLimiter mailRateLimiter;
+    private final SchedulerLock schedulerLock;
+    private final ExecutorService workerPool;
+    private final int claimSize;
+    private final int connectionBatchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration retryBaseDelay;
+    private final Duration retryMaxDelay;
+    private final Duration sentRetention;
+    private final int purgeBatchSize;
+    private final long purgeLeaseMinutes;
+
+    public MailOutboxDispatcher(MailOutboxHelper mailOutboxHelper,
+                                JavaMailSender javaMailSender,
+                                SchedulerLock schedulerLock,
+                                @Value("${mail-outbox.worker-count:4}") int workerCount,
+                                @Value("${mail-outbox.claim-size:100}") int claimSize,
+                                @Value("${mail-outbox.connection-batch-size:20}") int connectionBatchSize,
+                                @Value("${mail-outbox.rate-per-second:10}") double ratePerSecond,
+                                @Value("${mail-outbox.max-attempts:6}") int maxAttempts,
+                                @Value("${mail-outbox.lease-seconds:300}") long leaseSeconds,
+                                @Value("${mail-outbox.retry-base-delay-seconds:30}") long retryBaseDelaySeconds,
+                                @Value("${mail-outbox.retry-max-delay-seconds:3600}") long retryMaxDelaySeconds,
+                                @Value("${mail-outbox.sent-retention-days:7}") long sentRetentionDays,
+                                @Value("${mail-outbox.purge-batch-size:1000}") int purgeBatchSize,
+                                @Value("${scheduler-lock.purge-lease-minutes:10}") long purgeLeaseMinutes) {
+        this.mailOutboxHelper = mailOutboxHelper;
+        this.javaMailSender = javaMailSender;
+        this.mailRateLimiter = new MailRateLimiter(ratePerSecond);
+        this.schedulerLock = schedulerLock;
+        this.workerPool = Executors.newFixedThreadPool(workerCount);
+        this.claimSize = claimSize;
+        this.connectionBatchSize = connectionBatchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.retryBaseDelay = Duration.ofSeconds(retryBaseDelaySeconds);
+        this.retryMaxDelay = Duration.ofSeconds(retryMaxDelaySeconds);
+        this.sentRetention = Duration.ofDays(sentRetentionDays);
+        this.purgeBatchSize = purgeBatchSize;
+        this.purgeLeaseMinutes = purgeLeaseMinutes;
+    }
+
+    /* 한 번에 한 묶음만 보낸다 - 밀린 메일이 많아도 스케줄러 스레드를 오래 붙잡지 않고 다음 주기에 이어서 처리 */
+    @Scheduled(fixedDelayString = "${mail-outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        List<MailOutbox> claimed = mailOutboxHelper.claim(claimSize, LocalDateTime.now().plus(lease));
+        if (claimed.isEmpty()) return;
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int from = 0; from < claimed.size(); from += connectionBatchSize) {
+            List<MailOutbox> chunk = claimed.subList(from, Math.min(from + connectionBatchSize, claimed.size()));
+            tasks.add(() -> {
+                sendChunk(chunk);
+                return null;
+            });
+        }
+
+        try {
+            workerPool.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /* 발송 완료 메일은 보관 기간이 지나면 지운다 (여러 서버 중 한 곳에서만) */
+    @Scheduled(cron = "${mail-outbox.purge-cron:0 20 5 * * ?}")
+    public void purgeSent() {
+        schedulerLock.runExclusively("mailOutboxPurge", Duration.ofMinutes(purgeLeaseMinutes), token -> {
+            final LocalDateTime sentBefore = LocalDateTime.now().minus(sentRetention);
+            long purged = 0;
+            int deleted;
+            do {
+                deleted = mailOutboxHelper.purgeSent(sentBefore, purgeBatchSize);
+                purged += deleted;
+            } while (deleted == purgeBatchSize);
+            if (purged > 0) log.info("mail outbox purged: {} sent rows before {}", purged, sentBefore);
+        });
+    }
+
+    private void sendChunk(List<MailOutbox> chunk) throws InterruptedException {
+        SimpleMailMessage[] messages = new SimpleMailMessage[chunk.size()];
+        for (int i = 0; i < chunk.size(); i++) {
+            mailRateLimiter.acquire();
+            messages[i] = chunk.get(i).toMailMessage();
+        }
+
+        Map<Object, Exception> failedMessages = new IdentityHashMap<>();
+        try {
+            javaMailSender.send(messages);
+        } catch (MailSendException e) {
+            failedMessages.putAll(e.getFailedMessages());
+            if (failedMessages.isEmpty()) Arrays.stream(messages).forEach(message -> failedMessages.put(message, e));
+        } catch (MailException e) {
+            Arrays.stream(messages).forEach(message -> failedMessages.put(message, e));
+        }
+
+        List<Long> sentIdList = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            MailOutbox mailOutbox = chunk.get(i);
+            Exception failure = failedMessages.get(messages[i]);
+            if (failure == null) {
+                sentIdList.add(mailOutbox.getId());
+                continue;
+            }
+
+            log.warn("mail outbox {} send failed (attempt {})", mailOutbox.getId(), mailOutbox.getAttemptCount() + 1, failure);
+            mailOutboxHelper.markFailed(mailOutbox.getId(), failure.getMessage(), retryAt(mailOutbox.getAttemptCount()), maxAttempts);
+        }
+        if (!sentIdList.isEmpty()) mailOutboxHelper.markSent(sentIdList);
+    }
+
+    private LocalDateTime retryAt(int attemptCount) {
+        Duration delay = retryBaseDelay.multipliedBy(1L << Math.min(attemptCount, 20));
+        if (delay.compareTo(retryMaxDelay) > 0) delay = retryMaxDelay;
+        return LocalDateTime.now().plus(delay);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workerPool.shutdown();
+        workerPool.awaitTermination(30, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,36 @@
+package com.letsintern.letsintern.domain.mail.util;
+
+/*
+ * SMTP 제공자 발송 한도를 넘지 않도록 초당 발송 수를 제한하는 토큰 버킷
+ * 워커 스레드끼리 공유하며, 토큰이 없으면 채워질 때까지 대기한다.
+ */
+public class MailRateLimiter {
+
+    private final double permitsPerSecond;
+    private final double maxPermits;
+    private double storedPermits;
+    private long lastRefillNanos;
+
+    public MailRateLimiter(double permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.maxPermits = Math.max(1, permitsPerSecond);
+        this.storedPermits = maxPermits;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            refill();
+            storedPermits -= 1;
+            waitNanos = storedPermits >= 0 ? 0 : (long) (-storedPermits / permitsPerSecond * 1_000_000_000L);
+        }
+        if (waitNanos > 0) Thread.sleep(waitNanos / 1_000_000, (int) (waitNanos % 1_000_000));
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        storedPermits = Math.min(maxPermits, storedPermits + (now - lastRefillNanos) / 1_000_000_000.0 * permitsPerSecond);
+        lastRefillNanos = now;
+    }
+}
@@ -9,11 +9,14 @@ import jakarta.annotation.Nullable;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
+/* attendanceCount 는 MissionAttendanceCounter 가 SQL 로 더하므로 변경된 컬럼만 update */
 @Entity
+@DynamicUpdate
 @Getter @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Mission {
@@ -0,0 +1,8 @@
+package com.letsintern.letsintern.domain.mission.event;
+
+public record MissionChangedEvent(Long programId) {
+
+    public static MissionChangedEvent of(Long programId) {
+        return new MissionChangedEvent(programId);
+    }
+}
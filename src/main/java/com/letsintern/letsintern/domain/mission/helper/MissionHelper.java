@@ -15,6 +15,7 @@ import com.letsintern.letsintern.domain.mission.domain.MissionDashboardListStatu
 import com.letsintern.letsintern.domain.mission.domain.MissionType;
 import com.letsintern.letsintern.domain.mission.dto.request.MissionCreateDTO;
 import com.letsintern.letsintern.domain.mission.dto.request.MissionUpdateDTO;
+import com.letsintern.letsintern.domain.mission.event.MissionChangedEvent;
 import com.letsintern.letsintern.domain.mission.exception.MissionCannotCheckDone;
 import com.letsintern.letsintern.domain.mission.exception.MissionCannotRefundDone;
 import com.letsintern.letsintern.domain.mission.exception.MissionCannotRefundDoneType;
@@ -26,6 +27,7 @@ import com.letsintern.letsintern.domain.program.domain.Program;
 import com.letsintern.letsintern.domain.program.exception.ProgramNotFound;
 import com.letsintern.letsintern.domain.program.repository.ProgramRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
@@ -45,6 +47,7 @@ public class MissionHelper {
     private final ProgramRepository programRepository;
     private final ContentsRepository contentsRepository;
     private final AttendanceRepository attendanceRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Long createMission(Long programId, MissionCreateDTO missionCreateDTO) {
         final Program program = programRepository.findById(programId).orElseThrow(() -> ProgramNotFound.EXCEPTION);
@@ -52,7 +55,9 @@ public class MissionHelper {
         final Contents additionalContents = (missionCreateDTO.getAdditionalContentsTopic() != null) ? contentsRepository.findOneByTypeAndTopicOrderByIdDesc(ContentsType.ADDITIONAL, missionCreateDTO.getAdditionalContentsTopic()).orElseThrow(() -> AdditionalContentsNotFound.EXCEPTION) : null;
         final Contents limitedContents = (missionCreateDTO.getLimitedContentsTopic() != null) ? contentsRepository.findOneByTypeAndTopicOrderByIdDesc(ContentsType.LIMITED, missionCreateDTO.getLimitedContentsTopic()).orElseThrow(() -> LimitedContentsNotFound.EXCEPTION) : null;
 
-        return missionRepository.save(missionMapper.toEntity(program, missionCreateDTO, essentialContents, additionalContents, limitedContents)).getId();
+        final Long missionId = missionRepository.save(missionMapper.toEntity(program, missionCreateDTO, essentialContents, additionalContents, limitedContents)).getId();
+        eventPublisher.publishEvent(MissionChangedEvent.of(program.getId()));
+        return missionId;
     }
 
 
@@ -133,18 +138,24 @@ public class MissionHelper {
             }
         }
 
+        eventPublisher.publishEvent(MissionChangedEvent.of(mission.getProgram().getId()));
         return mission.getId();
     }
 
     public void deleteMission(Long missionId) {
         Mission mission = missionRepository.findById(missionId).orElseThrow(() -> MissionNotFound.EXCEPTION);
         missionRepository.delete(mission);
+        eventPublisher.publishEvent(MissionChangedEvent.of(mission.getProgram().getId()));
     }
 
     public MissionDashboardVo getDailyMission(Long programId) {
         return missionRepository.getDailyMission(programId).orElse(null);
     }
 
+    public List<MissionScheduleVo> getMissionScheduleList(Long programId) {
+        return missionRepository.getMissionScheduleList(programId);
+    }
+
     public MissionMyDashboardVo getDailyMissionDetail(Long programId, Long userId) {
         return missionRepository.getDailyMissionDetail(programId, userId).orElse(null);
     }
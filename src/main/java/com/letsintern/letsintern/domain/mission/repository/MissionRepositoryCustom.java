@@ -29,5 +29,13 @@ public interface MissionRepositoryCustom {
 
     Optional<MissionDashboardVo> getDailyMission(Long programId);
 
+    List<MissionScheduleVo> getMissionScheduleList(Long programId);
+
     Optional<MissionMyDashboardVo> getDailyMissionDetail(Long programId, Long userId);
+
+    void increaseAttendanceCount(Long missionId, long attendanceDelta, long lateAttendanceDelta);
+
+    List<Long> findAttendanceCountDriftedIds();
+
+    long reconcileAttendanceCount(Long missionId);
 }
@@ -1,9 +1,13 @@
 package com.letsintern.letsintern.domain.mission.repository;
 
+import com.letsintern.letsintern.domain.attendance.domain.AttendanceStatus;
 import com.letsintern.letsintern.domain.contents.domain.QContents;
 import com.letsintern.letsintern.domain.mission.vo.*;
+import com.letsintern.letsintern.global.common.util.QueryHintUtils;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -118,7 +122,7 @@ public class MissionRepositoryImpl implements MissionRepositoryCustom {
 
     @Override
     public List<MissionDashboardListVo> getMissionDashboardList(Long programId, Long userId) {
-        return jpaQueryFactory
+        return QueryHintUtils.readOnly(jpaQueryFactory
                 .select(Projections.constructor(MissionDashboardListVo.class,
                         mission.id,
                         mission.th,
@@ -128,7 +132,9 @@ public class MissionRepositoryImpl implements MissionRepositoryCustom {
                         mission.endDate,
                         mission.comments,
                         mission.refund,
-                        attendance))
+                        attendance.status,
+                        attendance.result,
+                        attendance.isRefunded))
                 .from(mission)
                 .leftJoin(attendance)
                 .on(
@@ -136,20 +142,22 @@ public class MissionRepositoryImpl implements MissionRepositoryCustom {
                         attendance.user.id.eq(userId)
                 )
                 .where(mission.program.id.eq(programId))
-                .orderBy(mission.th.asc())
+                .orderBy(mission.th.asc()))
                 .fetch();
     }
 
     @Override
     public List<MissionMyDashboardListVo> getMissionMyDashboardList(Long programId, Long userId) {
-        return jpaQueryFactory
+        return QueryHintUtils.readOnly(jpaQueryFactory
                 .select(Projections.constructor(MissionMyDashboardListVo.class,
                         mission.id,
                         mission.th,
                         mission.title,
                         mission.status,
                         mission.type,
-                        attendance))
+                        attendance.status,
+                        attendance.result,
+                        attendance.isRefunded))
                 .from(mission)
                 .leftJoin(attendance)
                 .on(
@@ -157,7 +165,7 @@ public class MissionRepositoryImpl implements MissionRepositoryCustom {
                         attendance.user.id.eq(userId)
                 )
                 .where(mission.program.id.eq(programId))
-                .orderBy(mission.th.desc())
+                .orderBy(mission.th.desc()))
                 .fetch();
     }
 
@@ -255,6 +263,22 @@ public class MissionRepositoryImpl implements MissionRepositoryCustom {
                 .fetch();
     }
 
+    @Override
+    public List<MissionScheduleVo> getMissionScheduleList(Long programId) {
+        return jpaQueryFactory
+                .select(Projections.constructor(MissionScheduleVo.class,
+                        mission.id,
+                        mission.th,
+                        mission.title,
+                        mission.contents,
+                        mission.startDate,
+                        mission.endDate))
+                .from(mission)
+                .where(eqProgramId(programId))
+                .orderBy(mission.id.asc())
+                .fetch();
+    }
+
     @Override
     public Optional<MissionDashboardVo> getDailyMission(Long programId) {
         LocalDateTime now = LocalDateTime.now();
@@ -309,6 +333,55 @@ public class MissionRepositoryImpl implements MissionRepositoryCustom {
                 .fetchFirst());
     }
 
+    @Override
+    public void increaseAttendanceCount(Long missionId, long attendanceDelta, long lateAttendanceDelta) {
+        jpaQueryFactory
+                .update(mission)
+                .set(mission.attendanceCount, mission.attendanceCount.add((int) attendanceDelta))
+                .set(mission.lateAttendanceCount, mission.lateAttendanceCount.add((int) lateAttendanceDelta))
+                .where(mission.id.eq(missionId))
+                .execute();
+    }
+
+    @Override
+    public List<Long> findAttendanceCountDriftedIds() {
+        JPQLQuery<Integer> totalCount = JPAExpressions
+                .select(attendance.count().intValue())
+                .from(attendance)
+                .where(attendance.mission.id.eq(mission.id));
+
+        return jpaQueryFactory
+                .select(mission.id)
+                .from(mission)
+                .where(mission.attendanceCount.add(mission.lateAttendanceCount).ne(totalCount))
+                .fetch();
+    }
+
+    /* 잠금 없는 읽기로 센 뒤 덮어쓴다 (UPDATE 서브쿼리는 attendance 행을 잠가 대기 중인 출석과 교착될 수 있다) */
+    @Override
+    public long reconcileAttendanceCount(Long missionId) {
+        Long lateCount = jpaQueryFactory
+                .select(attendance.count())
+                .from(attendance)
+                .where(attendance.mission.id.eq(missionId), attendance.status.eq(AttendanceStatus.LATE))
+                .fetchOne();
+        Long onTimeCount = jpaQueryFactory
+                .select(attendance.count())
+                .from(attendance)
+                .where(attendance.mission.id.eq(missionId), attendance.status.ne(AttendanceStatus.LATE))
+                .fetchOne();
+
+        return jpaQueryFactory
+                .update(mission)
+                .set(mission.attendanceCount, onTimeCount.intValue())
+                .set(mission.lateAttendanceCount, lateCount.intValue())
+                .where(
+                        mission.id.eq(missionId),
+                        mission.attendanceCount.ne(onTimeCount.intValue()).or(mission.lateAttendanceCount.ne(lateCount.intValue()))
+                )
+                .execute();
+    }
+
     private BooleanExpression eqProgramId(Long programId) {
         return programId != null ? mission.program.id.eq(programId) : null;
     }
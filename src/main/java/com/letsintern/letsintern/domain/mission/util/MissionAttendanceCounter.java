@@ -0,0 +1,96 @@
+package com.letsintern.letsintern.domain.mission.util;
+
+import com.letsintern.letsintern.domain.attendance.event.AttendanceCreatedEvent;
+import com.letsintern.letsintern.domain.mission.repository.MissionRepository;
+import com.letsintern.letsintern.global.common.counter.CounterDeltaBuffer;
+import com.letsintern.letsintern.global.common.counter.CounterType;
+import com.letsintern.letsintern.global.common.lock.SchedulerLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/*
+ * Mission.attendanceCount / lateAttendanceCount 카운터
+ * 출석 제출이 몰리는 미션 행을 요청마다 갱신하지 않고 counter_delta 에 쌓았다가 주기적으로 더한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MissionAttendanceCounter {
+
+    private static final List<CounterType> COUNTER_TYPES = List.of(CounterType.MISSION_ATTENDANCE, CounterType.MISSION_LATE_ATTENDANCE);
+
+    private final MissionRepository missionRepository;
+    private final CounterDeltaBuffer counterDeltaBuffer;
+    private final TransactionTemplate transactionTemplate;
+    private final SchedulerLock schedulerLock;
+
+    @Value("${counter.flush-batch-size:1000}")
+    private int flushBatchSize;
+
+    @Value("${scheduler-lock.reconcile-lease-minutes:10}")
+    private long reconcileLeaseMinutes;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onAttendanceCreated(AttendanceCreatedEvent event) {
+        counterDeltaBuffer.add(event.late() ? CounterType.MISSION_LATE_ATTENDANCE : CounterType.MISSION_ATTENDANCE, event.missionId(), 1);
+    }
+
+    @Scheduled(fixedDelayString = "${counter.flush-interval-ms:5000}")
+    public void flush() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<CounterType, Map<Long, Long>> drained = counterDeltaBuffer.drain(COUNTER_TYPES, flushBatchSize);
+                Map<Long, Long> attendanceDrained = drained.getOrDefault(CounterType.MISSION_ATTENDANCE, Map.of());
+                Map<Long, Long> lateDrained = drained.getOrDefault(CounterType.MISSION_LATE_ATTENDANCE, Map.of());
+
+                Set<Long> missionIdSet = new HashSet<>(attendanceDrained.keySet());
+                missionIdSet.addAll(lateDrained.keySet());
+                missionIdSet.forEach(missionId -> missionRepository.increaseAttendanceCount(
+                        missionId,
+                        attendanceDrained.getOrDefault(missionId, 0L),
+                        lateDrained.getOrDefault(missionId, 0L)));
+            });
+        } catch (RuntimeException e) {
+            /* 롤백되면 변화량 행이 그대로 남아 다음 flush 에서 다시 반영된다 */
+            log.warn("mission attendance count flush failed, retry next time", e);
+        }
+    }
+
+    /* 실제 attendance 행 수와 합계가 다르거나 미반영 변화량이 남은 미션만 제출 상태(LATE 여부) 기준으로 다시 나눈다 */
+    @Scheduled(cron = "0 40 4 * * ?")
+    public void reconcile() {
+        schedulerLock.runExclusively("missionAttendanceCountReconcile", Duration.ofMinutes(reconcileLeaseMinutes), token -> {
+            Set<Long> missionIdSet = new TreeSet<>(missionRepository.findAttendanceCountDriftedIds());
+            missionIdSet.addAll(counterDeltaBuffer.findPendingTargetIds(COUNTER_TYPES));
+
+            long updated = 0;
+            for (Long missionId : missionIdSet) {
+                try {
+                    updated += transactionTemplate.execute(status -> reconcile(missionId));
+                } catch (RuntimeException e) {
+                    log.warn("mission {} attendance count reconcile failed", missionId, e);
+                }
+            }
+            if (updated > 0) log.info("mission attendance count reconciled: {} rows", updated);
+        });
+    }
+
+    /* 변화량을 먼저 잠가서 지운 뒤 재집계한다 (순서를 바꾸면 그 사이 커밋된 출석이 두 번 더해진다) */
+    private long reconcile(Long missionId) {
+        counterDeltaBuffer.discard(COUNTER_TYPES, missionId);
+        return missionRepository.reconcileAttendanceCount(missionId);
+    }
+}
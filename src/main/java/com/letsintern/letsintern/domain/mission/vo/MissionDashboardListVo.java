@@ -1,7 +1,6 @@
 package com.letsintern.letsintern.domain.mission.vo;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
-import com.letsintern.letsintern.domain.attendance.domain.Attendance;
 import com.letsintern.letsintern.domain.attendance.domain.AttendanceResult;
 import com.letsintern.letsintern.domain.attendance.domain.AttendanceStatus;
 import com.letsintern.letsintern.domain.mission.domain.MissionTopic;
@@ -39,7 +38,8 @@ public class MissionDashboardListVo {
 
     @Builder
     public MissionDashboardListVo(Long missionId, Integer missionTh, MissionTopic missionTopic, MissionType missionType,
-                                  LocalDateTime missionStartDate, LocalDateTime missionEndDate, String missionComments, Integer missionRefund, Attendance attendance) {
+                                  LocalDateTime missionStartDate, LocalDateTime missionEndDate, String missionComments, Integer missionRefund,
+                                  AttendanceStatus attendanceStatus, AttendanceResult attendanceResult, Boolean attendanceIsRefunded) {
         this.missionId = missionId;
         this.missionTh = missionTh;
         this.missionTopic = missionTopic.getValue();
@@ -48,11 +48,12 @@ public class MissionDashboardListVo {
         this.missionEndDate = missionEndDate;
         this.missionRefund = missionRefund;
 
-        if(attendance != null) {
-            this.attendanceStatus = attendance.getStatus();
-            this.attendanceResult = attendance.getResult();
-            this.attendanceIsRefunded = attendance.getIsRefunded();
-            if(attendance.getStatus().equals(AttendanceStatus.PRESENT) && attendance.getResult().equals(AttendanceResult.PASS)) {
+        /* left join 결과 출석 컬럼이 비어 있으면 미제출 */
+        if(attendanceStatus != null) {
+            this.attendanceStatus = attendanceStatus;
+            this.attendanceResult = attendanceResult;
+            this.attendanceIsRefunded = attendanceIsRefunded;
+            if(attendanceStatus.equals(AttendanceStatus.PRESENT) && AttendanceResult.PASS.equals(attendanceResult)) {
                 this.missionComments = missionComments;
             }
         } else {
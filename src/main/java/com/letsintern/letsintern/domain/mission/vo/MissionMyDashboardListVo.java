@@ -1,6 +1,5 @@
 package com.letsintern.letsintern.domain.mission.vo;
 
-import com.letsintern.letsintern.domain.attendance.domain.Attendance;
 import com.letsintern.letsintern.domain.attendance.domain.AttendanceResult;
 import com.letsintern.letsintern.domain.attendance.domain.AttendanceStatus;
 import com.letsintern.letsintern.domain.mission.domain.MissionStatus;
@@ -28,17 +27,18 @@ public class MissionMyDashboardListVo {
     private Boolean attendanceIsRefunded;
 
     @Builder
-    public MissionMyDashboardListVo(Long id, Integer th, String title, MissionStatus missionStatus, MissionType missionType, Attendance attendance) {
+    public MissionMyDashboardListVo(Long id, Integer th, String title, MissionStatus missionStatus, MissionType missionType,
+                                    AttendanceStatus attendanceStatus, AttendanceResult attendanceResult, Boolean attendanceIsRefunded) {
         this.id = id;
         this.th = th;
         this.title = title;
         this.missionStatus = missionStatus;
         this.missionType = missionType;
 
-        if(attendance != null) {
-            this.attendanceStatus = attendance.getStatus();
-            this.attendanceResult = attendance.getResult();
-            this.attendanceIsRefunded = attendance.getIsRefunded();
+        if(attendanceStatus != null) {
+            this.attendanceStatus = attendanceStatus;
+            this.attendanceResult = attendanceResult;
+            this.attendanceIsRefunded = attendanceIsRefunded;
         } else {
             this.attendanceStatus = AttendanceStatus.ABSENT;
         }
@@ -0,0 +1,47 @@
+package com.letsintern.letsintern.domain.mission.vo;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class MissionScheduleVo {
+
+    private Long id;
+
+    private Integer th;
+
+    private String title;
+
+    private String contents;
+
+    private LocalDateTime startDate;
+
+    private LocalDateTime endDate;
+
+    @Builder
+    public MissionScheduleVo(Long id, Integer th, String title, String contents, LocalDateTime startDate, LocalDateTime endDate) {
+        this.id = id;
+        this.th = th;
+        this.title = title;
+        this.contents = contents;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    /* MissionRepositoryImpl.inProgress 와 같은 기준 (마감 후 6시간까지 데일리 미션으로 노출) */
+    public boolean isInProgress(LocalDateTime now) {
+        return startDate.isBefore(now) && endDate.isAfter(now.minusHours(6));
+    }
+
+    public MissionDashboardVo toMissionDashboardVo() {
+        return MissionDashboardVo.builder()
+                .id(id)
+                .th(th)
+                .title(title)
+                .contents(contents)
+                .endDate(endDate)
+                .build();
+    }
+}
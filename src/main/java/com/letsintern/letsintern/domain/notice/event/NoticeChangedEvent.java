@@ -0,0 +1,8 @@
+package com.letsintern.letsintern.domain.notice.event;
+
+public record NoticeChangedEvent(Long programId) {
+
+    public static NoticeChangedEvent of(Long programId) {
+        return new NoticeChangedEvent(programId);
+    }
+}
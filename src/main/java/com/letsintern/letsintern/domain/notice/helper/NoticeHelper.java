@@ -3,17 +3,22 @@ package com.letsintern.letsintern.domain.notice.helper;
 import com.letsintern.letsintern.domain.notice.domain.Notice;
 import com.letsintern.letsintern.domain.notice.dto.request.NoticeCreateDTO;
 import com.letsintern.letsintern.domain.notice.dto.request.NoticeUpdateDTO;
+import com.letsintern.letsintern.domain.notice.event.NoticeChangedEvent;
 import com.letsintern.letsintern.domain.notice.exception.NoticeNotFound;
 import com.letsintern.letsintern.domain.notice.mapper.NoticeMapper;
 import com.letsintern.letsintern.domain.notice.repository.NoticeRepository;
+import com.letsintern.letsintern.domain.notice.vo.NoticeVo;
 import com.letsintern.letsintern.domain.program.domain.Program;
 import com.letsintern.letsintern.domain.program.exception.ProgramNotFound;
 import com.letsintern.letsintern.domain.program.repository.ProgramRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class NoticeHelper {
@@ -21,10 +26,13 @@ public class NoticeHelper {
     private final NoticeRepository noticeRepository;
     private final NoticeMapper noticeMapper;
     private final ProgramRepository programRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Long createNotice(Long programId, NoticeCreateDTO noticeCreateDTO) {
         final Program program = programRepository.findById(programId).orElseThrow(() -> ProgramNotFound.EXCEPTION);
-        return noticeRepository.save(noticeMapper.toEntity(program, noticeCreateDTO)).getId();
+        final Long noticeId = noticeRepository.save(noticeMapper.toEntity(program, noticeCreateDTO)).getId();
+        eventPublisher.publishEvent(NoticeChangedEvent.of(program.getId()));
+        return noticeId;
     }
 
     public Long updateNotice(Long noticeId, NoticeUpdateDTO noticeUpdateDTO) {
@@ -35,16 +43,25 @@ public class NoticeHelper {
             notice.setTitle(noticeUpdateDTO.getTitle());
         if(noticeUpdateDTO.getLink() != null)
             notice.setLink(noticeUpdateDTO.getLink());
+        eventPublisher.publishEvent(NoticeChangedEvent.of(notice.getProgram().getId()));
         return notice.getId();
     }
 
     public void deleteNotice(Long noticeId) {
         Notice notice = noticeRepository.findById(noticeId).orElseThrow(() -> NoticeNotFound.EXCEPTION);
         noticeRepository.delete(notice);
+        eventPublisher.publishEvent(NoticeChangedEvent.of(notice.getProgram().getId()));
     }
 
     public Page<Notice> getNoticeList(Long programId, Pageable pageable) {
         final Program program = programRepository.findById(programId).orElseThrow(() -> ProgramNotFound.EXCEPTION);
         return noticeRepository.findAllByProgramIdOrderByIdDesc(programId, pageable);
     }
+
+    /* 캐시 보관용: 엔티티 대신 불변 목록으로 변환한다 */
+    public List<NoticeVo> getNoticeVoList(Long programId, Pageable pageable) {
+        return getNoticeList(programId, pageable).getContent().stream()
+                .map(NoticeVo::from)
+                .toList();
+    }
 }
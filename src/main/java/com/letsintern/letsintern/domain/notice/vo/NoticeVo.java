@@ -0,0 +1,37 @@
+package com.letsintern.letsintern.domain.notice.vo;
+
+import com.letsintern.letsintern.domain.notice.domain.Notice;
+import com.letsintern.letsintern.domain.notice.domain.NoticeType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+public class NoticeVo {
+
+    private Long id;
+    private NoticeType type;
+    private String title;
+    private String link;
+    private LocalDate createdAt;
+
+    @Builder
+    public NoticeVo(Long id, NoticeType type, String title, String link, LocalDate createdAt) {
+        this.id = id;
+        this.type = type;
+        this.title = title;
+        this.link = link;
+        this.createdAt = createdAt;
+    }
+
+    public static NoticeVo from(Notice notice) {
+        return NoticeVo.builder()
+                .id(notice.getId())
+                .type(notice.getType())
+                .title(notice.getTitle())
+                .link(notice.getLink())
+                .createdAt(notice.getCreatedAt())
+                .build();
+    }
+}
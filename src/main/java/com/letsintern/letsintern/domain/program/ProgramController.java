@@ -8,6 +8,8 @@ import com.letsintern.letsintern.domain.program.dto.request.ProgramCreateRequest
 import com.letsintern.letsintern.domain.program.dto.request.ProgramUpdateRequestDTO;
 import com.letsintern.letsintern.domain.program.dto.response.*;
 import com.letsintern.letsintern.domain.program.service.ProgramService;
+import com.letsintern.letsintern.global.common.dto.CursorRequest;
+import com.letsintern.letsintern.global.common.dto.CursorSlice;
 import com.letsintern.letsintern.global.config.user.PrincipalDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -61,6 +63,14 @@ public class ProgramController {
         return programService.getProgramAdminList(type, th, pageable);
     }
 
+    @Operation(summary = "어드민 프로그램 전체 목록 (커서 페이지네이션)")
+    @GetMapping("/admin/cursor")
+    public CursorSlice<Program> getAdminProgramListByCursor(@RequestParam(required = false) Long cursor,
+                                                            @RequestParam(defaultValue = "20") int size,
+                                                            @RequestParam(defaultValue = "false") boolean withCount) {
+        return programService.getProgramAdminListByCursor(CursorRequest.of(cursor, size, withCount));
+    }
+
     @Operation(summary = "어드민 유저 1명의 프로그램 목록")
     @GetMapping("/admin/user/{userId}")
     public UserProgramVoResponse getAdminUserProgramList(
@@ -129,6 +139,13 @@ public class ProgramController {
         return programService.getEmailTemplate(programId, mailType);
     }
 
+    @Operation(summary = "어드민 프로그램 안내 메일 미리보기")
+    @GetMapping("/admin/{programId}/email/preview")
+    public ProgramMailPreviewResponse getEmailPreview(@PathVariable Long programId,
+                                                      @RequestParam MailType mailType) {
+        return programService.getEmailPreview(programId, mailType);
+    }
+
     @Operation(summary = "유저 챌린지 대시보드 - 대시보드")
     @GetMapping("/{programId}/dashboard")
     public ProgramDashboardResponse getProgramDashboard(@PathVariable Long programId,
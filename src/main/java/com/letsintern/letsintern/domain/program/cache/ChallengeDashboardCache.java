@@ -0,0 +1,85 @@
+package com.letsintern.letsintern.domain.program.cache;
+
+import com.letsintern.letsintern.domain.attendance.event.AttendanceChangedEvent;
+import com.letsintern.letsintern.domain.mission.event.MissionChangedEvent;
+import com.letsintern.letsintern.domain.mission.vo.MissionDashboardListVo;
+import com.letsintern.letsintern.domain.notice.event.NoticeChangedEvent;
+import com.letsintern.letsintern.domain.notice.vo.NoticeVo;
+import com.letsintern.letsintern.domain.program.event.ProgramChangedEvent;
+import com.letsintern.letsintern.domain.program.vo.ChallengeDashboardVo;
+import com.letsintern.letsintern.global.common.cache.TieredCache;
+import com.letsintern.letsintern.global.common.cache.TieredCacheFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/*
+ * 챌린지 대시보드 읽기 모델
+ * - 프로그램 단위: 미션 일정, 회차 별 통과 인원, 환급금 정보 (참여자 전원 공유)
+ * - 참여자 단위: 미션 x 출석 현황
+ * - 공지사항 페이지
+ * 출석 제출/채점, 미션 수정, 공지 변경 이벤트가 커밋된 뒤 해당 범위만 비운다.
+ */
+@Component
+public class ChallengeDashboardCache {
+
+    private final TieredCache<ChallengeDashboardVo> programCache;
+    private final TieredCache<List<MissionDashboardListVo>> missionListCache;
+    private final TieredCache<List<NoticeVo>> noticeCache;
+
+    public ChallengeDashboardCache(TieredCacheFactory tieredCacheFactory,
+                                   @Value("${cache.challenge-dashboard.program-max-size:200}") long programMaxSize,
+                                   @Value("${cache.challenge-dashboard.participant-max-size:20000}") long participantMaxSize,
+                                   @Value("${cache.challenge-dashboard.local-ttl-seconds:600}") long localTtlSeconds) {
+        Duration localTtl = Duration.ofSeconds(localTtlSeconds);
+        this.programCache = tieredCacheFactory.localOnly("challenge-dashboard", programMaxSize, localTtl);
+        this.missionListCache = tieredCacheFactory.localOnly("challenge-dashboard-mission", participantMaxSize, localTtl);
+        this.noticeCache = tieredCacheFactory.localOnly("challenge-dashboard-notice", programMaxSize, localTtl);
+    }
+
+    public ChallengeDashboardVo getChallengeDashboard(Long programId, Supplier<ChallengeDashboardVo> loader) {
+        return programCache.get(String.valueOf(programId), loader);
+    }
+
+    /* loader 안에서 참여자 검증까지 수행하므로 캐시에 있으면 검증된 참여자다 */
+    public List<MissionDashboardListVo> getMissionDashboardList(Long programId, Long userId, Supplier<List<MissionDashboardListVo>> loader) {
+        return missionListCache.get(participantKey(programId, userId), loader);
+    }
+
+    public List<NoticeVo> getNoticeList(Long programId, Pageable pageable, Supplier<List<NoticeVo>> loader) {
+        return noticeCache.get(programId + ":" + pageable.getPageNumber() + ":" + pageable.getPageSize(), loader);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAttendanceChanged(AttendanceChangedEvent event) {
+        missionListCache.evict(participantKey(event.programId(), event.userId()));
+        if (event.graded()) programCache.evict(String.valueOf(event.programId()));
+    }
+
+    /* 미션 변경은 어드민 작업이라 드물어서 참여자 캐시는 전체를 비운다 */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMissionChanged(MissionChangedEvent event) {
+        programCache.evict(String.valueOf(event.programId()));
+        missionListCache.evictAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        noticeCache.evictAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProgramChanged(ProgramChangedEvent event) {
+        if (event.programId() == null) programCache.evictAll();
+        else programCache.evict(String.valueOf(event.programId()));
+    }
+
+    private String participantKey(Long programId, Long userId) {
+        return programId + ":" + userId;
+    }
+}
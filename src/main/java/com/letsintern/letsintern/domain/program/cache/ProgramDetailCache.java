@@ -0,0 +1,44 @@
+package com.letsintern.letsintern.domain.program.cache;
+
+import com.letsintern.letsintern.domain.faq.event.FaqChangedEvent;
+import com.letsintern.letsintern.domain.program.event.ProgramChangedEvent;
+import com.letsintern.letsintern.domain.program.vo.ProgramDetailSnapshotVo;
+import com.letsintern.letsintern.global.common.cache.TieredCache;
+import com.letsintern.letsintern.global.common.cache.TieredCacheFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+@Component
+public class ProgramDetailCache {
+
+    private static final String CACHE_NAME = "program-detail";
+
+    private final TieredCache<ProgramDetailSnapshotVo> cache;
+
+    public ProgramDetailCache(TieredCacheFactory tieredCacheFactory,
+                              @Value("${cache.program-detail.local-max-size:300}") long localMaxSize,
+                              @Value("${cache.program-detail.local-ttl-seconds:60}") long localTtlSeconds) {
+        this.cache = tieredCacheFactory.localOnly(CACHE_NAME, ProgramDetailSnapshotVo.class,
+                localMaxSize, Duration.ofSeconds(localTtlSeconds));
+    }
+
+    public ProgramDetailSnapshotVo get(Long programId, Supplier<ProgramDetailSnapshotVo> loader) {
+        return cache.get(String.valueOf(programId), loader);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProgramChanged(ProgramChangedEvent event) {
+        if (event.programId() == null) cache.evictAll();
+        else cache.evict(String.valueOf(event.programId()));
+    }
+
+    /* FAQ 는 여러 프로그램에 공유되므로 전체 무효화 */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFaqChanged(FaqChangedEvent event) {
+        cache.evictAll();
+    }
+}
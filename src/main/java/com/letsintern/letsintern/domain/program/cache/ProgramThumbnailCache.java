@@ -0,0 +1,46 @@
+package com.letsintern.letsintern.domain.program.cache;
+
+import com.letsintern.letsintern.domain.program.event.ProgramChangedEvent;
+import com.letsintern.letsintern.domain.program.vo.ProgramThumbnailPageVo;
+import com.letsintern.letsintern.global.common.cache.TieredCache;
+import com.letsintern.letsintern.global.common.cache.TieredCacheFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+@Component
+public class ProgramThumbnailCache {
+
+    private static final String CACHE_NAME = "program-thumbnail";
+    private static final String ALL_TYPE = "ALL";
+
+    private final TieredCache<ProgramThumbnailPageVo> cache;
+
+    public ProgramThumbnailCache(TieredCacheFactory tieredCacheFactory,
+                                 @Value("${cache.program-thumbnail.local-max-size:500}") long localMaxSize,
+                                 @Value("${cache.program-thumbnail.local-ttl-seconds:60}") long localTtlSeconds,
+                                 @Value("${cache.program-thumbnail.redis-enabled:false}") boolean redisEnabled,
+                                 @Value("${cache.program-thumbnail.redis-ttl-seconds:600}") long redisTtlSeconds) {
+        this.cache = tieredCacheFactory.create(CACHE_NAME, ProgramThumbnailPageVo.class,
+                localMaxSize, Duration.ofSeconds(localTtlSeconds),
+                redisEnabled, Duration.ofSeconds(redisTtlSeconds));
+    }
+
+    public ProgramThumbnailPageVo get(String type, Pageable pageable, Supplier<ProgramThumbnailPageVo> loader) {
+        return cache.get(toKey(type, pageable), loader);
+    }
+
+    /* 노출 여부, 상태, 타입 변경이 어느 페이지에 영향을 줄지 알 수 없으므로 전체 무효화 */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProgramChanged(ProgramChangedEvent event) {
+        cache.evictAll();
+    }
+
+    private String toKey(String type, Pageable pageable) {
+        return (type == null ? ALL_TYPE : type) + ":" + pageable.getPageNumber() + ":" + pageable.getPageSize();
+    }
+}
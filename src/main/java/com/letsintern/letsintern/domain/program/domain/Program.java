@@ -13,13 +13,18 @@ import jakarta.annotation.Nullable;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.letsintern.letsintern.global.utils.EntityUpdateValueUtils.updateValue;
 
+/* applicationCount 는 ProgramApplicationCounter 가 SQL 로 더하므로 변경된 컬럼만 update */
 @Entity
+@DynamicUpdate
+@Table(indexes = @Index(name = "idx_program_next_transition_at", columnList = "next_transition_at"))
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -100,6 +105,16 @@ public class Program {
     @NotNull
     private Boolean isVisible = false;
 
+    /* 마감(모집/발표/입금/종료)에 따른 다음 상태 전환 처리 시각, ProgramTransitionScheduler 가 이 시각 순으로 처리한다 */
+    @JsonIgnore
+    @Nullable
+    private LocalDateTime nextTransitionAt;
+
+    /* 연속으로 실패한 상태 전환 횟수, 재시도 간격과 중단 여부를 정한다 */
+    @JsonIgnore
+    @NotNull
+    private Integer transitionFailCount = 0;
+
     @NotNull
     @Enumerated(EnumType.STRING)
     private ProgramFeeType feeType;
@@ -171,6 +186,8 @@ public class Program {
         this.notice = notice;
         this.faqListStr = StringUtils.listToString(faqIdList);
         this.feeType = feeType;
+        this.nextTransitionAt = LocalDateTime.now();
+        this.transitionFailCount = 0;
 
         // 이용료 or 보증금 프로그램
         if (feeType.equals(ProgramFeeType.CHARGE) || feeType.equals(ProgramFeeType.REFUND)) {
@@ -232,14 +249,6 @@ public class Program {
                 .build();
     }
 
-    public void increaseProgramApplicationCount() {
-        this.applicationCount++;
-    }
-
-    public void decreaseProgramApplicationCount() {
-        this.applicationCount--;
-    }
-
     public void updateProgramInfo(ProgramUpdateRequestDTO programUpdateRequestDTO,
                                   ProgramStatus programStatus,
                                   String stringFaqList) {
@@ -270,6 +279,50 @@ public class Program {
         this.topic = updateValue(this.topic, programUpdateRequestDTO.getTopic());
         this.openKakaoLink = updateValue(this.openKakaoLink, programUpdateRequestDTO.getOpenKakaoLink());
         this.openKakaoPassword = updateValue(this.openKakaoPassword, programUpdateRequestDTO.getOpenKakaoPassword());
+        requestTransition(LocalDateTime.now());
+    }
+
+    /* 날짜나 지원서 상태가 바뀌어 이미 지난 마감도 다시 적용해야 할 때 */
+    public void requestTransition(LocalDateTime now) {
+        if (this.nextTransitionAt == null || this.nextTransitionAt.isAfter(now)) this.nextTransitionAt = now;
+        this.transitionFailCount = 0;
+    }
+
+    /* now 까지의 마감을 모두 처리한 뒤 호출: 현재 상태에서 앞으로 남은 가장 이른 마감 */
+    public void scheduleNextTransition(LocalDateTime now) {
+        this.transitionFailCount = 0;
+        this.nextTransitionAt = switch (this.status) {
+            case OPEN -> this.dueDate;
+            case CLOSED -> earliestAfter(now, this.announcementDate,
+                    this.feeType == ProgramFeeType.FREE ? null : this.feeDueDate, this.endDate);
+            case DONE -> null;
+        };
+    }
+
+    /*
+     * 전환이 실패했을 때 호출: 실패할 때마다 재시도 간격을 두 배로 늘리고 (최대 maxDelay),
+     * maxAttempts 번 연속 실패하면 날짜 수정 등으로 다시 요청될 때까지 전환을 멈춘다.
+     * 다시 시도할 예정이면 true
+     */
+    public boolean deferTransition(LocalDateTime now, Duration baseDelay, Duration maxDelay, int maxAttempts) {
+        this.transitionFailCount++;
+        if (this.transitionFailCount >= maxAttempts) {
+            this.nextTransitionAt = null;
+            return false;
+        }
+
+        final Duration delay = baseDelay.multipliedBy(1L << Math.min(this.transitionFailCount - 1, 20));
+        this.nextTransitionAt = now.plus(delay.compareTo(maxDelay) > 0 ? maxDelay : delay);
+        return true;
+    }
+
+    private static LocalDateTime earliestAfter(LocalDateTime now, LocalDateTime... deadlines) {
+        LocalDateTime earliest = null;
+        for (LocalDateTime deadline : deadlines) {
+            if (deadline == null || !deadline.isAfter(now)) continue;
+            if (earliest == null || deadline.isBefore(earliest)) earliest = deadline;
+        }
+        return earliest;
     }
 
 }
@@ -2,12 +2,10 @@ package com.letsintern.letsintern.domain.program.dto.response;
 
 import com.letsintern.letsintern.domain.mission.vo.MissionDashboardListVo;
 import com.letsintern.letsintern.domain.mission.vo.MissionDashboardVo;
-import com.letsintern.letsintern.domain.notice.domain.Notice;
+import com.letsintern.letsintern.domain.notice.vo.NoticeVo;
 import lombok.Builder;
 import lombok.Getter;
-import org.springframework.data.domain.Page;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Getter
@@ -16,7 +14,7 @@ public class ProgramDashboardResponse {
     private String userName;
     private MissionDashboardVo dailyMission;
 
-    private List<Notice> noticeList;
+    private List<NoticeVo> noticeList;
 
     private List<MissionDashboardListVo> missionList;
 
@@ -31,11 +29,11 @@ public class ProgramDashboardResponse {
     private Boolean isDone;
 
     @Builder
-    private ProgramDashboardResponse(String userName, MissionDashboardVo dailyMission, Page<Notice> noticeList, List<MissionDashboardListVo> missionList,
+    private ProgramDashboardResponse(String userName, MissionDashboardVo dailyMission, List<NoticeVo> noticeList, List<MissionDashboardListVo> missionList,
                                      Integer totalRefund, Integer currentRefund, Integer finalHeadCount, Integer previousHeadCount, Boolean isDone) {
         this.userName = userName;
         this.dailyMission = dailyMission;
-        this.noticeList = (noticeList.hasContent()) ? noticeList.getContent() : new ArrayList<>();
+        this.noticeList = noticeList;
         this.missionList = missionList;
         this.currentRefund = currentRefund;
         this.totalRefund = totalRefund;
@@ -44,7 +42,7 @@ public class ProgramDashboardResponse {
         this.isDone = isDone;
     }
 
-    public static ProgramDashboardResponse of(String userName, MissionDashboardVo dailyMission, Page<Notice> noticeList, List<MissionDashboardListVo> missionList,
+    public static ProgramDashboardResponse of(String userName, MissionDashboardVo dailyMission, List<NoticeVo> noticeList, List<MissionDashboardListVo> missionList,
                                               Integer totalRefund, Integer currentRefund, Integer finalHeadCount, Integer previousHeadCount, Boolean isDone) {
         return ProgramDashboardResponse.builder()
                 .userName(userName)
@@ -0,0 +1,26 @@
+package com.letsintern.letsintern.domain.program.dto.response;
+
+import com.letsintern.letsintern.global.common.mail.RenderedMail;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class ProgramMailPreviewResponse {
+
+    private String subject;
+
+    private String text;
+
+    @Builder
+    private ProgramMailPreviewResponse(String subject, String text) {
+        this.subject = subject;
+        this.text = text;
+    }
+
+    public static ProgramMailPreviewResponse from(RenderedMail renderedMail) {
+        return ProgramMailPreviewResponse.builder()
+                .subject(renderedMail.subject())
+                .text(renderedMail.text())
+                .build();
+    }
+}
@@ -0,0 +1,14 @@
+package com.letsintern.letsintern.domain.program.event;
+
+public record ProgramChangedEvent(
+        Long programId
+) {
+    /* 스케줄러 일괄 상태 변경처럼 대상 프로그램을 특정할 수 없는 경우 */
+    public static ProgramChangedEvent ofAll() {
+        return new ProgramChangedEvent(null);
+    }
+
+    public static ProgramChangedEvent of(Long programId) {
+        return new ProgramChangedEvent(programId);
+    }
+}
@@ -6,6 +6,8 @@ import com.letsintern.letsintern.domain.application.helper.ApplicationHelper;
 import com.letsintern.letsintern.domain.application.repository.ApplicationRepository;
 import com.letsintern.letsintern.domain.faq.repository.FaqRepository;
 import com.letsintern.letsintern.domain.faq.vo.FaqVo;
+import com.letsintern.letsintern.domain.program.cache.ProgramDetailCache;
+import com.letsintern.letsintern.domain.program.cache.ProgramThumbnailCache;
 import com.letsintern.letsintern.domain.program.domain.MailType;
 import com.letsintern.letsintern.domain.program.domain.Program;
 import com.letsintern.letsintern.domain.program.domain.ProgramStatus;
@@ -18,11 +20,17 @@ import com.letsintern.letsintern.domain.program.exception.ProgramNotFound;
 import com.letsintern.letsintern.domain.program.exception.RefundProgramCreateBadRequest;
 import com.letsintern.letsintern.domain.program.mapper.ProgramMapper;
 import com.letsintern.letsintern.domain.program.repository.ProgramRepository;
+import com.letsintern.letsintern.domain.program.vo.ProgramDetailSnapshotVo;
 import com.letsintern.letsintern.domain.program.vo.ProgramDetailVo;
+import com.letsintern.letsintern.domain.program.vo.ProgramThumbnailPageVo;
 import com.letsintern.letsintern.domain.program.vo.ProgramThumbnailVo;
 import com.letsintern.letsintern.domain.program.vo.UserProgramVo;
+import com.letsintern.letsintern.domain.review.helper.ReviewHelper;
 import com.letsintern.letsintern.domain.review.repository.ReviewRepository;
 import com.letsintern.letsintern.domain.review.vo.ReviewVo;
+import com.letsintern.letsintern.global.common.dto.CursorRequest;
+import com.letsintern.letsintern.global.common.dto.CursorSlice;
+import com.letsintern.letsintern.global.common.mail.RenderedMail;
 import com.letsintern.letsintern.global.common.util.EmailUtils;
 import com.letsintern.letsintern.global.common.util.StringUtils;
 import lombok.RequiredArgsConstructor;
@@ -32,7 +40,7 @@ import org.springframework.stereotype.Component;
 
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 
@@ -47,6 +55,9 @@ public class ProgramHelper {
     private final ApplicationRepository applicationRepository;
     private final ApplicationHelper applicationHelper;
     private final EmailUtils emailUtils;
+    private final ProgramThumbnailCache programThumbnailCache;
+    private final ProgramDetailCache programDetailCache;
+    private final ReviewHelper reviewHelper;
 
     public String generateRandomNumber() {
         SecureRandom secureRandom = new SecureRandom();
@@ -77,31 +88,44 @@ public class ProgramHelper {
     }
 
     public ProgramListDTO getProgramThumbnailList(String type, Pageable pageable) {
-        Page<ProgramThumbnailVo> programList;
-        if (type != null) programList = programRepository.findProgramThumbnailsByType(type, pageable);
-        else programList = programRepository.findProgramThumbnails(pageable);
+        ProgramThumbnailPageVo programPage = programThumbnailCache.get(type, pageable,
+                () -> ProgramThumbnailPageVo.from(findProgramThumbnailList(type, pageable)));
 
-        return programMapper.toProgramListDTO(programList);
+        return programMapper.toProgramListDTO(programPage.toPage(pageable));
+    }
+
+    private Page<ProgramThumbnailVo> findProgramThumbnailList(String type, Pageable pageable) {
+        if (type != null) return programRepository.findProgramThumbnailsByType(type, pageable);
+        return programRepository.findProgramThumbnails(pageable);
     }
 
     public ProgramDetailDTO getProgramDetailVo(Long programId, Long userId) {
-        ProgramDetailVo programDetailVo = findProgramDetailVoOrThrow(programId);
+        ProgramDetailSnapshotVo snapshot = programDetailCache.get(programId, () -> createProgramDetailSnapshot(programId));
+        ProgramDetailVo programDetailVo = snapshot.programDetailVo();
+        List<ReviewVo> reviewList = reviewHelper.getRecentReviewList(programDetailVo.getType());
 
-        List<Long> faqIdList = StringUtils.stringToList(programDetailVo.getFaqListStr());
-        List<FaqVo> faqList = new ArrayList<>();
-        for (Long id : faqIdList) {
-            faqList.add(faqRepository.findVoById(Long.valueOf(id)));
-        }
+        /* 회원 - 기존 신청 내역 존재 확인 */
+        boolean participated = userId != null && applicationHelper.checkUserApplicationExist(programId, userId);
+        return ProgramDetailDTO.of(programDetailVo, participated, snapshot.faqList(), reviewList, snapshot.wishJobList());
+    }
+
+    private ProgramDetailSnapshotVo createProgramDetailSnapshot(Long programId) {
+        ProgramDetailVo programDetailVo = findProgramDetailVoOrThrow(programId);
+        return ProgramDetailSnapshotVo.builder()
+                .programDetailVo(programDetailVo)
+                .faqList(findFaqListInOrder(programDetailVo.getFaqListStr()))
+                .wishJobList(ApplicationWishJob.getApplicationWishJobListByProgramTopic(programDetailVo.getTopic()))
+                .build();
+    }
 
-        List<ReviewVo> reviewList = reviewRepository.findAllVosByProgramType(programDetailVo.getType());
-        List<ApplicationWishJob> wishJobList = ApplicationWishJob.getApplicationWishJobListByProgramTopic(programDetailVo.getTopic());
+    /* IN 쿼리 1회로 조회 후 프로그램에 등록된 FAQ 순서대로 정렬 */
+    private List<FaqVo> findFaqListInOrder(String faqListStr) {
+        if (faqListStr == null || faqListStr.isBlank()) return List.of();
 
-        /* 회원 - 기존 신청 내역 존재 확인 */
-        if (userId != null && applicationHelper.checkUserApplicationExist(programId, userId)) {
-            return ProgramDetailDTO.of(programDetailVo, true, faqList, reviewList, wishJobList);
-        } else {
-            return ProgramDetailDTO.of(programDetailVo, false, faqList, reviewList, wishJobList);
-        }
+        List<Long> faqIdList = StringUtils.stringToList(faqListStr);
+        return faqRepository.findVoListByIdIn(faqIdList).stream()
+                .sorted(Comparator.comparingInt(faqVo -> faqIdList.indexOf(faqVo.getId())))
+                .toList();
     }
 
     public AdminProgramListDTO getAdminProgramList(String type, Integer th, Pageable pageable) {
@@ -116,6 +140,10 @@ public class ProgramHelper {
         return AdminProgramListDTO.from(programRepository.findAllAdmin(pageable));
     }
 
+    public CursorSlice<Program> getAdminProgramListByCursor(CursorRequest cursorRequest) {
+        return programRepository.findAllAdminByCursor(cursorRequest);
+    }
+
     public Page<UserProgramVo> getAdminUserProgramList(Long userId, Pageable pageable) {
         return applicationRepository.findAllProgramByUserId(userId, pageable);
     }
@@ -135,6 +163,10 @@ public class ProgramHelper {
         return null;
     }
 
+    public RenderedMail previewProgramMail(Program program, MailType mailType) {
+        return emailUtils.previewProgramMail(program, mailType);
+    }
+
     public String parseToFaqIdList(ProgramUpdateRequestDTO programUpdateRequestDTO) {
         if (Objects.isNull(programUpdateRequestDTO.getFaqIdList()))
             return null;
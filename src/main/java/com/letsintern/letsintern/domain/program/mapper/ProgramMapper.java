@@ -5,7 +5,7 @@ import com.letsintern.letsintern.domain.application.vo.ApplicationEntireDashboar
 import com.letsintern.letsintern.domain.mission.vo.MissionDashboardListVo;
 import com.letsintern.letsintern.domain.mission.vo.MissionDashboardVo;
 import com.letsintern.letsintern.domain.mission.vo.MissionMyDashboardVo;
-import com.letsintern.letsintern.domain.notice.domain.Notice;
+import com.letsintern.letsintern.domain.notice.vo.NoticeVo;
 import com.letsintern.letsintern.domain.program.domain.Program;
 import com.letsintern.letsintern.domain.program.dto.request.ProgramCreateRequestDTO;
 import com.letsintern.letsintern.domain.program.dto.response.*;
@@ -53,7 +53,7 @@ public class ProgramMapper {
         return UserProgramVoResponse.from(userProgramList);
     }
 
-    public ProgramDashboardResponse toProgramDashboardResponse(String userName, MissionDashboardVo dailyMission, Page<Notice> noticeList, List<MissionDashboardListVo> missionList,
+    public ProgramDashboardResponse toProgramDashboardResponse(String userName, MissionDashboardVo dailyMission, List<NoticeVo> noticeList, List<MissionDashboardListVo> missionList,
                                                                Integer totalRefund, Integer currentRefund, Integer finalHeadCount, Integer yesterdayHeadCount, Boolean isDone) {
         return ProgramDashboardResponse.of(userName, dailyMission, noticeList, missionList, totalRefund, currentRefund, finalHeadCount, yesterdayHeadCount, isDone);
     }
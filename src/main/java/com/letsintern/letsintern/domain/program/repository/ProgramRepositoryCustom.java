@@ -4,6 +4,8 @@ import com.letsintern.letsintern.domain.program.domain.MailStatus;
 import com.letsintern.letsintern.domain.program.domain.Program;
 import com.letsintern.letsintern.domain.program.vo.ProgramDetailVo;
 import com.letsintern.letsintern.domain.program.vo.ProgramThumbnailVo;
+import com.letsintern.letsintern.global.common.dto.CursorRequest;
+import com.letsintern.letsintern.global.common.dto.CursorSlice;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -22,6 +24,8 @@ public interface ProgramRepositoryCustom {
 
     Page<Program> findAllAdmin(Pageable pageable);
 
+    CursorSlice<Program> findAllAdminByCursor(CursorRequest cursorRequest);
+
     Page<Program> findAllAdminByTypeAndTh(String type, Integer th, Pageable pageable);
 
     Page<Program> findAllAdminByType(String type, Pageable pageable);
@@ -30,7 +34,14 @@ public interface ProgramRepositoryCustom {
 
     List<Program> findAllLetsChatByMailStatusAndStartDate(MailStatus mailStatus, LocalDate now);
 
-    List<Long> findProgramIdAndUpdateStatusToDone(LocalDateTime now);
 
-    void updateAllByDueDate(LocalDateTime now);
+    List<Long> findTransitionDueProgramIds(LocalDateTime now, int limit);
+
+    Optional<Program> findByIdForTransition(Long programId);
+
+    void increaseApplicationCount(Long programId, long delta);
+
+    List<Long> findApplicationCountDriftedIds();
+
+    long reconcileApplicationCount(Long programId);
 }
@@ -1,13 +1,19 @@
 package com.letsintern.letsintern.domain.program.repository;
 
+import com.letsintern.letsintern.domain.application.domain.QApplication;
 import com.letsintern.letsintern.domain.program.domain.*;
 import com.letsintern.letsintern.domain.program.vo.ProgramDetailVo;
 import com.letsintern.letsintern.domain.program.vo.ProgramThumbnailVo;
+import com.letsintern.letsintern.global.common.dto.CursorRequest;
+import com.letsintern.letsintern.global.common.dto.CursorSlice;
+import com.letsintern.letsintern.global.common.util.KeysetUtils;
+import com.letsintern.letsintern.global.common.util.QueryHintUtils;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -24,7 +30,6 @@ import java.util.Optional;
 public class ProgramRepositoryImpl implements ProgramRepositoryCustom {
 
     private final JPAQueryFactory jpaQueryFactory;
-    private final EntityManager em;
 
     @Override
     public Page<ProgramThumbnailVo> findProgramThumbnails(Pageable pageable) {
@@ -165,6 +170,23 @@ public class ProgramRepositoryImpl implements ProgramRepositoryCustom {
         return PageableExecutionUtils.getPage(programList, pageable, count::fetchOne);
     }
 
+    @Override
+    public CursorSlice<Program> findAllAdminByCursor(CursorRequest cursorRequest) {
+        QProgram qProgram = QProgram.program;
+
+        List<Program> programList = jpaQueryFactory
+                .selectFrom(qProgram)
+                .where(KeysetUtils.idBefore(qProgram.id, cursorRequest.cursor()))
+                .orderBy(qProgram.id.desc())
+                .limit(cursorRequest.fetchSize())
+                .fetch();
+
+        JPAQuery<Long> count = jpaQueryFactory.select(qProgram.count())
+                .from(qProgram);
+
+        return CursorSlice.of(programList, cursorRequest, Program::getId, count::fetchOne);
+    }
+
     @Override
     public Page<Program> findAllAdminByType(String type, Pageable pageable) {
         QProgram qProgram = QProgram.program;
@@ -269,38 +291,71 @@ public class ProgramRepositoryImpl implements ProgramRepositoryCustom {
     }
 
     @Override
-    public List<Long> findProgramIdAndUpdateStatusToDone(LocalDateTime now) {
+    public List<Long> findTransitionDueProgramIds(LocalDateTime now, int limit) {
         QProgram qProgram = QProgram.program;
 
-        List<Long> programIdList = jpaQueryFactory
-                .select(qProgram.id).from(qProgram)
-                .where(qProgram.status.eq(ProgramStatus.CLOSED), qProgram.endDate.before(now))
+        return jpaQueryFactory
+                .select(qProgram.id)
+                .from(qProgram)
+                .where(qProgram.nextTransitionAt.loe(now))
+                .orderBy(qProgram.nextTransitionAt.asc())
+                .limit(limit)
                 .fetch();
+    }
+
+    /* 다른 서버가 같은 프로그램을 처리 중이면 기다리지 않고 건너뛴다 */
+    @Override
+    public Optional<Program> findByIdForTransition(Long programId) {
+        QProgram qProgram = QProgram.program;
+
+        return Optional.ofNullable(QueryHintUtils.skipLocked(jpaQueryFactory
+                .selectFrom(qProgram)
+                .where(qProgram.id.eq(programId)))
+                .fetchOne());
+    }
+
+    @Override
+    public void increaseApplicationCount(Long programId, long delta) {
+        QProgram qProgram = QProgram.program;
 
         jpaQueryFactory
                 .update(qProgram)
-                .set(qProgram.status, ProgramStatus.DONE)
-                .where(qProgram.status.eq(ProgramStatus.CLOSED), qProgram.endDate.before(now))
+                .set(qProgram.applicationCount, qProgram.applicationCount.add((int) delta))
+                .where(qProgram.id.eq(programId))
                 .execute();
+    }
 
-        em.flush();
-        em.clear();
+    @Override
+    public List<Long> findApplicationCountDriftedIds() {
+        QProgram qProgram = QProgram.program;
+        QApplication qApplication = QApplication.application;
+        JPQLQuery<Integer> applicationCount = JPAExpressions
+                .select(qApplication.count().intValue())
+                .from(qApplication)
+                .where(qApplication.program.id.eq(qProgram.id));
 
-        return programIdList;
+        return jpaQueryFactory
+                .select(qProgram.id)
+                .from(qProgram)
+                .where(qProgram.applicationCount.ne(applicationCount))
+                .fetch();
     }
 
+    /* 잠금 없는 읽기로 센 뒤 덮어쓴다 (UPDATE 서브쿼리는 application 행을 잠가 대기 중인 신청과 교착될 수 있다) */
     @Override
-    public void updateAllByDueDate(LocalDateTime now) {
+    public long reconcileApplicationCount(Long programId) {
         QProgram qProgram = QProgram.program;
+        QApplication qApplication = QApplication.application;
+        Long applicationCount = jpaQueryFactory
+                .select(qApplication.count())
+                .from(qApplication)
+                .where(qApplication.program.id.eq(programId))
+                .fetchOne();
 
-        jpaQueryFactory
+        return jpaQueryFactory
                 .update(qProgram)
-                .set(qProgram.status, ProgramStatus.CLOSED)
-                .where(qProgram.status.eq(ProgramStatus.OPEN), qProgram.dueDate.before(now))
+                .set(qProgram.applicationCount, applicationCount.intValue())
+                .where(qProgram.id.eq(programId), qProgram.applicationCount.ne(applicationCount.intValue()))
                 .execute();
-
-        em.flush();
-        em.clear();
     }
-
 }
@@ -2,28 +2,32 @@ package com.letsintern.letsintern.domain.program.service;
 
 import com.letsintern.letsintern.domain.application.domain.ApplicationWishJob;
 import com.letsintern.letsintern.domain.application.helper.ApplicationHelper;
-import com.letsintern.letsintern.domain.attendance.domain.AttendanceResult;
-import com.letsintern.letsintern.domain.attendance.domain.AttendanceStatus;
 import com.letsintern.letsintern.domain.attendance.helper.AttendanceHelper;
 import com.letsintern.letsintern.domain.mission.helper.MissionHelper;
 import com.letsintern.letsintern.domain.mission.vo.MissionDashboardListVo;
 import com.letsintern.letsintern.domain.mission.vo.MissionDashboardVo;
-import com.letsintern.letsintern.domain.notice.domain.Notice;
+import com.letsintern.letsintern.domain.notice.vo.NoticeVo;
 import com.letsintern.letsintern.domain.notice.helper.NoticeHelper;
+import com.letsintern.letsintern.domain.program.cache.ChallengeDashboardCache;
 import com.letsintern.letsintern.domain.program.domain.*;
 import com.letsintern.letsintern.domain.program.dto.request.LetsChatMentorPasswordRequestDTO;
 import com.letsintern.letsintern.domain.program.dto.request.ProgramCreateRequestDTO;
 import com.letsintern.letsintern.domain.program.dto.request.ProgramUpdateRequestDTO;
 import com.letsintern.letsintern.domain.program.dto.response.*;
+import com.letsintern.letsintern.domain.program.event.ProgramChangedEvent;
 import com.letsintern.letsintern.domain.program.exception.ProgramMentorPasswordMismatch;
 import com.letsintern.letsintern.domain.program.exception.ProgramNotFound;
 import com.letsintern.letsintern.domain.program.helper.ProgramHelper;
 import com.letsintern.letsintern.domain.program.helper.ZoomMeetingApiHelper;
 import com.letsintern.letsintern.domain.program.mapper.ProgramMapper;
 import com.letsintern.letsintern.domain.program.repository.ProgramRepository;
+import com.letsintern.letsintern.domain.program.vo.ChallengeDashboardVo;
 import com.letsintern.letsintern.domain.user.domain.User;
+import com.letsintern.letsintern.global.common.dto.CursorRequest;
+import com.letsintern.letsintern.global.common.dto.CursorSlice;
 import com.letsintern.letsintern.global.config.user.PrincipalDetails;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -47,6 +51,8 @@ public class ProgramService {
     private final AttendanceHelper attendanceHelper;
     private final NoticeHelper noticeHelper;
     private final ZoomMeetingApiHelper zoomMeetingApiHelper;
+    private final ChallengeDashboardCache challengeDashboardCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Long getDoneProgramCount() {
         return programRepository.countByStatusEquals(ProgramStatus.DONE);
@@ -72,6 +78,7 @@ public class ProgramService {
         String mentorPassword = createMentorPasswordForLetsChatType(programCreateRequestDTO);
         /* program domain 생성 및 저장 */
         Program savedProgram = createProgramAndSave(programCreateRequestDTO, zoomMeetingCreateResponse, mentorPassword);
+        eventPublisher.publishEvent(ProgramChangedEvent.of(savedProgram.getId()));
         return programMapper.toProgramIdResponseDTO(savedProgram.getId());
     }
 
@@ -85,6 +92,7 @@ public class ProgramService {
         ProgramStatus programStatus = programHelper.getProgramStatusForDueDate(programUpdateRequestDTO);
         String stringFaqList = programHelper.parseToFaqIdList(programUpdateRequestDTO);
         program.updateProgramInfo(programUpdateRequestDTO, programStatus, stringFaqList);
+        eventPublisher.publishEvent(ProgramChangedEvent.of(program.getId()));
         return programMapper.toProgramIdResponseDTO(program.getId());
     }
 
@@ -102,6 +110,11 @@ public class ProgramService {
         return programHelper.getAdminProgramList(type, th, pageable);
     }
 
+    @Transactional(readOnly = true)
+    public CursorSlice<Program> getProgramAdminListByCursor(CursorRequest cursorRequest) {
+        return programHelper.getAdminProgramListByCursor(cursorRequest);
+    }
+
     public UserProgramVoResponse getAdminUserProgramList(Long userId, Pageable pageable) {
         return programMapper.toUserProgramVoResponse(programHelper.getAdminUserProgramList(userId, pageable));
     }
@@ -121,11 +134,13 @@ public class ProgramService {
                     throw ProgramNotFound.EXCEPTION;
                 });
         programRepository.delete(program);
+        eventPublisher.publishEvent(ProgramChangedEvent.of(programId));
     }
 
     @Transactional
     public void saveFinalHeadCount(Long programId) {
         programHelper.saveFinalHeadCount(programId);
+        eventPublisher.publishEvent(ProgramChangedEvent.of(programId));
     }
 
     public ProgramAdminEmailResponse getEmailTemplate(Long programId, MailType mailType) {
@@ -136,33 +151,39 @@ public class ProgramService {
         );
     }
 
+    public ProgramMailPreviewResponse getEmailPreview(Long programId, MailType mailType) {
+        final Program program = programRepository.findById(programId).orElseThrow(() -> ProgramNotFound.EXCEPTION);
+        return ProgramMailPreviewResponse.from(programHelper.previewProgramMail(program, mailType));
+    }
+
     @Transactional(readOnly = true)
     public ProgramDashboardResponse getProgramDashboard(Long programId, PrincipalDetails principalDetails, Pageable pageable) {
-        final Program program = programHelper.findProgramOrThrow(programId);
+        final ChallengeDashboardVo challengeDashboard = getChallengeDashboard(programId);
         final User user = principalDetails.getUser();
-        applicationHelper.validateIsChallengeParticipant(user.getRole(), program.getId(), user.getId());
+        final LocalDateTime now = LocalDateTime.now();
 
+        /* 전체 미션, 출석 현황 (참여자 검증 포함) */
+        List<MissionDashboardListVo> missionList = getMissionDashboardList(programId, user);
         /* 챌린지 종료 여부 */
-        boolean isDoneProgram = program.getEndDate().isBefore(LocalDateTime.now());
+        boolean isDoneProgram = challengeDashboard.isDone(now);
         /* 데일리 미션 */
-        MissionDashboardVo dailyMission = (isDoneProgram) ? null : missionHelper.getDailyMission(program.getId());
+        MissionDashboardVo dailyMission = (isDoneProgram) ? null : challengeDashboard.getDailyMission(now);
         /* 공지사항 목록 */
-        Page<Notice> noticeList = noticeHelper.getNoticeList(program.getId(), pageable);
-        /* 전체 미션, 출석 현황 */
-        List<MissionDashboardListVo> missionList = missionHelper.getMissionDashboardList(program.getId(), user.getId());
+        List<NoticeVo> noticeList = challengeDashboardCache.getNoticeList(programId, pageable,
+                () -> noticeHelper.getNoticeVoList(programId, pageable));
         /* 현재까지 환급금 */
         Integer currentRefund = (isDoneProgram) ? 0 : missionHelper.getCurrentRefund(missionList);
         /* 직전 회차 미션을 정상 제출한 인원수 */
-        Integer previousHeadCount = (isDoneProgram || dailyMission == null) ? null : attendanceHelper.getPreviousHeadCount(program.getId(), dailyMission.getTh() - 1, AttendanceStatus.PRESENT, AttendanceResult.PASS);
+        Integer previousHeadCount = (isDoneProgram || dailyMission == null) ? null : challengeDashboard.getPassedHeadCount(dailyMission.getTh() - 1);
 
         return programMapper.toProgramDashboardResponse(
                 user.getName(),
                 dailyMission,
                 noticeList,
                 missionList,
-                program.getFeeRefund(),
+                challengeDashboard.feeRefund(),
                 currentRefund,
-                program.getFinalHeadCount(),
+                challengeDashboard.finalHeadCount(),
                 previousHeadCount,
                 isDoneProgram
         );
@@ -170,14 +191,14 @@ public class ProgramService {
 
     @Transactional(readOnly = true)
     public ProgramMyDashboardResponse getProgramMyDashboard(Long programId, PrincipalDetails principalDetails) {
-        final Program program = programRepository.findById(programId).orElseThrow(() -> ProgramNotFound.EXCEPTION);
+        final ChallengeDashboardVo challengeDashboard = getChallengeDashboard(programId);
         final User user = principalDetails.getUser();
-        applicationHelper.validateIsChallengeParticipant(user.getRole(), program.getId(), user.getId());
+        final List<MissionDashboardListVo> missionList = getMissionDashboardList(programId, user);
 
         return programMapper.toProgramMyDashboardResponse(
-                missionHelper.getDailyMissionDetail(program.getId(), user.getId()),
-                missionHelper.getMissionDashboardList(program.getId(), user.getId()),
-                program.getEndDate().isBefore(LocalDateTime.now())
+                missionHelper.getDailyMissionDetail(programId, user.getId()),
+                missionList,
+                challengeDashboard.isDone(LocalDateTime.now())
         );
     }
 
@@ -205,6 +226,28 @@ public class ProgramService {
         return programHelper.getLetsChatAfterSessionNotice(program.getTitle(), program.getId());
     }
 
+    /* [챌린지 대시보드] 참여자 전원이 공유하는 프로그램 단위 정보 */
+    private ChallengeDashboardVo getChallengeDashboard(Long programId) {
+        return challengeDashboardCache.getChallengeDashboard(programId, () -> {
+            final Program program = programHelper.findProgramOrThrow(programId);
+            return ChallengeDashboardVo.builder()
+                    .endDate(program.getEndDate())
+                    .feeRefund(program.getFeeRefund())
+                    .finalHeadCount(program.getFinalHeadCount())
+                    .missionScheduleList(missionHelper.getMissionScheduleList(programId))
+                    .passedHeadCountByTh(attendanceHelper.getPassedHeadCountByTh(programId))
+                    .build();
+        });
+    }
+
+    /* [챌린지 대시보드] 참여자 1명의 미션 x 출석 현황 */
+    private List<MissionDashboardListVo> getMissionDashboardList(Long programId, User user) {
+        return challengeDashboardCache.getMissionDashboardList(programId, user.getId(), () -> {
+            applicationHelper.validateIsChallengeParticipant(user.getRole(), programId, user.getId());
+            return missionHelper.getMissionDashboardList(programId, user.getId());
+        });
+    }
+
     /* [렛츠챗/챌린지] Zoom Meeting 생성 */
     private ZoomMeetingCreateResponse createZoomMeetingForLetsChatAndChallengeType(ProgramCreateRequestDTO programCreateRequestDTO) {
         ZoomMeetingCreateResponse zoomMeetingCreateResponse = null;
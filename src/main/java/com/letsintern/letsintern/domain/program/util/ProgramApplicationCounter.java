@@ -0,0 +1,89 @@
+package com.letsintern.letsintern.domain.program.util;
+
+import com.letsintern.letsintern.domain.application.event.ApplicationCountChangedEvent;
+import com.letsintern.letsintern.domain.program.repository.ProgramRepository;
+import com.letsintern.letsintern.global.common.counter.CounterDeltaBuffer;
+import com.letsintern.letsintern.global.common.counter.CounterType;
+import com.letsintern.letsintern.global.common.lock.SchedulerLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/*
+ * Program.applicationCount 카운터
+ * 신청/취소 트랜잭션 안에서 변화량을 counter_delta 에 쌓고, 주기적으로 applicationCount = applicationCount + delta 로 반영한다.
+ * 변화량은 신청 행과 함께 커밋되므로 서버가 여러 대여도 한 번씩만 더해진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProgramApplicationCounter {
+
+    private static final List<CounterType> COUNTER_TYPES = List.of(CounterType.PROGRAM_APPLICATION);
+
+    private final ProgramRepository programRepository;
+    private final CounterDeltaBuffer counterDeltaBuffer;
+    private final TransactionTemplate transactionTemplate;
+    private final SchedulerLock schedulerLock;
+
+    @Value("${counter.flush-batch-size:1000}")
+    private int flushBatchSize;
+
+    @Value("${scheduler-lock.reconcile-lease-minutes:10}")
+    private long reconcileLeaseMinutes;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onApplicationCountChanged(ApplicationCountChangedEvent event) {
+        counterDeltaBuffer.add(CounterType.PROGRAM_APPLICATION, event.programId(), event.delta());
+    }
+
+    @Scheduled(fixedDelayString = "${counter.flush-interval-ms:5000}")
+    public void flush() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<Long, Long> drained = counterDeltaBuffer.drain(COUNTER_TYPES, flushBatchSize)
+                        .getOrDefault(CounterType.PROGRAM_APPLICATION, Map.of());
+                drained.forEach(programRepository::increaseApplicationCount);
+            });
+        } catch (RuntimeException e) {
+            /* 롤백되면 변화량 행이 그대로 남아 다음 flush 에서 다시 반영된다 */
+            log.warn("program applicationCount flush failed, retry next time", e);
+        }
+    }
+
+    /* 실제 application 행 수와 맞춘다 (어긋난 프로그램 + 미반영 변화량이 남은 프로그램만, id 별 트랜잭션) */
+    @Scheduled(cron = "0 30 4 * * ?")
+    public void reconcile() {
+        schedulerLock.runExclusively("programApplicationCountReconcile", Duration.ofMinutes(reconcileLeaseMinutes), token -> {
+            Set<Long> programIdSet = new TreeSet<>(programRepository.findApplicationCountDriftedIds());
+            programIdSet.addAll(counterDeltaBuffer.findPendingTargetIds(COUNTER_TYPES));
+
+            long updated = 0;
+            for (Long programId : programIdSet) {
+                try {
+                    updated += transactionTemplate.execute(status -> reconcile(programId));
+                } catch (RuntimeException e) {
+                    log.warn("program {} applicationCount reconcile failed", programId, e);
+                }
+            }
+            if (updated > 0) log.info("program applicationCount reconciled: {} rows", updated);
+        });
+    }
+
+    /* 변화량을 먼저 잠가서 지운 뒤 재집계한다 (순서를 바꾸면 그 사이 커밋된 신청이 두 번 더해진다) */
+    private long reconcile(Long programId) {
+        counterDeltaBuffer.discard(COUNTER_TYPES, programId);
+        return programRepository.reconcileApplicationCount(programId);
+    }
+}
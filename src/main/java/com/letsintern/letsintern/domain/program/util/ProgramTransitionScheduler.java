@@ -0,0 +1,135 @@
+package com.letsintern.letsintern.domain.program.util;
+
+import com.letsintern.letsintern.domain.application.repository.ApplicationRepository;
+import com.letsintern.letsintern.domain.program.domain.Program;
+import com.letsintern.letsintern.domain.program.domain.ProgramFeeType;
+import com.letsintern.letsintern.domain.program.domain.ProgramStatus;
+import com.letsintern.letsintern.domain.program.event.ProgramChangedEvent;
+import com.letsintern.letsintern.domain.program.repository.ProgramRepository;
+import com.letsintern.letsintern.global.common.lock.SchedulerLeaseLostException;
+import com.letsintern.letsintern.global.common.lock.SchedulerLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/*
+ * 프로그램 마감에 따른 상태 전환
+ * Program.nextTransitionAt 인덱스로 마감이 지난 프로그램만 골라, 그 프로그램 범위에서만 프로그램/지원서 상태를 갱신한다.
+ * 전체 이력을 훑는 정해진 시각의 일괄 UPDATE 대신 마감 후 poll 주기 안에 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProgramTransitionScheduler {
+
+    private static final String POLL_JOB_NAME = "programTransition";
+
+    private final ProgramRepository programRepository;
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final SchedulerLock schedulerLock;
+
+    @Value("${program-transition.batch-size:100}")
+    private int batchSize;
+
+    @Value("${program-transition.retry-base-seconds:30}")
+    private long retryBaseSeconds;
+
+    @Value("${program-transition.retry-max-minutes:60}")
+    private long retryMaxMinutes;
+
+    @Value("${program-transition.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${scheduler-lock.transition-lease-ms:60000}")
+    private long transitionLeaseMillis;
+
+    @Scheduled(fixedDelayString = "${program-transition.poll-interval-ms:5000}")
+    public void poll() {
+        /* 프로그램 행 잠금(SKIP LOCKED)으로도 중복은 막히지만, 서버마다 같은 후보를 조회하지 않도록 한 서버만 poll */
+        schedulerLock.runExclusively(POLL_JOB_NAME, Duration.ofMillis(transitionLeaseMillis), this::transitionDuePrograms);
+    }
+
+    private void transitionDuePrograms(long fencingToken) {
+        final LocalDateTime now = LocalDateTime.now();
+        final List<Long> programIdList = programRepository.findTransitionDueProgramIds(now, batchSize);
+
+        for (Long programId : programIdList) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    schedulerLock.fence(POLL_JOB_NAME, fencingToken);
+                    transition(programId, now);
+                });
+            } catch (SchedulerLeaseLostException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                log.warn("program {} transition failed", programId, e);
+                deferTransition(programId, now);
+            }
+        }
+    }
+
+    /* 실패한 전환은 롤백됐으므로 별도 트랜잭션에서 재시도 시각만 미룬다. 매 poll 마다 같은 프로그램을 다시 시도하지 않도록 */
+    private void deferTransition(Long programId, LocalDateTime now) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> programRepository.findByIdForTransition(programId).ifPresent(program -> {
+                if (!program.deferTransition(now, Duration.ofSeconds(retryBaseSeconds), Duration.ofMinutes(retryMaxMinutes), maxAttempts)) {
+                    log.error("program {} transition failed {} times, stopped until the program is updated",
+                            programId, program.getTransitionFailCount());
+                }
+            }));
+        } catch (RuntimeException e) {
+            log.warn("program {} transition defer failed, retry next poll", programId, e);
+        }
+    }
+
+    private void transition(Long programId, LocalDateTime now) {
+        final Program program = programRepository.findByIdForTransition(programId).orElse(null);
+        if (program == null || program.getNextTransitionAt() == null || program.getNextTransitionAt().isAfter(now)) return;
+
+        final ProgramStatus beforeStatus = program.getStatus();
+        long updatedApplications = 0;
+
+        /* 모집 마감 */
+        if (program.getStatus() == ProgramStatus.OPEN && isPassed(program.getDueDate(), now)) {
+            program.setStatus(ProgramStatus.CLOSED);
+        }
+
+        if (program.getStatus() == ProgramStatus.CLOSED) {
+            /* 발표일 이후 미선발 지원서 */
+            if (isPassed(program.getAnnouncementDate(), now)) {
+                updatedApplications += applicationRepository.updateApplicationStatusToNotApproved(programId);
+            }
+            /* 입금 마감 이후 미입금 지원서 */
+            if (program.getFeeType() != ProgramFeeType.FREE && isPassed(program.getFeeDueDate(), now)) {
+                updatedApplications += applicationRepository.updateApplicationStatusToFeeNotApproved(programId);
+            }
+            /* 진행 종료 */
+            if (isPassed(program.getEndDate(), now)) {
+                program.setStatus(ProgramStatus.DONE);
+                updatedApplications += applicationRepository.updateAllApplicationStatusDone(programId);
+            }
+        }
+
+        program.scheduleNextTransition(now);
+
+        if (beforeStatus != program.getStatus() || updatedApplications > 0) {
+            log.info("program {} transition: {} -> {}, {} applications updated, next at {}",
+                    programId, beforeStatus, program.getStatus(), updatedApplications, program.getNextTransitionAt());
+            eventPublisher.publishEvent(ProgramChangedEvent.of(programId));
+        }
+    }
+
+    private boolean isPassed(LocalDateTime deadline, LocalDateTime now) {
+        return deadline != null && !deadline.isAfter(now);
+    }
+}
@@ -1,60 +1,60 @@
 package com.letsintern.letsintern.domain.program.util.mail;
 
-import com.letsintern.letsintern.domain.program.domain.MailStatus;
-import com.letsintern.letsintern.domain.program.domain.Program;
-import com.letsintern.letsintern.domain.program.repository.ProgramRepository;
 import com.letsintern.letsintern.domain.program.util.mail.batch.LetsChatRemindMailJobConfig;
 import com.letsintern.letsintern.domain.program.util.mail.batch.LetsChatReviewMailJobConfig;
+import com.letsintern.letsintern.global.common.lock.SchedulerLock;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParametersBuilder;
-import org.springframework.batch.core.JobParametersInvalidException;
 import org.springframework.batch.core.launch.JobLauncher;
-import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
-import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
-import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.Date;
-import java.util.List;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class MailScheduler {
 
-    private final ProgramRepository programRepository;
     private final JobLauncher jobLauncher;
     private final LetsChatRemindMailJobConfig letsChatRemindMailJobConfig;
     private final LetsChatReviewMailJobConfig letsChatReviewMailJobConfig;
+    private final SchedulerLock schedulerLock;
 
+    @Value("${scheduler-lock.mail-lease-minutes:30}")
+    private long mailLeaseMinutes;
+
+    /* 같은 날 다시 실행하면 같은 JobInstance 로 재시작되어, 실패한 partition 만 마지막 커밋된 chunk 다음부터 이어서 보낸다 */
     @Scheduled(cron = "0 1 9 * * ?")
-    public void sendLetsChatRemindMail() throws JobInstanceAlreadyCompleteException, JobExecutionAlreadyRunningException, JobParametersInvalidException, JobRestartException {
-        List<Program> mailStatusYetLetsChats = programRepository.findAllLetsChatByMailStatusAndStartDate(MailStatus.YET, LocalDate.now());
-        for(Program letsChat : mailStatusYetLetsChats) {
-            jobLauncher.run(
-                    letsChatRemindMailJobConfig.remindMailJob(),
-                    new JobParametersBuilder()
-                            .addLong("programId", letsChat.getId())
-                            .addLong("time", new Date().getTime())
-                            .toJobParameters()
-            );
-        }
+    public void sendLetsChatRemindMail() {
+        runMailJob(LetsChatRemindMailJobConfig.JOB_NAME, letsChatRemindMailJobConfig.remindMailJob());
     }
 
     @Scheduled(cron = "0 1 23 * * ?")
-    public void sendLetsChatReviewMail() throws JobInstanceAlreadyCompleteException, JobExecutionAlreadyRunningException, JobParametersInvalidException, JobRestartException {
-        List<Program> mailStatusRemindLetsChats = programRepository.findAllLetsChatByMailStatusAndEndDate(MailStatus.REMIND, LocalDateTime.now());
-        for(Program letsChat : mailStatusRemindLetsChats) {
-            jobLauncher.run(
-                    letsChatReviewMailJobConfig.reviewMailJob(),
-                    new JobParametersBuilder()
-                            .addLong("programId", letsChat.getId())
-                            .addLong("time", new Date().getTime())
-                            .toJobParameters()
-            );
-        }
+    public void sendLetsChatReviewMail() {
+        runMailJob(LetsChatReviewMailJobConfig.JOB_NAME, letsChatReviewMailJobConfig.reviewMailJob());
+    }
+
+    /* 여러 서버 중 lease 를 얻은 한 곳에서만 실행, fencing token 은 JobInstance 를 바꾸지 않도록 non-identifying 으로 넘긴다 */
+    private void runMailJob(String jobName, Job job) {
+        schedulerLock.runExclusively(jobName, Duration.ofMinutes(mailLeaseMinutes), token -> {
+            try {
+                jobLauncher.run(
+                        job,
+                        new JobParametersBuilder()
+                                .addString("date", LocalDate.now().toString())
+                                .addLong("fencingToken", token, false)
+                                .toJobParameters()
+                );
+            } catch (Exception e) {
+                log.error("[{}] launch failed", jobName, e);
+                throw new IllegalStateException(e);
+            }
+        });
     }
 
 }
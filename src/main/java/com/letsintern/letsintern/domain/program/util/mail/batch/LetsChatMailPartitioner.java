@@ -0,0 +1,35 @@
+package com.letsintern.letsintern.domain.program.util.mail.batch;
+
+import com.letsintern.letsintern.domain.program.domain.Program;
+import com.letsintern.letsintern.domain.program.domain.ProgramFeeType;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/* 발송 대상 렛츠챗 1개당 partition 1개 - 프로그램끼리는 병렬로 발송된다 */
+public class LetsChatMailPartitioner implements Partitioner {
+
+    public static final String PROGRAM_ID_KEY = "programId";
+    public static final String FEE_CONFIRMED_ONLY_KEY = "feeConfirmedOnly";
+
+    private final List<Program> programList;
+
+    public LetsChatMailPartitioner(List<Program> programList) {
+        this.programList = programList;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        for (Program program : programList) {
+            ExecutionContext executionContext = new ExecutionContext();
+            executionContext.putLong(PROGRAM_ID_KEY, program.getId());
+            executionContext.putString(FEE_CONFIRMED_ONLY_KEY, String.valueOf(!program.getFeeType().equals(ProgramFeeType.FREE)));
+            partitions.put("program" + program.getId(), executionContext);
+        }
+        return partitions;
+    }
+}
@@ -0,0 +1,34 @@
+package com.letsintern.letsintern.domain.program.util.mail.batch;
+
+import com.letsintern.letsintern.domain.application.repository.ApplicationRepository;
+import org.springframework.batch.item.database.AbstractPagingItemReader;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/*
+ * 렛츠챗 메일 수신자(참여 확정자) 이메일을 페이지 단위로 읽는 reader
+ * 읽은 건수가 step 실행 컨텍스트에 저장되므로 실패 후 재시작하면 마지막 커밋된 chunk 다음부터 읽는다.
+ */
+public class LetsChatMailTargetReader extends AbstractPagingItemReader<String> {
+
+    private final ApplicationRepository applicationRepository;
+    private final Long programId;
+    private final boolean feeConfirmedOnly;
+
+    public LetsChatMailTargetReader(ApplicationRepository applicationRepository, Long programId, boolean feeConfirmedOnly, int pageSize) {
+        this.applicationRepository = applicationRepository;
+        this.programId = programId;
+        this.feeConfirmedOnly = feeConfirmedOnly;
+        setName("letsChatMailTargetReader");
+        setPageSize(pageSize);
+    }
+
+    @Override
+    protected void doReadPage() {
+        if (results == null) results = new CopyOnWriteArrayList<>();
+        else results.clear();
+
+        results.addAll(applicationRepository.findMailTargetEmailPage(
+                programId, feeConfirmedOnly, (long) getPage() * getPageSize(), getPageSize()));
+    }
+}
@@ -3,93 +3,126 @@ package com.letsintern.letsintern.domain.program.util.mail.batch;
 import com.letsintern.letsintern.domain.application.repository.ApplicationRepository;
 import com.letsintern.letsintern.domain.program.domain.MailStatus;
 import com.letsintern.letsintern.domain.program.domain.Program;
-import com.letsintern.letsintern.domain.program.domain.ProgramFeeType;
 import com.letsintern.letsintern.domain.program.exception.ProgramNotFound;
 import com.letsintern.letsintern.domain.program.repository.ProgramRepository;
+import com.letsintern.letsintern.global.common.lock.SchedulerLock;
+import com.letsintern.letsintern.global.common.mail.RenderedMail;
 import com.letsintern.letsintern.global.common.util.EmailUtils;
 import lombok.RequiredArgsConstructor;
-import org.springframework.batch.core.Job;
-import org.springframework.batch.core.Step;
+import org.springframework.batch.core.*;
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.core.step.tasklet.Tasklet;
-import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.item.ItemWriter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.dao.TransientDataAccessException;
 import org.springframework.transaction.PlatformTransactionManager;
 
-import java.util.List;
+import java.time.LocalDate;
 
 @Configuration
 @RequiredArgsConstructor
 @EnableBatchProcessing
 public class LetsChatRemindMailJobConfig {
 
+    public static final String JOB_NAME = "remindMailJob";
+
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
 
     private final EmailUtils emailUtils;
     private final ApplicationRepository applicationRepository;
     private final ProgramRepository programRepository;
+    private final SchedulerLock schedulerLock;
+
+    @Value("${mail-batch.chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${mail-batch.partition-concurrency:4}")
+    private int partitionConcurrency;
 
     @Bean
     public Job remindMailJob() {
-        return new JobBuilder("remindMailJob", jobRepository)
+        return new JobBuilder(JOB_NAME, jobRepository)
                 .start(remindMailStep())
-                .next(updateMailStatusRemindStep())
-                .preventRestart()
                 .build();
     }
 
+    /* 오늘 진행되는 렛츠챗마다 partition 을 나눠 병렬 발송 */
     @Bean
     public Step remindMailStep() {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("remind-mail-");
+        taskExecutor.setConcurrencyLimit(partitionConcurrency);
+
         return new StepBuilder("remindMailStep", jobRepository)
-                .tasklet(sendRemindMailTasklet(null), transactionManager)
+                .partitioner("remindMailWorkerStep", remindMailPartitioner(null))
+                .step(remindMailWorkerStep())
+                .taskExecutor(taskExecutor)
                 .build();
     }
 
     @Bean
     @StepScope
-    public Tasklet sendRemindMailTasklet(@Value("#{jobParameters[programId]}") Long programId) {
-        return ((contribution, chunkContext) -> {
-            Program program = programRepository.findById(programId).orElseThrow(() -> ProgramNotFound.EXCEPTION);
-            List<String> applicationEmailList;
-
-            if(program.getFeeType().equals(ProgramFeeType.FREE)) {
-                applicationEmailList = applicationRepository.findAllEmailByIsApproved(programId, true);
-            } else {
-                applicationEmailList = applicationRepository.findAllEmailByIsApprovedAndFeeIsConfirmed(programId, true, true);
-            }
-
-            if(!applicationEmailList.isEmpty()) {
-                emailUtils.sendLetsChatRemindMail(applicationEmailList, program);
-            }
-
-            return RepeatStatus.FINISHED;
-        });
+    public LetsChatMailPartitioner remindMailPartitioner(@Value("#{jobParameters[date]}") String date) {
+        return new LetsChatMailPartitioner(programRepository.findAllLetsChatByMailStatusAndStartDate(MailStatus.YET, LocalDate.parse(date)));
     }
 
     @Bean
-    public Step updateMailStatusRemindStep() {
-        return new StepBuilder("updateMailStatusRemindStep", jobRepository)
-                .tasklet(updateMailStatusRemindTasklet(null), transactionManager)
+    public Step remindMailWorkerStep() {
+        return new StepBuilder("remindMailWorkerStep", jobRepository)
+                .<String, String>chunk(chunkSize, transactionManager)
+                .reader(remindMailTargetReader(null, null))
+                .writer(remindMailWriter(null, null))
+                .faultTolerant()
+                .retry(TransientDataAccessException.class)
+                .retryLimit(3)
+                .skip(TransientDataAccessException.class)
+                .skipLimit(10)
+                .listener(updateMailStatusRemindListener())
                 .build();
     }
 
     @Bean
     @StepScope
-    public Tasklet updateMailStatusRemindTasklet(@Value("#{jobParameters[programId]}") Long programId) {
-        return ((contribution, chunkContext) -> {
-            Program program = programRepository.findById(programId).orElseThrow(() -> ProgramNotFound.EXCEPTION);
-            program.setMailStatus(MailStatus.REMIND);
-            programRepository.save(program);
-
-            return RepeatStatus.FINISHED;
-        });
+    public LetsChatMailTargetReader remindMailTargetReader(@Value("#{stepExecutionContext[programId]}") Long programId,
+                                                          @Value("#{stepExecutionContext[feeConfirmedOnly]}") Boolean feeConfirmedOnly) {
+        return new LetsChatMailTargetReader(applicationRepository, programId, feeConfirmedOnly, chunkSize);
+    }
+
+    @Bean
+    @StepScope
+    public ItemWriter<String> remindMailWriter(@Value("#{stepExecutionContext[programId]}") Long programId,
+                                              @Value("#{jobParameters[fencingToken]}") Long fencingToken) {
+        final Program program = programRepository.findById(programId).orElseThrow(() -> ProgramNotFound.EXCEPTION);
+        final RenderedMail remindMail = emailUtils.renderLetsChatRemindMail(program);
+        /* lease 를 잃은 실행이 다른 서버와 함께 발송하지 않도록 chunk 트랜잭션 안에서 outbox 적재 전에 fencing token 확인 */
+        return chunk -> {
+            schedulerLock.fence(JOB_NAME, fencingToken);
+            chunk.getItems().forEach(emailAddress -> emailUtils.sendMail(emailAddress, remindMail));
+        };
+    }
+
+    /* 한 프로그램의 발송이 끝까지 커밋된 경우에만 메일 상태를 넘긴다 */
+    @Bean
+    public StepExecutionListener updateMailStatusRemindListener() {
+        return new StepExecutionListener() {
+            @Override
+            public ExitStatus afterStep(StepExecution stepExecution) {
+                if (!ExitStatus.COMPLETED.equals(stepExecution.getExitStatus())) return stepExecution.getExitStatus();
+
+                Long programId = stepExecution.getExecutionContext().getLong(LetsChatMailPartitioner.PROGRAM_ID_KEY);
+                Program program = programRepository.findById(programId).orElseThrow(() -> ProgramNotFound.EXCEPTION);
+                program.setMailStatus(MailStatus.REMIND);
+                programRepository.save(program);
+
+                return stepExecution.getExitStatus();
+            }
+        };
     }
 
 }
@@ -3,91 +3,130 @@ package com.letsintern.letsintern.domain.program.util.mail.batch;
 import com.letsintern.letsintern.domain.application.repository.ApplicationRepository;
 import com.letsintern.letsintern.domain.program.domain.MailStatus;
 import com.letsintern.letsintern.domain.program.domain.Program;
-import com.letsintern.letsintern.domain.program.domain.ProgramFeeType;
 import com.letsintern.letsintern.domain.program.exception.ProgramNotFound;
 import com.letsintern.letsintern.domain.program.repository.ProgramRepository;
+import com.letsintern.letsintern.global.common.lock.SchedulerLock;
+import com.letsintern.letsintern.global.common.mail.RenderedMail;
 import com.letsintern.letsintern.global.common.util.EmailUtils;
 import lombok.RequiredArgsConstructor;
-import org.springframework.batch.core.Job;
-import org.springframework.batch.core.Step;
+import org.springframework.batch.core.*;
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.core.step.tasklet.Tasklet;
-import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.item.ItemWriter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.dao.TransientDataAccessException;
 import org.springframework.transaction.PlatformTransactionManager;
 
-import java.util.List;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Configuration
 @RequiredArgsConstructor
 @EnableBatchProcessing
 public class LetsChatReviewMailJobConfig {
 
+    public static final String JOB_NAME = "reviewMailJob";
+
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
 
     private final EmailUtils emailUtils;
     private final ApplicationRepository applicationRepository;
     private final ProgramRepository programRepository;
+    private final SchedulerLock schedulerLock;
+
+    @Value("${mail-batch.chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${mail-batch.partition-concurrency:4}")
+    private int partitionConcurrency;
 
     @Bean
     public Job reviewMailJob() {
-        return new JobBuilder("reviewMailJob", jobRepository)
+        return new JobBuilder(JOB_NAME, jobRepository)
                 .start(reviewMailStep())
-                .next(updateMailStatusReviewStep())
-                .preventRestart()
                 .build();
     }
 
+    /* 종료된 렛츠챗마다 partition 을 나눠 병렬 발송 */
     @Bean
     public Step reviewMailStep() {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("review-mail-");
+        taskExecutor.setConcurrencyLimit(partitionConcurrency);
+
         return new StepBuilder("reviewMailStep", jobRepository)
-                .tasklet(sendReviewMailTasklet(null), transactionManager)
+                .partitioner("reviewMailWorkerStep", reviewMailPartitioner(null))
+                .step(reviewMailWorkerStep())
+                .taskExecutor(taskExecutor)
                 .build();
     }
 
+    /* 실행 기준일(date)이 끝나기 전에 종료된 렛츠챗 - 다음 날 재시작해도 그날 대상만 보낸다 */
     @Bean
     @StepScope
-    public Tasklet sendReviewMailTasklet(@Value("#{jobParameters[programId]}") Long programId) {
-        return ((contribution, chunkContext) -> {
-            Program program = programRepository.findById(programId).orElseThrow(() -> ProgramNotFound.EXCEPTION);
-            List<String> applicationEmailList;
-
-            if(program.getFeeType().equals(ProgramFeeType.FREE)) {
-                applicationEmailList = applicationRepository.findAllEmailByIsApproved(programId, true);
-            } else {
-                applicationEmailList = applicationRepository.findAllEmailByIsApprovedAndFeeIsConfirmed(programId, true, true);
-            }
-
-            if(!applicationEmailList.isEmpty()) emailUtils.sendLetsChatReviewMail(applicationEmailList, program);
-
-            return RepeatStatus.FINISHED;
-        });
+    public LetsChatMailPartitioner reviewMailPartitioner(@Value("#{jobParameters[date]}") String date) {
+        LocalDateTime endOfDate = LocalDate.parse(date).plusDays(1).atStartOfDay();
+        LocalDateTime now = LocalDateTime.now();
+        return new LetsChatMailPartitioner(programRepository.findAllLetsChatByMailStatusAndEndDate(MailStatus.REMIND, now.isBefore(endOfDate) ? now : endOfDate));
     }
 
     @Bean
-    public Step updateMailStatusReviewStep() {
-        return new StepBuilder("updateMailStatusReviewStep", jobRepository)
-                .tasklet(updateMailStatusReviewTasklet(null), transactionManager)
+    public Step reviewMailWorkerStep() {
+        return new StepBuilder("reviewMailWorkerStep", jobRepository)
+                .<String, String>chunk(chunkSize, transactionManager)
+                .reader(reviewMailTargetReader(null, null))
+                .writer(reviewMailWriter(null, null))
+                .faultTolerant()
+                .retry(TransientDataAccessException.class)
+                .retryLimit(3)
+                .skip(TransientDataAccessException.class)
+                .skipLimit(10)
+                .listener(updateMailStatusReviewListener())
                 .build();
     }
 
     @Bean
     @StepScope
-    public Tasklet updateMailStatusReviewTasklet(@Value("#{jobParameters[programId]}") Long programId) {
-        return ((contribution, chunkContext) -> {
-            Program program = programRepository.findById(programId).orElseThrow(() -> ProgramNotFound.EXCEPTION);
-            program.setMailStatus(MailStatus.REVIEW);
-            programRepository.save(program);
-
-            return RepeatStatus.FINISHED;
-        });
+    public LetsChatMailTargetReader reviewMailTargetReader(@Value("#{stepExecutionContext[programId]}") Long programId,
+                                                          @Value("#{stepExecutionContext[feeConfirmedOnly]}") Boolean feeConfirmedOnly) {
+        return new LetsChatMailTargetReader(applicationRepository, programId, feeConfirmedOnly, chunkSize);
+    }
+
+    @Bean
+    @StepScope
+    public ItemWriter<String> reviewMailWriter(@Value("#{stepExecutionContext[programId]}") Long programId,
+                                              @Value("#{jobParameters[fencingToken]}") Long fencingToken) {
+        final Program program = programRepository.findById(programId).orElseThrow(() -> ProgramNotFound.EXCEPTION);
+        final RenderedMail reviewMail = emailUtils.renderLetsChatReviewMail(program);
+        /* lease 를 잃은 실행이 다른 서버와 함께 발송하지 않도록 chunk 트랜잭션 안에서 outbox 적재 전에 fencing token 확인 */
+        return chunk -> {
+            schedulerLock.fence(JOB_NAME, fencingToken);
+            chunk.getItems().forEach(emailAddress -> emailUtils.sendMail(emailAddress, reviewMail));
+        };
+    }
+
+    /* 한 프로그램의 발송이 끝까지 커밋된 경우에만 메일 상태를 넘긴다 */
+    @Bean
+    public StepExecutionListener updateMailStatusReviewListener() {
+        return new StepExecutionListener() {
+            @Override
+            public ExitStatus afterStep(StepExecution stepExecution) {
+                if (!ExitStatus.COMPLETED.equals(stepExecution.getExitStatus())) return stepExecution.getExitStatus();
+
+                Long programId = stepExecution.getExecutionContext().getLong(LetsChatMailPartitioner.PROGRAM_ID_KEY);
+                Program program = programRepository.findById(programId).orElseThrow(() -> ProgramNotFound.EXCEPTION);
+                program.setMailStatus(MailStatus.REVIEW);
+                programRepository.save(program);
+
+                return stepExecution.getExitStatus();
+            }
+        };
     }
 
 }
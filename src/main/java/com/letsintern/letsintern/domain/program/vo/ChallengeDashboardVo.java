@@ -0,0 +1,37 @@
+package com.letsintern.letsintern.domain.program.vo;
+
+import com.letsintern.letsintern.domain.mission.vo.MissionDashboardVo;
+import com.letsintern.letsintern.domain.mission.vo.MissionScheduleVo;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 챌린지 참여자 전원이 공유하는 대시보드 정보
+ * 데일리 미션은 조회 시각 기준으로 미션 일정에서 고르므로 미션 오픈 시각에 캐시를 비울 필요가 없다.
+ */
+@Builder
+public record ChallengeDashboardVo(LocalDateTime endDate,
+                                   Integer feeRefund,
+                                   Integer finalHeadCount,
+                                   List<MissionScheduleVo> missionScheduleList,
+                                   Map<Integer, Integer> passedHeadCountByTh) {
+
+    public boolean isDone(LocalDateTime now) {
+        return endDate.isBefore(now);
+    }
+
+    public MissionDashboardVo getDailyMission(LocalDateTime now) {
+        return missionScheduleList.stream()
+                .filter(missionScheduleVo -> missionScheduleVo.isInProgress(now))
+                .findFirst()
+                .map(MissionScheduleVo::toMissionDashboardVo)
+                .orElse(null);
+    }
+
+    public Integer getPassedHeadCount(Integer th) {
+        return passedHeadCountByTh.getOrDefault(th, 0);
+    }
+}
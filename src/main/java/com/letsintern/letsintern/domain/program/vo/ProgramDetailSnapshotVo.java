@@ -0,0 +1,16 @@
+package com.letsintern.letsintern.domain.program.vo;
+
+import com.letsintern.letsintern.domain.application.domain.ApplicationWishJob;
+import com.letsintern.letsintern.domain.faq.vo.FaqVo;
+import lombok.Builder;
+
+import java.util.List;
+
+/* 사용자와 무관한 프로그램 상세 정보 - 신청 여부(participated)만 요청마다 덧씌운다 */
+@Builder
+public record ProgramDetailSnapshotVo(
+        ProgramDetailVo programDetailVo,
+        List<FaqVo> faqList,
+        List<ApplicationWishJob> wishJobList
+) {
+}
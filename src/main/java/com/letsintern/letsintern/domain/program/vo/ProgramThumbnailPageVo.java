@@ -0,0 +1,25 @@
+package com.letsintern.letsintern.domain.program.vo;
+
+import lombok.Builder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+@Builder
+public record ProgramThumbnailPageVo(
+        List<ProgramThumbnailVo> content,
+        long totalElements
+) {
+    public static ProgramThumbnailPageVo from(Page<ProgramThumbnailVo> page) {
+        return ProgramThumbnailPageVo.builder()
+                .content(page.getContent())
+                .totalElements(page.getTotalElements())
+                .build();
+    }
+
+    public Page<ProgramThumbnailVo> toPage(Pageable pageable) {
+        return new PageImpl<>(content, pageable, totalElements);
+    }
+}
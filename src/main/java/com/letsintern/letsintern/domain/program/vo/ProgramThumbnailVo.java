@@ -6,12 +6,14 @@ import com.querydsl.core.annotations.QueryProjection;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.text.SimpleDateFormat;
 import java.time.LocalDateTime;
 import java.util.Date;
 
 @Getter
+@NoArgsConstructor
 public class ProgramThumbnailVo {
 
     private Long id;
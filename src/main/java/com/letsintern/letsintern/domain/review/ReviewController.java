@@ -1,7 +1,9 @@
 package com.letsintern.letsintern.domain.review;
 
+import com.letsintern.letsintern.domain.program.domain.ProgramType;
 import com.letsintern.letsintern.domain.review.dto.request.ReviewCreateDTO;
 import com.letsintern.letsintern.domain.review.dto.request.ReviewUpdateDTO;
+import com.letsintern.letsintern.domain.review.dto.response.ReviewFeedResponse;
 import com.letsintern.letsintern.domain.review.dto.response.ReviewIdResponse;
 import com.letsintern.letsintern.domain.review.dto.response.ReviewListResponse;
 import com.letsintern.letsintern.domain.review.service.ReviewService;
@@ -47,6 +49,14 @@ public class ReviewController {
         return reviewService.getReviewDetail(reviewId);
     }
 
+    @GetMapping("/feed/{programType}")
+    @Operation(summary = "프로그램 타입 별 리뷰 목록 (커서 페이지네이션)")
+    public ReviewFeedResponse getReviewFeed(@PathVariable ProgramType programType,
+                                            @RequestParam(required = false) Long cursor,
+                                            @RequestParam(defaultValue = "10") int size) {
+        return reviewService.getReviewFeed(programType, cursor, size);
+    }
+
     @GetMapping("/admin/{programId}")
     @Operation(summary = "어드민 프로그램 별 리뷰 목록")
     public ReviewListResponse getReviewListOfProgram(@PathVariable Long programId, @PageableDefault(size = 20) Pageable pageable) {
@@ -0,0 +1,56 @@
+package com.letsintern.letsintern.domain.review.cache;
+
+import com.letsintern.letsintern.domain.program.domain.ProgramType;
+import com.letsintern.letsintern.domain.review.event.ReviewChangedEvent;
+import com.letsintern.letsintern.domain.review.repository.ReviewRepository;
+import com.letsintern.letsintern.domain.review.vo.ReviewFeedVo;
+import com.letsintern.letsintern.domain.review.vo.ReviewVo;
+import com.letsintern.letsintern.global.common.cache.TieredCache;
+import com.letsintern.letsintern.global.common.cache.TieredCacheFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+
+@Component
+public class ReviewFeedCache {
+
+    private static final String CACHE_NAME = "review-feed";
+
+    private final ReviewRepository reviewRepository;
+    private final TieredCache<ReviewFeedVo> cache;
+    private final int materializedSize;
+
+    public ReviewFeedCache(ReviewRepository reviewRepository,
+                           TieredCacheFactory tieredCacheFactory,
+                           @Value("${cache.review-feed.materialized-size:100}") int materializedSize,
+                           @Value("${cache.review-feed.local-ttl-seconds:300}") long localTtlSeconds) {
+        this.reviewRepository = reviewRepository;
+        this.materializedSize = materializedSize;
+        this.cache = tieredCacheFactory.localOnly(CACHE_NAME, ReviewFeedVo.class,
+                ProgramType.values().length, Duration.ofSeconds(localTtlSeconds));
+    }
+
+    public ReviewFeedVo get(ProgramType programType) {
+        return cache.get(programType.name(), () -> createReviewFeed(programType));
+    }
+
+    /* 리뷰 생성, 노출 상태 변경 시 해당 타입만 다시 만든다 */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        cache.evict(event.programType().name());
+    }
+
+    private ReviewFeedVo createReviewFeed(ProgramType programType) {
+        List<ReviewVo> reviewList = reviewRepository.findAllVosByProgramType(programType, materializedSize + 1);
+        boolean complete = reviewList.size() <= materializedSize;
+
+        return ReviewFeedVo.builder()
+                .reviewList(complete ? reviewList : List.copyOf(reviewList.subList(0, materializedSize)))
+                .complete(complete)
+                .gradeSummary(reviewRepository.getGradeSummaryByProgramType(programType))
+                .build();
+    }
+}
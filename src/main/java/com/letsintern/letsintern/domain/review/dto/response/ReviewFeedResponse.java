@@ -0,0 +1,38 @@
+package com.letsintern.letsintern.domain.review.dto.response;
+
+import com.letsintern.letsintern.domain.review.vo.ReviewGradeSummaryVo;
+import com.letsintern.letsintern.domain.review.vo.ReviewVo;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ReviewFeedResponse {
+
+    private List<ReviewVo> reviewList;
+    private Long nextCursor;
+    private boolean hasNext;
+    private ReviewGradeSummaryVo gradeSummary;
+
+    @Builder
+    private ReviewFeedResponse(List<ReviewVo> reviewList, Long nextCursor, boolean hasNext, ReviewGradeSummaryVo gradeSummary) {
+        this.reviewList = reviewList;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+        this.gradeSummary = gradeSummary;
+    }
+
+    /* fetchedList 는 size + 1 개까지 조회한 결과 - 초과분이 있으면 다음 페이지 존재 */
+    public static ReviewFeedResponse of(List<ReviewVo> fetchedList, int size, ReviewGradeSummaryVo gradeSummary) {
+        boolean hasNext = fetchedList.size() > size;
+        List<ReviewVo> reviewList = hasNext ? fetchedList.subList(0, size) : fetchedList;
+
+        return ReviewFeedResponse.builder()
+                .reviewList(reviewList)
+                .nextCursor(hasNext ? reviewList.get(reviewList.size() - 1).getId() : null)
+                .hasNext(hasNext)
+                .gradeSummary(gradeSummary)
+                .build();
+    }
+}
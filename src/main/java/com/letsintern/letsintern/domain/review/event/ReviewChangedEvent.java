@@ -0,0 +1,11 @@
+package com.letsintern.letsintern.domain.review.event;
+
+import com.letsintern.letsintern.domain.program.domain.ProgramType;
+
+public record ReviewChangedEvent(
+        ProgramType programType
+) {
+    public static ReviewChangedEvent of(ProgramType programType) {
+        return new ReviewChangedEvent(programType);
+    }
+}
@@ -6,16 +6,23 @@ import com.letsintern.letsintern.domain.application.repository.ApplicationReposi
 import com.letsintern.letsintern.domain.program.domain.Program;
 import com.letsintern.letsintern.domain.program.exception.ProgramNotFound;
 import com.letsintern.letsintern.domain.program.repository.ProgramRepository;
+import com.letsintern.letsintern.domain.program.domain.ProgramType;
+import com.letsintern.letsintern.domain.review.cache.ReviewFeedCache;
 import com.letsintern.letsintern.domain.review.domian.Review;
 import com.letsintern.letsintern.domain.review.dto.request.ReviewCreateDTO;
 import com.letsintern.letsintern.domain.review.dto.request.ReviewUpdateDTO;
+import com.letsintern.letsintern.domain.review.dto.response.ReviewFeedResponse;
+import com.letsintern.letsintern.domain.review.event.ReviewChangedEvent;
 import com.letsintern.letsintern.domain.review.exception.ReviewNotFound;
 import com.letsintern.letsintern.domain.review.exception.ReviewUnAuthorized;
 import com.letsintern.letsintern.domain.review.mapper.ReviewMapper;
 import com.letsintern.letsintern.domain.review.repository.ReviewRepository;
 import com.letsintern.letsintern.domain.review.vo.ReviewDetailVo;
+import com.letsintern.letsintern.domain.review.vo.ReviewFeedVo;
 import com.letsintern.letsintern.domain.review.vo.ReviewVo;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
@@ -26,11 +33,18 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ReviewHelper {
 
+    private static final int MAX_FEED_PAGE_SIZE = 50;
+
     private final ApplicationRepository applicationRepository;
     private final ReviewRepository reviewRepository;
     private final ReviewMapper reviewMapper;
 
     private final ProgramRepository programRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReviewFeedCache reviewFeedCache;
+
+    @Value("${cache.program-detail.review-limit:30}")
+    private int programDetailReviewLimit;
 
     public Long createLinkReview(Long programId, ReviewCreateDTO reviewCreateDTO) {
         Program program = programRepository.findById(programId)
@@ -39,7 +53,10 @@ public class ReviewHelper {
                 });
 
         Review newReview = reviewMapper.toEntity(programId, program.getType(), program.getTh(), reviewCreateDTO, null);
-        return reviewRepository.save(newReview).getId();
+        Long reviewId = reviewRepository.save(newReview).getId();
+        eventPublisher.publishEvent(ReviewChangedEvent.of(program.getType()));
+
+        return reviewId;
     }
 
     public Long createReview(Long applicationId, ReviewCreateDTO reviewCreateDTO, String username) {
@@ -58,6 +75,7 @@ public class ReviewHelper {
         );
         Long reviewId = reviewRepository.save(newReview).getId();
         application.setReviewId(reviewId);
+        eventPublisher.publishEvent(ReviewChangedEvent.of(newReview.getProgramType()));
 
         return reviewId;
     }
@@ -72,11 +90,41 @@ public class ReviewHelper {
 
         if(reviewUpdateDTO.getStatus() != null) {
             review.setStatus(reviewUpdateDTO.getStatus());
+            eventPublisher.publishEvent(ReviewChangedEvent.of(review.getProgramType()));
         }
 
         return review.getId();
     }
 
+    /* 프로그램 상세 페이지용 최신 리뷰 목록 */
+    public List<ReviewVo> getRecentReviewList(ProgramType programType) {
+        List<ReviewVo> reviewList = reviewFeedCache.get(programType).reviewList();
+        return reviewList.subList(0, Math.min(programDetailReviewLimit, reviewList.size()));
+    }
+
+    /* 리뷰 id 기준 커서 페이지 - 캐시된 최신 목록 범위 안이면 DB 조회 없이 응답 */
+    public ReviewFeedResponse getReviewFeed(ProgramType programType, Long cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_FEED_PAGE_SIZE));
+        ReviewFeedVo reviewFeed = reviewFeedCache.get(programType);
+        List<ReviewVo> cachedList = reviewFeed.reviewList();
+
+        int from = findStartIndex(cachedList, cursor);
+        int to = from + pageSize + 1;
+        List<ReviewVo> fetchedList = (reviewFeed.complete() || to <= cachedList.size())
+                ? cachedList.subList(from, Math.min(to, cachedList.size()))
+                : reviewRepository.findAllVosByProgramTypeAndCursor(programType, cursor, pageSize + 1);
+
+        return ReviewFeedResponse.of(fetchedList, pageSize, reviewFeed.gradeSummary());
+    }
+
+    private int findStartIndex(List<ReviewVo> cachedList, Long cursor) {
+        if (cursor == null) return 0;
+        for (int i = 0; i < cachedList.size(); i++) {
+            if (cachedList.get(i).getId() < cursor) return i;
+        }
+        return cachedList.size();
+    }
+
     public ReviewVo getReview(Long reviewId) {
         ReviewVo reviewVo = reviewRepository.findVoReviewId(reviewId)
                 .orElseThrow(() -> {
@@ -2,6 +2,7 @@ package com.letsintern.letsintern.domain.review.repository;
 
 import com.letsintern.letsintern.domain.program.domain.ProgramType;
 import com.letsintern.letsintern.domain.review.domian.Review;
+import com.letsintern.letsintern.domain.review.vo.ReviewGradeSummaryVo;
 import com.letsintern.letsintern.domain.review.vo.ReviewVo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -15,6 +16,12 @@ public interface ReviewRepositoryCustom {
 
     List<ReviewVo> findAllVosByProgramType(ProgramType programType);
 
+    List<ReviewVo> findAllVosByProgramType(ProgramType programType, int limit);
+
+    List<ReviewVo> findAllVosByProgramTypeAndCursor(ProgramType programType, Long cursorId, int limit);
+
+    ReviewGradeSummaryVo getGradeSummaryByProgramType(ProgramType programType);
+
     Optional<ReviewVo> findVoReviewId(Long reviewId);
 
     List<String> findAllReviewContentsByProgramId(Long programId);
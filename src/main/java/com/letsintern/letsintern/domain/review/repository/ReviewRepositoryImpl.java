@@ -5,6 +5,7 @@ import com.letsintern.letsintern.domain.program.domain.QProgram;
 import com.letsintern.letsintern.domain.review.domian.QReview;
 import com.letsintern.letsintern.domain.review.domian.Review;
 import com.letsintern.letsintern.domain.review.domian.ReviewStatus;
+import com.letsintern.letsintern.domain.review.vo.ReviewGradeSummaryVo;
 import com.letsintern.letsintern.domain.review.vo.ReviewVo;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQuery;
@@ -63,6 +64,61 @@ public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
                 .fetch();
     }
 
+    @Override
+    public List<ReviewVo> findAllVosByProgramType(ProgramType programType, int limit) {
+        QReview qReview = QReview.review;
+
+        return jpaQueryFactory
+                .select(Projections.constructor(ReviewVo.class,
+                        qReview.id,
+                        qReview.userName,
+                        qReview.grade,
+                        qReview.reviewContents,
+                        qReview.createdAt
+                ))
+                .from(qReview)
+                .where(qReview.programType.eq(programType), qReview.status.eq(ReviewStatus.VISIBLE))
+                .orderBy(qReview.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<ReviewVo> findAllVosByProgramTypeAndCursor(ProgramType programType, Long cursorId, int limit) {
+        QReview qReview = QReview.review;
+
+        return jpaQueryFactory
+                .select(Projections.constructor(ReviewVo.class,
+                        qReview.id,
+                        qReview.userName,
+                        qReview.grade,
+                        qReview.reviewContents,
+                        qReview.createdAt
+                ))
+                .from(qReview)
+                .where(
+                        qReview.programType.eq(programType),
+                        qReview.status.eq(ReviewStatus.VISIBLE),
+                        cursorId == null ? null : qReview.id.lt(cursorId))
+                .orderBy(qReview.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public ReviewGradeSummaryVo getGradeSummaryByProgramType(ProgramType programType) {
+        QReview qReview = QReview.review;
+
+        return jpaQueryFactory
+                .select(Projections.constructor(ReviewGradeSummaryVo.class,
+                        qReview.count(),
+                        qReview.grade.avg()
+                ))
+                .from(qReview)
+                .where(qReview.programType.eq(programType), qReview.status.eq(ReviewStatus.VISIBLE))
+                .fetchOne();
+    }
+
 //    @Override
 //    public Page<ReviewVo> findAllVosByProgramType(ProgramType programType, Pageable pageable) {
 //        QReview qReview = QReview.review;
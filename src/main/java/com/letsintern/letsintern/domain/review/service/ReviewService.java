@@ -1,7 +1,9 @@
 package com.letsintern.letsintern.domain.review.service;
 
+import com.letsintern.letsintern.domain.program.domain.ProgramType;
 import com.letsintern.letsintern.domain.review.dto.request.ReviewCreateDTO;
 import com.letsintern.letsintern.domain.review.dto.request.ReviewUpdateDTO;
+import com.letsintern.letsintern.domain.review.dto.response.ReviewFeedResponse;
 import com.letsintern.letsintern.domain.review.dto.response.ReviewIdResponse;
 import com.letsintern.letsintern.domain.review.dto.response.ReviewListResponse;
 import com.letsintern.letsintern.domain.review.helper.ReviewHelper;
@@ -43,6 +45,11 @@ public class ReviewService {
         return reviewMapper.toReviewIdResponse(reviewHelper.updateReviewStatus(reviewId, reviewUpdateDTO));
     }
 
+    @Transactional(readOnly = true)
+    public ReviewFeedResponse getReviewFeed(ProgramType programType, Long cursor, int size) {
+        return reviewHelper.getReviewFeed(programType, cursor, size);
+    }
+
     public ReviewVo getReview(Long reviewId) {
         return reviewHelper.getReview(reviewId);
     }
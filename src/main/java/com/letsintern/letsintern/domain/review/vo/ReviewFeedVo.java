@@ -0,0 +1,17 @@
+package com.letsintern.letsintern.domain.review.vo;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/*
+ * 프로그램 타입 별 VISIBLE 리뷰 최신순 목록 (최대 materialized-size 개) + 평점 요약
+ * complete 가 true 이면 reviewList 가 해당 타입의 전체 리뷰
+ */
+@Builder
+public record ReviewFeedVo(
+        List<ReviewVo> reviewList,
+        boolean complete,
+        ReviewGradeSummaryVo gradeSummary
+) {
+}
@@ -0,0 +1,11 @@
+package com.letsintern.letsintern.domain.review.vo;
+
+public record ReviewGradeSummaryVo(
+        Long reviewCount,
+        Double averageGrade
+) {
+    public ReviewGradeSummaryVo {
+        if (reviewCount == null) reviewCount = 0L;
+        if (averageGrade == null) averageGrade = 0.0;
+    }
+}
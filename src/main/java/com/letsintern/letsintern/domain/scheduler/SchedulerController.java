@@ -0,0 +1,43 @@
+package com.letsintern.letsintern.domain.scheduler;
+
+import com.letsintern.letsintern.domain.scheduler.exception.SchedulerInvalidLeaseTime;
+import com.letsintern.letsintern.global.common.lock.SchedulerLeaseVo;
+import com.letsintern.letsintern.global.common.lock.SchedulerLock;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.util.List;
+
+@RestController
+@RequestMapping("/scheduler")
+@RequiredArgsConstructor
+@Tag(name = "Scheduler")
+public class SchedulerController {
+
+    private final SchedulerLock schedulerLock;
+
+    @Operation(summary = "[어드민] 스케줄러 lease 및 실행 통계 목록 (응답한 서버 기준)")
+    @GetMapping("/admin")
+    public List<SchedulerLeaseVo> getSchedulerLeaseList() {
+        return schedulerLock.getLeases();
+    }
+
+    @Operation(summary = "[어드민] 스케줄러 lease 상세")
+    @GetMapping("/admin/{jobName}")
+    public SchedulerLeaseVo getSchedulerLease(@PathVariable String jobName) {
+        return schedulerLock.getLease(jobName);
+    }
+
+    @Operation(summary = "[어드민] 스케줄러 lease 수동 takeover (기존 소유 서버의 fencing token 무효화)")
+    @PostMapping("/admin/{jobName}/takeover")
+    public SchedulerLeaseVo takeoverSchedulerLease(@PathVariable String jobName,
+                                                   @RequestParam(defaultValue = "600") long leaseSeconds) {
+        if (leaseSeconds <= 0) throw SchedulerInvalidLeaseTime.EXCEPTION;
+        schedulerLock.takeover(jobName, Duration.ofSeconds(leaseSeconds));
+        return schedulerLock.getLease(jobName);
+    }
+
+}
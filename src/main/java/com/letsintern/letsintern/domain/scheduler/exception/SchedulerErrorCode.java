@@ -0,0 +1,26 @@
+package com.letsintern.letsintern.domain.scheduler.exception;
+
+import com.letsintern.letsintern.global.common.dto.ErrorReason;
+import com.letsintern.letsintern.global.error.BaseErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import static org.springframework.http.HttpStatus.*;
+
+@Getter
+@AllArgsConstructor
+public enum SchedulerErrorCode implements BaseErrorCode {
+
+    SCHEDULER_INVALID_LEASE_TIME(BAD_REQUEST, "SCHEDULER_400_1", "lease 시간은 1초 이상이어야 합니다.");
+
+    private HttpStatus status;
+    private String code;
+    private String reason;
+
+
+    @Override
+    public ErrorReason getErrorReason() {
+        return ErrorReason.of(status.value(), code, reason);
+    }
+}
@@ -0,0 +1,12 @@
+package com.letsintern.letsintern.domain.scheduler.exception;
+
+import com.letsintern.letsintern.global.error.BaseErrorException;
+
+public class SchedulerInvalidLeaseTime extends BaseErrorException {
+
+    public static final SchedulerInvalidLeaseTime EXCEPTION = new SchedulerInvalidLeaseTime();
+
+    private SchedulerInvalidLeaseTime() {
+        super(SchedulerErrorCode.SCHEDULER_INVALID_LEASE_TIME);
+    }
+}
@@ -5,6 +5,9 @@ import com.letsintern.letsintern.domain.user.domain.User;
 import com.letsintern.letsintern.domain.user.dto.request.*;
 import com.letsintern.letsintern.domain.user.dto.response.*;
 import com.letsintern.letsintern.domain.user.service.UserService;
+import com.letsintern.letsintern.domain.user.vo.AdminUserVo;
+import com.letsintern.letsintern.global.common.dto.CursorRequest;
+import com.letsintern.letsintern.global.common.dto.CursorSlice;
 import com.letsintern.letsintern.global.config.user.PrincipalDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -110,6 +113,19 @@ public class UserController {
         return userService.getAdminUserTotalList(programType, programTh, name, email, phoneNum, pageable);
     }
 
+    @Operation(summary = "어드민 사용자 전체 목록 (커서 페이지네이션)")
+    @GetMapping("/admin/cursor")
+    public CursorSlice<AdminUserVo> getAdminUserTotalListByCursor(@RequestParam(required = false) ProgramType programType,
+                                                                  @RequestParam(required = false) Integer programTh,
+                                                                  @RequestParam(required = false) String name,
+                                                                  @RequestParam(required = false) String email,
+                                                                  @RequestParam(required = false) String phoneNum,
+                                                                  @RequestParam(required = false) Long cursor,
+                                                                  @RequestParam(defaultValue = "20") int size,
+                                                                  @RequestParam(defaultValue = "false") boolean withCount) {
+        return userService.getAdminUserTotalListByCursor(programType, programTh, name, email, phoneNum, CursorRequest.of(cursor, size, withCount));
+    }
+
     @Operation(summary = "어드민 사용자 1명 정보")
     @GetMapping("/admin/{userId}")
     public ResponseEntity<User> getAdminUser(@PathVariable Long userId) {
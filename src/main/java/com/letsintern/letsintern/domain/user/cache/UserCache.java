@@ -0,0 +1,38 @@
+package com.letsintern.letsintern.domain.user.cache;
+
+import com.letsintern.letsintern.domain.user.event.UserChangedEvent;
+import com.letsintern.letsintern.domain.user.vo.UserAuthVo;
+import com.letsintern.letsintern.global.common.cache.TieredCache;
+import com.letsintern.letsintern.global.common.cache.TieredCacheFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/*
+ * 인증된 요청의 사용자 id, 권한, 이메일 조회용 짧은 TTL 캐시
+ * 엔티티가 아닌 불변 스냅샷만 담고, 롤백된 변경이 캐시에 남지 않도록 커밋/롤백 모두에서 비운다.
+ */
+@Component
+public class UserCache {
+
+    private final TieredCache<UserAuthVo> cache;
+
+    public UserCache(TieredCacheFactory tieredCacheFactory,
+                     @Value("${cache.user.local-max-size:10000}") long localMaxSize,
+                     @Value("${cache.user.local-ttl-seconds:60}") long localTtlSeconds) {
+        this.cache = tieredCacheFactory.localOnly("user", UserAuthVo.class, localMaxSize, Duration.ofSeconds(localTtlSeconds));
+    }
+
+    public UserAuthVo get(Long userId, Supplier<UserAuthVo> loader) {
+        return cache.get(String.valueOf(userId), loader);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        cache.evict(String.valueOf(event.userId()));
+    }
+}
@@ -5,21 +5,25 @@ import lombok.Getter;
 @Getter
 public enum AccountType {
 
-    KB("국민"),
-    HANA("하나"),
-    WOORI("우리"),
-    SHINHAN("신한"),
-    NH("농협"),
-    SH("수협"),
-    IBK("IBK 기업"),
-    MG("새마을금고"),
-    KAKAO("카카오뱅크"),
-    TOSS("토스뱅크");
+    KB("국민", "004"),
+    HANA("하나", "081"),
+    WOORI("우리", "020"),
+    SHINHAN("신한", "088"),
+    NH("농협", "011"),
+    SH("수협", "007"),
+    IBK("IBK 기업", "003"),
+    MG("새마을금고", "045"),
+    KAKAO("카카오뱅크", "090"),
+    TOSS("토스뱅크", "092");
 
     private final String value;
 
-    AccountType(String value) {
+    /* 금융결제원 표준 은행 코드 (대량 이체 파일용) */
+    private final String bankCode;
+
+    AccountType(String value, String bankCode) {
         this.value = value;
+        this.bankCode = bankCode;
     }
 }
 
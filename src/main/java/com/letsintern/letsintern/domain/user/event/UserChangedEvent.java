@@ -0,0 +1,8 @@
+package com.letsintern.letsintern.domain.user.event;
+
+public record UserChangedEvent(Long userId) {
+
+    public static UserChangedEvent of(Long userId) {
+        return new UserChangedEvent(userId);
+    }
+}
@@ -41,16 +41,18 @@ public class UserFilter {
                 .build();
     }
 
+    public boolean hasProgram() {
+        return programType != null;
+    }
+
     public BooleanBuilder eqProgram() {
         if(programType == null)
             return null;
 
         BooleanBuilder booleanBuilder = new BooleanBuilder();
-        if(programTh == null) {
-            booleanBuilder.and(qApplication.program.type.eq(programType))
-                    .and(qApplication.program.th.eq(programTh));
-        } else {
-            booleanBuilder.and(qApplication.program.type.eq(programType));
+        booleanBuilder.and(qApplication.program.type.eq(programType));
+        if(programTh != null) {
+            booleanBuilder.and(qApplication.program.th.eq(programTh));
         }
 
         return booleanBuilder;
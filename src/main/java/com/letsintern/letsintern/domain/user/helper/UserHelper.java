@@ -6,14 +6,18 @@ import com.letsintern.letsintern.domain.user.domain.User;
 import com.letsintern.letsintern.domain.user.domain.UserRole;
 import com.letsintern.letsintern.domain.user.dto.request.UserSignInRequestDTO;
 import com.letsintern.letsintern.domain.user.dto.request.UserUpdateRequestDTO;
+import com.letsintern.letsintern.domain.user.event.UserChangedEvent;
 import com.letsintern.letsintern.domain.user.exception.*;
 import com.letsintern.letsintern.domain.user.repository.UserRepository;
 import com.letsintern.letsintern.domain.user.util.RedisUtil;
 import com.letsintern.letsintern.domain.user.vo.AdminUserVo;
 import com.letsintern.letsintern.domain.user.vo.UserVo;
+import com.letsintern.letsintern.global.common.dto.CursorRequest;
+import com.letsintern.letsintern.global.common.dto.CursorSlice;
 import com.letsintern.letsintern.global.config.user.PrincipalDetailsService;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.RandomStringUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -33,6 +37,7 @@ public class UserHelper {
     private final PrincipalDetailsService principalDetailsService;
     private final UserRepository userRepository;
     private final RedisUtil redisUtil;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void addUserDetailInfo(User user, String university, String major) {
@@ -41,6 +46,7 @@ public class UserHelper {
         if (user.getRole().equals(UserRole.ROLE_ANONYMOUS))
             user.setRole(UserRole.ROLE_USER);
         userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.of(user.getId()));
     }
 
     @Transactional
@@ -48,6 +54,7 @@ public class UserHelper {
         user.updateAccountType(accountType);
         user.updateAccountNumber(accountNumber);
         userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.of(user.getId()));
     }
 
     public String encodePassword(String password) {
@@ -145,6 +152,7 @@ public class UserHelper {
             user.setAccountNumber(userUpdateRequestDTO.getAccountNumber());
         }
 
+        eventPublisher.publishEvent(UserChangedEvent.of(user.getId()));
         return user.getId();
     }
 
@@ -192,6 +200,7 @@ public class UserHelper {
             user.setAccountNumber(userUpdateRequestDTO.getAccountNumber());
         }
 
+        eventPublisher.publishEvent(UserChangedEvent.of(user.getId()));
         return user.getId();
     }
 
@@ -206,6 +215,7 @@ public class UserHelper {
         }
 
         user.setPassword(encodePassword(newPassword));
+        eventPublisher.publishEvent(UserChangedEvent.of(user.getId()));
     }
 
     public Page<AdminUserVo> getAdminUserTotalList(ProgramType programType, Integer programTh, String name, String email, String phoneNum, Pageable pageable) {
@@ -218,6 +228,13 @@ public class UserHelper {
         return userRepository.findAllAdminUserVo(pageable);
     }
 
+    public CursorSlice<AdminUserVo> getAdminUserTotalListByCursor(ProgramType programType, Integer programTh, String name, String email, String phoneNum, CursorRequest cursorRequest) {
+        if (programType == null && programTh != null) {
+            throw AdminUserFilterOnlyProgramTh.EXCEPTION;
+        }
+        return userRepository.findAllAdminUserVoByCursor(programType, programTh, name, email, phoneNum, cursorRequest);
+    }
+
     public Long setUserManager(Long userId, Long managerId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> {
@@ -225,6 +242,7 @@ public class UserHelper {
                 });
 
         user.setManagerId(managerId);
+        eventPublisher.publishEvent(UserChangedEvent.of(user.getId()));
         return user.getId();
     }
 
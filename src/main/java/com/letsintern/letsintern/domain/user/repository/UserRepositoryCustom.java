@@ -3,6 +3,8 @@ package com.letsintern.letsintern.domain.user.repository;
 import com.letsintern.letsintern.domain.program.domain.ProgramType;
 import com.letsintern.letsintern.domain.user.vo.AdminMangerVo;
 import com.letsintern.letsintern.domain.user.vo.AdminUserVo;
+import com.letsintern.letsintern.global.common.dto.CursorRequest;
+import com.letsintern.letsintern.global.common.dto.CursorSlice;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -14,5 +16,7 @@ public interface UserRepositoryCustom {
 
     Page<AdminUserVo> findAllAdminUserVoFiltered(ProgramType programType, Integer programTh, String name, String email, String phoneNum, Pageable pageable);
 
+    CursorSlice<AdminUserVo> findAllAdminUserVoByCursor(ProgramType programType, Integer programTh, String name, String email, String phoneNum, CursorRequest cursorRequest);
+
     List<AdminMangerVo> findManagerList();
 }
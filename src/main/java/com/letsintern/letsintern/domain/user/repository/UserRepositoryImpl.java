@@ -7,6 +7,9 @@ import com.letsintern.letsintern.domain.user.domain.UserRole;
 import com.letsintern.letsintern.domain.user.filter.UserFilter;
 import com.letsintern.letsintern.domain.user.vo.AdminMangerVo;
 import com.letsintern.letsintern.domain.user.vo.AdminUserVo;
+import com.letsintern.letsintern.global.common.dto.CursorRequest;
+import com.letsintern.letsintern.global.common.dto.CursorSlice;
+import com.letsintern.letsintern.global.common.util.KeysetUtils;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -60,7 +63,7 @@ public class UserRepositoryImpl implements UserRepositoryCustom {
         List<AdminUserVo> adminUserVos;
         JPAQuery<Long> count;
 
-        adminUserVos = jpaQueryFactory
+        adminUserVos = joinApplication(jpaQueryFactory
                 .select(Projections.constructor(AdminUserVo.class,
                         qUser.id,
                         qUser.name,
@@ -70,20 +73,50 @@ public class UserRepositoryImpl implements UserRepositoryCustom {
                         qUser.major,
                         qUser.signedUpAt,
                         qUser.managerId))
-                .from(qUser)
+                .from(qUser), qUser, qApplication, userFilter)
                 .where(userFilter.eqProgram(), userFilter.eqName(), userFilter.eqEmail(), userFilter.eqPhoneNum())
                 .orderBy(qUser.id.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        count = jpaQueryFactory.select(qUser.count())
-                .from(qUser)
+        count = joinApplication(jpaQueryFactory.select(qUser.countDistinct())
+                .from(qUser), qUser, qApplication, userFilter)
                 .where(userFilter.eqProgram(), userFilter.eqName(), userFilter.eqEmail(), userFilter.eqPhoneNum());
 
         return PageableExecutionUtils.getPage(adminUserVos, pageable, count::fetchOne);
     }
 
+    @Override
+    public CursorSlice<AdminUserVo> findAllAdminUserVoByCursor(ProgramType programType, Integer programTh, String name, String email, String phoneNum, CursorRequest cursorRequest) {
+        QUser qUser = QUser.user;
+        QApplication qApplication = QApplication.application;
+        UserFilter userFilter = UserFilter.of(qUser, qApplication, programType, programTh, name, email, phoneNum);
+
+        List<AdminUserVo> adminUserVos = joinApplication(jpaQueryFactory
+                .select(Projections.constructor(AdminUserVo.class,
+                        qUser.id,
+                        qUser.name,
+                        qUser.email,
+                        qUser.phoneNum,
+                        qUser.university,
+                        qUser.major,
+                        qUser.signedUpAt,
+                        qUser.managerId))
+                .from(qUser), qUser, qApplication, userFilter)
+                .where(userFilter.eqProgram(), userFilter.eqName(), userFilter.eqEmail(), userFilter.eqPhoneNum(),
+                        KeysetUtils.idBefore(qUser.id, cursorRequest.cursor()))
+                .orderBy(qUser.id.desc())
+                .limit(cursorRequest.fetchSize())
+                .fetch();
+
+        JPAQuery<Long> count = joinApplication(jpaQueryFactory.select(qUser.countDistinct())
+                .from(qUser), qUser, qApplication, userFilter)
+                .where(userFilter.eqProgram(), userFilter.eqName(), userFilter.eqEmail(), userFilter.eqPhoneNum());
+
+        return CursorSlice.of(adminUserVos, cursorRequest, AdminUserVo::getId, count::fetchOne);
+    }
+
     @Override
     public List<AdminMangerVo> findManagerList() {
         QUser qUser = QUser.user;
@@ -97,4 +130,11 @@ public class UserRepositoryImpl implements UserRepositoryCustom {
                 .where(qUser.role.eq(UserRole.ROLE_ADMIN))
                 .fetch();
     }
+
+    /* 프로그램 필터가 있을 때만 신청 내역과 조인 (한 사용자가 여러 번 신청했을 수 있으므로 distinct) */
+    private <T> JPAQuery<T> joinApplication(JPAQuery<T> query, QUser qUser, QApplication qApplication, UserFilter userFilter) {
+        if (!userFilter.hasProgram()) return query;
+
+        return query.join(qApplication).on(qApplication.user.eq(qUser)).distinct();
+    }
 }
@@ -5,14 +5,19 @@ import com.letsintern.letsintern.domain.user.domain.User;
 import com.letsintern.letsintern.domain.user.domain.UserRole;
 import com.letsintern.letsintern.domain.user.dto.request.*;
 import com.letsintern.letsintern.domain.user.dto.response.*;
+import com.letsintern.letsintern.domain.user.event.UserChangedEvent;
 import com.letsintern.letsintern.domain.user.exception.UserNotFound;
 import com.letsintern.letsintern.domain.user.helper.UserHelper;
 import com.letsintern.letsintern.domain.user.mapper.UserMapper;
 import com.letsintern.letsintern.domain.user.repository.UserRepository;
+import com.letsintern.letsintern.domain.user.vo.AdminUserVo;
+import com.letsintern.letsintern.global.common.dto.CursorRequest;
+import com.letsintern.letsintern.global.common.dto.CursorSlice;
 import com.letsintern.letsintern.global.common.util.EmailUtils;
 import com.letsintern.letsintern.global.config.jwt.TokenProvider;
 import com.letsintern.letsintern.global.config.user.PrincipalDetails;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
@@ -27,6 +32,7 @@ public class UserService {
     private final UserMapper userMapper;
     private final TokenProvider tokenProvider;
     private final EmailUtils emailUtils;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public UserIdResponseDTO signUp(UserSignUpRequestDTO userSignUpRequestDTO) {
@@ -51,8 +57,8 @@ public class UserService {
 
     @Transactional
     public void signOut(PrincipalDetails principalDetails) {
-        final User user = principalDetails.getUser();
-        tokenProvider.deleteRefreshToken(user.getId());
+        tokenProvider.deleteRefreshToken(principalDetails.getId());
+        tokenProvider.revokeCurrentAccessToken();
     }
 
     @Transactional
@@ -72,6 +78,7 @@ public class UserService {
                 });
         String randomPw = userHelper.createRandomPw();
         user.setPassword(userHelper.encodePassword(randomPw));
+        eventPublisher.publishEvent(UserChangedEvent.of(user.getId()));
 
         emailUtils.sendPasswordResetEmail(pwResetMailDTO.getEmail(), randomPw);
     }
@@ -81,6 +88,7 @@ public class UserService {
         signOut(principalDetails);
         User user = principalDetails.getUser();
         userRepository.delete(user);
+        eventPublisher.publishEvent(UserChangedEvent.of(user.getId()));
     }
 
     @Transactional
@@ -126,6 +134,10 @@ public class UserService {
         return userMapper.toUserTotalListResponseDTO(userHelper.getAdminUserTotalList(programType, programTh, name, email, phoneNum, pageable));
     }
 
+    public CursorSlice<AdminUserVo> getAdminUserTotalListByCursor(ProgramType programType, Integer programTh, String name, String email, String phoneNum, CursorRequest cursorRequest) {
+        return userHelper.getAdminUserTotalListByCursor(programType, programTh, name, email, phoneNum, cursorRequest);
+    }
+
     public AdminManagerListResponse getAdminManagerList() {
         return AdminManagerListResponse.from(userRepository.findManagerList());
     }
@@ -152,6 +164,7 @@ public class UserService {
                 });
         tokenProvider.deleteRefreshToken(user.getId());
         userRepository.delete(user);
+        eventPublisher.publishEvent(UserChangedEvent.of(user.getId()));
     }
 
     public Long getUserCount() {
@@ -4,13 +4,15 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
-import java.time.Duration;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 @Component
 @RequiredArgsConstructor
 public class RedisUtil {
 
+    private static final String LOGOUT_ACCESS_TOKEN_KEY = "logout:access";
+
     private final RedisTemplate<String, String> redisTemplate;
 
     public void setRefreshToken(Long id, String token, int expirationTime) {
@@ -21,12 +23,26 @@ public class RedisUtil {
         return redisTemplate.opsForValue().get(key);
     }
 
-    public void setLogoutAccessToken(String accessToken, long expirationTime) {
-        redisTemplate.opsForValue().set(accessToken, "logout", Duration.ofMillis(expirationTime));
+    /* 로그아웃된 access token 은 토큰 전체가 아닌 jti(또는 해시)를 만료 시각 score 로 저장 */
+    public void addLogoutAccessToken(String tokenKey, long expiresAtMillis) {
+        redisTemplate.opsForZSet().add(LOGOUT_ACCESS_TOKEN_KEY, tokenKey, expiresAtMillis);
+    }
+
+    public boolean isLogoutAccessToken(String tokenKey, long nowMillis) {
+        Double expiresAt = redisTemplate.opsForZSet().score(LOGOUT_ACCESS_TOKEN_KEY, tokenKey);
+        return expiresAt != null && expiresAt > nowMillis;
+    }
+
+    public Set<String> getLogoutAccessTokens(long nowMillis) {
+        return redisTemplate.opsForZSet().rangeByScore(LOGOUT_ACCESS_TOKEN_KEY, nowMillis, Double.MAX_VALUE);
+    }
+
+    public void removeExpiredLogoutAccessTokens(long nowMillis) {
+        redisTemplate.opsForZSet().removeRangeByScore(LOGOUT_ACCESS_TOKEN_KEY, 0, nowMillis);
     }
 
-    public String getLogoutAccessToken(String accessToken) {
-        return redisTemplate.opsForValue().get(accessToken);
+    public void publish(String channel, String message) {
+        redisTemplate.convertAndSend(channel, message);
     }
 
     public void delete(String key) {
@@ -0,0 +1,30 @@
+package com.letsintern.letsintern.domain.user.vo;
+
+import com.letsintern.letsintern.domain.user.domain.User;
+import com.letsintern.letsintern.domain.user.domain.UserRole;
+import lombok.Builder;
+import lombok.Getter;
+
+/* 인증 정보 캐시용 불변 스냅샷 - 요청 간에 공유되므로 엔티티 대신 보관한다 */
+@Getter
+public class UserAuthVo {
+
+    private final Long id;
+    private final UserRole role;
+    private final String email;
+
+    @Builder
+    public UserAuthVo(Long id, UserRole role, String email) {
+        this.id = id;
+        this.role = role;
+        this.email = email;
+    }
+
+    public static UserAuthVo from(User user) {
+        return UserAuthVo.builder()
+                .id(user.getId())
+                .role(user.getRole())
+                .email(user.getEmail())
+                .build();
+    }
+}
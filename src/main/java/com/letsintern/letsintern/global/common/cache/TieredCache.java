@@ -0,0 +1,102 @@
+package com.letsintern.letsintern.global.common.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/*
+ * 로컬(Caffeine) -> Redis(선택) -> DB 순서로 조회하는 read-through 캐시
+ * Redis 키는 세대(generation) 번호를 포함하므로 evictAll 은 KEYS 스캔 없이 INCR 한 번으로 처리된다.
+ */
+@Slf4j
+public class TieredCache<V> {
+
+    private static final String KEY_PREFIX = "cache:";
+
+    private final String name;
+    private final Class<V> valueType;
+    private final Cache<String, V> localCache;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration redisTtl;
+
+    TieredCache(String name, Class<V> valueType, long localMaxSize, Duration localTtl,
+                RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper, Duration redisTtl) {
+        this.name = name;
+        this.valueType = valueType;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .build();
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisTtl = redisTtl;
+    }
+
+    public V get(String key, Supplier<V> loader) {
+        V value = localCache.getIfPresent(key);
+        if (value != null) return value;
+
+        /* 같은 키에 대한 동시 miss 는 한 번만 로드 */
+        return localCache.get(key, k -> loadThroughRedis(k, loader));
+    }
+
+    public void evict(String key) {
+        localCache.invalidate(key);
+        if (redisTemplate == null) return;
+
+        try {
+            redisTemplate.delete(redisKey(key));
+        } catch (RuntimeException e) {
+            log.warn("[{}] redis evict failed", name, e);
+        }
+    }
+
+    public void evictAll() {
+        localCache.invalidateAll();
+        if (redisTemplate == null) return;
+
+        try {
+            redisTemplate.opsForValue().increment(generationKey());
+        } catch (RuntimeException e) {
+            log.warn("[{}] redis evictAll failed", name, e);
+        }
+    }
+
+    private V loadThroughRedis(String key, Supplier<V> loader) {
+        if (redisTemplate == null) return loader.get();
+
+        String redisKey;
+        try {
+            redisKey = redisKey(key);
+            String cached = redisTemplate.opsForValue().get(redisKey);
+            if (cached != null) return objectMapper.readValue(cached, valueType);
+        } catch (RuntimeException | JsonProcessingException e) {
+            log.warn("[{}] redis read failed, fallback to loader", name, e);
+            return loader.get();
+        }
+
+        V loaded = loader.get();
+        try {
+            redisTemplate.opsForValue().set(redisKey, objectMapper.writeValueAsString(loaded), redisTtl);
+        } catch (RuntimeException | JsonProcessingException e) {
+            log.warn("[{}] redis write failed", name, e);
+        }
+        return loaded;
+    }
+
+    private String redisKey(String key) {
+        String generation = redisTemplate.opsForValue().get(generationKey());
+        return KEY_PREFIX + name + ":" + (generation == null ? "0" : generation) + ":" + key;
+    }
+
+    private String generationKey() {
+        return KEY_PREFIX + name + ":generation";
+    }
+}
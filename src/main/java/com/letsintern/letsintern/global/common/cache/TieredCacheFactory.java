@@ -0,0 +1,31 @@
+package com.letsintern.letsintern.global.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@RequiredArgsConstructor
+public class TieredCacheFactory {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public <V> TieredCache<V> localOnly(String name, Class<V> valueType, long localMaxSize, Duration localTtl) {
+        return new TieredCache<>(name, valueType, localMaxSize, localTtl, null, objectMapper, null);
+    }
+
+    /* 로컬 전용 캐시는 직렬화하지 않으므로 제네릭 컬렉션도 값으로 담을 수 있다 */
+    public <V> TieredCache<V> localOnly(String name, long localMaxSize, Duration localTtl) {
+        return new TieredCache<>(name, null, localMaxSize, localTtl, null, objectMapper, null);
+    }
+
+    public <V> TieredCache<V> create(String name, Class<V> valueType, long localMaxSize, Duration localTtl,
+                                     boolean redisEnabled, Duration redisTtl) {
+        if (!redisEnabled) return localOnly(name, valueType, localMaxSize, localTtl);
+        return new TieredCache<>(name, valueType, localMaxSize, localTtl, redisTemplate, objectMapper, redisTtl);
+    }
+}
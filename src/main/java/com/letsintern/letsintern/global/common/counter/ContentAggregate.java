@@ -0,0 +1,9 @@
+package com.letsintern.letsintern.global.common.counter;
+
+/* 공개 조회 API 응답을 구성하는 데이터 단위 - 각각 버전을 따로 관리한다 */
+public enum ContentAggregate {
+    PROGRAM,
+    APPLICATION,
+    REVIEW,
+    FAQ
+}
@@ -0,0 +1,77 @@
+package com.letsintern.letsintern.global.common.counter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * 공개 조회 API 의 ETag 를 만들기 위한 aggregate 별 버전 (서버 간 공유를 위해 Redis 에 둔다)
+ * Redis 가 비워져도 예전 버전 값으로 되돌아가지 않도록 "현재 시각(ms)"과 "이전 버전 + 1" 중 큰 값으로 올린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentVersionCounter {
+
+    private static final String KEY_PREFIX = "content-version:";
+
+    private static final RedisScript<Long> BUMP_SCRIPT = RedisScript.of(
+            "local current = tonumber(redis.call('get', KEYS[1]) or '0') " +
+            "local now = tonumber(ARGV[1]) " +
+            "local version = current < now and now or current + 1 " +
+            "redis.call('set', KEYS[1], string.format('%d', version)) " +
+            "return version", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /* 올리지 못한 버전 - 반영될 때까지 이 서버는 해당 aggregate 로 304 를 응답하지 않는다 */
+    private final Set<ContentAggregate> pendingBumps = ConcurrentHashMap.newKeySet();
+
+    public void bump(ContentAggregate aggregate) {
+        try {
+            redisTemplate.execute(BUMP_SCRIPT, List.of(key(aggregate)), String.valueOf(System.currentTimeMillis()));
+            pendingBumps.remove(aggregate);
+        } catch (RuntimeException e) {
+            log.warn("content version bump failed: {}", aggregate, e);
+            pendingBumps.add(aggregate);
+        }
+    }
+
+    /* 버전을 읽지 못하면 null -> 호출한 쪽은 조건부 응답 없이 그대로 처리한다 */
+    public List<Long> getVersions(List<ContentAggregate> aggregates) {
+        if (!pendingBumps.isEmpty()) {
+            List.copyOf(pendingBumps).forEach(this::bump);
+            if (aggregates.stream().anyMatch(pendingBumps::contains)) return null;
+        }
+
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(aggregates.stream().map(this::key).toList());
+            if (values == null) return null;
+
+            List<Long> versions = new ArrayList<>(aggregates.size());
+            for (int i = 0; i < aggregates.size(); i++) {
+                String value = values.get(i);
+                versions.add(value != null ? Long.parseLong(value) : initialize(aggregates.get(i)));
+            }
+            return versions;
+        } catch (RuntimeException e) {
+            log.warn("content version read failed", e);
+            return null;
+        }
+    }
+
+    private Long initialize(ContentAggregate aggregate) {
+        return redisTemplate.execute(BUMP_SCRIPT, List.of(key(aggregate)), String.valueOf(System.currentTimeMillis()));
+    }
+
+    private String key(ContentAggregate aggregate) {
+        return KEY_PREFIX + aggregate.name();
+    }
+}
@@ -0,0 +1,37 @@
+package com.letsintern.letsintern.global.common.counter;
+
+import com.letsintern.letsintern.domain.application.event.ApplicationCountChangedEvent;
+import com.letsintern.letsintern.domain.faq.event.FaqChangedEvent;
+import com.letsintern.letsintern.domain.program.event.ProgramChangedEvent;
+import com.letsintern.letsintern.domain.review.event.ReviewChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/* 커밋된 변경만 버전을 올린다 (롤백된 변경으로 클라이언트 캐시를 버리지 않도록) */
+@Component
+@RequiredArgsConstructor
+public class ContentVersionListener {
+
+    private final ContentVersionCounter contentVersionCounter;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProgramChanged(ProgramChangedEvent event) {
+        contentVersionCounter.bump(ContentAggregate.PROGRAM);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationCountChanged(ApplicationCountChangedEvent event) {
+        contentVersionCounter.bump(ContentAggregate.APPLICATION);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        contentVersionCounter.bump(ContentAggregate.REVIEW);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFaqChanged(FaqChangedEvent event) {
+        contentVersionCounter.bump(ContentAggregate.FAQ);
+    }
+}
@@ -0,0 +1,43 @@
+package com.letsintern.letsintern.global.common.counter;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+/* 아직 카운터 컬럼에 반영되지 않은 변화량 1건 - 신청/출석 행과 같은 트랜잭션에서 insert 된다 */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_counter_delta_type_target", columnList = "type, target_id"))
+public class CounterDelta {
+
+    @Id
+    @Column(name = "counter_delta_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    private CounterType type;
+
+    @NotNull
+    private Long targetId;
+
+    @NotNull
+    private Integer delta;
+
+    @Builder
+    private CounterDelta(CounterType type, Long targetId, Integer delta) {
+        this.type = type;
+        this.targetId = targetId;
+        this.delta = delta;
+    }
+
+    public static CounterDelta of(CounterType type, Long targetId, int delta) {
+        return CounterDelta.builder()
+                .type(type)
+                .targetId(targetId)
+                .delta(delta)
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.letsintern.letsintern.global.common.counter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * id 별 카운터 변화량을 counter_delta 테이블에 쌓았다가 주기적으로 카운터 컬럼에 한 번에 반영하기 위한 버퍼
+ * 요청 트랜잭션은 append-only insert 만 하므로 프로그램/미션 행 잠금 경합이 없고,
+ * 변화량이 원본 행(신청/출석)과 함께 커밋되므로 어느 서버에서 쌓였든 재집계와 정확히 맞출 수 있다.
+ * 모든 메서드는 호출한 트랜잭션 안에서 실행되고, 그 트랜잭션이 롤백되면 함께 되돌아간다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CounterDeltaBuffer {
+
+    private final CounterDeltaRepository counterDeltaRepository;
+
+    public void add(CounterType type, Long targetId, int delta) {
+        counterDeltaRepository.save(CounterDelta.of(type, targetId, delta));
+    }
+
+    /* 최대 limit 건을 꺼내 종류, id 별로 합산하고 지운다 (다른 서버가 잡은 행은 건너뜀) */
+    public Map<CounterType, Map<Long, Long>> drain(List<CounterType> types, int limit) {
+        final List<CounterDelta> deltaList = counterDeltaRepository.findFlushBatchForUpdate(types, limit);
+        final Map<CounterType, Map<Long, Long>> drained = new EnumMap<>(CounterType.class);
+        deltaList.forEach(delta -> drained
+                .computeIfAbsent(delta.getType(), type -> new HashMap<>())
+                .merge(delta.getTargetId(), (long) delta.getDelta(), Long::sum));
+        counterDeltaRepository.deleteAllByIdIn(deltaList.stream().map(CounterDelta::getId).toList());
+        return drained;
+    }
+
+    /*
+     * 재집계 직전에 호출: 대상 id 의 미반영 변화량을 잠그고 지운다
+     * 잠근 뒤에는 같은 대상의 신청/출석이 커밋되지 못하므로, 이후 재집계에 포함되는 행과 지운 변화량이 정확히 일치한다.
+     */
+    public void discard(List<CounterType> types, Long targetId) {
+        final List<CounterDelta> deltaList = counterDeltaRepository.findAllByTargetForUpdate(types, targetId);
+        counterDeltaRepository.deleteAllByIdIn(deltaList.stream().map(CounterDelta::getId).toList());
+    }
+
+    public List<Long> findPendingTargetIds(List<CounterType> types) {
+        return counterDeltaRepository.findPendingTargetIds(types);
+    }
+}
@@ -0,0 +1,7 @@
+package com.letsintern.letsintern.global.common.counter;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CounterDeltaRepository extends JpaRepository<CounterDelta, Long>, CounterDeltaRepositoryCustom {
+
+}
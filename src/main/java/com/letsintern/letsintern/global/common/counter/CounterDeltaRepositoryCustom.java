@@ -0,0 +1,14 @@
+package com.letsintern.letsintern.global.common.counter;
+
+import java.util.List;
+
+public interface CounterDeltaRepositoryCustom {
+
+    List<CounterDelta> findFlushBatchForUpdate(List<CounterType> types, int limit);
+
+    List<CounterDelta> findAllByTargetForUpdate(List<CounterType> types, Long targetId);
+
+    List<Long> findPendingTargetIds(List<CounterType> types);
+
+    void deleteAllByIdIn(List<Long> idList);
+}
@@ -0,0 +1,61 @@
+package com.letsintern.letsintern.global.common.counter;
+
+import com.letsintern.letsintern.global.common.util.QueryHintUtils;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static com.letsintern.letsintern.global.common.counter.QCounterDelta.counterDelta;
+
+@Repository
+@RequiredArgsConstructor
+public class CounterDeltaRepositoryImpl implements CounterDeltaRepositoryCustom {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    /* 여러 서버가 동시에 flush 해도 같은 변화량을 두 번 더하지 않도록 SKIP LOCKED 로 잠근다 */
+    @Override
+    public List<CounterDelta> findFlushBatchForUpdate(List<CounterType> types, int limit) {
+        return QueryHintUtils.skipLocked(jpaQueryFactory
+                        .selectFrom(counterDelta)
+                        .where(counterDelta.type.in(types))
+                        .orderBy(counterDelta.id.asc())
+                        .limit(limit))
+                .fetch();
+    }
+
+    /*
+     * (type, targetId) 인덱스 범위를 next-key lock 으로 잠근다 (MySQL REPEATABLE READ)
+     * 커밋 전까지 같은 대상의 새 변화량 insert 는 대기하고, 진행 중인 flush 가 잡은 행은 그 flush 가 끝날 때까지 기다린다.
+     */
+    @Override
+    public List<CounterDelta> findAllByTargetForUpdate(List<CounterType> types, Long targetId) {
+        return jpaQueryFactory
+                .selectFrom(counterDelta)
+                .where(counterDelta.type.in(types), counterDelta.targetId.eq(targetId))
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+    }
+
+    @Override
+    public List<Long> findPendingTargetIds(List<CounterType> types) {
+        return jpaQueryFactory
+                .select(counterDelta.targetId)
+                .distinct()
+                .from(counterDelta)
+                .where(counterDelta.type.in(types))
+                .fetch();
+    }
+
+    @Override
+    public void deleteAllByIdIn(List<Long> idList) {
+        if (idList.isEmpty()) return;
+        jpaQueryFactory
+                .delete(counterDelta)
+                .where(counterDelta.id.in(idList))
+                .execute();
+    }
+}
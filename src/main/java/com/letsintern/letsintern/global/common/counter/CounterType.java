@@ -0,0 +1,8 @@
+package com.letsintern.letsintern.global.common.counter;
+
+/* counter_delta 에 쌓이는 카운터 컬럼 종류 */
+public enum CounterType {
+    PROGRAM_APPLICATION,
+    MISSION_ATTENDANCE,
+    MISSION_LATE_ATTENDANCE
+}
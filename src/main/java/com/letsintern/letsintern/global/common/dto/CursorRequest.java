@@ -0,0 +1,23 @@
+package com.letsintern.letsintern.global.common.dto;
+
+/*
+ * 키셋(seek) 페이지네이션 요청
+ * cursor 는 직전 페이지 마지막 행의 id, withCount 가 true 일 때만 전체 개수를 조회한다.
+ */
+public record CursorRequest(Long cursor, int size, boolean withCount) {
+
+    public static final int MAX_SIZE = 100;
+
+    public CursorRequest {
+        size = Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    public static CursorRequest of(Long cursor, int size, boolean withCount) {
+        return new CursorRequest(cursor, size, withCount);
+    }
+
+    /* 다음 페이지 존재 여부 확인을 위해 한 건 더 조회 */
+    public int fetchSize() {
+        return size + 1;
+    }
+}
@@ -0,0 +1,42 @@
+package com.letsintern.letsintern.global.common.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Getter
+public class CursorSlice<T> {
+
+    private final List<T> content;
+    private final Long nextCursor;
+    private final boolean hasNext;
+    private final int pageSize;
+    private final Long totalElements;
+
+    @Builder
+    private CursorSlice(List<T> content, Long nextCursor, boolean hasNext, int pageSize, Long totalElements) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+        this.pageSize = pageSize;
+        this.totalElements = totalElements;
+    }
+
+    /* fetchedList 는 CursorRequest.fetchSize() 만큼 조회한 결과 */
+    public static <T> CursorSlice<T> of(List<T> fetchedList, CursorRequest cursorRequest,
+                                        Function<T, Long> idExtractor, Supplier<Long> countSupplier) {
+        boolean hasNext = fetchedList.size() > cursorRequest.size();
+        List<T> content = hasNext ? fetchedList.subList(0, cursorRequest.size()) : fetchedList;
+
+        return CursorSlice.<T>builder()
+                .content(content)
+                .nextCursor(hasNext ? idExtractor.apply(content.get(content.size() - 1)) : null)
+                .hasNext(hasNext)
+                .pageSize(cursorRequest.size())
+                .totalElements(cursorRequest.withCount() ? countSupplier.get() : null)
+                .build();
+    }
+}
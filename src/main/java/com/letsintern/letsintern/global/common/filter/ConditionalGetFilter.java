@@ -0,0 +1,140 @@
+package com.letsintern.letsintern.global.common.filter;
+
+import com.letsintern.letsintern.global.common.counter.ContentAggregate;
+import com.letsintern.letsintern.global.common.counter.ContentVersionCounter;
+import com.letsintern.letsintern.global.config.user.PrincipalDetails;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 공개 조회 API 의 조건부 GET 처리
+ * ETag 는 응답 본문이 아니라 aggregate 버전으로 만들기 때문에, If-None-Match 가 맞으면 컨트롤러(DB 조회)를 거치지 않고 304 를 준다.
+ * 그래서 ETag 는 본문이 그 버전의 스냅샷임이 확실할 때만 붙인다.
+ * - 컨트롤러 전후로 읽은 버전이 같아야 한다 (처리 중 변경이 커밋되면 본문이 어느 버전인지 알 수 없다)
+ * - 마지막 변경 후 본문을 만드는 로컬 캐시 중 가장 긴 TTL (+ 신청 수 반영 주기) 이 지나야 한다 (다른 서버의 로컬 캐시가 아직 예전 본문을 줄 수 있다)
+ * 조건을 못 채운 응답은 헤더 없이 그대로 내보내므로, 예전 본문이 새 버전의 ETag 로 캐시되지 않는다.
+ * 시큐리티 필터 뒤에서 실행되므로 권한 검사는 그대로 적용된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetFilter extends OncePerRequestFilter {
+
+    private static final String ANONYMOUS = "anonymous";
+
+    private final ContentVersionCounter contentVersionCounter;
+    private final Environment environment;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Value("${conditional-get.enabled:true}")
+    private boolean enabled;
+
+    @Value("${counter.flush-interval-ms:5000}")
+    private long counterFlushIntervalMs;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !HttpMethod.GET.matches(request.getMethod()) || findRoute(request.getServletPath()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        final ConditionalGetRoute route = findRoute(request.getServletPath());
+        final List<Long> versions = contentVersionCounter.getVersions(route.getAggregates());
+        if (versions == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        final String eTag = createETag(route, versions);
+        if (isNotModified(request.getHeader(HttpHeaders.IF_NONE_MATCH), eTag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            response.setHeader(HttpHeaders.ETAG, eTag);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, route.getCacheControl().getHeaderValue());
+            return;
+        }
+
+        /* 오류 응답에는 캐시 헤더를 붙이지 않도록 본문을 잡아 두었다가 상태를 보고 헤더를 정한다 */
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, responseWrapper);
+            if (responseWrapper.getStatus() == HttpServletResponse.SC_OK && !responseWrapper.containsHeader(HttpHeaders.ETAG)
+                    && isSnapshotOf(route, versions)) {
+                responseWrapper.setHeader(HttpHeaders.ETAG, eTag);
+                responseWrapper.setHeader(HttpHeaders.CACHE_CONTROL, route.getCacheControl().getHeaderValue());
+            }
+        } finally {
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    /* 버전은 max(변경 시각 ms, 이전 + 1) 이므로 가장 큰 버전으로 마지막 변경 시각의 상한을 알 수 있다 */
+    private boolean isSnapshotOf(ConditionalGetRoute route, List<Long> versions) {
+        if (!versions.equals(contentVersionCounter.getVersions(route.getAggregates()))) return false;
+
+        final long lastChangedAt = versions.stream().mapToLong(Long::longValue).max().orElse(0);
+        return System.currentTimeMillis() - lastChangedAt >= getSettleMillis(route);
+    }
+
+    private long getSettleMillis(ConditionalGetRoute route) {
+        long settleMillis = route.getLocalCacheTtls().stream()
+                .mapToLong(ttl -> TimeUnit.SECONDS.toMillis(Long.parseLong(environment.resolvePlaceholders(ttl))))
+                .max()
+                .orElse(0);
+        if (route.getAggregates().contains(ContentAggregate.APPLICATION))
+            settleMillis += counterFlushIntervalMs;
+        return settleMillis;
+    }
+
+    private ConditionalGetRoute findRoute(String servletPath) {
+        return Arrays.stream(ConditionalGetRoute.values())
+                .filter(route -> pathMatcher.match(route.getPattern(), servletPath))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /* 같은 버전이어도 직렬화 결과까지 같다고 보장하지 않으므로 weak ETag */
+    private String createETag(ConditionalGetRoute route, List<Long> versions) {
+        StringBuilder source = new StringBuilder(route.name()).append(':').append(versions);
+        if (route.isPerUser())
+            source.append(':').append(getUserKey());
+        return "W/\"" + DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private String getUserKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof PrincipalDetails principalDetails)
+            return String.valueOf(principalDetails.getId());
+        return ANONYMOUS;
+    }
+
+    private boolean isNotModified(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) return false;
+
+        final String opaqueTag = eTag.substring(2);
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(candidate -> candidate.startsWith("W/") ? candidate.substring(2) : candidate)
+                .anyMatch(opaqueTag::equals);
+    }
+}
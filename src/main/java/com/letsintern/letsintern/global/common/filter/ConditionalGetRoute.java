@@ -0,0 +1,48 @@
+package com.letsintern.letsintern.global.common.filter;
+
+import com.letsintern.letsintern.global.common.counter.ContentAggregate;
+import lombok.Getter;
+import org.springframework.http.CacheControl;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.letsintern.letsintern.global.common.counter.ContentAggregate.*;
+
+/*
+ * 버전 기반 ETag 를 붙이는 공개 GET API
+ * - sharedMaxAgeSeconds > 0 : 사용자와 무관한 응답 -> CDN 은 s-maxage 동안 캐시, 브라우저는 매번 재검증
+ * - sharedMaxAgeSeconds = 0 : 권한이 필요하거나 사용자별 응답 -> private 으로만 캐시
+ * - perUser : 로그인 사용자마다 응답이 달라 ETag 에 사용자를 포함
+ * - localCacheTtls : 응답을 만드는 로컬 캐시들의 TTL 설정 (@Value 와 같은 "${키:기본값}" 형식)
+ *                    다른 서버의 로컬 캐시는 버전이 올라도 TTL 까지 예전 값을 주므로, 그중 가장 긴 TTL 만큼 기다린다
+ */
+@Getter
+public enum ConditionalGetRoute {
+    PROGRAM_LIST("/program", List.of(PROGRAM, APPLICATION), 60, false,
+            List.of("${cache.program-thumbnail.local-ttl-seconds:60}")),
+    PROGRAM_COUNT("/program/count", List.of(PROGRAM), 300, false, List.of()),
+    PROGRAM_DETAIL("/program/{programId:\\d+}", List.of(PROGRAM, APPLICATION, REVIEW, FAQ), 0, true,
+            List.of("${cache.program-detail.local-ttl-seconds:60}", "${cache.review-feed.local-ttl-seconds:300}")),
+    REVIEW_DETAIL("/review/{reviewId:\\d+}", List.of(REVIEW), 300, false, List.of()),
+    REVIEW_FEED("/review/feed/{programType}", List.of(REVIEW), 60, false,
+            List.of("${cache.review-feed.local-ttl-seconds:300}")),
+    FAQ_LIST("/faq/{programType:[A-Z_]+}", List.of(FAQ), 0, false, List.of());
+
+    private final String pattern;
+    private final List<ContentAggregate> aggregates;
+    private final boolean perUser;
+    private final List<String> localCacheTtls;
+    private final CacheControl cacheControl;
+
+    ConditionalGetRoute(String pattern, List<ContentAggregate> aggregates, long sharedMaxAgeSeconds, boolean perUser,
+                        List<String> localCacheTtls) {
+        this.pattern = pattern;
+        this.aggregates = aggregates;
+        this.perUser = perUser;
+        this.localCacheTtls = localCacheTtls;
+        this.cacheControl = sharedMaxAgeSeconds > 0
+                ? CacheControl.maxAge(0, TimeUnit.SECONDS).sMaxAge(sharedMaxAgeSeconds, TimeUnit.SECONDS).cachePublic()
+                : CacheControl.noCache().cachePrivate();
+    }
+}
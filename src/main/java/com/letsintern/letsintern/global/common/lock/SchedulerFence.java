@@ -0,0 +1,44 @@
+package com.letsintern.letsintern.global.common.lock;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/*
+ * 작업별로 DB 에 기록된 최신 fencing token
+ * lease 를 얻거나 takeover 할 때 더 큰 token 으로만 올라가고, 쓰기 트랜잭션은 이 행을 공유 잠금으로 읽어 자기 token 인지 확인한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerFence {
+
+    @Id
+    @Column(length = 100)
+    private String jobName;
+
+    @NotNull
+    private Long fencingToken;
+
+    @NotNull
+    private LocalDateTime fencedAt;
+
+    @Builder
+    private SchedulerFence(String jobName, Long fencingToken, LocalDateTime fencedAt) {
+        this.jobName = jobName;
+        this.fencingToken = fencingToken;
+        this.fencedAt = fencedAt;
+    }
+
+    public static SchedulerFence of(String jobName, long fencingToken, LocalDateTime fencedAt) {
+        return SchedulerFence.builder()
+                .jobName(jobName)
+                .fencingToken(fencingToken)
+                .fencedAt(fencedAt)
+                .build();
+    }
+}
@@ -0,0 +1,7 @@
+package com.letsintern.letsintern.global.common.lock;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SchedulerFenceRepository extends JpaRepository<SchedulerFence, String>, SchedulerFenceRepositoryCustom {
+
+}
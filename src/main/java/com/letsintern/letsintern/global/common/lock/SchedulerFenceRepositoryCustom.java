@@ -0,0 +1,10 @@
+package com.letsintern.letsintern.global.common.lock;
+
+import java.time.LocalDateTime;
+
+public interface SchedulerFenceRepositoryCustom {
+
+    long advanceFencingToken(String jobName, long fencingToken, LocalDateTime now);
+
+    Long findFencingTokenForShare(String jobName);
+}
@@ -0,0 +1,40 @@
+package com.letsintern.letsintern.global.common.lock;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+import static com.letsintern.letsintern.global.common.lock.QSchedulerFence.schedulerFence;
+
+@Repository
+@RequiredArgsConstructor
+public class SchedulerFenceRepositoryImpl implements SchedulerFenceRepositoryCustom {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    /* 기록된 token 보다 작지 않을 때만 올린다, 공유 잠금으로 읽고 있는 쓰기 트랜잭션이 끝날 때까지 기다린다 */
+    @Override
+    public long advanceFencingToken(String jobName, long fencingToken, LocalDateTime now) {
+        return jpaQueryFactory
+                .update(schedulerFence)
+                .set(schedulerFence.fencingToken, fencingToken)
+                .set(schedulerFence.fencedAt, now)
+                .where(schedulerFence.jobName.eq(jobName),
+                        schedulerFence.fencingToken.loe(fencingToken))
+                .execute();
+    }
+
+    /* 같은 작업의 쓰기끼리는 막지 않고, 새 token 기록은 이 트랜잭션이 커밋될 때까지 막는다 (SELECT ... FOR SHARE) */
+    @Override
+    public Long findFencingTokenForShare(String jobName) {
+        final SchedulerFence fence = jpaQueryFactory
+                .selectFrom(schedulerFence)
+                .where(schedulerFence.jobName.eq(jobName))
+                .setLockMode(LockModeType.PESSIMISTIC_READ)
+                .fetchOne();
+        return fence == null ? null : fence.getFencingToken();
+    }
+}
@@ -0,0 +1,48 @@
+package com.letsintern.letsintern.global.common.lock;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/* 이 서버에서 관측한 작업별 lease 통계 */
+@Getter
+public class SchedulerJobStats {
+
+    private final AtomicLong acquiredCount = new AtomicLong();
+    private final AtomicLong skippedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong fencedCount = new AtomicLong();
+    private final AtomicLong takeoverCount = new AtomicLong();
+
+    private volatile Long lastToken;
+    private volatile Long lastStartedAt;
+    private volatile Long lastDurationMillis;
+
+    void started(long token, long startedAt) {
+        acquiredCount.incrementAndGet();
+        this.lastToken = token;
+        this.lastStartedAt = startedAt;
+    }
+
+    void succeeded(long durationMillis) {
+        this.lastDurationMillis = durationMillis;
+    }
+
+    void failed(long durationMillis) {
+        failedCount.incrementAndGet();
+        this.lastDurationMillis = durationMillis;
+    }
+
+    void skipped() {
+        skippedCount.incrementAndGet();
+    }
+
+    void fenced() {
+        fencedCount.incrementAndGet();
+    }
+
+    void takenOver(Long token) {
+        takeoverCount.incrementAndGet();
+        this.lastToken = token;
+    }
+}
@@ -0,0 +1,9 @@
+package com.letsintern.letsintern.global.common.lock;
+
+/* lease 가 만료되었거나 다른 서버로 넘어간 뒤의 쓰기 시도 */
+public class SchedulerLeaseLostException extends IllegalStateException {
+
+    public SchedulerLeaseLostException(String jobName, Long token, Throwable cause) {
+        super("scheduler lease lost: " + jobName + " (token " + token + ")", cause);
+    }
+}
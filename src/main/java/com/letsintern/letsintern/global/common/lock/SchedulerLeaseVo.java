@@ -0,0 +1,69 @@
+package com.letsintern.letsintern.global.common.lock;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+@Getter
+public class SchedulerLeaseVo {
+
+    private String jobName;
+
+    /* 현재 lease 를 가진 서버와 fencing token (lease 가 없으면 null) */
+    private String holder;
+    private Long fencingToken;
+    private Long ttlMillis;
+
+    /* 아래는 응답한 서버 기준 통계 */
+    private long acquiredCount;
+    private long skippedCount;
+    private long failedCount;
+    private long fencedCount;
+    private long takeoverCount;
+    private Long lastToken;
+    private LocalDateTime lastStartedAt;
+    private Long lastDurationMillis;
+
+    @Builder
+    private SchedulerLeaseVo(String jobName, String holder, Long fencingToken, Long ttlMillis,
+                             long acquiredCount, long skippedCount, long failedCount, long fencedCount, long takeoverCount,
+                             Long lastToken, LocalDateTime lastStartedAt, Long lastDurationMillis) {
+        this.jobName = jobName;
+        this.holder = holder;
+        this.fencingToken = fencingToken;
+        this.ttlMillis = ttlMillis;
+        this.acquiredCount = acquiredCount;
+        this.skippedCount = skippedCount;
+        this.failedCount = failedCount;
+        this.fencedCount = fencedCount;
+        this.takeoverCount = takeoverCount;
+        this.lastToken = lastToken;
+        this.lastStartedAt = lastStartedAt;
+        this.lastDurationMillis = lastDurationMillis;
+    }
+
+    public static SchedulerLeaseVo of(String jobName, String leaseValue, Long ttlMillis, SchedulerJobStats stats) {
+        final int separator = leaseValue == null ? -1 : leaseValue.lastIndexOf(':');
+        final SchedulerLeaseVoBuilder builder = SchedulerLeaseVo.builder()
+                .jobName(jobName)
+                .holder(separator < 0 ? null : leaseValue.substring(0, separator))
+                .fencingToken(separator < 0 ? null : Long.valueOf(leaseValue.substring(separator + 1)))
+                .ttlMillis(ttlMillis);
+
+        if (stats != null) {
+            builder.acquiredCount(stats.getAcquiredCount().get())
+                    .skippedCount(stats.getSkippedCount().get())
+                    .failedCount(stats.getFailedCount().get())
+                    .fencedCount(stats.getFencedCount().get())
+                    .takeoverCount(stats.getTakeoverCount().get())
+                    .lastToken(stats.getLastToken())
+                    .lastStartedAt(stats.getLastStartedAt() == null ? null
+                            : LocalDateTime.ofInstant(Instant.ofEpochMilli(stats.getLastStartedAt()), ZoneId.systemDefault()))
+                    .lastDurationMillis(stats.getLastDurationMillis());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,217 @@
+package com.letsintern.letsintern.global.common.lock;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.function.LongConsumer;
+
+/*
+ * 여러 서버에서 같은 @Scheduled 작업이 한 번만 실행되도록 하는 Redis lease
+ * lease 를 얻을 때마다 작업별로 단조 증가하는 fencing token 을 발급하고, lease 값에 "소유자:token" 을 기록한다.
+ * 발급한 token 은 scheduler_fence 행에도 올려 두고, 작업은 쓰기 트랜잭션 안에서 fence 로 그 행을 확인한다.
+ * lease 가 만료되거나 수동 takeover 로 넘어간 뒤에도 작업이 계속 쓰려고 하면 그 트랜잭션이 롤백된다.
+ * 실행 중에는 lease 의 1/3 주기로 만료 시간을 연장한다.
+ * Redis 장애 시에는 중복 실행보다 건너뛰는 쪽이 안전하므로 실행하지 않는다.
+ */
+@Slf4j
+@Component
+public class SchedulerLock {
+
+    private static final String LEASE_PREFIX = "scheduler:lease:";
+    private static final String TOKEN_PREFIX = "scheduler:token:";
+
+    /* 비어 있거나 이미 이 서버가 가진 lease 일 때만 새 token 으로 갱신 */
+    static final RedisScript<Long> ACQUIRE_SCRIPT = RedisScript.of(
+            "local current = redis.call('get', KEYS[1]) " +
+            "if current and string.sub(current, 1, string.len(ARGV[1]) + 1) ~= ARGV[1] .. ':' then return 0 end " +
+            "local token = redis.call('incr', KEYS[2]) " +
+            "redis.call('set', KEYS[1], ARGV[1] .. ':' .. token, 'PX', ARGV[2]) " +
+            "return token", Long.class);
+
+    static final RedisScript<Long> TAKEOVER_SCRIPT = RedisScript.of(
+            "local token = redis.call('incr', KEYS[2]) " +
+            "redis.call('set', KEYS[1], ARGV[1] .. ':' .. token, 'PX', ARGV[2]) " +
+            "return token", Long.class);
+
+    /* 아직 이 token 의 lease 일 때만 만료 시간을 연장 */
+    static final RedisScript<Long> RENEW_SCRIPT = RedisScript.of(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) end " +
+            "return 0", Long.class);
+
+    static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) end " +
+            "return 0", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final SchedulerFenceRepository schedulerFenceRepository;
+    private final TransactionTemplate fenceTransactionTemplate;
+    private final ScheduledExecutorService renewalExecutor;
+    private final String ownerId;
+    private final Map<String, SchedulerJobStats> statsMap = new ConcurrentHashMap<>();
+
+    public SchedulerLock(RedisTemplate<String, String> redisTemplate, SchedulerFenceRepository schedulerFenceRepository,
+                         PlatformTransactionManager transactionManager) {
+        this.redisTemplate = redisTemplate;
+        this.schedulerFenceRepository = schedulerFenceRepository;
+        this.fenceTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.fenceTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.renewalExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "scheduler-lease-renewal");
+            thread.setDaemon(true);
+            return thread;
+        });
+        String hostname = System.getenv().getOrDefault("HOSTNAME", "local");
+        this.ownerId = hostname + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /* lease 를 얻은 경우에만 task 를 실행하고 true 를 반환 */
+    public boolean runExclusively(String jobName, Duration leaseTime, LongConsumer task) {
+        final SchedulerJobStats stats = stats(jobName);
+        final Long token = acquire(jobName, leaseTime);
+        if (token == null) {
+            stats.skipped();
+            return false;
+        }
+
+        final long startedAt = System.currentTimeMillis();
+        final long renewPeriodMillis = Math.max(leaseTime.toMillis() / 3, 1);
+        final ScheduledFuture<?> renewal = renewalExecutor.scheduleAtFixedRate(
+                () -> renew(jobName, token, leaseTime), renewPeriodMillis, renewPeriodMillis, TimeUnit.MILLISECONDS);
+        stats.started(token, startedAt);
+        try {
+            task.accept(token);
+            stats.succeeded(System.currentTimeMillis() - startedAt);
+            return true;
+        } catch (RuntimeException e) {
+            stats.failed(System.currentTimeMillis() - startedAt);
+            throw e;
+        } finally {
+            renewal.cancel(false);
+            release(jobName, token);
+        }
+    }
+
+    /*
+     * 작업의 쓰기 트랜잭션 안에서, 쓰기 전에 호출: DB 에 기록된 token 이 이 token 인지 공유 잠금으로 확인한다.
+     * 이 트랜잭션이 커밋될 때까지 새 token 기록이 기다리므로, 확인 후 커밋 전에 lease 가 넘어가도 쓰기가 섞이지 않는다.
+     */
+    public void fence(String jobName, Long token) {
+        if (token == null) return;
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("fence must be called inside the write transaction: " + jobName);
+        }
+
+        if (!Objects.equals(schedulerFenceRepository.findFencingTokenForShare(jobName), token)) {
+            stats(jobName).fenced();
+            throw new SchedulerLeaseLostException(jobName, token, null);
+        }
+    }
+
+    /* 어드민 수동 takeover: 기존 소유자의 token 을 무효화하고 이 서버가 lease 를 가져온다 */
+    public long takeover(String jobName, Duration leaseTime) {
+        final Long token = redisTemplate.execute(TAKEOVER_SCRIPT,
+                List.of(LEASE_PREFIX + jobName, TOKEN_PREFIX + jobName), ownerId, String.valueOf(leaseTime.toMillis()));
+        log.warn("[scheduler-lock] {} taken over by {} with token {}", jobName, ownerId, token);
+        stats(jobName).takenOver(token);
+        if (!advanceFence(jobName, token)) {
+            log.warn("[scheduler-lock] {} takeover token {} is not newer than the fenced token", jobName, token);
+        }
+        return token;
+    }
+
+    public SchedulerLeaseVo getLease(String jobName) {
+        final String current = redisTemplate.opsForValue().get(LEASE_PREFIX + jobName);
+        final Long ttlMillis = current == null ? null : redisTemplate.getExpire(LEASE_PREFIX + jobName, TimeUnit.MILLISECONDS);
+        return SchedulerLeaseVo.of(jobName, current, ttlMillis, statsMap.get(jobName));
+    }
+
+    public List<SchedulerLeaseVo> getLeases() {
+        return statsMap.keySet().stream().sorted().map(this::getLease).toList();
+    }
+
+    public String getOwnerId() {
+        return ownerId;
+    }
+
+    private Long acquire(String jobName, Duration leaseTime) {
+        try {
+            final Long token = redisTemplate.execute(ACQUIRE_SCRIPT,
+                    List.of(LEASE_PREFIX + jobName, TOKEN_PREFIX + jobName), ownerId, String.valueOf(leaseTime.toMillis()));
+            if (token == null || token == 0) return null;
+            if (!advanceFence(jobName, token)) {
+                log.warn("[scheduler-lock] {} token {} is not newer than the fenced token, skip this run", jobName, token);
+                release(jobName, token);
+                return null;
+            }
+            return token;
+        } catch (RuntimeException e) {
+            log.warn("[scheduler-lock] {} acquire failed, skip this run", jobName, e);
+            return null;
+        }
+    }
+
+    /* 새 token 을 DB 에 기록해 이전 token 의 쓰기를 막는다, 이미 더 큰 token 이 기록돼 있으면 false */
+    private boolean advanceFence(String jobName, long token) {
+        final LocalDateTime now = LocalDateTime.now();
+        try {
+            return Boolean.TRUE.equals(fenceTransactionTemplate.execute(status -> {
+                if (schedulerFenceRepository.advanceFencingToken(jobName, token, now) > 0) return true;
+                if (schedulerFenceRepository.existsById(jobName)) return false;
+                schedulerFenceRepository.saveAndFlush(SchedulerFence.of(jobName, token, now));
+                return true;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            /* 다른 서버가 같은 작업의 첫 행을 먼저 만든 경우 */
+            return Boolean.TRUE.equals(fenceTransactionTemplate.execute(status ->
+                    schedulerFenceRepository.advanceFencingToken(jobName, token, now) > 0));
+        }
+    }
+
+    private void renew(String jobName, long token, Duration leaseTime) {
+        final Long renewed;
+        try {
+            renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(LEASE_PREFIX + jobName),
+                    ownerId + ":" + token, String.valueOf(leaseTime.toMillis()));
+        } catch (RuntimeException e) {
+            log.warn("[scheduler-lock] {} renew failed, retry next period", jobName, e);
+            return;
+        }
+        if (renewed == null || renewed == 0) {
+            /* 예외로 끝내면 이후 연장 예약도 취소된다, 이미 넘어간 lease 의 쓰기는 fence 가 막는다 */
+            log.warn("[scheduler-lock] {} lease with token {} was lost, stop renewing", jobName, token);
+            throw new SchedulerLeaseLostException(jobName, token, null);
+        }
+    }
+
+    private void release(String jobName, long token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_PREFIX + jobName), ownerId + ":" + token);
+        } catch (RuntimeException e) {
+            log.warn("[scheduler-lock] {} release failed, lease will expire", jobName, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewalExecutor.shutdownNow();
+    }
+
+    private SchedulerJobStats stats(String jobName) {
+        return statsMap.computeIfAbsent(jobName, name -> new SchedulerJobStats());
+    }
+}
@@ -0,0 +1,86 @@
+package com.letsintern.letsintern.global.common.mail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * {{slot}} 자리표시자를 가진 메일 템플릿을 고정 문자열 조각과 slot 이름 배열로 한 번만 컴파일해 둔다.
+ * bind 로 일부 slot 만 채우면 인접한 조각이 합쳐진 새 템플릿이 되므로,
+ * 프로그램 단위 값은 한 번만 채우고 수신자 단위 값만 발송 때마다 채울 수 있다.
+ * 모든 slot 이 채워진 템플릿의 render 는 새 문자열을 만들지 않고 같은 인스턴스를 돌려준다.
+ */
+public final class MailTemplate {
+
+    private static final String SLOT_OPEN = "{{";
+    private static final String SLOT_CLOSE = "}}";
+
+    /* literals.length == slots.length + 1 */
+    private final String[] literals;
+    private final String[] slots;
+    private final int literalLength;
+
+    private MailTemplate(List<String> literals, List<String> slots) {
+        this.literals = literals.toArray(String[]::new);
+        this.slots = slots.toArray(String[]::new);
+        this.literalLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    public static MailTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+
+        int cursor = 0;
+        while (true) {
+            int open = source.indexOf(SLOT_OPEN, cursor);
+            int close = (open < 0) ? -1 : source.indexOf(SLOT_CLOSE, open + SLOT_OPEN.length());
+            if (close < 0) break;
+
+            literals.add(source.substring(cursor, open));
+            slots.add(source.substring(open + SLOT_OPEN.length(), close).trim());
+            cursor = close + SLOT_CLOSE.length();
+        }
+        literals.add(source.substring(cursor));
+
+        return new MailTemplate(literals, slots);
+    }
+
+    /* values 에 있는 slot 만 채우고 나머지 slot 은 남긴 템플릿 */
+    public MailTemplate bind(Map<String, String> values) {
+        List<String> boundLiterals = new ArrayList<>();
+        List<String> boundSlots = new ArrayList<>();
+
+        StringBuilder literal = new StringBuilder(literals[0]);
+        for (int i = 0; i < slots.length; i++) {
+            String value = values.get(slots[i]);
+            if (value != null) {
+                literal.append(value);
+            } else {
+                boundLiterals.add(literal.toString());
+                boundSlots.add(slots[i]);
+                literal.setLength(0);
+            }
+            literal.append(literals[i + 1]);
+        }
+        boundLiterals.add(literal.toString());
+
+        return new MailTemplate(boundLiterals, boundSlots);
+    }
+
+    public String render(Map<String, String> values) {
+        if (slots.length == 0) return literals[0];
+
+        StringBuilder rendered = new StringBuilder(literalLength + slots.length * 32);
+        rendered.append(literals[0]);
+        for (int i = 0; i < slots.length; i++) {
+            String value = values.get(slots[i]);
+            if (value == null) throw new IllegalArgumentException("mail template slot not filled: " + slots[i]);
+            rendered.append(value).append(literals[i + 1]);
+        }
+        return rendered.toString();
+    }
+
+    public String render() {
+        return render(Map.of());
+    }
+}
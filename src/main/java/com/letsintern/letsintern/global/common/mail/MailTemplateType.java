@@ -0,0 +1,139 @@
+package com.letsintern.letsintern.global.common.mail;
+
+import com.letsintern.letsintern.domain.program.domain.MailType;
+import com.letsintern.letsintern.domain.program.domain.ProgramType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/*
+ * 메일 종류별 제목/본문 원문
+ * {{header}}, {{footer}}, {{notice*}} 는 기동 시 메시지 파일 값으로 한 번 채워진다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum MailTemplateType {
+
+    /* 비밀번호 재설정 메일 */
+    PASSWORD_RESET(
+            "[렛츠인턴] 비밀번호 재설정 메일입니다.",
+            "안녕하세요, 렛츠인턴입니다.\n\n" +
+            "비밀번호 재설정을 위한 임시 비밀번호는 아래와 같습니다.\n" +
+            "해당 비밀번호로 로그인 후, 마이페이지에서 비밀번호를 재설정해주시길 바랍니다.\n감사합니다.\n\n" +
+            "임시 비밀번호 : {{tempPassword}}"
+    ),
+
+    /* 렛츠챗 - 1명씩 발송되는 참여 확정 안내 메일 */
+    LETS_CHAT_APPROVED(
+            "[렛츠인턴] {{type}} #{{th}}. {{title}} 세션 확정 안내",
+            "{{header}}" +
+            "{{titleInfo}}에 신청해주셔서 감사합니다!\n" +
+            "{{type}} #{{th}} 참여 확정되어 안내드립니다.\n\n" +
+            "{{startDateInfo}}" +
+            "{{wayInfo}}\n\n" +
+            "{{noticeCancel}}" +
+            "{{footer}}"
+    ),
+
+    /* 렛츠챗 - 매일 9시에 배치로 1명씩 발송되는 D-day 리마인드 메일 */
+    LETS_CHAT_REMIND(
+            "[렛츠인턴] D-day 안내: {{title}}",
+            "{{header}}" +
+            "오늘은 신청해주신 {{titleInfo}}이 예정되어있는 날입니다.\n" +
+            "다들 잊지 않으셨죠? 아래 일정 확인하시어, 원활한 세션 진행을 위해 5분 전 입장 부탁드립니다.\n\n" +
+            "{{startDateInfo}}" +
+            "{{wayInfo}}\n\n" +
+            "{{noticeCancel}}" +
+            "{{footer}}"
+    ),
+
+    /* 렛츠챗 - 매일 23시에 배치로 1명씩 발송되는 리뷰 작성 메일 */
+    LETS_CHAT_REVIEW(
+            "[렛츠인턴] {{type}} #{{th}}. {{title}} 후기 작성 안내",
+            "{{header}}" +
+            "시간 내어 {{titleInfo}}에 참여해주셔서 감사합니다!\n\n" +
+            "렛츠챗 후기를 작성해주세요!\n" +
+            "- 작성링크 : https://www.letsintern.co.kr/program/{{programId}}/review/create \n" +
+            "{{noticeReview}}" +
+            "{{noticeMore}}" +
+            "{{footer}}"
+    ),
+
+    /* 챌린지 - 선발 & 입금 안내 메일 */
+    CHALLENGE_APPROVED(
+            "[렛츠인턴] {{title}} 선발 및 입금 안내",
+            "{{header}}" +
+            "{{title}}에 선발되셨습니다.\n" +
+            "작성해주신 지원동기에서 열정과 진심을 확인할 수 있었습니다.\n" +
+            "2주간 열심히 참여하시어 좋은 성과 이루시길 바라겠습니다.\n\n" +
+
+            "챌린지는 동기부여를 위한 보증금과 함께\n" +
+            "현직자 연사 초청 및 네트워킹 마련 등을 위한 운영비를 받고 있습니다.\n\n" +
+
+            "본격적인 안내에 앞서 {{feeTotal}}원을 입금 부탁 드립니다.\n" +
+            "이때 입금주 명은 신청인 이름과 동일하게 설정해 주세요.\n\n" +
+
+            "\uD83C\uDFE6 계좌 : {{accountType}} {{accountNumber}}\n" +
+            "\uD83D\uDCC5 기한 : {{feeDueDate}}까지\n\n" +
+
+            "입금 기한 직후, 입금이 확인된 인원을 대상으로\n" +
+            "오픈채팅방 및 온라인 OT 참여 링크, 챌린지 대시보드 접속 안내 등의 공지를 드립니다.\n\n" +
+
+            "다시 한번 렛츠인턴에 지원해 주셔서 감사합니다.\n\n" +
+            "{{footer}}"
+    ),
+
+    /* 챌린지 - 참여 확정 안내 메일 */
+    CHALLENGE_FEE_CONFIRMED(
+            "[렛츠인턴] {{title}} 참여 확정 공지",
+            "{{header}}" +
+            "드디어 내일({{startDateMMdd}}) OT와 함께 {{title}}가 시작합니다!\n" +
+            "챌린지 참여에 핵심이 될 공지를 몇가지 드리려 합니다.\n" +
+            "안내 사항에 따라 설정 및 접속 부탁 드리겠습니다.\n\n" +
+
+            "[1] 챌린지 {{title}}기 카카오톡 오픈 채팅방에 들어와 주세요!\n" +
+            "참여자들 간의 소통이 이루어지는 공간입니다.\n" +
+
+            "이때 카카오프렌즈 프로필이 아닌 \"새로운 오픈 프로필 만들기\"로 가입해주세요!\n" +
+            "프로필 우측 하단에 회색 박스가 있으면 됩니다.\n" +
+            "사전에 세팅해 주셔야 1:1 대화가 가능합니다.\n\n" +
+
+            "☑︎ 프로필 이미지 : 자신을 잘 나타낼 수 있는 이미지로 자유롭게\n" +
+            "☑︎ 닉네임 : OOO_희망 직무 (ex. 홍길동_콘텐츠 마케팅, 김철수_개발)\n" +
+            "☑︎ 채팅 설정 : 기본 프로필만 허용 '해제'\n\n" +
+
+            "채팅 설정은 한번 프로필을 만든 후에는 수정이 어려워,\n" +
+            "다시 만들어야 한다는 번거로움이 있어 상기 조건을 한번 더 확인해 주세요.\n" +
+            "\uD83D\uDD17 링크: {{openKakaoLink}} \n" +
+            "\uD83D\uDD10 비밀번호 : {{openKakaoPassword}}\n\n" +
+
+            "[2] OT는 온라인으로 {{startDateMMddEaHHmm}}에 진행됩니다.\n" +
+            "1시간 소요 예정으로 렛츠인턴 소개와 챌린지 운영 방식, 보증금 및 혜택을 안내 드립니다.\n" +
+            "참여하신 분들만을 위해 커리큘럼을 상세하게 설명 드리오니 최대한 참여해 주세요.\n" +
+            "\uD83D\uDD17 링크 : {{link}} \n" +
+            "\uD83D\uDD10 비밀번호 : {{linkPassword}}\n\n" +
+
+            "[3] 이번 챌린지는 렛츠인턴 웹사이트에서 콘텐츠 및 미션 공지와 인증이 이루어집니다.\n" +
+            "신청하신 계정의 마이페이지에서 챌린지 대시보드에 바로 접속하실 수 있습니다.\n" +
+            "금일 중으로 확인 부탁 드리며, 접속에 어려움 있으실 경우 회신해 주세요.\n" +
+            "\uD83D\uDD17 링크 : https://www.letsintern.co.kr/ \n" +
+            "\uD83D\uDC49 방법 : 로그인 후 마이페이지 → 신청 현황 → 참여 중 섹션 → 챌린지로 이동 클릭\n\n" +
+
+            "{{title}}에 함께 하게 되신 걸 다시 한번 환영합니다.\n" +
+            "모두 내일 OT에서 만나요 \uD83D\uDE0A \n\n" +
+            "{{footer}}"
+    );
+
+    private final String subject;
+    private final String body;
+
+    /* 어드민 미리보기용 - 프로그램 유형과 안내 메일 종류로 템플릿 결정 */
+    public static MailTemplateType of(ProgramType programType, MailType mailType) {
+        final boolean letsChat = programType.equals(ProgramType.LETS_CHAT);
+        return switch (mailType) {
+            case APPROVED -> letsChat ? LETS_CHAT_APPROVED : CHALLENGE_APPROVED;
+            case FEE_CONFIRMED -> CHALLENGE_FEE_CONFIRMED;
+            case REMIND -> LETS_CHAT_REMIND;
+            case REVIEW -> LETS_CHAT_REVIEW;
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package com.letsintern.letsintern.global.common.mail;
+
+import org.springframework.mail.SimpleMailMessage;
+
+/* 프로그램 단위로 한 번 렌더링된 메일 - 수신자만 바꿔서 그대로 발송한다 */
+public record RenderedMail(String subject, String text) {
+
+    public SimpleMailMessage toMessage(String emailAddress) {
+        SimpleMailMessage simpleMailMessage = new SimpleMailMessage();
+        simpleMailMessage.setTo(emailAddress);
+        simpleMailMessage.setSubject(subject);
+        simpleMailMessage.setText(text);
+        return simpleMailMessage;
+    }
+
+    /* 어드민이 복사해서 쓰는 안내문 - 제목을 본문 첫 줄로 */
+    public String toText() {
+        return subject + "\n\n" + text;
+    }
+}
@@ -0,0 +1,62 @@
+package com.letsintern.letsintern.global.common.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.List;
+
+public class CsvUtils {
+
+    /* 엑셀에서 열었을 때 한글이 깨지지 않도록 파일 앞에 붙이는 UTF-8 BOM */
+    public static final String UTF8_BOM = "\uFEFF";
+
+    public static void writeRow(Writer writer, List<?> values) {
+        writeRow(writer, values.toArray());
+    }
+
+    public static void writeRow(Writer writer, Object[] values) {
+        try {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) writer.write(',');
+                writeValue(writer, values[i]);
+            }
+            writer.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeValue(Writer writer, Object value) throws IOException {
+        if (value == null) return;
+
+        String text = (value instanceof Number) ? value.toString() : neutralizeFormula(value.toString());
+        boolean needsQuote = false;
+        for (int i = 0; i < text.length() && !needsQuote; i++) {
+            char c = text.charAt(i);
+            needsQuote = (c == ',' || c == '"' || c == '\n' || c == '\r');
+        }
+        if (!needsQuote) {
+            writer.write(text);
+            return;
+        }
+
+        writer.write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') writer.write('"');
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    /*
+     * 수식 주입 방지 - 사용자가 입력한 값이 =, +, -, @, 탭, CR 로 시작하면 엑셀이 수식으로 실행하므로 ' 를 앞에 붙여 문자열로 만든다
+     * 숫자 값(음수 포함)은 수식이 될 수 없으므로 그대로 쓴다
+     */
+    static String neutralizeFormula(String text) {
+        if (text.isEmpty()) return text;
+        char first = text.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') return "'" + text;
+        return text;
+    }
+}
@@ -0,0 +1,43 @@
+package com.letsintern.letsintern.global.common.util;
+
+import java.nio.charset.Charset;
+
+/* 은행 대량 이체 파일처럼 바이트 단위 고정 길이 필드를 쓰는 포맷용 */
+public class FixedWidthUtils {
+
+    /* 왼쪽 정렬 + 공백 채움, 너비를 넘으면 문자가 잘리지 않는 경계에서 자른다 (예금주처럼 잘려도 되는 필드만) */
+    public static String padRight(String value, int byteWidth, Charset charset) {
+        final StringBuilder builder = new StringBuilder(byteWidth);
+        int bytes = 0;
+        if (value != null) {
+            for (int i = 0; i < value.length(); ) {
+                final int codePoint = value.codePointAt(i);
+                final String ch = new String(Character.toChars(codePoint));
+                final int chBytes = ch.getBytes(charset).length;
+                if (bytes + chBytes > byteWidth) break;
+                builder.append(ch);
+                bytes += chBytes;
+                i += Character.charCount(codePoint);
+            }
+        }
+        while (bytes++ < byteWidth) builder.append(' ');
+        return builder.toString();
+    }
+
+    /* 계좌번호처럼 잘리면 안 되는 필드 - 비어 있거나 너비를 넘으면 예외 */
+    public static String padRightExact(String value, int byteWidth, Charset charset) {
+        if (value == null || value.isEmpty() || value.getBytes(charset).length > byteWidth) {
+            throw new IllegalArgumentException("value does not fit in " + byteWidth + " bytes: " + value);
+        }
+        return padRight(value, byteWidth, charset);
+    }
+
+    /* 오른쪽 정렬 + 0 채움 숫자 필드 - 금액이 잘리지 않도록 음수이거나 너비를 넘으면 예외 */
+    public static String padLeftZero(long value, int width) {
+        final String digits = String.valueOf(value);
+        if (value < 0 || digits.length() > width) {
+            throw new IllegalArgumentException("value does not fit in " + width + " digits: " + value);
+        }
+        return "0".repeat(width - digits.length()) + digits;
+    }
+}
@@ -0,0 +1,24 @@
+package com.letsintern.letsintern.global.common.util;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+
+/*
+ * id 정렬 기반 키셋 페이지네이션 조건
+ * offset 없이 PK 인덱스에서 바로 다음 위치를 찾으므로 페이지 깊이와 무관하게 비용이 일정하다.
+ */
+public class KeysetUtils {
+
+    private KeysetUtils() {
+    }
+
+    /* id desc 정렬 목록의 다음 페이지 조건 */
+    public static BooleanExpression idBefore(NumberPath<Long> id, Long cursor) {
+        return cursor == null ? null : id.lt(cursor);
+    }
+
+    /* id asc 정렬 목록의 다음 페이지 조건 */
+    public static BooleanExpression idAfter(NumberPath<Long> id, Long cursor) {
+        return cursor == null ? null : id.gt(cursor);
+    }
+}
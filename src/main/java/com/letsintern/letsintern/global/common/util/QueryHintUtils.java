@@ -0,0 +1,32 @@
+package com.letsintern.letsintern.global.common.util;
+
+import com.querydsl.jpa.impl.JPAQuery;
+import jakarta.persistence.LockModeType;
+import org.hibernate.FlushMode;
+import org.hibernate.jpa.HibernateHints;
+
+/*
+ * 자주 쓰는 쿼리 힌트 모음
+ * - readOnly: 결과 엔티티의 스냅샷을 만들지 않아 dirty checking 대상에서 빠지고, 쿼리 전 자동 flush 도 생략한다.
+ * - skipLocked: 다른 트랜잭션이 잠근 행은 기다리지 않고 건너뛴다 (SELECT ... FOR UPDATE SKIP LOCKED)
+ */
+public class QueryHintUtils {
+
+    /* jakarta.persistence.lock.timeout 에서 -2 는 SKIP LOCKED 를 뜻한다 */
+    private static final int SKIP_LOCKED_TIMEOUT = -2;
+
+    private QueryHintUtils() {
+    }
+
+    public static <T> JPAQuery<T> readOnly(JPAQuery<T> query) {
+        return query
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL);
+    }
+
+    public static <T> JPAQuery<T> skipLocked(JPAQuery<T> query) {
+        return query
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint("jakarta.persistence.lock.timeout", SKIP_LOCKED_TIMEOUT);
+    }
+}
@@ -59,11 +59,13 @@ public class WebSecurityConfig {
 
     private final String[] AdminGetPatterns = {
             "/user/admin/**", "/memo/**", "/program/admin/**", "/faq/**", "/application/admin/**", "/review/admin/**",
-            "/attendance/admin/**", "/contents/**", "/mission/admin/**", "/banner/admin/**", "/online-program/admin/**"
+            "/attendance/admin/**", "/contents/**", "/mission/admin/**", "/banner/admin/**", "/online-program/admin/**",
+            "/scheduler/admin/**", "/file/admin/**"
     };
 
     private final String[] AdminPostPatterns = {
-            "/memo/**", "/program", "/faq/**", "/contents/**", "/mission/**", "/notice/**", "/banner/**", "/online-program/**"
+            "/memo/**", "/program", "/faq/**", "/contents/**", "/mission/**", "/notice/**", "/banner/**", "/online-program/**",
+            "/scheduler/admin/**", "/file/admin/**"
     };
 
     private final String[] AdminPatchPatterns = {
@@ -72,7 +74,8 @@ public class WebSecurityConfig {
     };
 
     private final String[] AdminDeletePatterns = {
-            "/memo/**", "/program/**", "/faq/**", "/user/admin/**", "/contents/**", "/mission/**", "/notice/**", "/banner/**", "/online-program/**"
+            "/memo/**", "/program/**", "/faq/**", "/user/admin/**", "/contents/**", "/mission/**", "/notice/**", "/banner/**", "/online-program/**",
+            "/file/admin/**"
     };
 
     private final String[] UserGetPatterns = {
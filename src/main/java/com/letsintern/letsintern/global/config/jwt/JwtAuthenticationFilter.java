@@ -1,6 +1,7 @@
 package com.letsintern.letsintern.global.config.jwt;
 
 import com.letsintern.letsintern.global.error.exception.TokenValidateException;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -33,8 +34,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            if (tokenProvider.validateAccessToken(jwt)) {
-                Authentication authentication = tokenProvider.getAuthentication(jwt);
+            Claims claims = tokenProvider.parseAccessToken(jwt);
+            if (claims != null) {
+                Authentication authentication = tokenProvider.getAuthentication(jwt, claims);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             } else {
                 throw TokenValidateException.EXCEPTION;
@@ -0,0 +1,112 @@
+package com.letsintern.letsintern.global.config.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.letsintern.letsintern.domain.user.util.RedisUtil;
+import com.letsintern.letsintern.global.common.cache.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+
+/*
+ * 로그아웃된 access token 블랙리스트
+ * 로컬 블룸 필터에 없는 토큰(대부분의 요청)은 Redis 조회 없이 통과시키고,
+ * 블룸 필터 양성인 경우에만 Redis 를 확인한 뒤 음성 결과를 로컬에 캐싱한다.
+ * 다른 서버의 로그아웃은 Redis pub/sub 으로 전달받는다.
+ */
+@Slf4j
+@Component
+public class TokenBlacklist implements MessageListener {
+
+    public static final String CHANNEL = "logout:access:channel";
+
+    private final RedisUtil redisUtil;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Cache<String, Boolean> notRevokedCache;
+
+    private volatile BloomFilter bloomFilter;
+    /* 재구성 중 들어온 로그아웃을 새 필터에도 반영하기 위한 참조 */
+    private volatile BloomFilter rebuildingFilter;
+
+    public TokenBlacklist(RedisUtil redisUtil,
+                          @Value("${token-blacklist.expected-insertions:100000}") long expectedInsertions,
+                          @Value("${token-blacklist.false-positive-rate:0.01}") double falsePositiveRate,
+                          @Value("${token-blacklist.negative-cache-size:10000}") long negativeCacheSize,
+                          @Value("${token-blacklist.negative-cache-ttl-seconds:60}") long negativeCacheTtlSeconds) {
+        this.redisUtil = redisUtil;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.notRevokedCache = Caffeine.newBuilder()
+                .maximumSize(negativeCacheSize)
+                .expireAfterWrite(Duration.ofSeconds(negativeCacheTtlSeconds))
+                .build();
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    public void revoke(String tokenKey, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) return;
+
+        redisUtil.addLogoutAccessToken(tokenKey, expiresAtMillis);
+        markRevoked(tokenKey);
+        redisUtil.publish(CHANNEL, tokenKey);
+    }
+
+    public boolean isRevoked(String tokenKey) {
+        if (!bloomFilter.mightContain(tokenKey)) return false;
+        if (notRevokedCache.getIfPresent(tokenKey) != null) return false;
+
+        try {
+            boolean revoked = redisUtil.isLogoutAccessToken(tokenKey, System.currentTimeMillis());
+            if (!revoked) notRevokedCache.put(tokenKey, Boolean.TRUE);
+            return revoked;
+        } catch (RuntimeException e) {
+            log.warn("[token-blacklist] redis lookup failed, token {} treated as valid", tokenKey, e);
+            return false;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        markRevoked(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /* 블룸 필터는 삭제가 불가능하므로 만료된 토큰을 털어내기 위해 주기적으로 새로 만든다 (Redis 의 만료 토큰도 이때 정리) */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${token-blacklist.rebuild-interval-ms:600000}", initialDelayString = "${token-blacklist.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        BloomFilter next = new BloomFilter(expectedInsertions, falsePositiveRate);
+        rebuildingFilter = next;
+        long now = System.currentTimeMillis();
+        try {
+            redisUtil.removeExpiredLogoutAccessTokens(now);
+        } catch (RuntimeException e) {
+            log.warn("[token-blacklist] expired token cleanup failed", e);
+        }
+
+        try {
+            Set<String> tokenKeys = redisUtil.getLogoutAccessTokens(now);
+            if (tokenKeys != null) tokenKeys.forEach(next::put);
+            bloomFilter = next;
+        } catch (RuntimeException e) {
+            log.warn("[token-blacklist] rebuild failed, keep previous filter", e);
+        } finally {
+            rebuildingFilter = null;
+        }
+    }
+
+    private void markRevoked(String tokenKey) {
+        bloomFilter.put(tokenKey);
+        BloomFilter next = rebuildingFilter;
+        if (next != null) next.put(tokenKey);
+        notRevokedCache.invalidate(tokenKey);
+    }
+}
@@ -1,5 +1,6 @@
 package com.letsintern.letsintern.global.config.jwt;
 
+import com.letsintern.letsintern.domain.user.domain.User;
 import com.letsintern.letsintern.domain.user.exception.NotRefreshToken;
 import com.letsintern.letsintern.domain.user.util.RedisUtil;
 import com.letsintern.letsintern.global.config.user.PrincipalDetails;
@@ -17,11 +18,18 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -30,6 +38,7 @@ import java.util.stream.Collectors;
 public class TokenProvider implements InitializingBean {
     private final PrincipalDetailsService principalDetailsService;
     private final RedisUtil redisUtil;
+    private final TokenBlacklist tokenBlacklist;
     private static final String AUTHORITIES_KEY = "auth";
     private static final String ACCESS_KEY = "access";
     private static final String REFRESH_KEY = "refresh";
@@ -46,11 +55,13 @@ public class TokenProvider implements InitializingBean {
     private int refreshTokenExpirationTime;
 
     private Key key;
+    private JwtParser jwtParser;
 
     @Override
     public void afterPropertiesSet() throws Exception {
         byte keyBytes[] = Decoders.BASE64.decode(secret);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     public String createAccessToken(Long id, Authentication authentication) {
@@ -82,6 +93,7 @@ public class TokenProvider implements InitializingBean {
 
         String token = Jwts.builder()
                 .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(id.toString())
                 .claim(AUTHORITIES_KEY, authorities)
                 .claim("type", type)
@@ -101,24 +113,52 @@ public class TokenProvider implements InitializingBean {
         redisUtil.delete(id.toString());
     }
 
+    /* 현재 요청의 access token 을 남은 유효 시간 동안 블랙리스트에 등록 */
+    public void revokeCurrentAccessToken() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getCredentials() instanceof String token)) return;
+
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        tokenBlacklist.revoke(getBlacklistKey(token, claims), claims.getExpiration().getTime());
+    }
+
     public String getTokenUserId(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
+        return jwtParser.parseClaimsJws(token)
                 .getBody()
                 .getSubject();
     }
 
     public Authentication getAuthentication(String token) {
-        PrincipalDetails principalDetails = (PrincipalDetails) principalDetailsService.loadUserByUserId(Long.parseLong(getTokenUserId(token)));
+        Claims claims = parseAccessToken(token);
+        if (claims == null) return null;
+        return getAuthentication(token, claims);
+    }
+
+    /*
+     * 권한은 토큰의 auth claim 이 아니라 짧은 TTL 사용자 캐시에서 읽는다
+     * 탈퇴/삭제/권한 변경은 캐시를 비우므로 발급된 토큰이 남아 있어도 최대 캐시 TTL 안에 반영된다. User 엔티티는 실제로 필요할 때 조회
+     */
+    public Authentication getAuthentication(String token, Claims claims) {
+        final Long userId = Long.parseLong(claims.getSubject());
+        final Supplier<User> userLoader = () -> principalDetailsService.loadUser(userId);
+
+        PrincipalDetails principalDetails = PrincipalDetails.of(principalDetailsService.loadCachedUserAuth(userId), userLoader);
         return new UsernamePasswordAuthenticationToken(principalDetails, token, principalDetails.getAuthorities());
     }
 
     public boolean validateAccessToken(String token) {
+        return parseAccessToken(token) != null;
+    }
+
+    /* 서명/만료/로그아웃 여부 검증과 claim 추출을 한 번의 파싱으로 처리, 유효하지 않으면 null */
+    public Claims parseAccessToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            if (tokenBlacklist.isRevoked(getBlacklistKey(token, claims))) {
+                log.info("로그아웃된 JWT 토큰입니다");
+                return null;
+            }
+            return claims;
         } catch (SecurityException | MalformedJwtException e) {
             log.info("잘못된 JWT 서명입니다");
         } catch (ExpiredJwtException e) {
@@ -129,7 +169,7 @@ public class TokenProvider implements InitializingBean {
         } catch (IllegalArgumentException e) {
             log.info("JWT 토큰이 잘못되었습니다");
         }
-        return false;
+        return null;
     }
 
     public String resolveAccessToken(HttpServletRequest request) {
@@ -142,16 +182,27 @@ public class TokenProvider implements InitializingBean {
     }
 
     public void validateRefreshToken(String token) {
-        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
         String typeValue = claims.get("type", String.class);
         if(!typeValue.equals(REFRESH_KEY)) {
             throw NotRefreshToken.EXCEPTION;
         }
     }
 
+    /* jti 가 없는 기존 토큰은 토큰 전체 대신 SHA-256 해시를 키로 사용 */
+    private String getBlacklistKey(String token, Claims claims) {
+        if (StringUtils.isNotBlank(claims.getId())) return claims.getId();
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     // token 의 남은 유효 시간 구하기
     public long getExpiration(String token) {
-        Date expiration = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getExpiration();
+        Date expiration = jwtParser.parseClaimsJws(token).getBody().getExpiration();
         Long now = new Date().getTime();
 
         return (expiration.getTime() - now);
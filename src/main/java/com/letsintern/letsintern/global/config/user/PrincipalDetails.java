@@ -2,14 +2,18 @@ package com.letsintern.letsintern.global.config.user;
 
 import com.letsintern.letsintern.domain.user.domain.User;
 import com.letsintern.letsintern.domain.user.domain.UserRole;
+import com.letsintern.letsintern.domain.user.vo.UserAuthVo;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.Setter;
+import lombok.ToString;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 @Data
 public class PrincipalDetails implements UserDetails, OAuth2User {
@@ -21,12 +25,41 @@ public class PrincipalDetails implements UserDetails, OAuth2User {
     @Setter
     private Map<String, Object> attributes;
 
+    /* 사용자 캐시로 만든 인증 정보 - User 는 실제로 필요할 때 조회 */
+    private Long userId;
+    private UserRole userRole;
+    private String email;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Supplier<User> userLoader;
+
     public PrincipalDetails(User user) {
         this.user = user;
     }
 
+    private PrincipalDetails(Long userId, UserRole userRole, Supplier<User> userLoader) {
+        this.userId = userId;
+        this.userRole = userRole;
+        this.userLoader = userLoader;
+    }
+
+    public static PrincipalDetails of(UserAuthVo userAuthVo, Supplier<User> userLoader) {
+        PrincipalDetails principalDetails = new PrincipalDetails(userAuthVo.getId(), userAuthVo.getRole(), userLoader);
+        principalDetails.email = userAuthVo.getEmail();
+        return principalDetails;
+    }
+
+    public User getUser() {
+        if (user == null && userLoader != null) user = userLoader.get();
+        return user;
+    }
+
     public Long getId() {
-        return user.getId();
+        return (user == null && userId != null) ? userId : user.getId();
+    }
+
+    private UserRole getRole() {
+        return (user == null && userRole != null) ? userRole : user.getRole();
     }
 
     @Override
@@ -37,7 +70,7 @@ public class PrincipalDetails implements UserDetails, OAuth2User {
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         Collection<GrantedAuthority> collection = new ArrayList<>();
-        collection.add((GrantedAuthority) () -> String.valueOf(user.getRole()));
+        collection.add((GrantedAuthority) () -> String.valueOf(getRole()));
         return collection;
     }
 
@@ -48,7 +81,7 @@ public class PrincipalDetails implements UserDetails, OAuth2User {
 
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return (user == null && email != null) ? email : getUser().getEmail();
     }
 
     @Override
@@ -1,8 +1,11 @@
 package com.letsintern.letsintern.global.config.user;
 
 
+import com.letsintern.letsintern.domain.user.cache.UserCache;
 import com.letsintern.letsintern.domain.user.domain.User;
+import com.letsintern.letsintern.domain.user.exception.UserNotFound;
 import com.letsintern.letsintern.domain.user.repository.UserRepository;
+import com.letsintern.letsintern.domain.user.vo.UserAuthVo;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -15,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class PrincipalDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserCache userCache;
 
     @Transactional
     public UserDetails loadUserByUserId(Long id) throws UsernameNotFoundException {
@@ -23,6 +27,21 @@ public class PrincipalDetailsService implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException(id + " -> DB에서 찾을 수 없음"));
     }
 
+    /* 캐시에는 불변 스냅샷만 담는다, 삭제된 사용자는 인증 실패로 처리 */
+    public UserAuthVo loadCachedUserAuth(Long id) {
+        return userCache.get(id, () -> userRepository.findById(id)
+                .map(UserAuthVo::from)
+                .orElseThrow(() -> new UsernameNotFoundException(id + " -> DB에서 찾을 수 없음")));
+    }
+
+    /* 엔티티는 캐시하지 않고 호출한 트랜잭션의 영속성 컨텍스트에서 조회 */
+    public User loadUser(Long id) {
+        return userRepository.findById(id)
+                .orElseThrow(() -> {
+                    throw UserNotFound.EXCEPTION;
+                });
+    }
+
     private PrincipalDetails createUser(Long id, User user) {
         return new PrincipalDetails(user);
     }
@@ -0,0 +1,48 @@
+package com.letsintern.letsintern.domain.application.vo;
+
+import com.letsintern.letsintern.domain.application.domain.*;
+import com.letsintern.letsintern.domain.user.domain.AccountType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApplicationExportVoTest {
+
+    @Test
+    @DisplayName("엑셀 행에는 enum 이름 대신 표시용 값을 쓴다")
+    void toRow_displayValue() {
+        // given
+        ApplicationExportVo applicationExportVo = new ApplicationExportVo(1L, "홍길동", "test@test.com", "010-0000-0000",
+                "대학교", "전공", 4, "기업", ApplicationWishJob.DEVELOPMENT_BACKEND, "동기", "질문",
+                InflowPath.KAKAO, ApplicationType.USER, ApplicationWay.ONLINE, ApplicationStatus.IN_PROGRESS,
+                true, true, 10000, null, AccountType.KB, "123", null, null, "2023-10-01");
+
+        // when
+        Object[] row = applicationExportVo.toRow();
+
+        // then
+        assertEquals(ApplicationExportVo.HEADER.size(), row.length);
+        assertArrayEquals(new Object[]{"카카오톡", "회원", "온라인", "참여중"}, Arrays.copyOfRange(row, 11, 15));
+        assertEquals("백엔드 개발", row[8]);
+        assertEquals("국민", row[19]);
+    }
+
+    @Test
+    @DisplayName("값이 비어 있는 enum 칸은 비워 둔다")
+    void toRow_nullEnum() {
+        // given
+        ApplicationExportVo applicationExportVo = new ApplicationExportVo(1L, "홍길동", "test@test.com", null,
+                null, null, null, null, null, null, null,
+                null, null, null, null,
+                null, null, null, null, null, null, null, null, "2023-10-01");
+
+        // when
+        Object[] row = applicationExportVo.toRow();
+
+        // then
+        assertArrayEquals(new Object[]{null, null, null, null}, Arrays.copyOfRange(row, 11, 15));
+    }
+}
@@ -0,0 +1,72 @@
+package com.letsintern.letsintern.domain.attendance.domain;
+
+import com.letsintern.letsintern.domain.attendance.vo.RefundAccountVo;
+import com.letsintern.letsintern.domain.user.domain.AccountType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RefundExportFormatTest {
+
+    @Test
+    @DisplayName("이체 파일 한 행은 은행코드 + 계좌번호 + 예금주 + 금액 고정 길이로 쓴다")
+    void fixedWidth_writeRow() {
+        // given
+        StringWriter writer = new StringWriter();
+        RefundAccountVo refundAccountVo = refundAccount(AccountType.KB, "123-45-6789", 20000);
+
+        // when
+        RefundExportFormat.FIXED_WIDTH.writeRow(writer, refundAccountVo);
+
+        // then
+        assertEquals("004" + "123456789" + " ".repeat(11) + "홍길동" + " ".repeat(14) + "0000000020000" + "\r\n", writer.toString());
+    }
+
+    @Test
+    @DisplayName("은행 코드나 계좌번호가 없으면 빈 칸으로 쓰지 않고 이체 불가로 판정한다")
+    void transferError_missing() {
+        assertEquals(RefundTransferError.MISSING_BANK_CODE, RefundTransferError.of(refundAccount(null, "1234", 20000)));
+        assertEquals(RefundTransferError.MISSING_ACCOUNT_NUMBER, RefundTransferError.of(refundAccount(AccountType.KB, "--", 20000)));
+        assertThrows(IllegalStateException.class,
+                () -> RefundExportFormat.FIXED_WIDTH.writeRow(new StringWriter(), refundAccount(AccountType.KB, null, 20000)));
+    }
+
+    @Test
+    @DisplayName("계좌번호와 금액은 자릿수를 넘어도 자르지 않고 이체 불가로 판정한다")
+    void transferError_tooLong() {
+        assertEquals(RefundTransferError.ACCOUNT_NUMBER_TOO_LONG, RefundTransferError.of(refundAccount(AccountType.KB, "1".repeat(21), 20000)));
+        assertEquals(RefundTransferError.AMOUNT_TOO_LARGE, RefundTransferError.of(refundAccount(AccountType.KB, "1234", 10_000_000_000_000L)));
+        assertThrows(IllegalStateException.class,
+                () -> RefundExportFormat.FIXED_WIDTH.writeRow(new StringWriter(), refundAccount(AccountType.KB, "1".repeat(21), 20000)));
+    }
+
+    @Test
+    @DisplayName("환급할 금액이 없는 사용자는 이체 파일에서 빠지고 검증 대상도 아니다")
+    void fixedWidth_noPendingRefund() {
+        // given
+        StringWriter writer = new StringWriter();
+        RefundAccountVo refundAccountVo = refundAccount(null, null, 0);
+
+        // when
+        RefundExportFormat.FIXED_WIDTH.writeRow(writer, refundAccountVo);
+
+        // then
+        assertEquals("", writer.toString());
+        assertNull(RefundTransferError.of(refundAccountVo));
+    }
+
+    private RefundAccountVo refundAccount(AccountType accountType, String accountNumber, long pendingRefund) {
+        return RefundAccountVo.builder()
+                .userId(1L)
+                .name("홍길동")
+                .accountType(accountType)
+                .accountNumber(accountNumber)
+                .missionThs("1|2")
+                .refundTotal(pendingRefund)
+                .pendingRefund(pendingRefund)
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.letsintern.letsintern.domain.banner.dto.response;
+
+import com.letsintern.letsintern.domain.banner.vo.MainBannerVo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class MainBannerResponseTest {
+
+    @Test
+    @DisplayName("srcset 에는 실제로 만들어진 축소본 폭을 쓴다")
+    void srcset_actualWidth() {
+        // given
+        MainBannerVo mainBannerVo = mainBannerVo("https://cdn/m.jpg", 750, "https://cdn/d.jpg", 1200);
+
+        // when
+        MainBannerResponse response = MainBannerResponse.from(mainBannerVo);
+
+        // then
+        assertEquals("https://cdn/m.jpg 750w, https://cdn/d.jpg 1200w", response.srcset());
+    }
+
+    @Test
+    @DisplayName("원본이 작아 두 축소본 폭이 같으면 한 번만 넣는다")
+    void srcset_sameWidth() {
+        // given
+        MainBannerVo mainBannerVo = mainBannerVo("https://cdn/m.jpg", 600, "https://cdn/m.jpg", 600);
+
+        // when
+        MainBannerResponse response = MainBannerResponse.from(mainBannerVo);
+
+        // then
+        assertEquals("https://cdn/m.jpg 600w", response.srcset());
+    }
+
+    @Test
+    @DisplayName("축소본이 없으면 srcset 은 null 이고 원본만 내려간다")
+    void srcset_noVariant() {
+        // given
+        MainBannerVo mainBannerVo = mainBannerVo(null, null, null, null);
+
+        // when
+        MainBannerResponse response = MainBannerResponse.from(mainBannerVo);
+
+        // then
+        assertNull(response.srcset());
+        assertEquals("https://cdn/original.png", response.imgUrl());
+    }
+
+    private MainBannerVo mainBannerVo(String mobileImgUrl, Integer mobileImgWidth, String desktopImgUrl, Integer desktopImgWidth) {
+        return MainBannerVo.builder()
+                .id(1L)
+                .imgUrl("https://cdn/original.png")
+                .mobileImgUrl(mobileImgUrl)
+                .mobileImgWidth(mobileImgWidth)
+                .desktopImgUrl(desktopImgUrl)
+                .desktopImgWidth(desktopImgWidth)
+                .build();
+    }
+}
@@ -0,0 +1,264 @@
+package com.letsintern.letsintern.domain.coupon.helper;
+
+import com.letsintern.letsintern.domain.coupon.cache.CouponCatalogCache;
+import com.letsintern.letsintern.domain.coupon.domain.Coupon;
+import com.letsintern.letsintern.domain.coupon.domain.CouponProgram;
+import com.letsintern.letsintern.domain.coupon.domain.CouponProgramType;
+import com.letsintern.letsintern.domain.coupon.domain.CouponRedemption;
+import com.letsintern.letsintern.domain.coupon.domain.CouponType;
+import com.letsintern.letsintern.domain.coupon.exception.CouponSoldOutException;
+import com.letsintern.letsintern.domain.coupon.exception.CouponUsageLimitExceededException;
+import com.letsintern.letsintern.domain.coupon.repository.CouponRepository;
+import com.letsintern.letsintern.domain.coupon.vo.BaseCouponEnumVo;
+import com.letsintern.letsintern.domain.coupon.vo.BaseCouponProgramEnumVo;
+import com.letsintern.letsintern.domain.coupon.vo.CouponCatalogVo;
+import com.letsintern.letsintern.domain.user.domain.User;
+import com.letsintern.letsintern.domain.user.repository.UserRepository;
+import com.letsintern.letsintern.global.config.JpaConfig;
+import com.letsintern.letsintern.global.config.QuerydslConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/*
+ * MySQL 에서 조건부 UPDATE / INSERT IGNORE 를 실제로 실행해 동시 예약에도 수량을 넘기지 않는지 확인한다 (Docker 가 없으면 건너뛴다)
+ * 요청마다 별도 트랜잭션으로 실행하므로 테스트 트랜잭션은 쓰지 않는다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, JpaConfig.class, CouponHelper.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class CouponHelperRedemptionIntegrationTest {
+
+    private static final int REQUEST_COUNT = 20;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.33");
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.datasource.driver-class-name", MYSQL::getDriverClassName);
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> REQUEST_COUNT + 2);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create");
+    }
+
+    @MockBean
+    private CouponCatalogCache couponCatalogCache;
+
+    @Autowired
+    private CouponHelper couponHelper;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        when(couponCatalogCache.get(anyString(), any()))
+                .thenAnswer(invocation -> ((Supplier<Optional<CouponCatalogVo>>) invocation.getArgument(1)).get());
+    }
+
+    @Test
+    @DisplayName("수량 k 개 쿠폰에 동시에 N 명이 신청하면 정확히 k 명만 성공한다")
+    void reserveCoupon_concurrent() throws Exception {
+        // given
+        final int quantity = 5;
+        Coupon coupon = saveCoupon("LIMITED", quantity, 1);
+        List<Long> userIdList = saveUsers(REQUEST_COUNT);
+
+        // when
+        List<Object> results = runConcurrently(userIdList.stream()
+                .map(userId -> (Callable<Object>) () -> reserve("LIMITED", userId, CouponRedemption.applicationKey(1L, userId)))
+                .toList());
+
+        // then
+        assertEquals(quantity, results.stream().filter(CouponCatalogVo.class::isInstance).count());
+        assertEquals(REQUEST_COUNT - quantity, results.stream().filter(CouponSoldOutException.class::isInstance).count());
+        assertEquals(quantity, usedCount(coupon.getId()));
+        assertEquals(quantity, countRows("coupon_redemption", coupon.getId()));
+        assertEquals(quantity, countRows("coupon_user", coupon.getId()));
+    }
+
+    @Test
+    @DisplayName("한 사용자가 서로 다른 신청으로 동시에 써도 사용자별 횟수만큼만 성공한다")
+    void reserveCoupon_concurrentSameUser() throws Exception {
+        // given
+        Coupon coupon = saveCoupon("PER_USER", null, 1);
+        Long userId = saveUsers(1).get(0);
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (long programId = 1; programId <= REQUEST_COUNT; programId++) {
+            final String redemptionKey = CouponRedemption.applicationKey(programId, userId);
+            tasks.add(() -> reserve("PER_USER", userId, redemptionKey));
+        }
+
+        // when
+        List<Object> results = runConcurrently(tasks);
+
+        // then - 나머지는 횟수 초과 또는 같은 coupon_user 행을 기다리다 교착 상태로 롤백된다
+        assertEquals(1, results.stream().filter(CouponCatalogVo.class::isInstance).count());
+        assertTrue(results.stream().anyMatch(CouponUsageLimitExceededException.class::isInstance));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT remain_time FROM coupon_user WHERE coupon_id = ? AND user_id = ?", Integer.class, coupon.getId(), userId));
+    }
+
+    @Test
+    @DisplayName("전체 수량이 없는 쿠폰은 동시 신청이 모두 성공하고 usedCount 를 올리지 않는다")
+    void reserveCoupon_concurrentUnlimited() throws Exception {
+        // given
+        Coupon coupon = saveCoupon("UNLIMITED", null, 1);
+        List<Long> userIdList = saveUsers(REQUEST_COUNT);
+
+        // when
+        List<Object> results = runConcurrently(userIdList.stream()
+                .map(userId -> (Callable<Object>) () -> reserve("UNLIMITED", userId, CouponRedemption.applicationKey(1L, userId)))
+                .toList());
+
+        // then
+        assertEquals(REQUEST_COUNT, results.stream().filter(CouponCatalogVo.class::isInstance).count());
+        assertEquals(0, usedCount(coupon.getId()));
+    }
+
+    @Test
+    @DisplayName("같은 신청의 취소가 동시에 들어와도 수량과 사용자별 횟수는 한 번만 되돌린다")
+    void releaseCouponRedemption_concurrent() throws Exception {
+        // given
+        final Long applicationId = 100L;
+        Coupon coupon = saveCoupon("RELEASE", 5, 1);
+        Long userId = saveUsers(1).get(0);
+        final String redemptionKey = CouponRedemption.applicationKey(1L, userId);
+        transactionTemplate.executeWithoutResult(status -> {
+            couponHelper.reserveCoupon("RELEASE", CouponProgramType.CHALLENGE, userId, redemptionKey);
+            couponHelper.commitCouponRedemption(redemptionKey, applicationId);
+        });
+
+        // when
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            tasks.add(() -> {
+                transactionTemplate.executeWithoutResult(status -> couponHelper.releaseCouponRedemption(applicationId, "RELEASE", userId));
+                return null;
+            });
+        }
+        runConcurrently(tasks);
+
+        // then
+        assertEquals(0, usedCount(coupon.getId()));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT remain_time FROM coupon_user WHERE coupon_id = ? AND user_id = ?", Integer.class, coupon.getId(), userId));
+    }
+
+    /* 성공하면 쿠폰 정보, 실패하면 (트랜잭션 롤백 후) 예외를 돌려준다 */
+    private Object reserve(String code, Long userId, String redemptionKey) {
+        try {
+            return transactionTemplate.execute(status ->
+                    couponHelper.reserveCoupon(code, CouponProgramType.CHALLENGE, userId, redemptionKey));
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private List<Object> runConcurrently(List<Callable<Object>> tasks) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(tasks.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (Callable<Object> task : tasks) {
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+
+            List<Object> results = new ArrayList<>();
+            for (Future<Object> future : futures) results.add(future.get());
+            return results;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private Coupon saveCoupon(String code, Integer quantity, Integer time) {
+        Coupon coupon = Coupon.createCoupon(BaseCouponEnumVo.builder()
+                .couponType(CouponType.EVENT)
+                .name(code)
+                .code(code)
+                .discount(5000)
+                .time(time)
+                .quantity(quantity)
+                .startDate(LocalDateTime.now().minusDays(1))
+                .endDate(LocalDateTime.now().plusDays(1))
+                .build());
+        CouponProgram.createCouponProgram(BaseCouponProgramEnumVo.of(CouponProgramType.ALL), coupon);
+        return couponRepository.save(coupon);
+    }
+
+    private List<Long> saveUsers(int count) {
+        List<Long> userIdList = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            User user = userRepository.save(User.builder()
+                    .email("user" + System.nanoTime() + "@letsintern.com")
+                    .name("user" + i)
+                    .password("password")
+                    .phoneNum("010-0000-0000")
+                    .build());
+            userIdList.add(user.getId());
+        }
+        return userIdList;
+    }
+
+    private int usedCount(Long couponId) {
+        return jdbcTemplate.queryForObject("SELECT used_count FROM coupon WHERE coupon_id = ?", Integer.class, couponId);
+    }
+
+    private long countRows(String table, Long couponId) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table + " WHERE coupon_id = ?", Long.class, couponId);
+    }
+}
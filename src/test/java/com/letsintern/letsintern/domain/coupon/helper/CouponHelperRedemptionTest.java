@@ -0,0 +1,271 @@
+package com.letsintern.letsintern.domain.coupon.helper;
+
+import com.letsintern.letsintern.domain.coupon.cache.CouponCatalogCache;
+import com.letsintern.letsintern.domain.coupon.domain.CouponProgramType;
+import com.letsintern.letsintern.domain.coupon.domain.CouponRedemption;
+import com.letsintern.letsintern.domain.coupon.domain.CouponRedemptionStatus;
+import com.letsintern.letsintern.domain.coupon.exception.CouponAlreadyRedeemedException;
+import com.letsintern.letsintern.domain.coupon.exception.CouponExpiredException;
+import com.letsintern.letsintern.domain.coupon.exception.CouponNotFound;
+import com.letsintern.letsintern.domain.coupon.exception.CouponSoldOutException;
+import com.letsintern.letsintern.domain.coupon.exception.CouponUsageLimitExceededException;
+import com.letsintern.letsintern.domain.coupon.repository.CouponRedemptionRepository;
+import com.letsintern.letsintern.domain.coupon.repository.CouponRepository;
+import com.letsintern.letsintern.domain.coupon.repository.CouponUserRepository;
+import com.letsintern.letsintern.domain.coupon.vo.CouponCatalogVo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CouponHelperRedemptionTest {
+
+    private static final Long COUPON_ID = 1L;
+    private static final Long USER_ID = 10L;
+    private static final Long APPLICATION_ID = 100L;
+    private static final String REDEMPTION_KEY = CouponRedemption.applicationKey(5L, USER_ID);
+    private static final CouponCatalogVo COUPON = CouponCatalogVo.of(COUPON_ID, "쿠폰", "CODE", 5000, 1, 100,
+            LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1), List.of(CouponProgramType.ALL));
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private CouponUserRepository couponUserRepository;
+
+    @Mock
+    private CouponRedemptionRepository couponRedemptionRepository;
+
+    @Mock
+    private CouponCatalogCache couponCatalogCache;
+
+    @InjectMocks
+    private CouponHelper couponHelper;
+
+    @Test
+    @DisplayName("사용 내역 -> 전체 수량 -> 사용자별 횟수 순서로 차감한다")
+    void reserveCoupon() {
+        // given
+        givenCachedCoupon();
+        when(couponRepository.findCouponCatalogById(COUPON_ID)).thenReturn(Optional.of(COUPON));
+        when(couponRedemptionRepository.reserve(REDEMPTION_KEY, COUPON_ID, USER_ID, true)).thenReturn(true);
+        when(couponRepository.increaseUsedCount(COUPON_ID)).thenReturn(1L);
+        when(couponUserRepository.decreaseRemainTime(COUPON_ID, USER_ID)).thenReturn(1L);
+
+        // when
+        couponHelper.reserveCoupon("CODE", CouponProgramType.CHALLENGE, USER_ID, REDEMPTION_KEY);
+
+        // then
+        InOrder inOrder = inOrder(couponRedemptionRepository, couponRepository, couponUserRepository);
+        inOrder.verify(couponRedemptionRepository).reserve(REDEMPTION_KEY, COUPON_ID, USER_ID, true);
+        inOrder.verify(couponRepository).increaseUsedCount(COUPON_ID);
+        inOrder.verify(couponUserRepository).insertIfAbsent(COUPON_ID, USER_ID, COUPON.time());
+        inOrder.verify(couponUserRepository).decreaseRemainTime(COUPON_ID, USER_ID);
+    }
+
+    @Test
+    @DisplayName("같은 신청으로 두 번 적용하면 수량과 사용자별 횟수를 건드리지 않고 실패한다")
+    void reserveCoupon_alreadyRedeemed() {
+        // given
+        givenCachedCoupon();
+        when(couponRepository.findCouponCatalogById(COUPON_ID)).thenReturn(Optional.of(COUPON));
+        when(couponRedemptionRepository.reserve(REDEMPTION_KEY, COUPON_ID, USER_ID, true)).thenReturn(false);
+
+        // when & then
+        assertThrows(CouponAlreadyRedeemedException.class, () -> couponHelper.reserveCoupon("CODE", CouponProgramType.CHALLENGE, USER_ID, REDEMPTION_KEY));
+        verify(couponRepository, never()).increaseUsedCount(anyLong());
+        verifyNoInteractions(couponUserRepository);
+    }
+
+    @Test
+    @DisplayName("전체 수량이 소진되면 사용자별 횟수를 차감하지 않고 실패한다")
+    void reserveCoupon_soldOut() {
+        // given
+        givenCachedCoupon();
+        when(couponRepository.findCouponCatalogById(COUPON_ID)).thenReturn(Optional.of(COUPON));
+        when(couponRedemptionRepository.reserve(REDEMPTION_KEY, COUPON_ID, USER_ID, true)).thenReturn(true);
+        when(couponRepository.increaseUsedCount(COUPON_ID)).thenReturn(0L);
+        when(couponRepository.existsByIdForUpdate(COUPON_ID)).thenReturn(true);
+
+        // when & then
+        assertThrows(CouponSoldOutException.class, () -> couponHelper.reserveCoupon("CODE", CouponProgramType.CHALLENGE, USER_ID, REDEMPTION_KEY));
+        verifyNoInteractions(couponUserRepository);
+    }
+
+    @Test
+    @DisplayName("사용자별 횟수를 다 쓰면 실패한다 (앞선 차감은 신청 트랜잭션과 함께 롤백된다)")
+    void reserveCoupon_usageLimitExceeded() {
+        // given
+        givenCachedCoupon();
+        when(couponRepository.findCouponCatalogById(COUPON_ID)).thenReturn(Optional.of(COUPON));
+        when(couponRedemptionRepository.reserve(REDEMPTION_KEY, COUPON_ID, USER_ID, true)).thenReturn(true);
+        when(couponRepository.increaseUsedCount(COUPON_ID)).thenReturn(1L);
+        when(couponUserRepository.decreaseRemainTime(COUPON_ID, USER_ID)).thenReturn(0L);
+
+        // when & then
+        assertThrows(CouponUsageLimitExceededException.class, () -> couponHelper.reserveCoupon("CODE", CouponProgramType.CHALLENGE, USER_ID, REDEMPTION_KEY));
+    }
+
+    @Test
+    @DisplayName("캐시에 남은 쿠폰이 이미 삭제됐으면 소진이 아니라 없는 쿠폰으로 실패한다")
+    void reserveCoupon_deleted() {
+        // given
+        givenCachedCoupon();
+        when(couponRepository.findCouponCatalogById(COUPON_ID)).thenReturn(Optional.of(COUPON));
+        when(couponRedemptionRepository.reserve(REDEMPTION_KEY, COUPON_ID, USER_ID, true)).thenReturn(true);
+        when(couponRepository.increaseUsedCount(COUPON_ID)).thenReturn(0L);
+        when(couponRepository.existsByIdForUpdate(COUPON_ID)).thenReturn(false);
+
+        // when & then
+        assertThrows(CouponNotFound.class, () -> couponHelper.reserveCoupon("CODE", CouponProgramType.CHALLENGE, USER_ID, REDEMPTION_KEY));
+    }
+
+    @Test
+    @DisplayName("캐시가 다른 서버의 수정을 못 봤어도 할인 금액은 잠근 쿠폰 행 기준이다")
+    void reserveCoupon_staleCache() {
+        // given
+        givenCachedCoupon();
+        CouponCatalogVo updated = CouponCatalogVo.of(COUPON_ID, "쿠폰", "CODE", 3000, 1, 100,
+                COUPON.startDate(), COUPON.endDate(), List.of(CouponProgramType.ALL));
+        when(couponRedemptionRepository.reserve(REDEMPTION_KEY, COUPON_ID, USER_ID, true)).thenReturn(true);
+        when(couponRepository.increaseUsedCount(COUPON_ID)).thenReturn(1L);
+        when(couponRepository.findCouponCatalogById(COUPON_ID)).thenReturn(Optional.of(COUPON)).thenReturn(Optional.of(updated));
+        when(couponUserRepository.decreaseRemainTime(COUPON_ID, USER_ID)).thenReturn(1L);
+
+        // when
+        CouponCatalogVo reserved = couponHelper.reserveCoupon("CODE", CouponProgramType.CHALLENGE, USER_ID, REDEMPTION_KEY);
+
+        // then
+        assertEquals(3000, reserved.discount());
+    }
+
+    @Test
+    @DisplayName("잠근 쿠폰 행 기준으로 기간이 지났으면 실패한다")
+    void reserveCoupon_expiredOnLockedRow() {
+        // given
+        givenCachedCoupon();
+        CouponCatalogVo expired = CouponCatalogVo.of(COUPON_ID, "쿠폰", "CODE", 5000, 1, 100,
+                LocalDateTime.now().minusDays(2), LocalDateTime.now().minusDays(1), List.of(CouponProgramType.ALL));
+        when(couponRedemptionRepository.reserve(REDEMPTION_KEY, COUPON_ID, USER_ID, true)).thenReturn(true);
+        when(couponRepository.increaseUsedCount(COUPON_ID)).thenReturn(1L);
+        when(couponRepository.findCouponCatalogById(COUPON_ID)).thenReturn(Optional.of(COUPON)).thenReturn(Optional.of(expired));
+
+        // when & then
+        assertThrows(CouponExpiredException.class, () -> couponHelper.reserveCoupon("CODE", CouponProgramType.CHALLENGE, USER_ID, REDEMPTION_KEY));
+        verifyNoInteractions(couponUserRepository);
+    }
+
+    @Test
+    @DisplayName("이 서버 캐시에 없는 코드로 남아 있어도 DB 에서 다시 찾는다")
+    void reserveCoupon_negativeCache() {
+        // given
+        when(couponCatalogCache.get(eq("CODE"), any())).thenReturn(Optional.empty());
+        when(couponRepository.findCouponCatalogByCode("CODE")).thenReturn(Optional.of(COUPON));
+        when(couponRedemptionRepository.reserve(REDEMPTION_KEY, COUPON_ID, USER_ID, true)).thenReturn(true);
+        when(couponRepository.increaseUsedCount(COUPON_ID)).thenReturn(1L);
+        when(couponRepository.findCouponCatalogById(COUPON_ID)).thenReturn(Optional.of(COUPON));
+        when(couponUserRepository.decreaseRemainTime(COUPON_ID, USER_ID)).thenReturn(1L);
+
+        // when
+        CouponCatalogVo reserved = couponHelper.reserveCoupon("CODE", CouponProgramType.CHALLENGE, USER_ID, REDEMPTION_KEY);
+
+        // then
+        assertEquals(COUPON_ID, reserved.couponId());
+    }
+
+    @Test
+    @DisplayName("전체 수량이 없는 쿠폰은 쿠폰 행을 잠그지 않도록 usedCount 를 올리지 않는다")
+    void reserveCoupon_unlimited() {
+        // given
+        CouponCatalogVo unlimited = CouponCatalogVo.of(COUPON_ID, "쿠폰", "CODE", 5000, 1, null,
+                COUPON.startDate(), COUPON.endDate(), List.of(CouponProgramType.ALL));
+        when(couponCatalogCache.get(eq("CODE"), any())).thenReturn(Optional.of(unlimited));
+        when(couponRepository.findCouponCatalogById(COUPON_ID)).thenReturn(Optional.of(unlimited));
+        when(couponRedemptionRepository.reserve(REDEMPTION_KEY, COUPON_ID, USER_ID, false)).thenReturn(true);
+        when(couponUserRepository.decreaseRemainTime(COUPON_ID, USER_ID)).thenReturn(1L);
+
+        // when
+        couponHelper.reserveCoupon("CODE", CouponProgramType.CHALLENGE, USER_ID, REDEMPTION_KEY);
+
+        // then
+        verify(couponRepository, never()).increaseUsedCount(anyLong());
+        verify(couponRepository, never()).existsByIdForUpdate(anyLong());
+    }
+
+    @Test
+    @DisplayName("수량을 차감하지 않은 사용 내역은 취소해도 usedCount 를 되돌리지 않는다")
+    void releaseCouponRedemption_notCounted() {
+        // given
+        CouponRedemption couponRedemption = committedRedemption();
+        when(couponRedemption.getQuantityCounted()).thenReturn(false);
+        when(couponRedemptionRepository.findByApplicationIdAndStatus(APPLICATION_ID, CouponRedemptionStatus.COMMITTED))
+                .thenReturn(Optional.of(couponRedemption));
+        when(couponRedemptionRepository.release(couponRedemption.getId())).thenReturn(1L);
+
+        // when
+        couponHelper.releaseCouponRedemption(APPLICATION_ID, "CODE", USER_ID);
+
+        // then
+        verify(couponRepository, never()).decreaseUsedCount(anyLong());
+        verify(couponUserRepository).increaseRemainTime(COUPON_ID, USER_ID);
+    }
+
+    @Test
+    @DisplayName("신청을 취소하면 사용 내역을 RELEASED 로 바꾸고 수량과 사용자별 횟수를 되돌린다")
+    void releaseCouponRedemption() {
+        // given
+        CouponRedemption couponRedemption = committedRedemption();
+        when(couponRedemptionRepository.findByApplicationIdAndStatus(APPLICATION_ID, CouponRedemptionStatus.COMMITTED))
+                .thenReturn(Optional.of(couponRedemption));
+        when(couponRedemptionRepository.release(couponRedemption.getId())).thenReturn(1L);
+
+        // when
+        couponHelper.releaseCouponRedemption(APPLICATION_ID, "CODE", USER_ID);
+
+        // then
+        verify(couponRepository).decreaseUsedCount(COUPON_ID);
+        verify(couponUserRepository).increaseRemainTime(COUPON_ID, USER_ID);
+    }
+
+    @Test
+    @DisplayName("같은 신청의 취소가 동시에 들어와도 수량은 한 번만 되돌린다")
+    void releaseCouponRedemption_alreadyReleased() {
+        // given
+        CouponRedemption couponRedemption = committedRedemption();
+        when(couponRedemptionRepository.findByApplicationIdAndStatus(APPLICATION_ID, CouponRedemptionStatus.COMMITTED))
+                .thenReturn(Optional.of(couponRedemption));
+        when(couponRedemptionRepository.release(couponRedemption.getId())).thenReturn(0L);
+
+        // when
+        couponHelper.releaseCouponRedemption(APPLICATION_ID, "CODE", USER_ID);
+
+        // then
+        verify(couponRepository, never()).decreaseUsedCount(anyLong());
+        verify(couponUserRepository, never()).increaseRemainTime(anyLong(), anyLong());
+    }
+
+    private void givenCachedCoupon() {
+        when(couponCatalogCache.get(eq("CODE"), any())).thenReturn(Optional.of(COUPON));
+    }
+
+    private CouponRedemption committedRedemption() {
+        CouponRedemption couponRedemption = mock(CouponRedemption.class);
+        when(couponRedemption.getId()).thenReturn(1000L);
+        lenient().when(couponRedemption.getCouponId()).thenReturn(COUPON_ID);
+        lenient().when(couponRedemption.getQuantityCounted()).thenReturn(true);
+        return couponRedemption;
+    }
+}
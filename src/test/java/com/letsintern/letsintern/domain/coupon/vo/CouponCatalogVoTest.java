@@ -0,0 +1,43 @@
+package com.letsintern.letsintern.domain.coupon.vo;
+
+import com.letsintern.letsintern.domain.coupon.domain.CouponProgramType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CouponCatalogVoTest {
+
+    @Test
+    @DisplayName("캐시로 공유되는 적용 대상 집합은 수정할 수 없다")
+    void couponProgramTypeSet_unmodifiable() {
+        // given
+        CouponCatalogVo coupon = CouponCatalogVo.of(1L, "쿠폰", "CODE", 5000, 1, null,
+                LocalDateTime.now(), LocalDateTime.now().plusDays(1), List.of(CouponProgramType.CHALLENGE));
+
+        // when & then
+        assertThrows(UnsupportedOperationException.class, () -> coupon.couponProgramTypeSet().add(CouponProgramType.ALL));
+        assertFalse(coupon.isAvailableFor(CouponProgramType.BOOTCAMP));
+    }
+
+    @Test
+    @DisplayName("builder 로 넘긴 집합을 나중에 바꿔도 쿠폰 정보는 바뀌지 않는다")
+    void couponProgramTypeSet_copied() {
+        // given
+        EnumSet<CouponProgramType> couponProgramTypeSet = EnumSet.of(CouponProgramType.CHALLENGE);
+        CouponCatalogVo coupon = CouponCatalogVo.builder()
+                .couponId(1L)
+                .couponProgramTypeSet(couponProgramTypeSet)
+                .build();
+
+        // when
+        couponProgramTypeSet.add(CouponProgramType.ALL);
+
+        // then
+        assertEquals(1, coupon.couponProgramTypeSet().size());
+    }
+}
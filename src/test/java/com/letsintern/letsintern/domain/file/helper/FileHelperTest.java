@@ -0,0 +1,90 @@
+package com.letsintern.letsintern.domain.file.helper;
+
+import com.letsintern.letsintern.domain.contents.domain.ContentsTopic;
+import com.letsintern.letsintern.domain.file.cache.FileDownloadCache;
+import com.letsintern.letsintern.domain.file.dto.request.FileUploadCompleteDTO;
+import com.letsintern.letsintern.domain.file.dto.request.FileUploadCreateDTO;
+import com.letsintern.letsintern.domain.file.exception.FileAlreadyRegistered;
+import com.letsintern.letsintern.domain.file.exception.FileUploadNotCompleted;
+import com.letsintern.letsintern.domain.file.mapper.FileMapper;
+import com.letsintern.letsintern.domain.file.repository.FileRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FileHelperTest {
+
+    private static final String UPLOADED_KEY = "file/contents/123e4567-e89b-12d3-a456-426614174000/guide.pdf";
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @Mock
+    private FileMapper fileMapper;
+
+    @Mock
+    private S3Helper s3Helper;
+
+    @Mock
+    private FileDownloadCache fileDownloadCache;
+
+    @InjectMocks
+    private FileHelper fileHelper;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(fileHelper, "maxFileSizeMb", 1024L);
+    }
+
+    @Test
+    @DisplayName("같은 파일명으로 다시 발급받아도 업로드마다 다른 키를 받고, 파일명은 마지막 경로로 남는다")
+    void createUpload_uniqueKey() {
+        // given
+        FileUploadCreateDTO fileUploadCreateDTO = new FileUploadCreateDTO("../guide.pdf", "application/pdf", 100L, ContentsTopic.values()[0]);
+
+        // when
+        fileHelper.createUpload(fileUploadCreateDTO);
+        fileHelper.createUpload(fileUploadCreateDTO);
+
+        // then
+        ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
+        verify(s3Helper, times(2)).createPresignedUpload(keyCaptor.capture(), eq("application/pdf"), eq(100L));
+        List<String> keyList = keyCaptor.getAllValues();
+        assertNotEquals(keyList.get(0), keyList.get(1));
+        keyList.forEach(key -> assertTrue(key.matches("file/contents/[0-9a-f-]{36}/\\.\\._guide\\.pdf"), key));
+    }
+
+    @Test
+    @DisplayName("이미 등록된 키로 완료를 다시 요청하면 거절한다")
+    void completeUpload_alreadyRegistered() {
+        // given
+        when(fileRepository.existsByOriginalFilename(UPLOADED_KEY)).thenReturn(true);
+
+        // when & then
+        assertThrows(FileAlreadyRegistered.class, () -> fileHelper.completeUpload(
+                new FileUploadCompleteDTO(UPLOADED_KEY, null, null, ContentsTopic.values()[0])));
+        verifyNoInteractions(s3Helper);
+    }
+
+    @Test
+    @DisplayName("createUpload 로 발급하지 않은 형식의 키(기존 파일 키 등)는 등록하지 않는다")
+    void completeUpload_notIssuedKey() {
+        // when & then
+        assertThrows(FileUploadNotCompleted.class, () -> fileHelper.completeUpload(
+                new FileUploadCompleteDTO("file/contents/guide.pdf", null, null, ContentsTopic.values()[0])));
+        verifyNoInteractions(s3Helper, fileRepository);
+    }
+}
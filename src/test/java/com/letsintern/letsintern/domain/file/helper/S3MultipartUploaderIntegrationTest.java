@@ -0,0 +1,110 @@
+package com.letsintern.letsintern.domain.file.helper;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.model.ListMultipartUploadsRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/* MinIO 를 S3 대신 띄워 실제 multipart API 로 업로드/취소를 확인한다 (Docker 가 없으면 건너뛴다) */
+@Testcontainers(disabledWithoutDocker = true)
+class S3MultipartUploaderIntegrationTest {
+
+    private static final String BUCKET = "letsintern-test";
+    private static final String ACCESS_KEY = "minioadmin";
+    private static final String SECRET_KEY = "minioadmin";
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+
+    @Container
+    private static final GenericContainer<?> MINIO = new GenericContainer<>("minio/minio:RELEASE.2023-09-30T07-02-29Z")
+            .withEnv("MINIO_ROOT_USER", ACCESS_KEY)
+            .withEnv("MINIO_ROOT_PASSWORD", SECRET_KEY)
+            .withCommand("server", "/data")
+            .withExposedPorts(9000)
+            .waitingFor(Wait.forHttp("/minio/health/live").forPort(9000));
+
+    private static AmazonS3 amazonS3;
+
+    private S3MultipartUploader s3MultipartUploader;
+
+    @BeforeAll
+    static void setUpClient() {
+        amazonS3 = AmazonS3ClientBuilder.standard()
+                .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(
+                        "http://" + MINIO.getHost() + ":" + MINIO.getMappedPort(9000), "ap-northeast-2"))
+                .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials(ACCESS_KEY, SECRET_KEY)))
+                .withPathStyleAccessEnabled(true)
+                .build();
+        amazonS3.createBucket(BUCKET);
+    }
+
+    @BeforeEach
+    void setUp() {
+        /* S3 와 같이 MinIO 도 마지막이 아닌 파트는 5MB 이상이어야 한다 */
+        s3MultipartUploader = new S3MultipartUploader(amazonS3, 5, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3MultipartUploader.shutdown();
+    }
+
+    @Test
+    @DisplayName("여러 파트로 나눠 올린 객체를 그대로 다시 읽을 수 있다")
+    void upload() throws IOException {
+        // given
+        byte[] content = randomBytes(PART_SIZE * 2 + 1234);
+
+        // when
+        s3MultipartUploader.upload(BUCKET, "multipart/ok.bin", "application/octet-stream", new ByteArrayInputStream(content));
+
+        // then
+        try (InputStream uploaded = amazonS3.getObject(BUCKET, "multipart/ok.bin").getObjectContent()) {
+            assertArrayEquals(content, uploaded.readAllBytes());
+        }
+        assertEquals(content.length, amazonS3.getObjectMetadata(BUCKET, "multipart/ok.bin").getContentLength());
+    }
+
+    @Test
+    @DisplayName("입력이 중간에 실패하면 업로드를 취소해 객체도, 남은 파트도 없다")
+    void upload_abortOnFailure() {
+        // given
+        InputStream failing = new SequenceInputStream(new ByteArrayInputStream(randomBytes(PART_SIZE * 2)), new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        });
+
+        // when & then
+        assertThrows(RuntimeException.class,
+                () -> s3MultipartUploader.upload(BUCKET, "multipart/failed.bin", "application/octet-stream", failing));
+        assertFalse(amazonS3.doesObjectExist(BUCKET, "multipart/failed.bin"));
+        assertTrue(amazonS3.listMultipartUploads(new ListMultipartUploadsRequest(BUCKET).withPrefix("multipart/failed.bin"))
+                .getMultipartUploads().isEmpty());
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
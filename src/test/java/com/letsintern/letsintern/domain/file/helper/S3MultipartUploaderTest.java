@@ -0,0 +1,134 @@
+package com.letsintern.letsintern.domain.file.helper;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class S3MultipartUploaderTest {
+
+    private static final int PART_SIZE = 1024 * 1024;
+
+    @Mock
+    private AmazonS3 amazonS3;
+
+    private S3MultipartUploader s3MultipartUploader;
+
+    @AfterEach
+    void tearDown() {
+        if (s3MultipartUploader != null) s3MultipartUploader.shutdown();
+    }
+
+    @Test
+    @DisplayName("파트 단위로 올린 뒤 파트 순서대로 완료한다")
+    void upload() {
+        // given
+        s3MultipartUploader = new S3MultipartUploader(amazonS3, 1, 2);
+        givenInitiated();
+        when(amazonS3.uploadPart(any())).thenAnswer(invocation -> partResult(invocation.getArgument(0)));
+
+        // when
+        s3MultipartUploader.upload("bucket", "key", "application/octet-stream", new ByteArrayInputStream(new byte[PART_SIZE * 2 + 10]));
+
+        // then
+        ArgumentCaptor<CompleteMultipartUploadRequest> captor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(amazonS3).completeMultipartUpload(captor.capture());
+        assertEquals(List.of(1, 2, 3), captor.getValue().getPartETags().stream().map(PartETag::getPartNumber).toList());
+        verify(amazonS3, never()).abortMultipartUpload(any());
+    }
+
+    @Test
+    @DisplayName("파트 하나가 실패하면 남은 입력을 읽지 않고 업로드를 취소한다")
+    void upload_partFailure() {
+        // given
+        s3MultipartUploader = new S3MultipartUploader(amazonS3, 1, 1);
+        givenInitiated();
+        when(amazonS3.uploadPart(any())).thenThrow(new SdkClientException("part failed"));
+        CountingInputStream inputStream = new CountingInputStream(new ByteArrayInputStream(new byte[PART_SIZE * 10]));
+
+        // when & then
+        assertThrows(RuntimeException.class,
+                () -> s3MultipartUploader.upload("bucket", "key", "application/octet-stream", inputStream));
+        assertEquals(PART_SIZE, inputStream.count.get());
+        verify(amazonS3).abortMultipartUpload(any());
+        verify(amazonS3, never()).completeMultipartUpload(any());
+    }
+
+    @Test
+    @DisplayName("동시에 여러 업로드가 들어와도 읽어 둔 파트 수는 서버 전체에서 concurrency 를 넘지 않는다")
+    void upload_sharedSlots() throws Exception {
+        // given
+        s3MultipartUploader = new S3MultipartUploader(amazonS3, 1, 2);
+        givenInitiated();
+        CountDownLatch releaseParts = new CountDownLatch(1);
+        when(amazonS3.uploadPart(any())).thenAnswer(invocation -> {
+            releaseParts.await(5, TimeUnit.SECONDS);
+            return partResult(invocation.getArgument(0));
+        });
+        CountingInputStream first = new CountingInputStream(new ByteArrayInputStream(new byte[PART_SIZE * 4]));
+        CountingInputStream second = new CountingInputStream(new ByteArrayInputStream(new byte[PART_SIZE * 4]));
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+
+        // when
+        Future<?> firstUpload = callers.submit(() -> s3MultipartUploader.upload("bucket", "first", "application/octet-stream", first));
+        Future<?> secondUpload = callers.submit(() -> s3MultipartUploader.upload("bucket", "second", "application/octet-stream", second));
+        Thread.sleep(300);
+        long bufferedBytes = first.count.get() + second.count.get();
+        releaseParts.countDown();
+        firstUpload.get(10, TimeUnit.SECONDS);
+        secondUpload.get(10, TimeUnit.SECONDS);
+        callers.shutdown();
+
+        // then
+        assertEquals(PART_SIZE * 2L, bufferedBytes);
+        verify(amazonS3, times(2)).completeMultipartUpload(any());
+    }
+
+    private void givenInitiated() {
+        InitiateMultipartUploadResult initiated = new InitiateMultipartUploadResult();
+        initiated.setUploadId("upload-id");
+        when(amazonS3.initiateMultipartUpload(any())).thenReturn(initiated);
+    }
+
+    private static UploadPartResult partResult(UploadPartRequest request) {
+        UploadPartResult result = new UploadPartResult();
+        result.setPartNumber(request.getPartNumber());
+        result.setETag("etag-" + request.getPartNumber());
+        return result;
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+
+        private final AtomicLong count = new AtomicLong();
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) count.addAndGet(read);
+            return read;
+        }
+    }
+}
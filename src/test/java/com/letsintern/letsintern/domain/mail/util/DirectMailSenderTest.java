@@ -0,0 +1,49 @@
+package com.letsintern.letsintern.domain.mail.util;
+
+import com.letsintern.letsintern.domain.mail.exception.MailSendFailed;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DirectMailSenderTest {
+
+    @Mock
+    private JavaMailSender javaMailSender;
+
+    @InjectMocks
+    private DirectMailSender directMailSender;
+
+    @Test
+    @DisplayName("호출한 스레드에서 바로 발송한다")
+    void send() {
+        // given
+        SimpleMailMessage message = new SimpleMailMessage();
+
+        // when
+        directMailSender.send(message);
+
+        // then
+        verify(javaMailSender).send(message);
+    }
+
+    @Test
+    @DisplayName("발송에 실패하면 호출한 트랜잭션이 롤백되도록 예외를 던진다")
+    void send_failed() {
+        // given
+        SimpleMailMessage message = new SimpleMailMessage();
+        doThrow(new MailSendException("smtp down")).when(javaMailSender).send(message);
+
+        // when // then
+        assertSame(MailSendFailed.EXCEPTION, assertThrows(MailSendFailed.class, () -> directMailSender.send(message)));
+    }
+}
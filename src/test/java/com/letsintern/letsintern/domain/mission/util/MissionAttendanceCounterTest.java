@@ -0,0 +1,100 @@
+package com.letsintern.letsintern.domain.mission.util;
+
+import com.letsintern.letsintern.domain.attendance.event.AttendanceCreatedEvent;
+import com.letsintern.letsintern.domain.mission.repository.MissionRepository;
+import com.letsintern.letsintern.global.common.counter.CounterDeltaBuffer;
+import com.letsintern.letsintern.global.common.counter.CounterType;
+import com.letsintern.letsintern.global.common.lock.SchedulerLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MissionAttendanceCounterTest {
+
+    private static final List<CounterType> COUNTER_TYPES = List.of(CounterType.MISSION_ATTENDANCE, CounterType.MISSION_LATE_ATTENDANCE);
+
+    @Mock
+    private MissionRepository missionRepository;
+
+    @Mock
+    private CounterDeltaBuffer counterDeltaBuffer;
+
+    @Mock
+    private SchedulerLock schedulerLock;
+
+    private MissionAttendanceCounter missionAttendanceCounter;
+
+    @BeforeEach
+    void setUp() {
+        missionAttendanceCounter = new MissionAttendanceCounter(missionRepository, counterDeltaBuffer,
+                new TransactionTemplate(new ResourcelessTransactionManager()), schedulerLock);
+        ReflectionTestUtils.setField(missionAttendanceCounter, "flushBatchSize", 100);
+    }
+
+    @Test
+    @DisplayName("지각 여부에 따라 다른 종류의 변화량으로 쌓인다")
+    void onAttendanceCreated() {
+        // when
+        missionAttendanceCounter.onAttendanceCreated(AttendanceCreatedEvent.of(1L, false));
+        missionAttendanceCounter.onAttendanceCreated(AttendanceCreatedEvent.of(1L, true));
+
+        // then
+        verify(counterDeltaBuffer).add(CounterType.MISSION_ATTENDANCE, 1L, 1);
+        verify(counterDeltaBuffer).add(CounterType.MISSION_LATE_ATTENDANCE, 1L, 1);
+    }
+
+    @Test
+    @DisplayName("flush 는 미션 별로 정상/지각 변화량을 한 번에 더한다")
+    void flush() {
+        // given
+        when(counterDeltaBuffer.drain(COUNTER_TYPES, 100)).thenReturn(Map.of(
+                CounterType.MISSION_ATTENDANCE, Map.of(1L, 5L),
+                CounterType.MISSION_LATE_ATTENDANCE, Map.of(1L, 2L, 2L, 1L)));
+
+        // when
+        missionAttendanceCounter.flush();
+
+        // then
+        verify(missionRepository).increaseAttendanceCount(1L, 5L, 2L);
+        verify(missionRepository).increaseAttendanceCount(2L, 0L, 1L);
+    }
+
+    @Test
+    @DisplayName("reconcile 은 미반영 변화량을 먼저 지우고 재집계한다")
+    void reconcile() {
+        // given
+        when(schedulerLock.runExclusively(eq("missionAttendanceCountReconcile"), any(Duration.class), any()))
+                .thenAnswer(invocation -> {
+                    invocation.<LongConsumer>getArgument(2).accept(1L);
+                    return true;
+                });
+        when(missionRepository.findAttendanceCountDriftedIds()).thenReturn(List.of(3L));
+        when(counterDeltaBuffer.findPendingTargetIds(COUNTER_TYPES)).thenReturn(List.of(3L));
+        when(missionRepository.reconcileAttendanceCount(3L)).thenReturn(1L);
+
+        // when
+        missionAttendanceCounter.reconcile();
+
+        // then
+        InOrder inOrder = inOrder(counterDeltaBuffer, missionRepository);
+        inOrder.verify(counterDeltaBuffer).discard(COUNTER_TYPES, 3L);
+        inOrder.verify(missionRepository).reconcileAttendanceCount(3L);
+        verify(missionRepository, never()).increaseAttendanceCount(anyLong(), anyLong(), anyLong());
+    }
+}
@@ -0,0 +1,55 @@
+package com.letsintern.letsintern.domain.program.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProgramTransitionTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final Duration BASE = Duration.ofSeconds(30);
+    private static final Duration MAX = Duration.ofMinutes(60);
+
+    @Test
+    @DisplayName("전환이 실패할 때마다 재시도 간격이 두 배로 늘고 최대 간격을 넘지 않는다")
+    void deferTransition_backoff() {
+        // given
+        Program program = new Program();
+
+        // when
+        program.deferTransition(NOW, BASE, MAX, 10);
+        LocalDateTime first = program.getNextTransitionAt();
+        program.deferTransition(NOW, BASE, MAX, 10);
+        LocalDateTime second = program.getNextTransitionAt();
+        for (int i = 0; i < 6; i++) program.deferTransition(NOW, BASE, MAX, 10);
+
+        // then
+        assertEquals(NOW.plusSeconds(30), first);
+        assertEquals(NOW.plusSeconds(60), second);
+        assertEquals(NOW.plus(MAX), program.getNextTransitionAt());
+        assertEquals(8, program.getTransitionFailCount());
+    }
+
+    @Test
+    @DisplayName("연속 실패가 한도에 닿으면 전환을 멈추고, 다시 요청하면 처음부터 시도한다")
+    void deferTransition_maxAttempts() {
+        // given
+        Program program = new Program();
+        for (int i = 0; i < 2; i++) program.deferTransition(NOW, BASE, MAX, 3);
+
+        // when
+        boolean retry = program.deferTransition(NOW, BASE, MAX, 3);
+
+        // then
+        assertFalse(retry);
+        assertNull(program.getNextTransitionAt());
+
+        program.requestTransition(NOW);
+        assertEquals(NOW, program.getNextTransitionAt());
+        assertEquals(0, program.getTransitionFailCount());
+    }
+}
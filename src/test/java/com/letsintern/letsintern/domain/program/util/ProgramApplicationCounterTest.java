@@ -0,0 +1,137 @@
+package com.letsintern.letsintern.domain.program.util;
+
+import com.letsintern.letsintern.domain.application.event.ApplicationCountChangedEvent;
+import com.letsintern.letsintern.domain.program.repository.ProgramRepository;
+import com.letsintern.letsintern.global.common.counter.CounterDeltaBuffer;
+import com.letsintern.letsintern.global.common.counter.CounterType;
+import com.letsintern.letsintern.global.common.lock.SchedulerLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProgramApplicationCounterTest {
+
+    private static final List<CounterType> COUNTER_TYPES = List.of(CounterType.PROGRAM_APPLICATION);
+
+    @Mock
+    private ProgramRepository programRepository;
+
+    @Mock
+    private CounterDeltaBuffer counterDeltaBuffer;
+
+    @Mock
+    private SchedulerLock schedulerLock;
+
+    private ProgramApplicationCounter programApplicationCounter;
+
+    @BeforeEach
+    void setUp() {
+        programApplicationCounter = new ProgramApplicationCounter(programRepository, counterDeltaBuffer,
+                new TransactionTemplate(new ResourcelessTransactionManager()), schedulerLock);
+        ReflectionTestUtils.setField(programApplicationCounter, "flushBatchSize", 100);
+    }
+
+    @Test
+    @DisplayName("신청/취소 이벤트는 같은 트랜잭션에서 변화량 행으로 쌓인다")
+    void onApplicationCountChanged() {
+        // when
+        programApplicationCounter.onApplicationCountChanged(ApplicationCountChangedEvent.ofCreate(1L));
+        programApplicationCounter.onApplicationCountChanged(ApplicationCountChangedEvent.ofDelete(1L));
+
+        // then
+        verify(counterDeltaBuffer).add(CounterType.PROGRAM_APPLICATION, 1L, 1);
+        verify(counterDeltaBuffer).add(CounterType.PROGRAM_APPLICATION, 1L, -1);
+    }
+
+    @Test
+    @DisplayName("flush 는 꺼낸 변화량 합계만큼 applicationCount 를 더한다")
+    void flush() {
+        // given
+        when(counterDeltaBuffer.drain(COUNTER_TYPES, 100))
+                .thenReturn(Map.of(CounterType.PROGRAM_APPLICATION, Map.of(1L, 3L, 2L, -1L)));
+
+        // when
+        programApplicationCounter.flush();
+
+        // then
+        verify(programRepository).increaseApplicationCount(1L, 3L);
+        verify(programRepository).increaseApplicationCount(2L, -1L);
+    }
+
+    @Test
+    @DisplayName("flush 가 실패해도 예외를 밖으로 던지지 않는다 (변화량 행은 롤백되어 남는다)")
+    void flush_failed() {
+        // given
+        when(counterDeltaBuffer.drain(COUNTER_TYPES, 100))
+                .thenReturn(Map.of(CounterType.PROGRAM_APPLICATION, Map.of(1L, 3L)));
+        doThrow(new IllegalStateException("db down")).when(programRepository).increaseApplicationCount(1L, 3L);
+
+        // when
+        programApplicationCounter.flush();
+
+        // then
+        verify(programRepository).increaseApplicationCount(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("reconcile 은 id 별로 미반영 변화량을 지운 뒤 재집계하고, 변화량을 다시 더하지 않는다")
+    void reconcile() {
+        // given
+        runLeaseTask();
+        when(programRepository.findApplicationCountDriftedIds()).thenReturn(List.of(1L));
+        when(counterDeltaBuffer.findPendingTargetIds(COUNTER_TYPES)).thenReturn(List.of(1L, 2L));
+        when(programRepository.reconcileApplicationCount(anyLong())).thenReturn(1L);
+
+        // when
+        programApplicationCounter.reconcile();
+
+        // then
+        InOrder inOrder = inOrder(counterDeltaBuffer, programRepository);
+        inOrder.verify(counterDeltaBuffer).discard(COUNTER_TYPES, 1L);
+        inOrder.verify(programRepository).reconcileApplicationCount(1L);
+        inOrder.verify(counterDeltaBuffer).discard(COUNTER_TYPES, 2L);
+        inOrder.verify(programRepository).reconcileApplicationCount(2L);
+        verify(programRepository, never()).increaseApplicationCount(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("한 프로그램의 reconcile 이 실패해도 나머지 프로그램은 계속 맞춘다")
+    void reconcile_partialFailure() {
+        // given
+        runLeaseTask();
+        when(programRepository.findApplicationCountDriftedIds()).thenReturn(List.of(1L, 2L));
+        when(counterDeltaBuffer.findPendingTargetIds(COUNTER_TYPES)).thenReturn(List.of());
+        when(programRepository.reconcileApplicationCount(1L)).thenThrow(new IllegalStateException("deadlock"));
+        when(programRepository.reconcileApplicationCount(2L)).thenReturn(1L);
+
+        // when
+        programApplicationCounter.reconcile();
+
+        // then
+        verify(programRepository).reconcileApplicationCount(2L);
+    }
+
+    private void runLeaseTask() {
+        when(schedulerLock.runExclusively(eq("programApplicationCountReconcile"), any(Duration.class), any()))
+                .thenAnswer(invocation -> {
+                    invocation.<LongConsumer>getArgument(2).accept(1L);
+                    return true;
+                });
+    }
+}
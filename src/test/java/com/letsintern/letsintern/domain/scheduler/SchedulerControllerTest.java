@@ -0,0 +1,32 @@
+package com.letsintern.letsintern.domain.scheduler;
+
+import com.letsintern.letsintern.domain.scheduler.exception.SchedulerInvalidLeaseTime;
+import com.letsintern.letsintern.global.common.lock.SchedulerLock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class SchedulerControllerTest {
+
+    @Mock
+    private SchedulerLock schedulerLock;
+
+    @InjectMocks
+    private SchedulerController schedulerController;
+
+    @Test
+    @DisplayName("lease 시간이 0 이하인 takeover 는 400 으로 거부한다")
+    void takeover_invalidLeaseTime() {
+        // when & then
+        assertThrows(SchedulerInvalidLeaseTime.class, () -> schedulerController.takeoverSchedulerLease("testJob", 0));
+        assertThrows(SchedulerInvalidLeaseTime.class, () -> schedulerController.takeoverSchedulerLease("testJob", -1));
+        verifyNoInteractions(schedulerLock);
+    }
+}
@@ -0,0 +1,44 @@
+package com.letsintern.letsintern.domain.user.filter;
+
+import com.letsintern.letsintern.domain.application.domain.QApplication;
+import com.letsintern.letsintern.domain.program.domain.ProgramType;
+import com.letsintern.letsintern.domain.user.domain.QUser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserFilterTest {
+
+    @Test
+    @DisplayName("기수를 주면 프로그램 유형과 기수로 거른다")
+    void eqProgram_withTh() {
+        // given
+        UserFilter userFilter = UserFilter.of(QUser.user, QApplication.application, ProgramType.BOOTCAMP, 3, null, null, null);
+
+        // when & then
+        assertTrue(userFilter.hasProgram());
+        assertEquals("application.program.type = BOOTCAMP && application.program.th = 3", userFilter.eqProgram().toString());
+    }
+
+    @Test
+    @DisplayName("기수가 없으면 프로그램 유형으로만 거른다")
+    void eqProgram_withoutTh() {
+        // given
+        UserFilter userFilter = UserFilter.of(QUser.user, QApplication.application, ProgramType.BOOTCAMP, null, null, null, null);
+
+        // when & then
+        assertEquals("application.program.type = BOOTCAMP", userFilter.eqProgram().toString());
+    }
+
+    @Test
+    @DisplayName("프로그램 유형이 없으면 프로그램 조건과 신청 내역 조인을 쓰지 않는다")
+    void eqProgram_none() {
+        // given
+        UserFilter userFilter = UserFilter.of(QUser.user, QApplication.application, null, 3, "이름", null, null);
+
+        // when & then
+        assertFalse(userFilter.hasProgram());
+        assertNull(userFilter.eqProgram());
+    }
+}
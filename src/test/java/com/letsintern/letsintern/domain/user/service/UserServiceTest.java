@@ -0,0 +1,68 @@
+package com.letsintern.letsintern.domain.user.service;
+
+import com.letsintern.letsintern.domain.mail.exception.MailSendFailed;
+import com.letsintern.letsintern.domain.user.domain.User;
+import com.letsintern.letsintern.domain.user.dto.request.PwResetMailDTO;
+import com.letsintern.letsintern.domain.user.event.UserChangedEvent;
+import com.letsintern.letsintern.domain.user.helper.UserHelper;
+import com.letsintern.letsintern.domain.user.repository.UserRepository;
+import com.letsintern.letsintern.global.common.util.EmailUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserHelper userHelper;
+
+    @Mock
+    private EmailUtils emailUtils;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private UserService userService;
+
+    @Test
+    @DisplayName("임시 비밀번호 메일 발송에 실패하면 예외가 트랜잭션 밖으로 전파되어 비밀번호 변경이 롤백된다")
+    void sendPwResetMail_sendFailed() throws NoSuchMethodException {
+        // given
+        PwResetMailDTO pwResetMailDTO = new PwResetMailDTO();
+        ReflectionTestUtils.setField(pwResetMailDTO, "email", "user@letsintern.com");
+        ReflectionTestUtils.setField(pwResetMailDTO, "name", "user");
+        User user = mock(User.class);
+        when(userRepository.findByEmailAndName("user@letsintern.com", "user")).thenReturn(Optional.of(user));
+        when(userHelper.createRandomPw()).thenReturn("tempPw12");
+        when(userHelper.encodePassword("tempPw12")).thenReturn("encoded");
+        doThrow(MailSendFailed.EXCEPTION).when(emailUtils).sendPasswordResetEmail("user@letsintern.com", "tempPw12");
+
+        // when
+        assertThrows(MailSendFailed.class, () -> userService.sendPwResetMail(pwResetMailDTO));
+
+        // then
+        verify(user).setPassword("encoded");
+        verify(eventPublisher).publishEvent(any(UserChangedEvent.class));
+        Transactional transactional = UserService.class.getMethod("sendPwResetMail", PwResetMailDTO.class)
+                .getAnnotation(Transactional.class);
+        assertNotNull(transactional);
+        assertTrue(transactional.noRollbackFor().length == 0 && transactional.noRollbackForClassName().length == 0);
+    }
+}
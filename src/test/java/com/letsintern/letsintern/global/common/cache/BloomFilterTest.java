@@ -0,0 +1,49 @@
+package com.letsintern.letsintern.global.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @ParameterizedTest
+    @CsvSource({"10000, 0.01", "10000, 0.001", "100000, 0.01"})
+    @DisplayName("넣은 키는 항상 있다고 하고, 넣지 않은 키의 오탐률은 설정값 근처를 넘지 않는다")
+    void falsePositiveBound(long expectedInsertions, double falsePositiveRate) {
+        // given
+        BloomFilter bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        String[] insertedKeys = IntStream.range(0, (int) expectedInsertions)
+                .mapToObj(i -> UUID.randomUUID().toString())
+                .toArray(String[]::new);
+
+        // when
+        for (String key : insertedKeys) bloomFilter.put(key);
+
+        // then
+        for (String key : insertedKeys) assertTrue(bloomFilter.mightContain(key));
+
+        int probeCount = 200_000;
+        long falsePositiveCount = IntStream.range(0, probeCount)
+                .filter(i -> bloomFilter.mightContain("probe-" + i))
+                .count();
+        double observedRate = (double) falsePositiveCount / probeCount;
+        assertTrue(observedRate <= falsePositiveRate * 1.5,
+                "observed false positive rate " + observedRate + " > " + falsePositiveRate);
+    }
+
+    @Test
+    @DisplayName("비어 있는 필터는 어떤 키도 있다고 하지 않는다")
+    void empty() {
+        // given
+        BloomFilter bloomFilter = new BloomFilter(1000, 0.01);
+
+        // when & then
+        IntStream.range(0, 10_000).forEach(i -> assertFalse(bloomFilter.mightContain("key-" + i)));
+    }
+}
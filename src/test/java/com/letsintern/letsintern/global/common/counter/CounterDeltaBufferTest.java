@@ -0,0 +1,67 @@
+package com.letsintern.letsintern.global.common.counter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CounterDeltaBufferTest {
+
+    private static final List<CounterType> MISSION_TYPES = List.of(CounterType.MISSION_ATTENDANCE, CounterType.MISSION_LATE_ATTENDANCE);
+
+    @Mock
+    private CounterDeltaRepository counterDeltaRepository;
+
+    @InjectMocks
+    private CounterDeltaBuffer counterDeltaBuffer;
+
+    @Test
+    @DisplayName("꺼낸 변화량은 종류, id 별로 합산하고 꺼낸 행만 지운다")
+    void drain() {
+        // given
+        when(counterDeltaRepository.findFlushBatchForUpdate(MISSION_TYPES, 10)).thenReturn(List.of(
+                delta(1L, CounterType.MISSION_ATTENDANCE, 7L, 1),
+                delta(2L, CounterType.MISSION_ATTENDANCE, 7L, 1),
+                delta(3L, CounterType.MISSION_LATE_ATTENDANCE, 7L, 1),
+                delta(4L, CounterType.MISSION_ATTENDANCE, 8L, 1)));
+
+        // when
+        Map<CounterType, Map<Long, Long>> drained = counterDeltaBuffer.drain(MISSION_TYPES, 10);
+
+        // then
+        assertEquals(Map.of(7L, 2L, 8L, 1L), drained.get(CounterType.MISSION_ATTENDANCE));
+        assertEquals(Map.of(7L, 1L), drained.get(CounterType.MISSION_LATE_ATTENDANCE));
+        verify(counterDeltaRepository).deleteAllByIdIn(List.of(1L, 2L, 3L, 4L));
+    }
+
+    @Test
+    @DisplayName("discard 는 잠근 대상 id 의 변화량 행을 지운다")
+    void discard() {
+        // given
+        when(counterDeltaRepository.findAllByTargetForUpdate(MISSION_TYPES, 7L)).thenReturn(List.of(
+                delta(1L, CounterType.MISSION_ATTENDANCE, 7L, 1),
+                delta(3L, CounterType.MISSION_LATE_ATTENDANCE, 7L, 1)));
+
+        // when
+        counterDeltaBuffer.discard(MISSION_TYPES, 7L);
+
+        // then
+        verify(counterDeltaRepository).deleteAllByIdIn(List.of(1L, 3L));
+    }
+
+    private CounterDelta delta(Long id, CounterType type, Long targetId, int delta) {
+        CounterDelta counterDelta = CounterDelta.of(type, targetId, delta);
+        ReflectionTestUtils.setField(counterDelta, "id", id);
+        return counterDelta;
+    }
+}
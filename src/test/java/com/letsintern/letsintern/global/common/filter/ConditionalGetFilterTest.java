@@ -0,0 +1,218 @@
+package com.letsintern.letsintern.global.common.filter;
+
+import com.letsintern.letsintern.global.common.counter.ContentVersionCounter;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.letsintern.letsintern.global.common.counter.ContentAggregate.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConditionalGetFilterTest {
+
+    private static final String PROGRAM_DETAIL_PATH = "/program/1";
+    private static final List<Long> SETTLED_VERSIONS = List.of(1L, 2L, 3L, 4L);
+
+    @Mock
+    private ContentVersionCounter contentVersionCounter;
+
+    private ConditionalGetFilter conditionalGetFilter;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("cache.program-detail.local-ttl-seconds", "60")
+                .withProperty("cache.review-feed.local-ttl-seconds", "300");
+        conditionalGetFilter = new ConditionalGetFilter(contentVersionCounter, environment);
+        ReflectionTestUtils.setField(conditionalGetFilter, "enabled", true);
+        ReflectionTestUtils.setField(conditionalGetFilter, "counterFlushIntervalMs", 5000L);
+    }
+
+    @Test
+    @DisplayName("프로그램 상세의 ETag 는 FAQ 버전까지 포함한다")
+    void programDetail_includesFaq() {
+        // then
+        assertEquals(List.of(PROGRAM, APPLICATION, REVIEW, FAQ), ConditionalGetRoute.PROGRAM_DETAIL.getAggregates());
+    }
+
+    @Test
+    @DisplayName("버전이 안정된 200 응답에는 ETag 와 Cache-Control 을 붙인다")
+    void ok_settled() throws Exception {
+        // given
+        when(contentVersionCounter.getVersions(ConditionalGetRoute.PROGRAM_DETAIL.getAggregates())).thenReturn(SETTLED_VERSIONS);
+
+        // when
+        MockHttpServletResponse response = get(null);
+
+        // then
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertNotNull(response.getHeader(HttpHeaders.ETAG));
+        assertEquals("no-cache, private", response.getHeader(HttpHeaders.CACHE_CONTROL));
+        assertEquals("body", response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("받은 ETag 로 다시 요청하면 컨트롤러를 거치지 않고 304 를 준다")
+    void notModified() throws Exception {
+        // given
+        when(contentVersionCounter.getVersions(ConditionalGetRoute.PROGRAM_DETAIL.getAggregates())).thenReturn(SETTLED_VERSIONS);
+        String eTag = get(null).getHeader(HttpHeaders.ETAG);
+
+        // when
+        MockFilterChain filterChain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        conditionalGetFilter.doFilter(request("\"other\", " + eTag), response, filterChain);
+
+        // then
+        assertEquals(HttpServletResponse.SC_NOT_MODIFIED, response.getStatus());
+        assertEquals(eTag, response.getHeader(HttpHeaders.ETAG));
+        assertEquals("no-cache, private", response.getHeader(HttpHeaders.CACHE_CONTROL));
+        assertNull(filterChain.getRequest());
+        assertEquals("", response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("버전이 바뀐 뒤의 예전 ETag 는 304 가 아니라 새 본문과 새 ETag 를 받는다")
+    void modified() throws Exception {
+        // given
+        when(contentVersionCounter.getVersions(ConditionalGetRoute.PROGRAM_DETAIL.getAggregates()))
+                .thenReturn(SETTLED_VERSIONS).thenReturn(SETTLED_VERSIONS).thenReturn(List.of(1L, 2L, 3L, 5L));
+        String oldETag = get(null).getHeader(HttpHeaders.ETAG);
+
+        // when
+        MockHttpServletResponse response = get(oldETag);
+
+        // then
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertEquals("body", response.getContentAsString());
+        assertNotNull(response.getHeader(HttpHeaders.ETAG));
+        assertNotEquals(oldETag, response.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("로컬 캐시 TTL 안에 바뀐 버전은 다른 서버가 예전 본문을 줄 수 있어 ETag 를 붙이지 않는다")
+    void ok_recentlyChanged() throws Exception {
+        // given
+        long recentlyChangedAt = System.currentTimeMillis() - Duration.ofSeconds(30).toMillis();
+        List<Long> versions = List.of(1L, 2L, 3L, recentlyChangedAt);
+        when(contentVersionCounter.getVersions(ConditionalGetRoute.PROGRAM_DETAIL.getAggregates())).thenReturn(versions);
+
+        // when
+        MockHttpServletResponse response = get(null);
+
+        // then
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertNull(response.getHeader(HttpHeaders.ETAG));
+        assertNull(response.getHeader(HttpHeaders.CACHE_CONTROL));
+        assertEquals("body", response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("프로그램 상세는 리뷰 피드 캐시 TTL 까지 기다린다 - 상세 캐시 TTL 만 지난 리뷰 변경에는 ETag 를 붙이지 않는다")
+    void programDetail_waitsForReviewFeedTtl() throws Exception {
+        // given
+        long reviewChangedAt = System.currentTimeMillis() - Duration.ofSeconds(120).toMillis();
+        List<Long> versions = List.of(1L, 2L, reviewChangedAt, 4L);
+        when(contentVersionCounter.getVersions(ConditionalGetRoute.PROGRAM_DETAIL.getAggregates())).thenReturn(versions);
+
+        // when
+        MockHttpServletResponse response = get(null);
+
+        // then
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertNull(response.getHeader(HttpHeaders.ETAG));
+        assertEquals("body", response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("프로그램 상세는 가장 긴 로컬 캐시 TTL 이 지난 뒤에 ETag 를 붙인다")
+    void programDetail_settledAfterLongestTtl() throws Exception {
+        // given
+        long reviewChangedAt = System.currentTimeMillis() - Duration.ofSeconds(310).toMillis();
+        List<Long> versions = List.of(1L, 2L, reviewChangedAt, 4L);
+        when(contentVersionCounter.getVersions(ConditionalGetRoute.PROGRAM_DETAIL.getAggregates())).thenReturn(versions);
+
+        // when
+        MockHttpServletResponse response = get(null);
+
+        // then
+        assertNotNull(response.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("컨트롤러 처리 중 버전이 바뀌면 본문이 어느 버전인지 알 수 없어 ETag 를 붙이지 않는다")
+    void ok_changedDuringRequest() throws Exception {
+        // given
+        when(contentVersionCounter.getVersions(ConditionalGetRoute.PROGRAM_DETAIL.getAggregates()))
+                .thenReturn(SETTLED_VERSIONS).thenReturn(List.of(1L, 2L, 3L, 5L));
+
+        // when
+        MockHttpServletResponse response = get(null);
+
+        // then
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertNull(response.getHeader(HttpHeaders.ETAG));
+        assertEquals("body", response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("오류 응답에는 캐시 헤더를 붙이지 않는다")
+    void error() throws Exception {
+        // given
+        when(contentVersionCounter.getVersions(ConditionalGetRoute.PROGRAM_DETAIL.getAggregates())).thenReturn(SETTLED_VERSIONS);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        conditionalGetFilter.doFilter(request(null), response,
+                (req, res) -> ((HttpServletResponse) res).sendError(HttpServletResponse.SC_NOT_FOUND));
+
+        // then
+        assertEquals(HttpServletResponse.SC_NOT_FOUND, response.getStatus());
+        assertNull(response.getHeader(HttpHeaders.ETAG));
+        assertNull(response.getHeader(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    @DisplayName("버전을 읽지 못하면 304 없이 그대로 처리한다")
+    void versionUnavailable() throws Exception {
+        // given
+        when(contentVersionCounter.getVersions(ConditionalGetRoute.PROGRAM_DETAIL.getAggregates())).thenReturn(null);
+
+        // when
+        MockHttpServletResponse response = get("W/\"anything\"");
+
+        // then
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertNull(response.getHeader(HttpHeaders.ETAG));
+        assertEquals("body", response.getContentAsString());
+    }
+
+    private MockHttpServletResponse get(String ifNoneMatch) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        conditionalGetFilter.doFilter(request(ifNoneMatch), response,
+                (req, res) -> res.getWriter().write("body"));
+        return response;
+    }
+
+    private MockHttpServletRequest request(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", PROGRAM_DETAIL_PATH);
+        request.setServletPath(PROGRAM_DETAIL_PATH);
+        if (ifNoneMatch != null) request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        return request;
+    }
+}
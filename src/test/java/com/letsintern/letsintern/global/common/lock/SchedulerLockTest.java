@@ -0,0 +1,187 @@
+package com.letsintern.letsintern.global.common.lock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SchedulerLockTest {
+
+    private static final String JOB_NAME = "testJob";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private SchedulerFenceRepository schedulerFenceRepository;
+
+    private final ResourcelessTransactionManager transactionManager = new ResourcelessTransactionManager();
+
+    private SchedulerLock schedulerLock;
+
+    @BeforeEach
+    void setUp() {
+        schedulerLock = new SchedulerLock(redisTemplate, schedulerFenceRepository, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        schedulerLock.shutdown();
+    }
+
+    @Test
+    @DisplayName("lease 를 얻으면 새 token 을 DB fence 에 올린 뒤 작업을 실행하고 lease 를 반납한다")
+    void runExclusively() {
+        // given
+        when(redisTemplate.execute(eq(SchedulerLock.ACQUIRE_SCRIPT), anyList(), any(), any())).thenReturn(7L);
+        when(schedulerFenceRepository.advanceFencingToken(eq(JOB_NAME), eq(7L), any())).thenReturn(1L);
+        AtomicLong executedToken = new AtomicLong();
+
+        // when
+        boolean executed = schedulerLock.runExclusively(JOB_NAME, Duration.ofMinutes(1), executedToken::set);
+
+        // then
+        assertTrue(executed);
+        assertEquals(7L, executedToken.get());
+        verify(redisTemplate).execute(eq(SchedulerLock.RELEASE_SCRIPT), anyList(), eq(schedulerLock.getOwnerId() + ":7"));
+    }
+
+    @Test
+    @DisplayName("DB fence 에 더 큰 token 이 이미 기록돼 있으면 작업을 실행하지 않는다")
+    void runExclusively_staleToken() {
+        // given
+        when(redisTemplate.execute(eq(SchedulerLock.ACQUIRE_SCRIPT), anyList(), any(), any())).thenReturn(7L);
+        when(schedulerFenceRepository.advanceFencingToken(eq(JOB_NAME), eq(7L), any())).thenReturn(0L);
+        when(schedulerFenceRepository.existsById(JOB_NAME)).thenReturn(true);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        boolean executed = schedulerLock.runExclusively(JOB_NAME, Duration.ofMinutes(1), token -> fail("must not run"));
+
+        // then
+        assertFalse(executed);
+        assertEquals(1, schedulerLock.getLease(JOB_NAME).getSkippedCount());
+        verify(redisTemplate).execute(eq(SchedulerLock.RELEASE_SCRIPT), anyList(), eq(schedulerLock.getOwnerId() + ":7"));
+    }
+
+    @Test
+    @DisplayName("작업의 첫 실행이면 fence 행을 새로 만든다")
+    void runExclusively_firstFence() {
+        // given
+        when(redisTemplate.execute(eq(SchedulerLock.ACQUIRE_SCRIPT), anyList(), any(), any())).thenReturn(1L);
+        when(schedulerFenceRepository.advanceFencingToken(eq(JOB_NAME), eq(1L), any())).thenReturn(0L);
+        when(schedulerFenceRepository.existsById(JOB_NAME)).thenReturn(false);
+
+        // when
+        boolean executed = schedulerLock.runExclusively(JOB_NAME, Duration.ofMinutes(1), token -> { });
+
+        // then
+        assertTrue(executed);
+        verify(schedulerFenceRepository).saveAndFlush(argThat(fence ->
+                JOB_NAME.equals(fence.getJobName()) && fence.getFencingToken() == 1L));
+    }
+
+    @Test
+    @DisplayName("실행 중에는 lease 만료 시간을 주기적으로 연장한다")
+    void runExclusively_renewLease() {
+        // given
+        when(redisTemplate.execute(eq(SchedulerLock.ACQUIRE_SCRIPT), anyList(), any(), any())).thenReturn(3L);
+        when(schedulerFenceRepository.advanceFencingToken(eq(JOB_NAME), eq(3L), any())).thenReturn(1L);
+        when(redisTemplate.execute(eq(SchedulerLock.RENEW_SCRIPT), anyList(), any(), any())).thenReturn(1L);
+
+        // when
+        schedulerLock.runExclusively(JOB_NAME, Duration.ofMillis(60), token -> sleep(200));
+
+        // then
+        verify(redisTemplate, atLeast(2)).execute(eq(SchedulerLock.RENEW_SCRIPT), anyList(),
+                eq(schedulerLock.getOwnerId() + ":3"), eq("60"));
+    }
+
+    @Test
+    @DisplayName("lease 를 잃으면 연장을 멈춘다")
+    void runExclusively_stopRenewOnLost() {
+        // given
+        when(redisTemplate.execute(eq(SchedulerLock.ACQUIRE_SCRIPT), anyList(), any(), any())).thenReturn(3L);
+        when(schedulerFenceRepository.advanceFencingToken(eq(JOB_NAME), eq(3L), any())).thenReturn(1L);
+        when(redisTemplate.execute(eq(SchedulerLock.RENEW_SCRIPT), anyList(), any(), any())).thenReturn(0L);
+
+        // when
+        schedulerLock.runExclusively(JOB_NAME, Duration.ofMillis(60), token -> sleep(200));
+
+        // then
+        verify(redisTemplate, times(1)).execute(eq(SchedulerLock.RENEW_SCRIPT), anyList(), any(), any());
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션 안에서 DB 에 기록된 token 이 자기 token 이면 통과한다")
+    void fence() {
+        // given
+        when(schedulerFenceRepository.findFencingTokenForShare(JOB_NAME)).thenReturn(5L);
+
+        // when & then
+        assertDoesNotThrow(() -> new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> schedulerLock.fence(JOB_NAME, 5L)));
+    }
+
+    @Test
+    @DisplayName("더 큰 token 이 기록됐으면 쓰기 트랜잭션을 막는다")
+    void fence_leaseLost() {
+        // given
+        when(schedulerFenceRepository.findFencingTokenForShare(JOB_NAME)).thenReturn(6L);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when & then
+        assertThrows(SchedulerLeaseLostException.class, () -> new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> schedulerLock.fence(JOB_NAME, 5L)));
+        assertEquals(1, schedulerLock.getLease(JOB_NAME).getFencedCount());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 확인 결과를 쓰기에 묶을 수 없으므로 거부한다")
+    void fence_outsideTransaction() {
+        // when & then
+        assertThrows(IllegalStateException.class, () -> schedulerLock.fence(JOB_NAME, 5L));
+        verifyNoInteractions(schedulerFenceRepository);
+    }
+
+    @Test
+    @DisplayName("takeover 는 새 token 을 DB fence 에 올려 이전 소유자의 쓰기를 바로 막는다")
+    void takeover() {
+        // given
+        when(redisTemplate.execute(eq(SchedulerLock.TAKEOVER_SCRIPT), anyList(), any(), any())).thenReturn(9L);
+        when(schedulerFenceRepository.advanceFencingToken(eq(JOB_NAME), eq(9L), any())).thenReturn(1L);
+
+        // when
+        long token = schedulerLock.takeover(JOB_NAME, Duration.ofMinutes(10));
+
+        // then
+        assertEquals(9L, token);
+        verify(schedulerFenceRepository).advanceFencingToken(eq(JOB_NAME), eq(9L), any());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
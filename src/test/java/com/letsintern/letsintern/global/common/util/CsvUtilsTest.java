@@ -0,0 +1,38 @@
+package com.letsintern.letsintern.global.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CsvUtilsTest {
+
+    @Test
+    @DisplayName("수식으로 해석되는 문자로 시작하는 값은 ' 를 붙여 문자열로 쓴다")
+    void writeRow_neutralizeFormula() {
+        // given
+        StringWriter writer = new StringWriter();
+
+        // when
+        CsvUtils.writeRow(writer, Arrays.asList("=HYPERLINK(\"http://evil\")", "+1", "-1", "@SUM(A1)", "\tx", "name"));
+
+        // then
+        assertEquals("\"'=HYPERLINK(\"\"http://evil\"\")\",'+1,'-1,'@SUM(A1),'\tx,name\r\n", writer.toString());
+    }
+
+    @Test
+    @DisplayName("숫자 값은 음수여도 그대로 쓴다")
+    void writeRow_number() {
+        // given
+        StringWriter writer = new StringWriter();
+
+        // when
+        CsvUtils.writeRow(writer, Arrays.asList(-1000, 0, null, ""));
+
+        // then
+        assertEquals("-1000,0,,\r\n", writer.toString());
+    }
+}
@@ -0,0 +1,162 @@
+package com.letsintern.letsintern.global.config.jwt;
+
+import com.letsintern.letsintern.domain.user.util.RedisUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenBlacklistTest {
+
+    private static final long HOUR_MILLIS = 60 * 60 * 1000L;
+
+    @Mock
+    private RedisUtil redisUtil;
+
+    /* Redis 의 logout:access sorted set (tokenKey -> 만료 시각) */
+    private final Map<String, Long> logoutAccessTokens = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        lenient().doAnswer(invocation -> logoutAccessTokens.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(redisUtil).addLogoutAccessToken(anyString(), anyLong());
+        lenient().when(redisUtil.isLogoutAccessToken(anyString(), anyLong())).thenAnswer(invocation -> {
+            Long expiresAt = logoutAccessTokens.get(invocation.<String>getArgument(0));
+            return expiresAt != null && expiresAt > invocation.<Long>getArgument(1);
+        });
+        lenient().when(redisUtil.getLogoutAccessTokens(anyLong())).thenAnswer(invocation -> logoutAccessTokens.entrySet().stream()
+                .filter(entry -> entry.getValue() >= invocation.<Long>getArgument(0))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet()));
+        lenient().doAnswer(invocation -> logoutAccessTokens.values().removeIf(expiresAt -> expiresAt <= invocation.<Long>getArgument(0)))
+                .when(redisUtil).removeExpiredLogoutAccessTokens(anyLong());
+    }
+
+    @Test
+    @DisplayName("로그아웃한 토큰은 같은 서버에서 바로 차단되고, 로그아웃하지 않은 토큰은 Redis 조회 없이 통과한다")
+    void revoke_sameServer() {
+        // given
+        TokenBlacklist tokenBlacklist = newTokenBlacklist();
+
+        // when
+        tokenBlacklist.revoke("jti-1", System.currentTimeMillis() + HOUR_MILLIS);
+
+        // then
+        assertTrue(tokenBlacklist.isRevoked("jti-1"));
+        assertFalse(tokenBlacklist.isRevoked("jti-2"));
+        assertTrue(logoutAccessTokens.containsKey("jti-1"));
+        verify(redisUtil).publish(TokenBlacklist.CHANNEL, "jti-1");
+        verify(redisUtil, never()).isLogoutAccessToken(eq("jti-2"), anyLong());
+    }
+
+    @Test
+    @DisplayName("다른 서버의 로그아웃은 pub/sub 메시지를 받으면 차단된다")
+    void revoke_otherServer() {
+        // given
+        TokenBlacklist serverA = newTokenBlacklist();
+        TokenBlacklist serverB = newTokenBlacklist();
+
+        // when
+        serverA.revoke("jti-1", System.currentTimeMillis() + HOUR_MILLIS);
+        serverB.onMessage(new DefaultMessage(
+                TokenBlacklist.CHANNEL.getBytes(StandardCharsets.UTF_8), "jti-1".getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertTrue(serverB.isRevoked("jti-1"));
+    }
+
+    @Test
+    @DisplayName("나중에 뜬 서버는 재구성 시 Redis 에서 로그아웃 토큰을 읽어 차단한다")
+    void rebuild_fromRedis() {
+        // given
+        newTokenBlacklist().revoke("jti-1", System.currentTimeMillis() + HOUR_MILLIS);
+        TokenBlacklist lateServer = newTokenBlacklist();
+
+        // when
+        lateServer.rebuild();
+
+        // then
+        assertTrue(lateServer.isRevoked("jti-1"));
+    }
+
+    @Test
+    @DisplayName("재구성 시 만료된 로그아웃 토큰은 Redis 에서 지우고 필터에도 넣지 않는다")
+    void rebuild_removeExpired() {
+        // given
+        logoutAccessTokens.put("jti-expired", System.currentTimeMillis() - 1);
+        logoutAccessTokens.put("jti-1", System.currentTimeMillis() + HOUR_MILLIS);
+        TokenBlacklist tokenBlacklist = newTokenBlacklist();
+
+        // when
+        tokenBlacklist.rebuild();
+
+        // then
+        assertFalse(logoutAccessTokens.containsKey("jti-expired"));
+        assertFalse(tokenBlacklist.isRevoked("jti-expired"));
+        assertTrue(tokenBlacklist.isRevoked("jti-1"));
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰은 로그아웃해도 저장하지 않는다")
+    void revoke_expired() {
+        // given
+        TokenBlacklist tokenBlacklist = newTokenBlacklist();
+
+        // when
+        tokenBlacklist.revoke("jti-1", System.currentTimeMillis() - 1);
+
+        // then
+        assertFalse(tokenBlacklist.isRevoked("jti-1"));
+        verify(redisUtil, never()).addLogoutAccessToken(anyString(), anyLong());
+        verify(redisUtil, never()).publish(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("필터 양성이지만 Redis 에 없는 토큰은 음성 결과를 캐싱하고, 이후 로그아웃되면 캐시를 지운다")
+    void isRevoked_negativeCache() {
+        // given
+        TokenBlacklist tokenBlacklist = newTokenBlacklist();
+        tokenBlacklist.onMessage(new DefaultMessage(
+                TokenBlacklist.CHANNEL.getBytes(StandardCharsets.UTF_8), "jti-1".getBytes(StandardCharsets.UTF_8)), null);
+
+        // when
+        boolean first = tokenBlacklist.isRevoked("jti-1");
+        boolean second = tokenBlacklist.isRevoked("jti-1");
+        tokenBlacklist.revoke("jti-1", System.currentTimeMillis() + HOUR_MILLIS);
+
+        // then
+        assertFalse(first);
+        assertFalse(second);
+        assertTrue(tokenBlacklist.isRevoked("jti-1"));
+        verify(redisUtil, times(2)).isLogoutAccessToken(eq("jti-1"), anyLong());
+    }
+
+    @Test
+    @DisplayName("Redis 조회가 실패하면 토큰을 유효한 것으로 본다")
+    void isRevoked_redisFailure() {
+        // given
+        TokenBlacklist tokenBlacklist = newTokenBlacklist();
+        tokenBlacklist.revoke("jti-1", System.currentTimeMillis() + HOUR_MILLIS);
+        when(redisUtil.isLogoutAccessToken(eq("jti-1"), anyLong())).thenThrow(new IllegalStateException("redis down"));
+
+        // when & then
+        assertFalse(tokenBlacklist.isRevoked("jti-1"));
+    }
+
+    private TokenBlacklist newTokenBlacklist() {
+        return new TokenBlacklist(redisUtil, 1000, 0.01, 100, 60);
+    }
+}
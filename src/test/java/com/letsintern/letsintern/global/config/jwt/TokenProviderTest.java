@@ -0,0 +1,71 @@
+package com.letsintern.letsintern.global.config.jwt;
+
+import com.letsintern.letsintern.domain.user.domain.UserRole;
+import com.letsintern.letsintern.domain.user.util.RedisUtil;
+import com.letsintern.letsintern.domain.user.vo.UserAuthVo;
+import com.letsintern.letsintern.global.config.user.PrincipalDetails;
+import com.letsintern.letsintern.global.config.user.PrincipalDetailsService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenProviderTest {
+
+    @Mock
+    private PrincipalDetailsService principalDetailsService;
+
+    @Mock
+    private RedisUtil redisUtil;
+
+    @Mock
+    private TokenBlacklist tokenBlacklist;
+
+    @InjectMocks
+    private TokenProvider tokenProvider;
+
+    @Test
+    @DisplayName("토큰의 권한 claim 이 아니라 사용자 캐시의 권한으로 인증한다 (강등된 관리자)")
+    void getAuthentication_roleFromUserCache() {
+        // given
+        Claims claims = Jwts.claims().setSubject("1");
+        claims.put("auth", UserRole.ROLE_ADMIN.name());
+        when(principalDetailsService.loadCachedUserAuth(1L))
+                .thenReturn(new UserAuthVo(1L, UserRole.ROLE_USER, "user@letsintern.com"));
+
+        // when
+        Authentication authentication = tokenProvider.getAuthentication("token", claims);
+
+        // then
+        assertEquals(List.of(UserRole.ROLE_USER.name()),
+                authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+        PrincipalDetails principalDetails = (PrincipalDetails) authentication.getPrincipal();
+        assertEquals(1L, principalDetails.getId());
+        assertEquals("user@letsintern.com", principalDetails.getUsername());
+    }
+
+    @Test
+    @DisplayName("탈퇴/삭제된 사용자의 토큰은 인증 예외로 끝난다")
+    void getAuthentication_deletedUser() {
+        // given
+        Claims claims = Jwts.claims().setSubject("1");
+        claims.put("auth", UserRole.ROLE_USER.name());
+        when(principalDetailsService.loadCachedUserAuth(1L)).thenThrow(new UsernameNotFoundException("1"));
+
+        // when // then
+        assertThrows(UsernameNotFoundException.class, () -> tokenProvider.getAuthentication("token", claims));
+    }
+}
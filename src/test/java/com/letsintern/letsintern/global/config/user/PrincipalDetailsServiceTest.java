@@ -0,0 +1,50 @@
+package com.letsintern.letsintern.global.config.user;
+
+import com.letsintern.letsintern.domain.user.cache.UserCache;
+import com.letsintern.letsintern.domain.user.repository.UserRepository;
+import com.letsintern.letsintern.domain.user.vo.UserAuthVo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalDetailsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserCache userCache;
+
+    @InjectMocks
+    private PrincipalDetailsService principalDetailsService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(userCache.get(eq(1L), any())).thenAnswer(invocation -> ((Supplier<UserAuthVo>) invocation.getArgument(1)).get());
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 삭제된 사용자는 AuthenticationException 으로 인증 필터에서 비로그인 처리된다")
+    void loadCachedUserAuth_deletedUser() {
+        // given
+        when(userRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // when // then
+        assertThrows(UsernameNotFoundException.class, () -> principalDetailsService.loadCachedUserAuth(1L));
+    }
+}